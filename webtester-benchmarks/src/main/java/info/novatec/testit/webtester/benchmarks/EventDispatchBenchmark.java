@@ -0,0 +1,81 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import info.novatec.testit.webtester.benchmarks.stub.StubBrowsers;
+import info.novatec.testit.webtester.benchmarks.stub.StubWebDriver;
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.events.Produces;
+import info.novatec.testit.webtester.events.pagefragments.ClickedEvent;
+import info.novatec.testit.webtester.pagefragments.Button;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * Measures the event system: firing events to a number of listeners directly and invoking a {@link Produces @Produces}
+ * annotated method with the event system enabled or disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    @Param({ "true", "false" })
+    boolean eventSystemEnabled;
+
+    @Param({ "1", "10" })
+    int numberOfListeners;
+
+    Browser browser;
+    Button button;
+    ClickedEvent event;
+    long receivedEvents;
+
+    @Setup
+    public void setup() {
+        StubWebDriver webDriver = new StubWebDriver();
+        webDriver.document().withChildren(By.cssSelector("#button"), webDriver.element("button"));
+        browser = StubBrowsers.browserFor(webDriver);
+        browser.configuration().setEventSystemEnabled(eventSystemEnabled);
+        for (int i = 0; i < numberOfListeners; i++) {
+            browser.events().register(event -> receivedEvents++);
+        }
+        button = browser.create(BenchmarkPage.class).button();
+        event = new ClickedEvent(button);
+    }
+
+    @Benchmark
+    public void fireEvent() {
+        browser.events().fireEvent(event);
+    }
+
+    @Benchmark
+    public Button invokeProducingMethod() {
+        return button.click();
+    }
+
+    public interface BenchmarkPage extends Page {
+
+        @IdentifyUsing("#button")
+        Button button();
+
+    }
+
+}
@@ -0,0 +1,174 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.benchmarks.stub.StubBrowsers;
+import info.novatec.testit.webtester.benchmarks.stub.StubWebDriver;
+import info.novatec.testit.webtester.benchmarks.stub.StubWebElement;
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.pagefragments.GenericElement;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.PasswordField;
+import info.novatec.testit.webtester.pagefragments.TextField;
+import info.novatec.testit.webtester.pagefragments.annotations.Cached;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * Measures the invocation of {@link IdentifyUsing @IdentifyUsing} methods: creating the (lazy) page fragment, resolving
+ * its web element and using it (with and without {@link Cached caching}), as well as resolving lists of page fragments
+ * and page fragments nested within other page fragments (found with a single combined locator). Lists and streams of
+ * page fragments are measured eagerly resolved and lazily resolved in pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifyUsingBenchmark {
+
+    private static final int ITEMS = 100;
+
+    @Param({ "0", "100" })
+    long latencyInMicros;
+
+    BenchmarkPage page;
+    BenchmarkPage lazyPage;
+
+    @Setup
+    public void setup() {
+        StubWebDriver webDriver = new StubWebDriver(latencyInMicros, TimeUnit.MICROSECONDS);
+        StubWebElement password = webDriver.element("input").withAttribute("type", "password");
+        List<StubWebElement> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(webDriver.element("li"));
+        }
+        webDriver.document()
+            .withChildren(By.cssSelector("#username"), webDriver.element("input").withAttribute("type", "text"))
+            .withChildren(By.cssSelector("#login"), webDriver.element("form")
+                .withChildren(By.cssSelector("#password"), password))
+            .withChildren(By.cssSelector("#login #password"), password)
+            .withChildren(By.cssSelector(".item"), items.toArray(new StubWebElement[0]));
+        webDriver.setScriptHandler((script, args) -> {
+            int from = ( Integer ) args[3];
+            int max = ( Integer ) args[4];
+            if (max < 0) {
+                return ( long ) items.size();
+            }
+            int to = Math.min(items.size(), from + max);
+            return new ArrayList<WebElement>(items.subList(Math.min(from, to), to));
+        });
+        Browser browser = StubBrowsers.browserFor(webDriver);
+        page = browser.create(BenchmarkPage.class);
+        Browser lazyBrowser = StubBrowsers.browserFor(webDriver);
+        lazyBrowser.configuration().setLazyFragmentsEnabled(true);
+        lazyPage = lazyBrowser.create(BenchmarkPage.class);
+    }
+
+    @Benchmark
+    public TextField createFragment() {
+        return page.username();
+    }
+
+    @Benchmark
+    public WebElement resolveFragment() {
+        return page.username().webElement();
+    }
+
+    @Benchmark
+    public String readFromFragment() {
+        return page.username().getText();
+    }
+
+    @Benchmark
+    public String useFragmentTwice() {
+        TextField username = page.username();
+        username.setText("foo");
+        return username.getText();
+    }
+
+    @Benchmark
+    public String useCachedFragmentTwice() {
+        TextField username = page.cachedUsername();
+        username.setText("foo");
+        return username.getText();
+    }
+
+    @Benchmark
+    public List<GenericElement> resolveListOfFragments() {
+        return page.items();
+    }
+
+    @Benchmark
+    public int countListOfFragments() {
+        return page.items().size();
+    }
+
+    @Benchmark
+    public int countLazyListOfFragments() {
+        return lazyPage.items().size();
+    }
+
+    @Benchmark
+    public Optional<GenericElement> findFirstOfStreamedFragments() {
+        return page.itemStream().findFirst();
+    }
+
+    @Benchmark
+    public Optional<GenericElement> findFirstOfLazyStreamedFragments() {
+        return lazyPage.itemStream().findFirst();
+    }
+
+    @Benchmark
+    public WebElement resolveNestedFragment() {
+        return page.login().password().webElement();
+    }
+
+    public interface BenchmarkPage extends Page {
+
+        @IdentifyUsing("#username")
+        TextField username();
+
+        @Cached
+        @IdentifyUsing("#username")
+        TextField cachedUsername();
+
+        @IdentifyUsing(".item")
+        List<GenericElement> items();
+
+        @IdentifyUsing(".item")
+        Stream<GenericElement> itemStream();
+
+        @IdentifyUsing("#login")
+        LoginForm login();
+
+    }
+
+    public interface LoginForm extends PageFragment {
+
+        @IdentifyUsing("#password")
+        PasswordField password();
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import info.novatec.testit.webtester.benchmarks.stub.StubBrowsers;
+import info.novatec.testit.webtester.benchmarks.stub.StubWebDriver;
+import info.novatec.testit.webtester.benchmarks.stub.StubWebElement;
+import info.novatec.testit.webtester.pagefragments.Table;
+import info.novatec.testit.webtester.pagefragments.TableField;
+import info.novatec.testit.webtester.pagefragments.TableRow;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * Measures reading the texts of all fields of a {@link Table}: by traversing its rows and fields, by extracting all
+ * cell texts at once and by streaming them in chunks. The stub driver answers the extraction script from the same
+ * cell texts the traversal reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableTraversalBenchmark {
+
+    private static final int COLUMNS = 5;
+    private static final int CHUNK_SIZE = 25;
+
+    @Param({ "0", "100" })
+    long latencyInMicros;
+
+    @Param({ "10", "100" })
+    int rows;
+
+    Table table;
+
+    @Setup
+    public void setup() {
+        StubWebDriver webDriver = new StubWebDriver(latencyInMicros, TimeUnit.MICROSECONDS);
+        StubWebElement tableElement = webDriver.element("table");
+        List<List<String>> cellTexts = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            StubWebElement rowElement = webDriver.element("tr");
+            List<String> rowTexts = new ArrayList<>();
+            for (int column = 0; column < COLUMNS; column++) {
+                String text = row + "/" + column;
+                rowElement.withChildren(By.xpath("./th|./td"), webDriver.element("td").withText(text));
+                rowTexts.add(text);
+            }
+            tableElement.withChildren(By.xpath("./tbody/tr"), rowElement);
+            cellTexts.add(rowTexts);
+        }
+        webDriver.document().withChildren(By.cssSelector("#table"), tableElement);
+        webDriver.setScriptHandler((script, args) -> {
+            int from = ( Integer ) args[1];
+            int max = ( Integer ) args[2];
+            int to = max < 0 ? cellTexts.size() : Math.min(cellTexts.size(), from + max);
+            return new ArrayList<>(cellTexts.subList(Math.min(from, to), to));
+        });
+        table = StubBrowsers.browserFor(webDriver).create(BenchmarkPage.class).table();
+    }
+
+    @Benchmark
+    public List<String> readAllBodyFields() {
+        return table.streamBodyRows()
+            .flatMap(TableRow::streamFields)
+            .map(TableField::getVisibleText)
+            .collect(toList());
+    }
+
+    @Benchmark
+    public String[][] extractAllCells() {
+        return table.getCellTexts();
+    }
+
+    @Benchmark
+    public long streamAllCellsInChunks() {
+        return table.streamCellTexts(CHUNK_SIZE).count();
+    }
+
+    public interface BenchmarkPage extends Page {
+
+        @IdentifyUsing("#table")
+        Table table();
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import static info.novatec.testit.webtester.conditions.Conditions.visible;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import info.novatec.testit.webtester.benchmarks.stub.StubBrowsers;
+import info.novatec.testit.webtester.benchmarks.stub.StubWebDriver;
+import info.novatec.testit.webtester.pagefragments.GenericElement;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pages.Page;
+import info.novatec.testit.webtester.waiting.Wait;
+
+
+/**
+ * Measures {@link Wait#until(info.novatec.testit.webtester.pagefragments.PageFragment) waiting} for a page fragment to
+ * become visible after a given number of polls. The wait interval of the stub browsers is one millisecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitBenchmark {
+
+    @Param({ "0", "100" })
+    long latencyInMicros;
+
+    @Param({ "1", "5" })
+    int pollsUntilVisible;
+
+    BenchmarkPage page;
+    int polls;
+
+    @Setup
+    public void setup() {
+        StubWebDriver webDriver = new StubWebDriver(latencyInMicros, TimeUnit.MICROSECONDS);
+        webDriver.document()
+            .withChildren(By.cssSelector("#message"),
+                webDriver.element("div").withDisplayed(() -> ++polls % pollsUntilVisible == 0));
+        page = StubBrowsers.browserFor(webDriver).create(BenchmarkPage.class);
+    }
+
+    @Benchmark
+    public GenericElement untilVisible() {
+        polls = 0;
+        GenericElement message = page.message();
+        Wait.until(message).is(visible());
+        return message;
+    }
+
+    public interface BenchmarkPage extends Page {
+
+        @IdentifyUsing("#message")
+        GenericElement message();
+
+    }
+
+}
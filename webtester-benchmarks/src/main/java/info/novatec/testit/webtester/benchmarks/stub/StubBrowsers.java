@@ -0,0 +1,36 @@
+package info.novatec.testit.webtester.benchmarks.stub;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.config.builders.BaseConfigurationBuilder;
+
+
+/**
+ * Creates {@link Browser browsers} for {@link StubWebDriver stub drivers}.
+ * <p>
+ * Their configuration only contains what is needed to measure the framework: no action deceleration, no markings and a
+ * wait interval of one millisecond. The event system is enabled.
+ */
+public final class StubBrowsers {
+
+    /**
+     * Creates a new {@link Browser} for the given driver.
+     *
+     * @param webDriver the driver to use
+     * @return the new browser
+     */
+    public static Browser browserFor(StubWebDriver webDriver) {
+        Configuration configuration = new BaseConfigurationBuilder().build()//
+            .setActionDeceleration(0L)//
+            .setMarkingsEnabled(false)//
+            .setEventSystemEnabled(true)//
+            .setWaitInterval(1L);
+        return WebDriverBrowser.forWebDriver(webDriver).withConfiguration(configuration).build();
+    }
+
+    private StubBrowsers() {
+        // utility class
+    }
+
+}
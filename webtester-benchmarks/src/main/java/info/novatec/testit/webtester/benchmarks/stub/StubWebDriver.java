@@ -0,0 +1,203 @@
+package info.novatec.testit.webtester.benchmarks.stub;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+
+/**
+ * In-process {@link WebDriver} simulating a browser with a fixed latency per command.
+ * <p>
+ * Every call which would be a round trip to a real browser (finding elements, reading properties, interacting with
+ * elements, executing scripts etc.) waits for the configured latency and is counted. The latency is simulated by
+ * spinning instead of sleeping in order to be accurate below the scheduler's granularity. This makes benchmark results
+ * reproducible without a real browser and allows to tell the framework's overhead apart from the browser's.
+ * <p>
+ * The DOM is modelled by {@link StubWebElement stub elements} below the {@link #document() document} element. Elements
+ * are not found by evaluating the locators, but by looking up the {@link By} they were registered with.
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+
+    /** The amount of work burned between two checks of the clock while spinning. */
+    private static final long SPIN_TOKENS = 10L;
+
+    private final long latencyInNanos;
+    private final LongAdder commands = new LongAdder();
+    private final StubWebElement document;
+
+    private BiFunction<String, Object[], Object> scriptHandler = (script, args) -> null;
+    private String currentUrl = "about:blank";
+
+    /**
+     * Creates a new {@link StubWebDriver} without any latency.
+     */
+    public StubWebDriver() {
+        this(0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a new {@link StubWebDriver} with the given latency per command.
+     *
+     * @param latency the latency of each command
+     * @param unit the unit of the latency
+     */
+    public StubWebDriver(long latency, TimeUnit unit) {
+        this.latencyInNanos = unit.toNanos(latency);
+        this.document = new StubWebElement(this, "html");
+    }
+
+    /**
+     * Creates a new element which can be added to the DOM of this driver.
+     *
+     * @param tagName the tag name of the element
+     * @return the new element
+     */
+    public StubWebElement element(String tagName) {
+        return new StubWebElement(this, tagName);
+    }
+
+    /**
+     * Returns the root element of the DOM. Elements registered on it can be found using {@link #findElement(By)} and
+     * {@link #findElements(By)}.
+     *
+     * @return the document element
+     */
+    public StubWebElement document() {
+        return document;
+    }
+
+    /**
+     * Sets the handler which computes the results of executed scripts. By default all scripts return <code>null</code>.
+     *
+     * @param scriptHandler the handler receiving the script and its arguments
+     */
+    public void setScriptHandler(BiFunction<String, Object[], Object> scriptHandler) {
+        this.scriptHandler = scriptHandler;
+    }
+
+    /**
+     * Returns the number of commands executed since the creation of this driver or the last {@link #resetCommands()}.
+     *
+     * @return the number of commands
+     */
+    public long getNumberOfCommands() {
+        return commands.sum();
+    }
+
+    /**
+     * Resets the number of executed commands to zero.
+     */
+    public void resetCommands() {
+        commands.reset();
+    }
+
+    /**
+     * Simulates a single command: it is counted and the configured latency is waited for.
+     */
+    void command() {
+        commands.increment();
+        if (latencyInNanos > 0L) {
+            long deadline = System.nanoTime() + latencyInNanos;
+            while (System.nanoTime() - deadline < 0L) {
+                Blackhole.consumeCPU(SPIN_TOKENS);
+            }
+        }
+    }
+
+    @Override
+    public void get(String url) {
+        command();
+        this.currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command();
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        command();
+        return "stub";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return document.findElements(by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return document.findElement(by);
+    }
+
+    @Override
+    public String getPageSource() {
+        command();
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+        command();
+    }
+
+    @Override
+    public void quit() {
+        command();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command();
+        return Collections.singleton(getWindowHandle());
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub-window";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switching targets is not supported by the stub");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigation is not supported by the stub");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("options are not supported by the stub");
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command();
+        return scriptHandler.apply(script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        command();
+        return scriptHandler.apply(script, args);
+    }
+
+    @Override
+    public String toString() {
+        return "StubWebDriver(latency=" + latencyInNanos + "ns)";
+    }
+
+}
@@ -0,0 +1,210 @@
+package info.novatec.testit.webtester.benchmarks.stub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+
+/**
+ * Element of a {@link StubWebDriver stub driver's} DOM. Each operation is a command of the driver and is subject to its
+ * latency.
+ * <p>
+ * Child elements are registered with the {@link By} they should be found with. Entering text changes the element's
+ * <code>value</code> attribute, clicking a checkbox or radio button changes its selection.
+ */
+public class StubWebElement implements WebElement {
+
+    private static final String VALUE = "value";
+
+    private final StubWebDriver driver;
+    private final String tagName;
+    private final Map<String, String> attributes = new HashMap<>();
+    private final Map<By, List<WebElement>> children = new HashMap<>();
+
+    private String text = "";
+    private boolean selected;
+    private BooleanSupplier displayed = () -> true;
+
+    StubWebElement(StubWebDriver driver, String tagName) {
+        this.driver = driver;
+        this.tagName = tagName;
+    }
+
+    /**
+     * Sets an attribute of this element.
+     *
+     * @param name the name of the attribute
+     * @param value the value of the attribute
+     * @return the same element for fluent API use
+     */
+    public StubWebElement withAttribute(String name, String value) {
+        attributes.put(name, value);
+        return this;
+    }
+
+    /**
+     * Sets the visible text of this element.
+     *
+     * @param visibleText the visible text
+     * @return the same element for fluent API use
+     */
+    public StubWebElement withText(String visibleText) {
+        this.text = visibleText;
+        return this;
+    }
+
+    /**
+     * Sets whether or not this element is displayed. The supplier is asked on each {@link #isDisplayed()} call.
+     *
+     * @param displayedSupplier the supplier of the displayed state
+     * @return the same element for fluent API use
+     */
+    public StubWebElement withDisplayed(BooleanSupplier displayedSupplier) {
+        this.displayed = displayedSupplier;
+        return this;
+    }
+
+    /**
+     * Registers child elements which can be found using the given {@link By}. Elements registered for the same
+     * {@link By} are appended.
+     *
+     * @param by the locator to find the children with
+     * @param elements the child elements
+     * @return the same element for fluent API use
+     */
+    public StubWebElement withChildren(By by, StubWebElement... elements) {
+        children.computeIfAbsent(by, key -> new ArrayList<>()).addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        driver.command();
+        return new ArrayList<>(children.getOrDefault(by, Collections.emptyList()));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        driver.command();
+        List<WebElement> elements = children.getOrDefault(by, Collections.emptyList());
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("no stub element registered for: " + by);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public void click() {
+        driver.command();
+        String type = attributes.getOrDefault("type", "");
+        if ("checkbox".equals(type)) {
+            selected = !selected;
+        } else if ("radio".equals(type)) {
+            selected = true;
+        }
+    }
+
+    @Override
+    public void submit() {
+        driver.command();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.command();
+        StringBuilder value = new StringBuilder(attributes.getOrDefault(VALUE, ""));
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+        attributes.put(VALUE, value.toString());
+    }
+
+    @Override
+    public void clear() {
+        driver.command();
+        attributes.put(VALUE, "");
+    }
+
+    @Override
+    public String getTagName() {
+        driver.command();
+        return tagName;
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        driver.command();
+        return attributes.get(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.command();
+        return selected;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.command();
+        return !attributes.containsKey("disabled");
+    }
+
+    @Override
+    public String getText() {
+        driver.command();
+        return text;
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.command();
+        return displayed.getAsBoolean();
+    }
+
+    @Override
+    public Point getLocation() {
+        driver.command();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        driver.command();
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        driver.command();
+        return new Rectangle(new Point(0, 0), new Dimension(100, 20));
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        driver.command();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedOperationException("screenshots are not supported by the stub");
+    }
+
+    @Override
+    public String toString() {
+        return "StubWebElement(" + tagName + ")";
+    }
+
+}
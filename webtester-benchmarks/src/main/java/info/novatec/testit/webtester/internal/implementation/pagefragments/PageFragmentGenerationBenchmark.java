@@ -0,0 +1,43 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bytebuddy.dynamic.DynamicType;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.Table;
+
+
+/**
+ * Compares generating the implementation of a page fragment interface with looking up the already generated (cached)
+ * implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageFragmentGenerationBenchmark {
+
+    @Benchmark
+    public DynamicType.Unloaded<BasePageFragment> generate() {
+        return PageFragmentImplementation.make(Table.class);
+    }
+
+    @Benchmark
+    public Class<? extends PageFragment> cachedLookup() {
+        return PageFragmentImplementation.getOrCreate(Table.class);
+    }
+
+}
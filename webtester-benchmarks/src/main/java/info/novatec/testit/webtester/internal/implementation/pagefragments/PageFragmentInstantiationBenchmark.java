@@ -0,0 +1,59 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.mapping.DefaultMappingValidator;
+import info.novatec.testit.webtester.internal.mapping.MappingValidator;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * Compares the creation of page fragment instances using reflection (as it was done before version 2.7) with the cached
+ * {@link PageFragmentInstantiator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageFragmentInstantiationBenchmark {
+
+    Browser browser;
+    Supplier<WebElement> webElementSupplier = () -> null;
+    MappingValidator validator = new DefaultMappingValidator(PageFragment.class);
+    Class<? extends PageFragment> implType;
+
+    @Setup
+    public void setup() {
+        implType = PageFragmentImplementation.getOrCreate(PageFragment.class);
+    }
+
+    @Benchmark
+    public PageFragment reflection() throws ReflectiveOperationException {
+        Constructor<? extends PageFragment> constructor =
+            implType.getConstructor(Browser.class, Supplier.class, MappingValidator.class, String.class);
+        return constructor.newInstance(browser, webElementSupplier, validator, "fragment");
+    }
+
+    @Benchmark
+    public PageFragment instantiator() {
+        return PageFragmentInstantiator.of(implType).newInstance(browser, webElementSupplier, validator, "fragment");
+    }
+
+}
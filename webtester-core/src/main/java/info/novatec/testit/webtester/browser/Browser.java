@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.browser;
 
 import org.openqa.selenium.WebDriver;
 
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
 import info.novatec.testit.webtester.browser.operations.AlertHandler;
 import info.novatec.testit.webtester.browser.operations.CurrentWindow;
 import info.novatec.testit.webtester.browser.operations.FocusSetter;
@@ -10,6 +11,7 @@ import info.novatec.testit.webtester.browser.operations.Navigator;
 import info.novatec.testit.webtester.browser.operations.PageSourceSaver;
 import info.novatec.testit.webtester.browser.operations.ScreenshotTaker;
 import info.novatec.testit.webtester.browser.operations.UrlOpener;
+import info.novatec.testit.webtester.browser.snapshots.DomSnapshot;
 import info.novatec.testit.webtester.config.Configuration;
 import info.novatec.testit.webtester.events.EventSystem;
 import info.novatec.testit.webtester.internal.OffersAdHocFinding;
@@ -33,6 +35,7 @@ import info.novatec.testit.webtester.pages.Page;
  * <li>{@link #screenshot()} - take screenshots</li>
  * <li>{@link #pageSource()} - save page source</li>
  * <li>{@link #javaScript()} - execute JavaScript code</li>
+ * <li>{@link #activity()} - track and wait for the activity of the current page</li>
  * </ul>
  * <p>
  * Also offers methods for the creation of {@link PageFragment page fragments}
@@ -62,6 +65,7 @@ import info.novatec.testit.webtester.pages.Page;
  * @see ScreenshotTaker
  * @see PageSourceSaver
  * @see JavaScriptExecutor
+ * @see ActivityTracker
  * @since 2.0
  */
 public interface Browser extends OffersPageCreation, OffersAdHocFinding {
@@ -170,6 +174,26 @@ public interface Browser extends OffersPageCreation, OffersAdHocFinding {
      */
     JavaScriptExecutor javaScript();
 
+    /**
+     * Returns this {@link Browser browser's} {@link ActivityTracker activity tracker} operations.
+     *
+     * @return the activity tracker operations
+     * @since 2.7
+     */
+    ActivityTracker activity();
+
+    /**
+     * Takes a new read-only {@link DomSnapshot snapshot} of this {@link Browser browser's} current DOM. Pages and page
+     * fragments created from the snapshot are evaluated locally without any round trips to the browser.
+     *
+     * @return the new snapshot
+     * @see DomSnapshot
+     * @since 2.7
+     */
+    default DomSnapshot domSnapshot() {
+        return DomSnapshot.of(this);
+    }
+
 
     /**
      * Returns this {@link Browser browser's} {@link EventSystem event system}.
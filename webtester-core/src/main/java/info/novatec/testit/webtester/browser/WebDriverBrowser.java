@@ -6,6 +6,7 @@ import org.openqa.selenium.WebDriver;
 import lombok.extern.slf4j.Slf4j;
 
 import info.novatec.testit.webtester.adhoc.AdHocFinder;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
 import info.novatec.testit.webtester.browser.operations.AlertHandler;
 import info.novatec.testit.webtester.browser.operations.CurrentWindow;
 import info.novatec.testit.webtester.browser.operations.FocusSetter;
@@ -53,6 +54,7 @@ public final class WebDriverBrowser implements Browser {
     private final ScreenshotTaker screenshot;
     private final PageSourceSaver pageSource;
     private final JavaScriptExecutor javaScript;
+    private final ActivityTracker activity;
     private final FocusSetter focus;
     private final EventSystem eventSystem;
 
@@ -73,6 +75,7 @@ public final class WebDriverBrowser implements Browser {
         this.screenshot = new ScreenshotTaker(this);
         this.pageSource = new PageSourceSaver(this);
         this.javaScript = new JavaScriptExecutor(this);
+        this.activity = new ActivityTracker(this);
         this.focus = new FocusSetter(this);
         this.eventSystem = new DispatchingEventSystem(this);
 
@@ -158,6 +161,11 @@ public final class WebDriverBrowser implements Browser {
         return javaScript;
     }
 
+    @Override
+    public ActivityTracker activity() {
+        return activity;
+    }
+
     @Override
     public EventSystem events() {
         return eventSystem;
@@ -0,0 +1,242 @@
+package info.novatec.testit.webtester.browser.operations;
+
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.conditions.browser.DocumentReady;
+import info.novatec.testit.webtester.conditions.browser.NoPendingRequests;
+import info.novatec.testit.webtester.conditions.browser.Quiescent;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.waiting.PollingStrategies;
+import info.novatec.testit.webtester.waiting.TimeoutException;
+import info.novatec.testit.webtester.waiting.Wait;
+
+
+/**
+ * This browser operation offers methods related to the activity of the current page, like outstanding AJAX requests.
+ * It allows to wait until the page went idle instead of waiting for a fixed amount of time.
+ * <p>
+ * The activity is tracked by JavaScript instrumentation, which is installed into the current page by any of this
+ * operation's methods. It counts pending <code>XMLHttpRequest</code> and <code>fetch</code> requests and pending
+ * <code>setTimeout</code> timers with a delay of at most one second (longer timers and intervals are usually not part
+ * of the reaction to a user's action). Timers set by the callback of a tracked timer are tracked as well, up to the
+ * {@link Configuration#getActivityTimerChain() configured} number of timers in a row. This way chained work (e.g. a
+ * debounced input starting a follow-up timer) is waited for, while pages which keep re-arming a short timer (e.g. for
+ * polling) can still become quiescent. In addition the pending requests of
+ * <code>jQuery</code>, AngularJS and Angular are taken into account if these frameworks are used by the page.
+ * <p>
+ * <b>Note:</b> The instrumentation can only track requests which were started after it was installed and has to be
+ * installed again after a new page was loaded. Requests started earlier are only noticed via the frameworks' pending
+ * counters or when their resource timing entries appear. In order to track all requests caused by an action,
+ * {@link #install()} can be called before executing the action.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * browser.activity().install();
+ * page.searchButton().click();
+ * browser.activity().waitForQuiescence();
+ * </pre>
+ *
+ * @see #install()
+ * @see #isQuiescent()
+ * @see #waitForQuiescence()
+ * @see Quiescent
+ * @since 2.7
+ */
+@Slf4j
+public class ActivityTracker extends BaseBrowserOperation {
+
+    /** The default time in milliseconds without any activity, before a page is considered to be quiescent. */
+    public static final long DEFAULT_QUIET_PERIOD = 100L;
+    /** The maximum delay in milliseconds of <code>setTimeout</code> timers which are tracked. */
+    public static final long MAX_TRACKED_TIMER_DELAY = 1000L;
+
+    private static final String INSTALL_SCRIPT = "var w = window, a = w.webtesterActivity, maxChain = arguments[0];\n"
+        + "if (!a) {\n"
+        + "  a = w.webtesterActivity = { requests: 0, timers: {}, timerCount: 0, resources: -1, last: Date.now() };\n"
+        + "  var touch = function () { a.last = Date.now(); };\n"
+        + "  var started = function () { a.requests++; touch(); };\n"
+        + "  var finished = function () { a.requests = Math.max(a.requests - 1, 0); touch(); };\n"
+        + "  if (w.XMLHttpRequest) {\n"
+        + "    var send = w.XMLHttpRequest.prototype.send;\n"
+        + "    w.XMLHttpRequest.prototype.send = function () {\n"
+        + "      var done = false, finish = function () { if (!done) { done = true; finished(); } };\n"
+        + "      started();\n"
+        + "      this.addEventListener('loadend', finish);\n"
+        + "      try { return send.apply(this, arguments); } catch (x) { finish(); throw x; }\n"
+        + "    };\n"
+        + "  }\n"
+        + "  if (w.fetch) {\n"
+        + "    var fetch = w.fetch;\n"
+        + "    w.fetch = function () {\n"
+        + "      started();\n"
+        + "      try {\n"
+        + "        var p = fetch.apply(this, arguments);\n"
+        + "        p.then(finished, finished);\n"
+        + "        return p;\n"
+        + "      } catch (x) { finished(); throw x; }\n"
+        + "    };\n"
+        + "  }\n"
+        + "  var setTimer = w.setTimeout, clearTimer = w.clearTimeout, chain = -1;\n"
+        + "  var untrack = function (id) {\n"
+        + "    if (a.timers[id]) { delete a.timers[id]; a.timerCount--; return true; }\n"
+        + "    return false;\n"
+        + "  };\n"
+        + "  w.setTimeout = function (callback, delay) {\n"
+        + "    var args = Array.prototype.slice.call(arguments), id, depth = chain + 1;\n"
+        + "    if (typeof callback !== 'function' || delay > " + MAX_TRACKED_TIMER_DELAY + ") {\n"
+        + "      return setTimer.apply(w, args);\n"
+        + "    }\n"
+        + "    args[0] = function () {\n"
+        + "      if (untrack(id)) { touch(); }\n"
+        + "      var outer = chain;\n"
+        + "      chain = depth;\n"
+        + "      try { return callback.apply(this, arguments); } finally { chain = outer; }\n"
+        + "    };\n"
+        + "    id = setTimer.apply(w, args);\n"
+        + "    if (depth <= maxChain) { a.timers[id] = true; a.timerCount++; }\n"
+        + "    return id;\n"
+        + "  };\n"
+        + "  w.clearTimeout = function (id) { untrack(id); return clearTimer.apply(w, arguments); };\n"
+        + "}\n";
+
+    private static final String STATE_SCRIPT = INSTALL_SCRIPT //
+        + "var p = w.performance, resources = p && p.getEntriesByType ? p.getEntriesByType('resource').length : 0;\n"
+        + "if (resources !== a.resources) { a.resources = resources; a.last = Date.now(); }\n"
+        + "var pending = a.requests;\n"
+        + "try { if (w.jQuery && w.jQuery.active) { pending += w.jQuery.active; } } catch (x) { }\n"
+        + "try {\n"
+        + "  if (w.getAllAngularTestabilities) {\n"
+        + "    pending += w.getAllAngularTestabilities().filter(function (t) { return !t.isStable(); }).length;\n"
+        + "  } else if (w.angular && w.angular.element) {\n"
+        + "    var injector = w.angular.element(document.body).injector();\n"
+        + "    if (injector) { pending += injector.get('$http').pendingRequests.length; }\n"
+        + "  }\n"
+        + "} catch (x) { }\n"
+        + "if (pending > 0) { a.last = Date.now(); }\n"
+        + "return {\n"
+        + "  ready: document.readyState === 'complete',\n"
+        + "  requests: pending,\n"
+        + "  timers: a.timerCount,\n"
+        + "  idle: Date.now() - a.last\n"
+        + "};";
+
+    /**
+     * Creates a new {@link ActivityTracker} for the given {@link Browser}.
+     *
+     * @param browser the browser to use
+     * @since 2.7
+     */
+    public ActivityTracker(Browser browser) {
+        super(browser);
+    }
+
+    /**
+     * Installs the instrumentation into the current page, unless it is already installed. Calling this method before
+     * executing an action ensures that all requests caused by that action are tracked.
+     *
+     * @return the same instance for fluent API use
+     * @since 2.7
+     */
+    public ActivityTracker install() {
+        browser().javaScript().execute(INSTALL_SCRIPT, configuration().getActivityTimerChain());
+        log.debug("installed activity tracking");
+        return this;
+    }
+
+    /**
+     * Returns whether or not the current document finished loading. This is the case if its
+     * <code>document.readyState</code> is <code>complete</code>.
+     *
+     * @return true if the document is ready, otherwise false
+     * @since 2.7
+     */
+    public boolean isDocumentReady() {
+        return Boolean.TRUE.equals(state().get("ready"));
+    }
+
+    /**
+     * Returns the number of pending requests of the current page. This includes <code>XMLHttpRequest</code> and
+     * <code>fetch</code> requests as well as pending requests of <code>jQuery</code>, AngularJS and Angular.
+     * <p>
+     * <b>Note:</b> Requests which are tracked by more than one of these are counted more than once.
+     *
+     * @return the number of pending requests
+     * @since 2.7
+     */
+    public long getPendingRequests() {
+        return number(state(), "requests");
+    }
+
+    /**
+     * Returns whether or not the current page is quiescent using the {@link #DEFAULT_QUIET_PERIOD default quiet
+     * period}.
+     *
+     * @return true if the page is quiescent, otherwise false
+     * @see #isQuiescent(long)
+     * @since 2.7
+     */
+    public boolean isQuiescent() {
+        return isQuiescent(DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * Returns whether or not the current page is quiescent. This is the case if the document is ready, there are
+     * neither pending requests nor pending timers and there was no activity within the given quiet period.
+     *
+     * @param quietPeriodInMillis the time in milliseconds without any activity
+     * @return true if the page is quiescent, otherwise false
+     * @since 2.7
+     */
+    public boolean isQuiescent(long quietPeriodInMillis) {
+        Map<String, Object> state = state();
+        log.trace("activity state: {}", state);
+        return Boolean.TRUE.equals(state.get("ready")) && number(state, "requests") == 0L
+            && number(state, "timers") == 0L && number(state, "idle") >= quietPeriodInMillis;
+    }
+
+    /**
+     * Waits until the current page is quiescent using the {@link #DEFAULT_QUIET_PERIOD default quiet period}. The
+     * timeout and polling are taken from the browser's configuration.
+     *
+     * @return the same instance for fluent API use
+     * @throws TimeoutException in case the page did not become quiescent within the timeout
+     * @see #waitForQuiescence(long)
+     * @since 2.7
+     */
+    public ActivityTracker waitForQuiescence() throws TimeoutException {
+        return waitForQuiescence(DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * Waits until the current page is {@link #isQuiescent(long) quiescent} using the given quiet period. The timeout
+     * and polling are taken from the browser's configuration.
+     *
+     * @param quietPeriodInMillis the time in milliseconds without any activity
+     * @return the same instance for fluent API use
+     * @throws TimeoutException in case the page did not become quiescent within the timeout
+     * @see Quiescent
+     * @see DocumentReady
+     * @see NoPendingRequests
+     * @since 2.7
+     */
+    public ActivityTracker waitForQuiescence(long quietPeriodInMillis) throws TimeoutException {
+        Wait.withTimeoutOf(configuration().getWaitTimeout())
+            .pollingWith(PollingStrategies.from(configuration()))
+            .until(browser())
+            .is(new Quiescent(quietPeriodInMillis));
+        return this;
+    }
+
+    private Map<String, Object> state() {
+        return browser().javaScript().executeWithReturn(STATE_SCRIPT, configuration().getActivityTimerChain());
+    }
+
+    private static long number(Map<String, Object> state, String key) {
+        Object value = state.get(key);
+        return value instanceof Number ? ( ( Number ) value ).longValue() : 0L;
+    }
+
+}
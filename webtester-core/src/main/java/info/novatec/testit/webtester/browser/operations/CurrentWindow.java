@@ -66,6 +66,7 @@ public class CurrentWindow extends BaseBrowserOperation {
     public void refresh() {
         ActionTemplate.browser(browser())
             .execute(browser -> browser.webDriver().navigate().refresh())
+            .invalidateElementCaches()
             .fireEvent(browser -> new RefreshedPageEvent());
         log.debug("refreshed current window ({})", getHandle());
     }
@@ -160,6 +161,7 @@ public class CurrentWindow extends BaseBrowserOperation {
         log.debug("closing current window ({})", getHandle());
         ActionTemplate.browser(browser())
             .execute(browser -> browser.webDriver().close())
+            .invalidateElementCaches()
             .fireEvent(browser -> new ClosedWindowEvent());
     }
 
@@ -47,6 +47,7 @@ public class FocusSetter extends BaseBrowserOperation {
     public void onFrame(int index) throws NoSuchFrameException {
         ActionTemplate.browser(browser())
             .execute(browser -> doOnFrame(browser, index))
+            .invalidateElementCaches()
             .fireEvent(browser -> new SwitchedToFrameEvent(index));
         log.debug("focused on frame with index: {}", index);
     }
@@ -66,6 +67,7 @@ public class FocusSetter extends BaseBrowserOperation {
     public void onFrame(String nameOrId) throws NoSuchFrameException {
         ActionTemplate.browser(browser())
             .execute(browser -> doOnFrame(browser, nameOrId))
+            .invalidateElementCaches()
             .fireEvent(browser -> new SwitchedToFrameEvent(nameOrId));
         log.debug("focused on frame with name or ID: {}", nameOrId);
     }
@@ -85,6 +87,7 @@ public class FocusSetter extends BaseBrowserOperation {
     public void onFrame(PageFragment frame) throws NoSuchFrameException {
         ActionTemplate.browser(browser())
             .execute(browser -> doOnFrame(browser, frame))
+            .invalidateElementCaches()
             .fireEvent(browser -> new SwitchedToFrameEvent(frame));
         log.debug("focused on frame page fragment: {}", frame);
     }
@@ -108,6 +111,7 @@ public class FocusSetter extends BaseBrowserOperation {
     public void onWindow(String nameOrHandle) throws NoSuchWindowException {
         ActionTemplate.browser(browser())
             .execute(browser -> doOnWindow(browser, nameOrHandle))
+            .invalidateElementCaches()
             .fireEvent(browser -> new SwitchedToWindowEvent(nameOrHandle));
         log.debug("focused on window with name or handle: {}", nameOrHandle);
     }
@@ -126,6 +130,7 @@ public class FocusSetter extends BaseBrowserOperation {
     public void onDefaultContent() {
         ActionTemplate.browser(browser())
             .execute(this::doOnDefaultContent)
+            .invalidateElementCaches()
             .fireEvent(browser -> new SwitchedToDefaultContentEvent());
         log.debug("focused on default content");
     }
@@ -54,6 +54,7 @@ public class Navigator extends BaseBrowserOperation {
     public void backwards() {
         ActionTemplate.browser(browser())
             .execute(browser -> browser.webDriver().navigate().back())
+            .invalidateElementCaches()
             .fireEvent(browser -> new NavigatedBackwardsEvent());
         log.debug("navigated backwards in browser history");
     }
@@ -80,6 +81,7 @@ public class Navigator extends BaseBrowserOperation {
     public void forwards() {
         ActionTemplate.browser(browser())
             .execute(browser -> browser.webDriver().navigate().forward())
+            .invalidateElementCaches()
             .fireEvent(browser -> new NavigatedForwardsEvent());
         log.debug("navigated forwards in browser history");
     }
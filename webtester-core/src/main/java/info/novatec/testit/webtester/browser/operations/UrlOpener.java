@@ -116,6 +116,7 @@ public class UrlOpener extends BaseBrowserOperation {
     public void url(String url) {
         ActionTemplate.browser(browser())
             .execute(browser -> webDriver().get(url))
+            .invalidateElementCaches()
             .fireEvent(browser -> new OpenedUrlEvent(url));
         log.debug("opened URL: {}", url);
     }
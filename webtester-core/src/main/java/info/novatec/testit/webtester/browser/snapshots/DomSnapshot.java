@@ -0,0 +1,181 @@
+package info.novatec.testit.webtester.browser.snapshots;
+
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.config.BaseConfiguration;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.internal.ElementScripts;
+import info.novatec.testit.webtester.internal.snapshots.SnapshotDocument;
+import info.novatec.testit.webtester.internal.snapshots.SnapshotWebDriver;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * Offline, read-only snapshot of a {@link Browser browser's} current DOM.
+ * <p>
+ * Every {@link info.novatec.testit.webtester.pagefragments.PageFragment page fragment} method costs at least one round
+ * trip to the browser. For steps which only verify the state of a page (visible texts, attributes, visibility etc.)
+ * a snapshot fetches the whole page once, parses it into a local DOM and offers a {@link #browser() browser} whose
+ * pages, page fragments, {@link info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing @IdentifyUsing}
+ * lookups, ad-hoc finders and conditions are evaluated against that DOM without contacting the real browser.
+ * <p>
+ * If the real browser supports JavaScript, the page is serialized by the browser itself. In that case the current
+ * values of form controls are included and elements which were not rendered visibly are marked as such. Otherwise the
+ * snapshot is parsed from the {@link info.novatec.testit.webtester.browser.operations.PageSourceSaver#get() page
+ * source} and visibility is derived from the markup (e.g. <code>hidden</code> attributes or inline
+ * <code>display: none</code> styles). In both cases CSS values are only available if they are declared inline.
+ * <p>
+ * The snapshot is not updated when the real page changes. Waiting for a condition on a snapshot will therefore only
+ * succeed if the condition was already met when the snapshot was taken. Interactions like clicking or entering text,
+ * navigation and JavaScript execution are not supported and throw an {@link UnsupportedOperationException}.
+ * <p>
+ * Snapshots should be {@link #close() released} as soon as they are no longer needed. After that any access to the
+ * snapshot's page fragments throws an {@link IllegalStateException}.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * try (DomSnapshot snapshot = browser.domSnapshot()) {
+ *     SearchResultPage page = snapshot.create(SearchResultPage.class);
+ *     assertThat(page.results()).hasSize(20);
+ *     assertThat(page.results().get(0).title()).hasVisibleText("WebTester");
+ * }
+ * </pre>
+ *
+ * @see Browser#domSnapshot()
+ * @since 2.7
+ */
+@Slf4j
+public final class DomSnapshot implements AutoCloseable {
+
+    /**
+     * Serializes the DOM into HTML. The copy reflects the current state of form controls and marks all elements which
+     * are not {@link ElementScripts visible}. Options are never marked, they are as visible as their select.
+     */
+    static final String SERIALIZE_SCRIPT = "var root = document.documentElement, copy = root.cloneNode(true);\n"
+        + ElementScripts.HELPERS
+        + "var originals = [root].concat(Array.prototype.slice.call(root.getElementsByTagName('*')));\n"
+        + "var copies = [copy].concat(Array.prototype.slice.call(copy.getElementsByTagName('*')));\n"
+        + "for (var i = 0; i < originals.length && i < copies.length; i++) {\n"
+        + "  var original = originals[i], target = copies[i], tag = original.tagName;\n"
+        + "  if (tag === 'INPUT' && (original.type === 'checkbox' || original.type === 'radio')) {\n"
+        + "    if (original.checked) { target.setAttribute('checked', 'checked'); }\n"
+        + "    else { target.removeAttribute('checked'); }\n"
+        + "  } else if (tag === 'INPUT' && original.type !== 'file') {\n"
+        + "    target.setAttribute('value', original.value);\n"
+        + "  } else if (tag === 'TEXTAREA') {\n"
+        + "    target.textContent = original.value;\n"
+        + "  } else if (tag === 'OPTION') {\n"
+        + "    if (original.selected) { target.setAttribute('selected', 'selected'); }\n"
+        + "    else { target.removeAttribute('selected'); }\n"
+        + "  }\n"
+        + "  if (tag !== 'OPTION' && tag !== 'OPTGROUP' && !visible(original)) {\n"
+        + "    target.setAttribute(arguments[0], '');\n"
+        + "  }\n"
+        + "}\n"
+        + "return [window.location.href, '<!DOCTYPE html>' + copy.outerHTML];";
+
+    private final SnapshotDocument document;
+    private final Browser browser;
+
+    private DomSnapshot(SnapshotDocument document, Configuration configuration) {
+        this.document = document;
+        this.browser = WebDriverBrowser.forWebDriver(new SnapshotWebDriver(document))
+            .withConfiguration(configuration)
+            .build();
+    }
+
+    /**
+     * Takes a new {@link DomSnapshot} of the given {@link Browser browser's} current page.
+     *
+     * @param browser the browser to take the snapshot of
+     * @return the new snapshot
+     * @since 2.7
+     */
+    public static DomSnapshot of(Browser browser) {
+        SnapshotDocument document;
+        if (browser.webDriver() instanceof JavascriptExecutor) {
+            List<String> urlAndSource =
+                browser.javaScript().executeWithReturn(SERIALIZE_SCRIPT, SnapshotDocument.INVISIBLE_MARKER);
+            document = new SnapshotDocument(urlAndSource.get(1), urlAndSource.get(0), true);
+        } else {
+            document = new SnapshotDocument(browser.pageSource().get(), browser.currentUrl(), false);
+        }
+        log.debug("took DOM snapshot of '{}'", document.getUrl());
+        return new DomSnapshot(document, readOnlyCopyOf(browser.configuration()));
+    }
+
+    /**
+     * Creates a copy of the given {@link Configuration} with all features requiring JavaScript disabled.
+     */
+    private static Configuration readOnlyCopyOf(Configuration configuration) {
+        BaseConfiguration copy = new BaseConfiguration();
+        configuration.getKeys()
+            .forEach(key -> configuration.getProperty(key).ifPresent(value -> copy.setProperty(key, value)));
+        return copy.setMarkingsEnabled(false)
+            .setBulkSelectionEnabled(false)
+            .setLazyFragmentsEnabled(false)
+            .setActionDeceleration(0L);
+    }
+
+    /**
+     * Returns the read-only {@link Browser browser} serving this snapshot. Its pages, page fragments and conditions
+     * are evaluated against the snapshot's DOM.
+     *
+     * @return the snapshot's browser
+     * @since 2.7
+     */
+    public Browser browser() {
+        return browser;
+    }
+
+    /**
+     * Creates a new instance of the given {@link Page page} class using this snapshot's {@link #browser() browser}.
+     *
+     * @param pageClass the page class to create an instance of
+     * @param <T> the type of the page
+     * @return the new page instance
+     * @see Browser#create(Class)
+     * @since 2.7
+     */
+    public <T extends Page> T create(Class<T> pageClass) {
+        return browser.create(pageClass);
+    }
+
+    /**
+     * Returns the URL of the page at the time the snapshot was taken.
+     *
+     * @return the URL
+     * @since 2.7
+     */
+    public String getUrl() {
+        return document.getUrl();
+    }
+
+    /**
+     * Returns whether or not this snapshot was already {@link #close() released}.
+     *
+     * @return true if released, otherwise false
+     * @since 2.7
+     */
+    public boolean isReleased() {
+        return document.isReleased();
+    }
+
+    /**
+     * Releases this snapshot's DOM. Any further access to page fragments of this snapshot will fail with an
+     * {@link IllegalStateException}. Releasing an already released snapshot has no effect.
+     *
+     * @since 2.7
+     */
+    @Override
+    public void close() {
+        browser.close();
+    }
+
+}
@@ -0,0 +1,45 @@
+package info.novatec.testit.webtester.conditions;
+
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.syntax.Not;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * A {@link Condition} which can be compiled into a JavaScript expression evaluated against the web element of a
+ * {@link PageFragment page fragment}. Wait operations can evaluate such a condition using a single script execution
+ * per check instead of one remote call for each property the condition reads.
+ * <p>
+ * The expression can use the following variables and functions of the {@link CompiledCondition compiled} script:
+ * <ul>
+ * <li><code>e</code> - the web element or <code>null</code> in case the page fragment is not present</li>
+ * <li><code>need(e)</code> - returns <code>e</code> or aborts the evaluation like a missing web element would</li>
+ * <li><code>visible(e)</code> - whether or not the element is displayed</li>
+ * <li><code>enabled(e)</code> - whether or not the element is enabled</li>
+ * <li><code>attr(e, name)</code> - the element's attribute like {@link PageFragment#getAttribute(String)}</li>
+ * <li><code>text(e)</code> - the element's visible text</li>
+ * </ul>
+ * String constants must be embedded using {@link CompiledCondition#literal(String)}.
+ *
+ * @param <T> the type of the input to the predicate
+ * @see CompiledCondition
+ * @since 2.7
+ */
+public interface CompilableCondition<T> extends Condition<T> {
+
+    /**
+     * Compiles this condition into a JavaScript expression evaluating to <code>true</code> in case the condition is
+     * met.
+     *
+     * @return the expression or empty in case this condition (or one of its parts) can't be compiled
+     * @since 2.7
+     */
+    Optional<String> toJavaScript();
+
+    @Override
+    default Condition<T> negate() {
+        return new Not<>(this);
+    }
+
+}
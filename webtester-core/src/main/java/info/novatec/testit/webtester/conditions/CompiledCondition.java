@@ -0,0 +1,207 @@
+package info.novatec.testit.webtester.conditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import lombok.Getter;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.ElementScripts;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * A {@link CompilableCondition} compiled into a script, which evaluates the condition against the web element of a
+ * {@link PageFragment page fragment} using a single JavaScript execution.
+ * <p>
+ * The helper functions emulate the corresponding WebDriver commands: <code>visible(e)</code>, <code>enabled(e)</code>
+ * and <code>text(e)</code> are the {@link ElementScripts shared element helpers}, <code>attr(e, name)</code> returns
+ * boolean attributes as <code>"true"</code> and other attributes by their property value (falling back to the
+ * attribute).
+ * <p>
+ * In case the page fragment is not present, the web element is passed as <code>null</code>. Expressions requiring the
+ * element to be present (see {@link CompilableCondition}) lead to the same {@link NoSuchElementException} the page
+ * fragment's methods would throw.
+ *
+ * @see CompilableCondition
+ * @since 2.7
+ */
+@Getter
+public final class CompiledCondition {
+
+    private static final String HELPERS =
+        "var MISSING = {};\n"
+        + "var BOOLEANS = ['async', 'autofocus', 'autoplay', 'checked', 'controls', 'default', 'defer', 'disabled',\n"
+        + "  'hidden', 'ismap', 'loop', 'multiple', 'muted', 'novalidate', 'open', 'readonly', 'required',\n"
+        + "  'reversed', 'selected'];\n"
+        + "function need(e) { if (e == null) { throw MISSING; } return e; }\n"
+        + "function attr(e, name) {\n"
+        + "  if (BOOLEANS.indexOf(name.toLowerCase()) >= 0) {\n"
+        + "    return e[name] === true || e.hasAttribute(name) ? 'true' : null; }\n"
+        + "  var p = e[name];\n"
+        + "  if (p != null && typeof p !== 'object' && typeof p !== 'function') { return String(p); }\n"
+        + "  return e.getAttribute(name); }\n"
+        + ElementScripts.HELPERS;
+
+    private static final String SCRIPT_START = "var e = arguments[0];\n"
+        + HELPERS
+        + "try {\n"
+        + "  return !!(";
+
+    private static final String SCRIPT_END = ");\n"
+        + "} catch (x) {\n"
+        + "  if (x === MISSING) { return null; }\n"
+        + "  throw x;\n"
+        + "}";
+
+    private static final String BATCH_SCRIPT_START = "var elements = arguments[0];\n"
+        + HELPERS
+        + "var predicates = [\n";
+
+    private static final String BATCH_SCRIPT_END = "];\n"
+        + "return predicates.map(function (predicate, i) {\n"
+        + "  try {\n"
+        + "    return !!predicate(elements[i]);\n"
+        + "  } catch (x) {\n"
+        + "    if (x === MISSING) { return null; }\n"
+        + "    throw x; }\n"
+        + "});";
+
+    /** The JavaScript expression of the compiled condition. */
+    private final String expression;
+    /** The script evaluating the expression. */
+    private final String script;
+
+    private CompiledCondition(String expression) {
+        this.expression = expression;
+        this.script = SCRIPT_START + expression + SCRIPT_END;
+    }
+
+    /**
+     * Compiles the given {@link Condition} in case it is a {@link CompilableCondition} and all of its parts can be
+     * compiled.
+     *
+     * @param condition the condition to compile
+     * @return the compiled condition or empty in case the condition can't be compiled
+     * @since 2.7
+     */
+    public static Optional<CompiledCondition> compile(Condition<?> condition) {
+        return expressionOf(condition).map(CompiledCondition::new);
+    }
+
+    /**
+     * Returns the JavaScript expression of the given {@link Condition} in case it is a {@link CompilableCondition} and
+     * all of its parts can be compiled. This is intended to be used by conditions composed of other conditions.
+     *
+     * @param condition the condition to compile
+     * @return the expression or empty in case the condition can't be compiled
+     * @see CompilableCondition#toJavaScript()
+     * @since 2.7
+     */
+    public static Optional<String> expressionOf(Condition<?> condition) {
+        if (condition instanceof CompilableCondition) {
+            return ( ( CompilableCondition<?> ) condition ).toJavaScript();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Evaluates this condition against the given {@link PageFragment page fragment} using a single JavaScript
+     * execution.
+     *
+     * @param fragment the page fragment to evaluate the condition against
+     * @return true if the condition is met, otherwise false
+     * @throws NoSuchElementException in case the condition requires the page fragment to be present but it is not
+     * @since 2.7
+     */
+    public boolean test(PageFragment fragment) throws NoSuchElementException {
+        WebElement element = null;
+        NoSuchElementException missing = null;
+        try {
+            element = fragment.webElement();
+        } catch (NoSuchElementException e) {
+            missing = e;
+        }
+        Boolean met = evaluate(fragment.browser(), element);
+        if (met == null) {
+            throw missing != null ? missing : new NoSuchElementException("page fragment is not present");
+        }
+        return met;
+    }
+
+    /**
+     * Evaluates this condition against the given, already resolved web element using a single JavaScript execution.
+     * This is intended for repeated checks which resolve the web element of a page fragment only once.
+     *
+     * @param browser the browser to evaluate the condition in
+     * @param element the web element to evaluate the condition against or <code>null</code> if it is not present
+     * @return true if the condition is met, false if not and <code>null</code> in case it requires a missing element
+     * @throws StaleElementReferenceException in case the web element is no longer attached to the DOM
+     * @since 2.7
+     */
+    public Boolean evaluate(Browser browser, WebElement element) throws StaleElementReferenceException {
+        return browser.javaScript().executeWithReturn(script, ( Object ) element);
+    }
+
+    /**
+     * Evaluates the given conditions against the given web elements using a single JavaScript execution. The first
+     * condition is evaluated against the first web element and so on. Web elements of page fragments which are not
+     * present are passed as <code>null</code>.
+     *
+     * @param browser the browser to evaluate the conditions in
+     * @param conditions the conditions to evaluate
+     * @param elements the web elements to evaluate the conditions against, may contain <code>null</code>
+     * @return for each condition whether or not it is met, <code>null</code> in case it requires a missing web element
+     * @throws IllegalArgumentException in case the number of conditions and web elements differs
+     * @since 2.7
+     */
+    public static List<Boolean> testAll(Browser browser, List<CompiledCondition> conditions, List<WebElement> elements)
+        throws IllegalArgumentException {
+        if (conditions.size() != elements.size()) {
+            throw new IllegalArgumentException(
+                "number of conditions and elements differs: " + conditions.size() + " != " + elements.size());
+        }
+        if (conditions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String predicates = conditions.stream()
+            .map(condition -> "  function (e) { return " + condition.expression + "; }")
+            .collect(Collectors.joining(",\n"));
+        String script = BATCH_SCRIPT_START + predicates + '\n' + BATCH_SCRIPT_END;
+        return browser.javaScript().executeWithReturn(script, new ArrayList<>(elements));
+    }
+
+    /**
+     * Returns the given string as a JavaScript string literal, to be used when compiling conditions.
+     *
+     * @param value the value of the literal
+     * @return the single quoted and escaped literal
+     * @since 2.7
+     */
+    public static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('\'');
+        for (char c : value.toCharArray()) {
+            if (c == '\'' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                literal.append(String.format("\\u%04x", ( int ) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('\'').toString();
+    }
+
+    @Override
+    public String toString() {
+        return "compiled(" + expression + ')';
+    }
+
+}
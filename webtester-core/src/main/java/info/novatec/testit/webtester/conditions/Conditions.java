@@ -4,6 +4,10 @@ import java.util.Collection;
 
 import lombok.experimental.UtilityClass;
 
+import info.novatec.testit.webtester.conditions.browser.DocumentReady;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+import info.novatec.testit.webtester.conditions.browser.NoPendingRequests;
+import info.novatec.testit.webtester.conditions.browser.Quiescent;
 import info.novatec.testit.webtester.conditions.pagefragments.Attribute;
 import info.novatec.testit.webtester.conditions.pagefragments.AttributeWithValue;
 import info.novatec.testit.webtester.conditions.pagefragments.Disabled;
@@ -374,4 +378,63 @@ public class Conditions {
         return new VisibleTextContains(partialText);
     }
 
+    /**
+     * Creates a new {@link JavaScriptCondition} condition.
+     *
+     * @param predicate the body of a JavaScript function returning whether or not the condition is met
+     * @param arguments the arguments of the function, available as <code>arguments[0]</code> -
+     * <code>arguments[n]</code>
+     * @return the created condition
+     * @see JavaScriptCondition
+     * @since 2.7
+     */
+    public static JavaScriptCondition javaScript(String predicate, Object... arguments) {
+        return new JavaScriptCondition(predicate, arguments);
+    }
+
+    /**
+     * Creates a new {@link DocumentReady} condition.
+     *
+     * @return the created condition
+     * @see DocumentReady
+     * @since 2.7
+     */
+    public static DocumentReady documentReady() {
+        return new DocumentReady();
+    }
+
+    /**
+     * Creates a new {@link NoPendingRequests} condition.
+     *
+     * @return the created condition
+     * @see NoPendingRequests
+     * @since 2.7
+     */
+    public static NoPendingRequests noPendingRequests() {
+        return new NoPendingRequests();
+    }
+
+    /**
+     * Creates a new {@link Quiescent} condition using the default quiet period.
+     *
+     * @return the created condition
+     * @see Quiescent
+     * @since 2.7
+     */
+    public static Quiescent quiescent() {
+        return new Quiescent();
+    }
+
+    /**
+     * Creates a new {@link Quiescent} condition.
+     *
+     * @param quietPeriodInMillis the time in milliseconds without any activity
+     * @return the created condition
+     * @see Quiescent
+     * @since 2.7
+     */
+    public static Quiescent quiescent(long quietPeriodInMillis) {
+        return new Quiescent(quietPeriodInMillis);
+    }
+
 }
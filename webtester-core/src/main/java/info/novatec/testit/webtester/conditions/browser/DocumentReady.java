@@ -0,0 +1,28 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
+import info.novatec.testit.webtester.conditions.Condition;
+
+
+/**
+ * {@link Condition} to be used in order to check if the current document of a {@link Browser browser} finished
+ * loading.
+ *
+ * @see Condition
+ * @see ActivityTracker#isDocumentReady()
+ * @since 2.7
+ */
+public class DocumentReady implements Condition<Browser> {
+
+    @Override
+    public boolean test(Browser browser) {
+        return browser.activity().isDocumentReady();
+    }
+
+    @Override
+    public String toString() {
+        return "document ready";
+    }
+
+}
@@ -0,0 +1,82 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.waiting.Wait;
+
+
+/**
+ * {@link Condition} to be used in order to check if a JavaScript predicate is met within the {@link Browser browser}.
+ * <p>
+ * The predicate is the body of a JavaScript function which returns a truthy value in case the condition is met. The
+ * arguments are available as <code>arguments[0]</code> - <code>arguments[n]</code>. {@link PageFragment Page
+ * fragment} arguments are passed as their web elements, which are resolved whenever the predicate is evaluated.
+ * <p>
+ * Since the predicate is evaluated within the browser, {@link Wait wait} operations do not need to poll it. Instead
+ * the waiter observes the DOM for changes and evaluates the predicate whenever it changed, returning as soon as the
+ * condition is met.
+ * <p>
+ * <b>Example:</b>
+ * <code>Wait.until(browser).has(javaScript("return document.querySelectorAll('.row').length &gt; 10;"));</code>
+ *
+ * @see Condition
+ * @see Wait
+ * @since 2.7
+ */
+@Getter
+public class JavaScriptCondition implements Condition<Browser> {
+
+    /** The body of the JavaScript function returning whether or not the condition is met. */
+    private final String predicate;
+    /** The arguments of the JavaScript function. */
+    private final List<Object> arguments;
+
+    public JavaScriptCondition(String predicate, Object... arguments) {
+        this(predicate, Arrays.asList(arguments));
+    }
+
+    public JavaScriptCondition(@NonNull String predicate, @NonNull List<?> arguments) {
+        this.predicate = predicate;
+        this.arguments = Collections.unmodifiableList(Arrays.asList(arguments.toArray()));
+    }
+
+    /**
+     * Returns the arguments of the predicate with all {@link PageFragment page fragments} resolved to their web
+     * elements.
+     *
+     * @return the resolved arguments
+     * @since 2.7
+     */
+    public Object[] resolveArguments() {
+        return arguments.stream()
+            .map(argument -> argument instanceof PageFragment ? ( ( PageFragment ) argument ).webElement() : argument)
+            .toArray();
+    }
+
+    @Override
+    public boolean test(Browser browser) {
+        String script = "return !!(function () {\n" + predicate + "\n}).apply(null, arguments);";
+        Boolean met = browser.javaScript().executeWithReturn(script, resolveArguments());
+        return Boolean.TRUE.equals(met);
+    }
+
+    @Override
+    public JavaScriptCondition negate() {
+        return new JavaScriptCondition("return !(function () {\n" + predicate + "\n}).apply(null, arguments);",
+            arguments);
+    }
+
+    @Override
+    public String toString() {
+        return "javaScript(" + predicate + ')';
+    }
+
+}
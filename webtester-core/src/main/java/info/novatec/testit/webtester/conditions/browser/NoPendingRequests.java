@@ -0,0 +1,28 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
+import info.novatec.testit.webtester.conditions.Condition;
+
+
+/**
+ * {@link Condition} to be used in order to check if the current page of a {@link Browser browser} has no pending AJAX
+ * requests.
+ *
+ * @see Condition
+ * @see ActivityTracker#getPendingRequests()
+ * @since 2.7
+ */
+public class NoPendingRequests implements Condition<Browser> {
+
+    @Override
+    public boolean test(Browser browser) {
+        return browser.activity().getPendingRequests() == 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "no pending requests";
+    }
+
+}
@@ -0,0 +1,52 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import lombok.Getter;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
+import info.novatec.testit.webtester.conditions.Condition;
+
+
+/**
+ * {@link Condition} to be used in order to check if the current page of a {@link Browser browser} is quiescent. This is
+ * the case if the document is ready, there are neither pending requests nor pending timers and there was no activity
+ * within the quiet period.
+ *
+ * @see Condition
+ * @see ActivityTracker#isQuiescent(long)
+ * @since 2.7
+ */
+@Getter
+public class Quiescent implements Condition<Browser> {
+
+    /** The time in milliseconds without any activity. */
+    private final long quietPeriodInMillis;
+
+    /**
+     * Creates a new {@link Quiescent} condition using the {@link ActivityTracker#DEFAULT_QUIET_PERIOD default quiet
+     * period}.
+     */
+    public Quiescent() {
+        this(ActivityTracker.DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * Creates a new {@link Quiescent} condition using the given quiet period.
+     *
+     * @param quietPeriodInMillis the time in milliseconds without any activity
+     */
+    public Quiescent(long quietPeriodInMillis) {
+        this.quietPeriodInMillis = quietPeriodInMillis;
+    }
+
+    @Override
+    public boolean test(Browser browser) {
+        return browser.activity().isQuiescent(quietPeriodInMillis);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("quiescent for %dms", quietPeriodInMillis);
+    }
+
+}
@@ -1,9 +1,14 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import static info.novatec.testit.webtester.conditions.CompiledCondition.literal;
+
+import java.util.Optional;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -17,7 +22,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  */
 @Getter
 @AllArgsConstructor
-public class Attribute implements Condition<PageFragment> {
+public class Attribute implements CompilableCondition<PageFragment> {
 
     @NonNull
     private final String expectedAttributeName;
@@ -27,6 +32,11 @@ public class Attribute implements Condition<PageFragment> {
         return pageFragment.getAttribute(expectedAttributeName).isPresent();
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("attr(need(e), " + literal(expectedAttributeName) + ") != null");
+    }
+
     @Override
     public String toString() {
         return String.format("attribute '%s'", expectedAttributeName);
@@ -1,9 +1,13 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import static info.novatec.testit.webtester.conditions.CompiledCondition.literal;
+
 import java.util.Objects;
+import java.util.Optional;
 
 import lombok.Getter;
 
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -17,7 +21,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @since 2.0
  */
 @Getter
-public class AttributeWithValue implements Condition<PageFragment> {
+public class AttributeWithValue implements CompilableCondition<PageFragment> {
 
     private final String expectedAttributeName;
     private final String expectedValue;
@@ -43,6 +47,11 @@ public class AttributeWithValue implements Condition<PageFragment> {
         return Objects.equals(expectedValue, value);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("attr(need(e), " + literal(expectedAttributeName) + ") === " + literal(expectedValue));
+    }
+
     @Override
     public String toString() {
         return String.format("attribute '%s' with value '%s'", expectedAttributeName, expectedValue);
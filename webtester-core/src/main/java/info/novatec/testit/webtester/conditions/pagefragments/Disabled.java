@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -11,13 +14,18 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see PageFragment#isDisabled()
  * @since 2.0
  */
-public class Disabled implements Condition<PageFragment> {
+public class Disabled implements CompilableCondition<PageFragment> {
 
     @Override
     public boolean test(PageFragment canBeDisabled) {
         return canBeDisabled.isDisabled();
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("!enabled(need(e))");
+    }
+
     @Override
     public String toString() {
         return "disabled";
@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -15,7 +18,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see Visible
  * @since 2.0
  */
-public class Editable implements Condition<PageFragment> {
+public class Editable implements CompilableCondition<PageFragment> {
 
     private final Present present = new Present();
     private final Visible visible = new Visible();
@@ -43,6 +46,12 @@ public class Editable implements Condition<PageFragment> {
         return !readOnly.test(pageFragment);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of(
+            "e != null && visible(e) && enabled(e) && ['true', 'readonly'].indexOf(attr(e, 'readonly')) < 0");
+    }
+
     @Override
     public String toString() {
         return "editable";
@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -11,13 +14,18 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see PageFragment#isEnabled()
  * @since 2.0
  */
-public class Enabled implements Condition<PageFragment> {
+public class Enabled implements CompilableCondition<PageFragment> {
 
     @Override
     public boolean test(PageFragment canBeDisabled) {
         return canBeDisabled.isEnabled();
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("enabled(need(e))");
+    }
+
     @Override
     public String toString() {
         return "enabled";
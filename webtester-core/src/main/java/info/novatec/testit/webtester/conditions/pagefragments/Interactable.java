@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -15,7 +18,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see Enabled
  * @since 2.0
  */
-public class Interactable implements Condition<PageFragment> {
+public class Interactable implements CompilableCondition<PageFragment> {
 
     private final Present present = new Present();
     private final Visible visible = new Visible();
@@ -38,6 +41,11 @@ public class Interactable implements Condition<PageFragment> {
         return visible.test(pageFragment);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("e != null && visible(e) && enabled(e)");
+    }
+
     @Override
     public String toString() {
         return "interactable";
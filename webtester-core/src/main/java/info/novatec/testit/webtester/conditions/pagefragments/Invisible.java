@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -11,7 +14,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see PageFragment#isVisible()
  * @since 2.0
  */
-public class Invisible implements Condition<PageFragment> {
+public class Invisible implements CompilableCondition<PageFragment> {
 
     private Visible visible = new Visible();
 
@@ -20,6 +23,11 @@ public class Invisible implements Condition<PageFragment> {
         return !visible.test(pageFragment);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("!visible(need(e))");
+    }
+
     @Override
     public String toString() {
         return "invisible";
@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -11,13 +14,18 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see PageFragment#isPresent()
  * @since 2.0
  */
-public class Present implements Condition<PageFragment> {
+public class Present implements CompilableCondition<PageFragment> {
 
     @Override
     public boolean test(PageFragment pageFragment) {
         return pageFragment.isPresent();
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("e != null");
+    }
+
     @Override
     public String toString() {
         return "present";
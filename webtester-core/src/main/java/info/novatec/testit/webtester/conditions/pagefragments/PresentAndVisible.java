@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -12,7 +15,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see Visible
  * @since 2.0
  */
-public class PresentAndVisible implements Condition<PageFragment> {
+public class PresentAndVisible implements CompilableCondition<PageFragment> {
 
     private final Visible visible = new Visible();
     private final Present present = new Present();
@@ -30,6 +33,11 @@ public class PresentAndVisible implements Condition<PageFragment> {
         return visible.test(pageFragment);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("e != null && visible(e)");
+    }
+
     @Override
     public String toString() {
         return "present and visible";
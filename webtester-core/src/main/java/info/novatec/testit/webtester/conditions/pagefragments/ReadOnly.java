@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import java.util.Optional;
+
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -14,7 +17,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * @see PageFragment#getAttribute(String)
  * @since 2.0
  */
-public class ReadOnly implements Condition<PageFragment> {
+public class ReadOnly implements CompilableCondition<PageFragment> {
 
     @Override
     public boolean test(PageFragment pageFragment) {
@@ -31,6 +34,11 @@ public class ReadOnly implements Condition<PageFragment> {
         return "readonly".equals(value);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("['true', 'readonly'].indexOf(attr(need(e), 'readonly')) >= 0");
+    }
+
     @Override
     public String toString() {
         return "read only";
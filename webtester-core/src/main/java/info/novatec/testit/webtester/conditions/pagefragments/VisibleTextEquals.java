@@ -1,9 +1,14 @@
 package info.novatec.testit.webtester.conditions.pagefragments;
 
+import static info.novatec.testit.webtester.conditions.CompiledCondition.literal;
+
+import java.util.Optional;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -18,7 +23,7 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  */
 @Getter
 @AllArgsConstructor
-public class VisibleTextEquals implements Condition<PageFragment> {
+public class VisibleTextEquals implements CompilableCondition<PageFragment> {
 
     @NonNull
     private final String expectedText;
@@ -28,6 +33,11 @@ public class VisibleTextEquals implements Condition<PageFragment> {
         return pageFragment.getVisibleText().equals(expectedText);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return Optional.of("text(need(e)) === " + literal(expectedText));
+    }
+
     @Override
     public String toString() {
         return String.format("visible text equals: %s", expectedText);
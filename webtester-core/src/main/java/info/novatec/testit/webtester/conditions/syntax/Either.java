@@ -3,9 +3,12 @@ package info.novatec.testit.webtester.conditions.syntax;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.lang.StringUtils;
 
+import info.novatec.testit.webtester.conditions.CompilableCondition;
+import info.novatec.testit.webtester.conditions.CompiledCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 
 
@@ -20,7 +23,7 @@ import info.novatec.testit.webtester.conditions.Condition;
  * @param <T> type of the object to test against the conditions
  * @since 2.0
  */
-public class Either<T> implements Condition<T> {
+public class Either<T> implements CompilableCondition<T> {
 
     private final List<Condition<T>> conditions = new ArrayList<>();
 
@@ -43,6 +46,19 @@ public class Either<T> implements Condition<T> {
         return conditions.stream().anyMatch(condition -> condition.test(value));
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        StringBuilder expression = new StringBuilder();
+        for (Condition<T> condition : conditions) {
+            Optional<String> compiled = CompiledCondition.expressionOf(condition);
+            if (!compiled.isPresent()) {
+                return Optional.empty();
+            }
+            expression.append(expression.length() == 0 ? "(" : " || (").append(compiled.get()).append(')');
+        }
+        return Optional.of(expression.length() == 0 ? "false" : expression.toString());
+    }
+
     @Override
     public String toString() {
         return "either(" + StringUtils.join(conditions, ", ") + ')';
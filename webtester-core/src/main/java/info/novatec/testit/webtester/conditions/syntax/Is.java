@@ -1,8 +1,12 @@
 package info.novatec.testit.webtester.conditions.syntax;
 
+import java.util.Optional;
+
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 
+import info.novatec.testit.webtester.conditions.CompilableCondition;
+import info.novatec.testit.webtester.conditions.CompiledCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 
 
@@ -18,7 +22,7 @@ import info.novatec.testit.webtester.conditions.Condition;
  * @since 2.0
  */
 @AllArgsConstructor
-public class Is<T> implements Condition<T> {
+public class Is<T> implements CompilableCondition<T> {
 
     @NonNull
     private final Condition<T> condition;
@@ -28,6 +32,11 @@ public class Is<T> implements Condition<T> {
         return condition.test(value);
     }
 
+    @Override
+    public Optional<String> toJavaScript() {
+        return CompiledCondition.expressionOf(condition);
+    }
+
     @Override
     public String toString() {
         return "is(" + condition + ')';
@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -21,6 +22,7 @@ import info.novatec.testit.webtester.config.builders.BaseConfigurationBuilder;
 import info.novatec.testit.webtester.config.exceptions.InvalidValueTypeException;
 import info.novatec.testit.webtester.config.exceptions.SetNullValuesException;
 import info.novatec.testit.webtester.internal.configuration.NamedProperties;
+import info.novatec.testit.webtester.pagefragments.utils.TextEntryMode;
 
 
 /**
@@ -48,11 +50,14 @@ public class BaseConfiguration implements Configuration {
     private final Map<String, String> properties = new HashMap<>();
     private final List<ConfigurationExporter> configurationExporters = new ArrayList<>();
 
+    /** Parsed values of properties which are read on almost every page fragment method invocation. */
+    private volatile Snapshot snapshot;
+
     /* named properties */
 
     @Override
     public long getActionDeceleration() {
-        return getLongProperty(key(NamedProperties.ACTIONS_DECELERATION), 0L);
+        return snapshot().actionDeceleration;
     }
 
     @Override
@@ -62,7 +67,7 @@ public class BaseConfiguration implements Configuration {
 
     @Override
     public boolean isEventSystemEnabled() {
-        return getBooleanProperty(key(NamedProperties.EVENTS), Boolean.TRUE);
+        return snapshot().eventSystemEnabled;
     }
 
     @Override
@@ -112,7 +117,7 @@ public class BaseConfiguration implements Configuration {
 
     @Override
     public boolean isMarkingsEnabled() {
-        return getBooleanProperty(key(NamedProperties.MARKINGS), Boolean.FALSE);
+        return snapshot().markingsEnabled;
     }
 
     @Override
@@ -180,6 +185,126 @@ public class BaseConfiguration implements Configuration {
         return setProperty(key(NamedProperties.WAIT_INTERVAL), waitInterval);
     }
 
+    @Override
+    public String getWaitPolling() {
+        return getStringProperty(key(NamedProperties.WAIT_POLLING), "fixed");
+    }
+
+    @Override
+    public BaseConfiguration setWaitPolling(String polling) {
+        return setProperty(key(NamedProperties.WAIT_POLLING), polling);
+    }
+
+    @Override
+    public long getWaitMaxInterval() {
+        return getLongProperty(key(NamedProperties.WAIT_MAX_INTERVAL), 1000L);
+    }
+
+    @Override
+    public BaseConfiguration setWaitMaxInterval(long maxInterval) {
+        return setProperty(key(NamedProperties.WAIT_MAX_INTERVAL), maxInterval);
+    }
+
+    @Override
+    public double getWaitJitter() {
+        return getDoubleProperty(key(NamedProperties.WAIT_JITTER), 0.0);
+    }
+
+    @Override
+    public BaseConfiguration setWaitJitter(double jitter) {
+        return setProperty(key(NamedProperties.WAIT_JITTER), jitter);
+    }
+
+    @Override
+    public long getWaitScriptTimeout() {
+        return getLongProperty(key(NamedProperties.WAIT_SCRIPT_TIMEOUT), 30_000L);
+    }
+
+    @Override
+    public BaseConfiguration setWaitScriptTimeout(long scriptTimeout) {
+        return setProperty(key(NamedProperties.WAIT_SCRIPT_TIMEOUT), scriptTimeout);
+    }
+
+    @Override
+    public boolean isCompiledConditionsEnabled() {
+        return snapshot().compiledConditionsEnabled;
+    }
+
+    @Override
+    public BaseConfiguration setCompiledConditionsEnabled(boolean enabled) {
+        return setProperty(key(NamedProperties.WAIT_COMPILED_CONDITIONS), enabled);
+    }
+
+    @Override
+    public boolean isElementCacheEnabled() {
+        return snapshot().elementCacheEnabled;
+    }
+
+    @Override
+    public BaseConfiguration setElementCacheEnabled(boolean enabled) {
+        return setProperty(key(NamedProperties.CACHE_ELEMENTS), enabled);
+    }
+
+    @Override
+    public boolean isBulkSelectionEnabled() {
+        return snapshot().bulkSelectionEnabled;
+    }
+
+    @Override
+    public BaseConfiguration setBulkSelectionEnabled(boolean enabled) {
+        return setProperty(key(NamedProperties.SELECTS_BULK), enabled);
+    }
+
+    @Override
+    public boolean isLazyFragmentsEnabled() {
+        return snapshot().lazyFragmentsEnabled;
+    }
+
+    @Override
+    public BaseConfiguration setLazyFragmentsEnabled(boolean enabled) {
+        return setProperty(key(NamedProperties.LAZY_FRAGMENTS), enabled);
+    }
+
+    @Override
+    public boolean isValidateOnceEnabled() {
+        return snapshot().validateOnceEnabled;
+    }
+
+    @Override
+    public BaseConfiguration setValidateOnceEnabled(boolean enabled) {
+        return setProperty(key(NamedProperties.VALIDATE_ONCE), enabled);
+    }
+
+    @Override
+    public boolean isLocatorCompositionEnabled() {
+        return snapshot().locatorCompositionEnabled;
+    }
+
+    @Override
+    public BaseConfiguration setLocatorCompositionEnabled(boolean enabled) {
+        return setProperty(key(NamedProperties.LOCATOR_COMPOSITION), enabled);
+    }
+
+    @Override
+    public TextEntryMode getTextEntryMode() {
+        return snapshot().textEntryMode;
+    }
+
+    @Override
+    public BaseConfiguration setTextEntryMode(TextEntryMode mode) {
+        return setProperty(key(NamedProperties.TEXT_ENTRY_MODE), mode.name().toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public int getActivityTimerChain() {
+        return getIntegerProperty(key(NamedProperties.ACTIVITY_TIMER_CHAIN), 3);
+    }
+
+    @Override
+    public BaseConfiguration setActivityTimerChain(int chainLength) {
+        return setProperty(key(NamedProperties.ACTIVITY_TIMER_CHAIN), chainLength);
+    }
+
     @Override
     public String getRemoteBrowserName() {
         return getStringProperty(key(NamedProperties.REMOTE_BROWSER_NAME), BrowserType.FIREFOX);
@@ -239,6 +364,7 @@ public class BaseConfiguration implements Configuration {
     @Override
     public BaseConfiguration removeProperty(String key) {
         properties.remove(key);
+        snapshot = null;
         log.debug("removed property '{}'", key);
         return this;
     }
@@ -270,6 +396,7 @@ public class BaseConfiguration implements Configuration {
 
     private void changeValue(String key, Object value) {
         properties.put(key, String.valueOf(value));
+        snapshot = null;
         log.debug("changed value of property '{}' to: {}", key, value);
     }
 
@@ -379,8 +506,72 @@ public class BaseConfiguration implements Configuration {
 
     /* utilities */
 
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            long actionDeceleration = getLongProperty(key(NamedProperties.ACTIONS_DECELERATION), 0L);
+            boolean eventSystemEnabled = getBooleanProperty(key(NamedProperties.EVENTS), Boolean.TRUE);
+            boolean markingsEnabled = getBooleanProperty(key(NamedProperties.MARKINGS), Boolean.FALSE);
+            boolean elementCacheEnabled = getBooleanProperty(key(NamedProperties.CACHE_ELEMENTS), Boolean.FALSE);
+            boolean bulkSelectionEnabled = getBooleanProperty(key(NamedProperties.SELECTS_BULK), Boolean.FALSE);
+            boolean lazyFragmentsEnabled = getBooleanProperty(key(NamedProperties.LAZY_FRAGMENTS), Boolean.FALSE);
+            boolean validateOnceEnabled = getBooleanProperty(key(NamedProperties.VALIDATE_ONCE), Boolean.FALSE);
+            boolean locatorCompositionEnabled =
+                getBooleanProperty(key(NamedProperties.LOCATOR_COMPOSITION), Boolean.TRUE);
+            TextEntryMode textEntryMode =
+                toTextEntryMode(getStringProperty(key(NamedProperties.TEXT_ENTRY_MODE), "keystrokes"));
+            boolean compiledConditionsEnabled =
+                getBooleanProperty(key(NamedProperties.WAIT_COMPILED_CONDITIONS), Boolean.FALSE);
+            current = new Snapshot(actionDeceleration, eventSystemEnabled, markingsEnabled, elementCacheEnabled,
+                bulkSelectionEnabled, lazyFragmentsEnabled, validateOnceEnabled, locatorCompositionEnabled,
+                textEntryMode, compiledConditionsEnabled);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static TextEntryMode toTextEntryMode(String value) {
+        try {
+            return TextEntryMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("unknown text entry mode '{}', using {} instead", value, TextEntryMode.KEYSTROKES, e);
+            return TextEntryMode.KEYSTROKES;
+        }
+    }
+
     private static Set<Class<?>> asSet(Class<?>... types) {
         return Arrays.stream(types).collect(Collectors.toSet());
     }
 
+    private static final class Snapshot {
+
+        private final long actionDeceleration;
+        private final boolean eventSystemEnabled;
+        private final boolean markingsEnabled;
+        private final boolean elementCacheEnabled;
+        private final boolean bulkSelectionEnabled;
+        private final boolean lazyFragmentsEnabled;
+        private final boolean validateOnceEnabled;
+        private final boolean locatorCompositionEnabled;
+        private final TextEntryMode textEntryMode;
+        private final boolean compiledConditionsEnabled;
+
+        private Snapshot(long actionDeceleration, boolean eventSystemEnabled, boolean markingsEnabled,
+            boolean elementCacheEnabled, boolean bulkSelectionEnabled, boolean lazyFragmentsEnabled,
+            boolean validateOnceEnabled, boolean locatorCompositionEnabled, TextEntryMode textEntryMode,
+            boolean compiledConditionsEnabled) {
+            this.actionDeceleration = actionDeceleration;
+            this.eventSystemEnabled = eventSystemEnabled;
+            this.markingsEnabled = markingsEnabled;
+            this.elementCacheEnabled = elementCacheEnabled;
+            this.bulkSelectionEnabled = bulkSelectionEnabled;
+            this.lazyFragmentsEnabled = lazyFragmentsEnabled;
+            this.validateOnceEnabled = validateOnceEnabled;
+            this.locatorCompositionEnabled = locatorCompositionEnabled;
+            this.textEntryMode = textEntryMode;
+            this.compiledConditionsEnabled = compiledConditionsEnabled;
+        }
+
+    }
+
 }
@@ -2,17 +2,34 @@ package info.novatec.testit.webtester.config;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.openqa.selenium.support.Color;
 
 import info.novatec.testit.webtester.browser.factories.RemoteFactory;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
+import info.novatec.testit.webtester.conditions.CompilableCondition;
+import info.novatec.testit.webtester.conditions.CompiledCondition;
 import info.novatec.testit.webtester.config.exceptions.SetNullValuesException;
 import info.novatec.testit.webtester.events.Event;
 import info.novatec.testit.webtester.events.EventSystem;
+import info.novatec.testit.webtester.pagefragments.GenericTextField;
+import info.novatec.testit.webtester.pagefragments.MultiSelect;
+import info.novatec.testit.webtester.pagefragments.SingleSelect;
 import info.novatec.testit.webtester.pagefragments.annotations.Action;
+import info.novatec.testit.webtester.pagefragments.annotations.Cached;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
+import info.novatec.testit.webtester.pagefragments.utils.BulkSelect;
+import info.novatec.testit.webtester.pagefragments.utils.TextEntry;
+import info.novatec.testit.webtester.pagefragments.utils.TextEntryMode;
+import info.novatec.testit.webtester.waiting.PollingStrategies;
+import info.novatec.testit.webtester.waiting.PollingStrategy;
 import info.novatec.testit.webtester.waiting.Wait;
+import info.novatec.testit.webtester.waiting.polling.JitteredPolling;
 
 
 /**
@@ -284,6 +301,251 @@ public interface Configuration {
      */
     Configuration setWaitInterval(long waitInterval);
 
+    /**
+     * Returns the name of the default {@link PollingStrategy polling strategy} to use when executing wait operations
+     * on page objects using the {@link Wait} API. Supported are <code>fixed</code> (default),
+     * <code>exponential</code>, <code>fibonacci</code> and <code>adaptive</code>.
+     *
+     * @return the name of the polling strategy
+     * @see PollingStrategies#from(Configuration)
+     * @since 2.7
+     */
+    String getWaitPolling();
+
+    /**
+     * Sets the name of the default {@link PollingStrategy polling strategy} to use when executing wait operations on
+     * page objects using the {@link Wait} API.
+     *
+     * @param polling the name of the polling strategy
+     * @return the same configuration for fluent API
+     * @see PollingStrategies#from(Configuration)
+     * @since 2.7
+     */
+    Configuration setWaitPolling(String polling);
+
+    /**
+     * Returns the maximum number of milliseconds to wait between checks for polling strategies with growing
+     * intervals.
+     *
+     * @return the number of milliseconds
+     * @since 2.7
+     */
+    long getWaitMaxInterval();
+
+    /**
+     * Sets the maximum number of milliseconds to wait between checks for polling strategies with growing intervals.
+     *
+     * @param maxInterval the maximum interval in milliseconds
+     * @return the same configuration for fluent API
+     * @since 2.7
+     */
+    Configuration setWaitMaxInterval(long maxInterval);
+
+    /**
+     * Returns the maximum relative random variation of the intervals between checks, between 0 (none) and 1.
+     *
+     * @return the jitter
+     * @see JitteredPolling
+     * @since 2.7
+     */
+    double getWaitJitter();
+
+    /**
+     * Sets the maximum relative random variation of the intervals between checks, between 0 (none) and 1.
+     *
+     * @param jitter the jitter
+     * @return the same configuration for fluent API
+     * @see JitteredPolling
+     * @since 2.7
+     */
+    Configuration setWaitJitter(double jitter);
+
+    /**
+     * Returns the script timeout of the browser's driver in milliseconds. Waits which observe the DOM raise the
+     * script timeout if necessary and restore this value afterwards. Defaults to 30 seconds, the default of the W3C
+     * WebDriver specification.
+     *
+     * @return the script timeout in milliseconds
+     * @since 2.7
+     */
+    long getWaitScriptTimeout();
+
+    /**
+     * Sets the script timeout of the browser's driver in milliseconds. This does not change the driver's timeout,
+     * it should be set to the same value the driver was configured with.
+     *
+     * @param scriptTimeout the script timeout in milliseconds
+     * @return the same configuration for fluent API
+     * @since 2.7
+     */
+    Configuration setWaitScriptTimeout(long scriptTimeout);
+
+    /**
+     * Returns whether or not wait operations check {@link CompilableCondition compilable} conditions of page
+     * fragments using a single JavaScript execution per check. If disabled, each property read by a condition is a
+     * separate command. Conditions which can't be compiled are always checked within the JVM.
+     *
+     * @return true if conditions are compiled into JavaScript, otherwise false
+     * @see CompiledCondition
+     * @since 2.7
+     */
+    boolean isCompiledConditionsEnabled();
+
+    /**
+     * Sets whether or not wait operations check {@link CompilableCondition compilable} conditions of page fragments
+     * using a single JavaScript execution per check.
+     *
+     * @param enabled whether or not conditions should be compiled into JavaScript
+     * @return the same configuration for fluent API
+     * @see CompiledCondition
+     * @since 2.7
+     */
+    Configuration setCompiledConditionsEnabled(boolean enabled);
+
+    /**
+     * Returns whether or not the web elements of {@link IdentifyUsing @IdentifyUsing} page fragments are cached by
+     * default. Cached web elements are resolved only once and reused until they become stale or the browser navigates.
+     *
+     * @return true if web elements are cached, otherwise false
+     * @see Cached
+     * @since 2.7
+     */
+    boolean isElementCacheEnabled();
+
+    /**
+     * Sets whether or not the web elements of {@link IdentifyUsing @IdentifyUsing} page fragments are cached by
+     * default. This can be overridden for single methods using the {@link Cached @Cached} annotation.
+     *
+     * @param enabled whether or not web elements should be cached
+     * @return the same configuration for fluent API
+     * @see Cached
+     * @since 2.7
+     */
+    Configuration setElementCacheEnabled(boolean enabled);
+
+    /**
+     * Returns whether or not {@link SingleSelect single} and {@link MultiSelect multi selects} change and read their
+     * options using a single JavaScript execution instead of interacting with each option.
+     *
+     * @return true if bulk selection is enabled, otherwise false
+     * @see BulkSelect
+     * @since 2.7
+     */
+    boolean isBulkSelectionEnabled();
+
+    /**
+     * Sets whether or not {@link SingleSelect single} and {@link MultiSelect multi selects} change and read their
+     * options using a single JavaScript execution instead of interacting with each option.
+     *
+     * @param enabled whether or not bulk selection should be used
+     * @return the same configuration for fluent API
+     * @see BulkSelect
+     * @since 2.7
+     */
+    Configuration setBulkSelectionEnabled(boolean enabled);
+
+    /**
+     * Returns whether or not {@link List lists} and {@link Stream streams} of page fragments returned by
+     * {@link IdentifyUsing @IdentifyUsing} methods are resolved lazily. Lazy lists answer their size with a count
+     * query and resolve elements in pages on access. Lazy streams resolve their elements in pages while they are
+     * consumed.
+     *
+     * @return true if lazy resolution is enabled, otherwise false
+     * @since 2.7
+     */
+    boolean isLazyFragmentsEnabled();
+
+    /**
+     * Sets whether or not {@link List lists} and {@link Stream streams} of page fragments returned by
+     * {@link IdentifyUsing @IdentifyUsing} methods are resolved lazily.
+     *
+     * @param enabled whether or not lazy resolution should be used
+     * @return the same configuration for fluent API
+     * @since 2.7
+     */
+    Configuration setLazyFragmentsEnabled(boolean enabled);
+
+    /**
+     * Returns whether or not page fragments validate their {@link Mapping mapping} only once. If enabled, only the
+     * first web element resolved by a page fragment instance is validated. Otherwise every web element is validated,
+     * which costs commands whenever the page fragment re-resolves its web element.
+     *
+     * @return true if the mapping is only validated once per page fragment, otherwise false
+     * @since 2.7
+     */
+    boolean isValidateOnceEnabled();
+
+    /**
+     * Sets whether or not page fragments validate their {@link Mapping mapping} only once.
+     *
+     * @param enabled whether or not the mapping should only be validated once per page fragment
+     * @return the same configuration for fluent API
+     * @since 2.7
+     */
+    Configuration setValidateOnceEnabled(boolean enabled);
+
+    /**
+     * Returns whether or not the locators of page fragments nested within other page fragments are combined in order
+     * to find their web elements using a single round trip to the browser. Locators are only combined if the outer
+     * page fragments have no {@link Mapping mapping} to validate. Enabled by default.
+     *
+     * @return true if locators are combined, otherwise false
+     * @since 2.7
+     */
+    boolean isLocatorCompositionEnabled();
+
+    /**
+     * Sets whether or not the locators of page fragments nested within other page fragments are combined.
+     *
+     * @param enabled whether or not locators should be combined
+     * @return the same configuration for fluent API
+     * @since 2.7
+     */
+    Configuration setLocatorCompositionEnabled(boolean enabled);
+
+    /**
+     * Returns how {@link GenericTextField text fields} enter text when setting or appending it. By default text is
+     * typed using {@link TextEntryMode#KEYSTROKES keystrokes}. Unknown modes are logged and replaced by the default.
+     *
+     * @return the text entry mode
+     * @see TextEntry
+     * @since 2.7
+     */
+    TextEntryMode getTextEntryMode();
+
+    /**
+     * Sets how {@link GenericTextField text fields} enter text when setting or appending it.
+     *
+     * @param mode the text entry mode to use
+     * @return the same configuration for fluent API
+     * @see TextEntry
+     * @since 2.7
+     */
+    Configuration setTextEntryMode(TextEntryMode mode);
+
+    /**
+     * Returns how many timers set by the callbacks of tracked timers are still tracked by the {@link ActivityTracker}.
+     * A chain of timers (e.g. a debounced input starting a follow-up timer) keeps a page active up to this length,
+     * while pages which keep re-arming a timer (e.g. for polling) can still become quiescent. A value of 0 tracks only
+     * timers which were not set by a timer callback. Defaults to 3.
+     *
+     * @return the maximum number of chained timers to track
+     * @see ActivityTracker
+     * @since 2.7
+     */
+    int getActivityTimerChain();
+
+    /**
+     * Sets how many timers set by the callbacks of tracked timers are still tracked by the {@link ActivityTracker}.
+     * The setting is applied when the activity tracking is installed into a page.
+     *
+     * @param chainLength the maximum number of chained timers to track
+     * @return the same configuration for fluent API
+     * @see ActivityTracker
+     * @since 2.7
+     */
+    Configuration setActivityTimerChain(int chainLength);
+
     /**
      * Returns the name of the browser to use when working with a remote Selenium Grid.
      *
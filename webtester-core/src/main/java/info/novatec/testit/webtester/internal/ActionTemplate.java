@@ -163,6 +163,11 @@ public class ActionTemplate {
             super(subject, subject);
         }
 
+        public BrowserAction<T> invalidateElementCaches() {
+            ElementCaches.invalidate(getSubject());
+            return this;
+        }
+
         public BrowserAction<T> fireEvent(Function<T, Event> function) {
             EventSystem eventSystem = getEventSystem();
             if (eventSystem.isEnabled()) {
@@ -0,0 +1,57 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.MapMaker;
+
+import lombok.experimental.UtilityClass;
+
+import info.novatec.testit.webtester.browser.Browser;
+
+
+/**
+ * Keeps track of the version of each {@link Browser browser's} current document. Cached web elements remember the
+ * version they were resolved in and are resolved again as soon as the version changes.
+ * <p>
+ * The version is changed by all browser operations which replace the document or change the browser's focus (e.g.
+ * opening a URL, navigating the history or switching to another frame). Browsers are weakly referenced and
+ * the versions of different browsers are kept without a shared lock.
+ *
+ * @since 2.7
+ */
+@UtilityClass
+public class ElementCaches {
+
+    private static final ConcurrentMap<Browser, AtomicLong> VERSIONS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Returns the current document version of the given browser.
+     *
+     * @param browser the browser
+     * @return the current version
+     * @since 2.7
+     */
+    public static long versionOf(Browser browser) {
+        return version(browser).get();
+    }
+
+    /**
+     * Invalidates all cached web elements of the given browser by changing its document version.
+     *
+     * @param browser the browser
+     * @since 2.7
+     */
+    public static void invalidate(Browser browser) {
+        version(browser).incrementAndGet();
+    }
+
+    private static AtomicLong version(Browser browser) {
+        AtomicLong version = VERSIONS.get(browser);
+        if (version == null) {
+            version = VERSIONS.computeIfAbsent(browser, key -> new AtomicLong());
+        }
+        return version;
+    }
+
+}
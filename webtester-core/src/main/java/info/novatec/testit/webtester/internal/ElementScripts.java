@@ -0,0 +1,51 @@
+package info.novatec.testit.webtester.internal;
+
+import lombok.experimental.UtilityClass;
+
+
+/**
+ * JavaScript helper functions shared by all scripts which evaluate the state of many web elements within the browser
+ * instead of asking WebDriver for each element. Scripts include the {@link #HELPERS} and can use the following
+ * functions:
+ * <ul>
+ * <li><code>visible(e)</code> emulates WebDriver's <code>isDisplayed()</code>: the element and its ancestors must not
+ * have a computed <code>display</code> of <code>none</code> or an <code>opacity</code> of <code>0</code>, the element's
+ * <code>visibility</code> must not be <code>hidden</code> or <code>collapse</code> and the element or one of its
+ * descendants must have a size. Options and option groups are visible if their select is.</li>
+ * <li><code>enabled(e)</code> emulates WebDriver's <code>isEnabled()</code> using the <code>:disabled</code> pseudo
+ * class.</li>
+ * <li><code>renderedText(e)</code> returns the trimmed rendered text of the element with non-breaking spaces replaced
+ * by normal spaces, regardless of the element's visibility.</li>
+ * <li><code>text(e)</code> emulates WebDriver's <code>getText()</code>: the rendered text of visible elements and an
+ * empty string for invisible elements.</li>
+ * </ul>
+ * In edge cases (e.g. elements hidden by overflow or covered by other elements) the results may differ from the
+ * WebDriver commands.
+ *
+ * @since 2.7
+ */
+@UtilityClass
+public class ElementScripts {
+
+    /** The helper functions to be included at the start of a script. */
+    public static final String HELPERS = "function sized(e) {\n"
+        + "  var r = e.getBoundingClientRect();\n"
+        + "  return (r.width > 0 && r.height > 0) || Array.prototype.some.call(e.children, sized); }\n"
+        + "function visible(e) {\n"
+        + "  if (e.tagName === 'BODY') { return true; }\n"
+        + "  if ((e.tagName === 'OPTION' || e.tagName === 'OPTGROUP') && e.closest && e.closest('select')) {\n"
+        + "    return visible(e.closest('select')); }\n"
+        + "  for (var n = e; n && n.nodeType === 1; n = n.parentElement) {\n"
+        + "    var s = window.getComputedStyle(n);\n"
+        + "    if (s.display === 'none' || s.opacity === '0') { return false; } }\n"
+        + "  var v = window.getComputedStyle(e).visibility;\n"
+        + "  return v !== 'hidden' && v !== 'collapse' && sized(e); }\n"
+        + "function enabled(e) {\n"
+        + "  var m = e.matches || e.msMatchesSelector || e.webkitMatchesSelector;\n"
+        + "  return m ? !m.call(e, ':disabled') : !e.disabled; }\n"
+        + "function renderedText(e) {\n"
+        + "  return (e.innerText || '').replace(/\\u00a0/g, ' ').trim(); }\n"
+        + "function text(e) {\n"
+        + "  return visible(e) ? renderedText(e) : ''; }\n";
+
+}
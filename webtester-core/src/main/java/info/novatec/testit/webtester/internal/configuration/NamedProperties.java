@@ -37,7 +37,7 @@ public enum NamedProperties {
 
     @Documentation("Whether or not color highlighting of used elements should be active or not.")
     @TypeDefinition(Constants.BOOLEAN)
-    @DefaultValue("false")
+    @DefaultValue(Constants.FALSE)
     MARKINGS("markings.enabled"),
 
     @Documentation("Color to use for the background of used elements if color highlighting is active.")
@@ -70,6 +70,66 @@ public enum NamedProperties {
     @DefaultValue("100")
     WAIT_INTERVAL("wait.interval"),
 
+    @Documentation("Strategy deciding the intervals between condition checks, the wait interval being the first one.")
+    @TypeDefinition("String [fixed, exponential, fibonacci, adaptive]")
+    @DefaultValue("fixed")
+    WAIT_POLLING("wait.polling"),
+
+    @Documentation("Maximum interval between condition checks for growing polling strategies.")
+    @TypeDefinition(Constants.MILLISECONDS_AS_INT)
+    @DefaultValue("1000")
+    WAIT_MAX_INTERVAL("wait.max-interval"),
+
+    @Documentation("Maximum relative random variation of the intervals between condition checks.")
+    @TypeDefinition("double [0.0 - 1.0]")
+    @DefaultValue("0.0")
+    WAIT_JITTER("wait.jitter"),
+
+    @Documentation("Script timeout of the driver, restored after raising it to observe the DOM while waiting.")
+    @TypeDefinition(Constants.MILLISECONDS_AS_INT)
+    @DefaultValue("30000")
+    WAIT_SCRIPT_TIMEOUT("wait.script-timeout"),
+
+    @Documentation("Whether or not page fragment conditions should be checked using a single JavaScript execution.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue(Constants.FALSE)
+    WAIT_COMPILED_CONDITIONS("wait.compiled-conditions.enabled"),
+
+    @Documentation("Whether or not the web elements of page fragments should be cached until they become stale.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue(Constants.FALSE)
+    CACHE_ELEMENTS("cache.elements.enabled"),
+
+    @Documentation("Whether or not selects should change and read their options using a single JavaScript execution.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue(Constants.FALSE)
+    SELECTS_BULK("selects.bulk.enabled"),
+
+    @Documentation("Whether or not lists and streams of page fragments should be resolved lazily and in pages.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue(Constants.FALSE)
+    LAZY_FRAGMENTS("fragments.lazy.enabled"),
+
+    @Documentation("Whether or not page fragments should validate their mapping only for the first resolved element.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue(Constants.FALSE)
+    VALIDATE_ONCE("validation.once.enabled"),
+
+    @Documentation("Whether or not the locators of nested page fragments should be combined to find them at once.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("true")
+    LOCATOR_COMPOSITION("identification.compose.enabled"),
+
+    @Documentation("How text fields should enter text: typed, assigned using JavaScript or assigned and partly typed.")
+    @TypeDefinition("String [keystrokes, javascript, hybrid]")
+    @DefaultValue("keystrokes")
+    TEXT_ENTRY_MODE("text-entry.mode"),
+
+    @Documentation("How many timers in a row, each set by the callback of the previous one, count as page activity.")
+    @TypeDefinition("int [number of chained timers]")
+    @DefaultValue("3")
+    ACTIVITY_TIMER_CHAIN("activity.timer-chain"),
+
     @Documentation("Name of the browser to use in Selenium Grid")
     @TypeDefinition("String [firefox, chrome, safari, ...]")
     @DefaultValue("firefox")
@@ -119,6 +179,7 @@ public enum NamedProperties {
         String SECONDS_AS_INT = "int [seconds]";
         String MILLISECONDS_AS_INT = "int [milliseconds]";
         String RESOURCE_URL = "String [Resource URL]";
+        String FALSE = "false";
     }
 
 }
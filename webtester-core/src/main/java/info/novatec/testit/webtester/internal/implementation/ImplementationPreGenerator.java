@@ -0,0 +1,134 @@
+package info.novatec.testit.webtester.internal.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.dynamic.DynamicType;
+
+import info.novatec.testit.webtester.internal.ClasspathUtils;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.PageFragmentImplementation;
+import info.novatec.testit.webtester.internal.implementation.pages.PageImplementation;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * Generates the implementation classes of all {@link Page page} and {@link PageFragment page fragment} interfaces within a
+ * directory of compiled classes and saves them next to their interfaces.
+ * <p>
+ * This is intended to be executed at build time (i.e. by the WebTester Maven plugin). At runtime these implementations
+ * are picked up by {@link PreGeneratedImplementations} instead of generating them with ByteBuddy.
+ * <p>
+ * Only public interfaces are pre-generated. Kotlin pages and page fragments are always generated at runtime.
+ *
+ * @see PreGeneratedImplementations
+ * @since 2.7
+ */
+@Slf4j
+public class ImplementationPreGenerator {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Creates a new {@link ImplementationPreGenerator} loading the scanned classes with the given {@link ClassLoader}. The
+     * class loader needs to be able to load all scanned classes and their dependencies.
+     *
+     * @param classLoader the class loader to use
+     * @since 2.7
+     */
+    public ImplementationPreGenerator(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Scans the given directory for page and page fragment interfaces and saves their implementations into it.
+     *
+     * @param classesDirectory the root directory of the compiled classes
+     * @return the names of the generated implementation classes
+     * @throws IOException in case the directory could not be scanned or an implementation could not be saved
+     * @since 2.7
+     */
+    public List<String> generate(File classesDirectory) throws IOException {
+        List<String> generated = new ArrayList<>();
+        for (String className : findClassNames(classesDirectory.toPath())) {
+            Optional<DynamicType.Unloaded<?>> implementation = loadClass(className).flatMap(this::makeImplementation);
+            if (implementation.isPresent()) {
+                implementation.get().saveIn(classesDirectory);
+                generated.add(implementation.get().getTypeDescription().getName());
+            }
+        }
+        log.debug("pre-generated {} implementations in {}", generated.size(), classesDirectory);
+        return generated;
+    }
+
+    private List<String> findClassNames(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile)
+                .map(path -> root.relativize(path).toString())
+                .filter(path -> path.endsWith(CLASS_FILE_SUFFIX))
+                .filter(path -> !path.contains(PreGeneratedImplementations.SUFFIX))
+                .map(path -> path.substring(0, path.length() - CLASS_FILE_SUFFIX.length()))
+                .map(path -> path.replace(File.separatorChar, '.'))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private Optional<Class<?>> loadClass(String className) {
+        try {
+            return Optional.of(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.debug("skipping class which could not be loaded: {}", className, e);
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<DynamicType.Unloaded<?>> makeImplementation(Class<?> type) {
+        if (!isImplementable(type)) {
+            return Optional.empty();
+        }
+        if (PageFragment.class.isAssignableFrom(type)) {
+            return Optional.of(PageFragmentImplementation.make(( Class<? extends PageFragment> ) type));
+        } else if (Page.class.isAssignableFrom(type)) {
+            return Optional.of(PageImplementation.make(( Class<? extends Page> ) type));
+        }
+        return Optional.empty();
+    }
+
+    private boolean isImplementable(Class<?> type) {
+        return type.isInterface() && !type.isAnnotation() && isPublic(type) && !isKotlinType(type);
+    }
+
+    private boolean isPublic(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isKotlinType(Class<?> type) {
+        return isSubtypeOf(type, ClasspathUtils.KOTLIN_PAGE_CLASS) || isSubtypeOf(type,
+            ClasspathUtils.KOTLIN_PAGE_FRAGMENT_CLASS);
+    }
+
+    private boolean isSubtypeOf(Class<?> type, String className) {
+        if (className.equals(type.getName())) {
+            return true;
+        }
+        return Stream.of(type.getInterfaces()).anyMatch(superType -> isSubtypeOf(superType, className));
+    }
+
+}
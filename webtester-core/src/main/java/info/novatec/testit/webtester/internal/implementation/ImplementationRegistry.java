@@ -0,0 +1,126 @@
+package info.novatec.testit.webtester.internal.implementation;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Thread-safe registry of dynamically generated implementation classes for {@link info.novatec.testit.webtester.pages.Page
+ * page} and {@link info.novatec.testit.webtester.pagefragments.PageFragment page fragment} interfaces.
+ * <p>
+ * Each interface type is generated exactly once, even if many threads request its implementation at the same time.
+ * Contention is limited to threads requesting the <b>same</b> type, every type has its own lock. Once generated, lookups
+ * are lock free.
+ * <p>
+ * Implementations are attached to their interface type using a {@link ClassValue}. This means the registry does not hold
+ * strong references to any {@link ClassLoader class loaders}: isolated or redeployed class loaders are released together
+ * with their classes.
+ *
+ * @param <T> the base type of the registered implementations
+ * @see Statistics
+ * @since 2.7
+ */
+@Slf4j
+public final class ImplementationRegistry<T> {
+
+    private final Function<Class<? extends T>, Class<? extends T>> generator;
+
+    private final ClassValue<Entry<T>> entries = new ClassValue<Entry<T>>() {
+        @Override
+        protected Entry<T> computeValue(Class<?> type) {
+            return new Entry<>();
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder generationTime = new LongAdder();
+
+    /**
+     * Creates a new {@link ImplementationRegistry} using the given generator function to create missing implementations.
+     *
+     * @param generator the function generating the implementation for a given type
+     * @since 2.7
+     */
+    public ImplementationRegistry(Function<Class<? extends T>, Class<? extends T>> generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Returns the implementation class for the given type. If no implementation was generated yet, it will be generated
+     * using this registry's generator function. Concurrent calls for the same type will wait for the first generation
+     * to finish instead of generating the implementation again.
+     *
+     * @param type the type to get the implementation for
+     * @return the implementation class
+     * @since 2.7
+     */
+    public Class<? extends T> getOrCreate(Class<? extends T> type) {
+        Entry<T> entry = entries.get(type);
+        Class<? extends T> implementation = entry.implementation;
+        if (implementation != null) {
+            hits.increment();
+            return implementation;
+        }
+        synchronized (entry) {
+            if (entry.implementation == null) {
+                misses.increment();
+                entry.implementation = generate(type);
+            } else {
+                hits.increment();
+            }
+            return entry.implementation;
+        }
+    }
+
+    private Class<? extends T> generate(Class<? extends T> type) {
+        long start = System.nanoTime();
+        try {
+            return generator.apply(type);
+        } finally {
+            long duration = System.nanoTime() - start;
+            generationTime.add(duration);
+            log.debug("generated implementation of {} in {}ns", type, duration);
+        }
+    }
+
+    /**
+     * Returns a snapshot of this registry's usage {@link Statistics statistics}.
+     *
+     * @return the current statistics
+     * @since 2.7
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), generationTime.sum());
+    }
+
+    private static final class Entry<T> {
+        private volatile Class<? extends T> implementation;
+    }
+
+    /**
+     * Snapshot of the usage statistics of an {@link ImplementationRegistry}.
+     *
+     * @since 2.7
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Statistics {
+
+        /** The number of lookups which were served from already generated implementations. */
+        private final long hits;
+        /** The number of lookups which needed to generate a new implementation. */
+        private final long misses;
+        /** The total amount of time spent generating implementations in nanoseconds. */
+        private final long generationTimeInNanos;
+
+    }
+
+}
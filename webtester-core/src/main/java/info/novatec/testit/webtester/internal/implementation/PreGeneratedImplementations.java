@@ -0,0 +1,96 @@
+package info.novatec.testit.webtester.internal.implementation;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Lookup of implementation classes which were generated ahead of time (e.g. by the WebTester Maven plugin) instead of at
+ * runtime.
+ * <p>
+ * Pre-generated classes use the same name as their runtime counterparts (the interface's canonical name with a
+ * {@value #SUFFIX} suffix) and are expected to be found by the interface's {@link ClassLoader}. Since pre-generated
+ * classes never ran through ByteBuddy's loaded type initialization, the static invocation handler fields have to be
+ * initialized after the class was loaded.
+ *
+ * @since 2.7
+ */
+@Slf4j
+public final class PreGeneratedImplementations {
+
+    /** The suffix appended to an interface's canonical name in order to name its implementation. */
+    public static final String SUFFIX = "$$Impl";
+
+    /**
+     * Returns the name of the implementation class of the given type.
+     *
+     * @param type the type to get the implementation name for
+     * @return the implementation class name
+     * @since 2.7
+     */
+    public static String implementationNameOf(Class<?> type) {
+        return type.getCanonicalName() + SUFFIX;
+    }
+
+    /**
+     * Looks up the pre-generated implementation of the given type. The implementation must be loadable by the type's
+     * class loader and extend the given base class. If found, the given handler fields are initialized with new
+     * instances from their suppliers.
+     *
+     * @param type the type to look up the implementation for
+     * @param baseClass the base class every implementation extends
+     * @param handlers the invocation handler suppliers by their static field names
+     * @param <T> the type of the implementation
+     * @return the optional pre-generated implementation class
+     * @since 2.7
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<Class<? extends T>> lookup(Class<? extends T> type, Class<?> baseClass,
+        Map<String, Supplier<InvocationHandler>> handlers) {
+        Optional<Class<?>> implementation = loadClass(implementationNameOf(type), type.getClassLoader());
+        if (!implementation.isPresent()) {
+            return Optional.empty();
+        }
+        Class<?> implementationClass = implementation.get();
+        if (!baseClass.isAssignableFrom(implementationClass) || !type.isAssignableFrom(implementationClass)) {
+            log.warn("ignoring incompatible pre-generated implementation: {}", implementationClass);
+            return Optional.empty();
+        }
+        initializeHandlers(implementationClass, handlers);
+        log.debug("using pre-generated implementation: {}", implementationClass);
+        return Optional.of(( Class<? extends T> ) implementationClass);
+    }
+
+    private static Optional<Class<?>> loadClass(String className, ClassLoader classLoader) {
+        try {
+            return Optional.of(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void initializeHandlers(Class<?> implementationClass,
+        Map<String, Supplier<InvocationHandler>> handlers) {
+        handlers.forEach((fieldName, handlerSupplier) -> {
+            try {
+                Field field = implementationClass.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(null, handlerSupplier.get());
+            } catch (NoSuchFieldException e) {
+                log.trace("pre-generated implementation {} has no handler: {}", implementationClass, fieldName);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("could not initialize handler field: " + fieldName, e);
+            }
+        });
+    }
+
+    private PreGeneratedImplementations() {
+        // utility class
+    }
+
+}
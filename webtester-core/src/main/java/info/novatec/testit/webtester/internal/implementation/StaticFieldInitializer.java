@@ -0,0 +1,42 @@
+package info.novatec.testit.webtester.internal.implementation;
+
+import java.lang.reflect.Field;
+
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+
+
+/**
+ * {@link LoadedTypeInitializer} setting a static field of a generated class to a fixed value after it was loaded.
+ * <p>
+ * This is used for fields which are shared by more than one method implementation and can therefore not be defined by
+ * the implementations themselves.
+ *
+ * @since 2.7
+ */
+public final class StaticFieldInitializer implements LoadedTypeInitializer {
+
+    private final String fieldName;
+    private final Object value;
+
+    public StaticFieldInitializer(String fieldName, Object value) {
+        this.fieldName = fieldName;
+        this.value = value;
+    }
+
+    @Override
+    public void onLoad(Class<?> type) {
+        try {
+            Field field = type.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("could not initialize field '" + fieldName + "' of: " + type, e);
+        }
+    }
+
+    @Override
+    public boolean isAlive() {
+        return true;
+    }
+
+}
@@ -0,0 +1,96 @@
+package info.novatec.testit.webtester.internal.implementation.advices;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+import info.novatec.testit.webtester.events.PageFragmentEventBuilder;
+import info.novatec.testit.webtester.events.Produces;
+import info.novatec.testit.webtester.internal.implementation.exceptions.NoDefaultConstructorException;
+import info.novatec.testit.webtester.internal.implementation.exceptions.NoEventBuilderException;
+
+
+/**
+ * Registry of {@link PageFragmentEventBuilder event builder} suppliers for the event types used with
+ * {@link Produces @Produces}.
+ * <p>
+ * An event's builder is expected to be a nested class named {@value #BUILDER_NAME} with an accessible default
+ * constructor. It is resolved only once per event type and bound to a {@link MethodHandle}. Suppliers are attached to
+ * their event type using a {@link ClassValue} and will not keep the class from being unloaded.
+ *
+ * @see EventProducerAdvice
+ * @since 2.7
+ */
+public final class EventBuilderRegistry {
+
+    private static final String BUILDER_NAME = "Builder";
+    private static final String BUILDER_SUFFIX = "$" + BUILDER_NAME;
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(PageFragmentEventBuilder.class);
+
+    private static final ClassValue<Supplier<PageFragmentEventBuilder>> SUPPLIERS =
+        new ClassValue<Supplier<PageFragmentEventBuilder>>() {
+            @Override
+            protected Supplier<PageFragmentEventBuilder> computeValue(Class<?> eventType) {
+                return createSupplier(eventType);
+            }
+        };
+
+    /**
+     * Returns the (cached) supplier of new event builder instances for the given event type.
+     *
+     * @param eventType the type of the event
+     * @return the supplier of new builder instances
+     * @throws NoEventBuilderException in case the event type does not declare a builder
+     * @throws NoDefaultConstructorException in case the builder does not have an accessible default constructor
+     * @since 2.7
+     */
+    public static Supplier<PageFragmentEventBuilder> of(Class<?> eventType) {
+        return SUPPLIERS.get(eventType);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // invokeExact declares Throwable, unchecked ones are not wrapped
+    private static Supplier<PageFragmentEventBuilder> createSupplier(Class<?> eventType) {
+        Class<?> builderType = loadBuilderClass(eventType);
+        MethodHandle constructor = resolveConstructor(builderType);
+        return () -> {
+            try {
+                return ( PageFragmentEventBuilder ) constructor.invokeExact();
+            } catch (Throwable e) {
+                throwIfUnchecked(e);
+                throw new IllegalStateException("could not create event builder: " + builderType, e);
+            }
+        };
+    }
+
+    private static Class<?> loadBuilderClass(Class<?> eventType) {
+        try {
+            String builderName = eventType.getName() + BUILDER_SUFFIX;
+            Class<?> builderType = Class.forName(builderName, false, eventType.getClassLoader());
+            if (!PageFragmentEventBuilder.class.isAssignableFrom(builderType)) {
+                throw new NoEventBuilderException(eventType);
+            }
+            return builderType;
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new NoEventBuilderException(eventType, e);
+        }
+    }
+
+    private static MethodHandle resolveConstructor(Class<?> builderType) {
+        try {
+            return MethodHandles.publicLookup()
+                .findConstructor(builderType, MethodType.methodType(void.class))
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new NoDefaultConstructorException(builderType, e);
+        }
+    }
+
+    private EventBuilderRegistry() {
+        // utility class
+    }
+
+}
@@ -1,7 +1,9 @@
 package info.novatec.testit.webtester.internal.implementation.advices;
 
-import java.lang.reflect.Method;
-import java.util.Optional;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
@@ -9,102 +11,121 @@ import org.openqa.selenium.WebElement;
 
 import lombok.extern.slf4j.Slf4j;
 import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
 
 import info.novatec.testit.webtester.browser.Browser;
-import info.novatec.testit.webtester.config.Configuration;
 import info.novatec.testit.webtester.events.Event;
-import info.novatec.testit.webtester.events.EventSystem;
 import info.novatec.testit.webtester.events.PageFragmentEventBuilder;
 import info.novatec.testit.webtester.events.Produces;
-import info.novatec.testit.webtester.internal.implementation.exceptions.NoDefaultConstructorException;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
 
+/**
+ * Fires events when {@link Produces @Produces} annotated methods are invoked.
+ * <p>
+ * The produced event type is read from the annotation while the implementation is generated and bound into the advice
+ * as a constant (see {@link #advice()}). Missing event builders are therefore reported when the implementation is
+ * generated and not on each invocation.
+ * <p>
+ * The state of an invocation is passed from the enter to the exit advice on the invoking thread's stack. Nested
+ * invocations of {@link Produces @Produces} methods each fire their own event.
+ *
+ * @since 2.0
+ */
 @Slf4j
 public class EventProducerAdvice {
 
-    private static final String BUILDER_SUFFIX = "$Builder";
-
-    public static final ThreadLocal<EventProducerImpl> THREAD_LOCAL = new ThreadLocal<>();
+    /**
+     * Returns this advice with the {@link ProducedEvent @ProducedEvent} binding. Only applicable to
+     * {@link Produces @Produces} annotated methods.
+     *
+     * @return the advice
+     * @since 2.7
+     */
+    public static Advice advice() {
+        return Advice.withCustomMapping()//
+            .bind(ProducedEvent.class, new ProducedEventMapping())//
+            .to(EventProducerAdvice.class);
+    }
 
     @Advice.OnMethodEnter
-    public static void onMethodEnter(@Advice.This PageFragment pageFragment, @Advice.Origin Method method) {
-        THREAD_LOCAL.remove();
-        THREAD_LOCAL.set(new EventProducerImpl(pageFragment, method));
-        THREAD_LOCAL.get().onMethodEnter();
+    public static EventProducerImpl onMethodEnter(@Advice.This PageFragment pageFragment,
+        @ProducedEvent Class<?> eventType) {
+        return EventProducerImpl.start(pageFragment, eventType);
     }
 
     @Advice.OnMethodExit
-    public static void onMethodExit(@Advice.This PageFragment pageFragment, @Advice.Origin Method method) {
-        try {
-            EventProducerImpl impl = THREAD_LOCAL.get();
-            if (impl != null) {
-                impl.onMethodExit();
-            }
-        } finally {
-            THREAD_LOCAL.remove();
+    public static void onMethodExit(@Advice.Enter EventProducerImpl impl) {
+        if (impl != null) {
+            impl.finish();
+        }
+    }
 
+    /**
+     * Binds the event type of the instrumented method's {@link Produces @Produces} annotation.
+     *
+     * @since 2.7
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    public @interface ProducedEvent {
+    }
+
+    private static class ProducedEventMapping implements Advice.OffsetMapping {
+
+        @Override
+        public Target resolve(TypeDescription instrumentedType, MethodDescription instrumentedMethod, Assigner assigner,
+            Advice.ArgumentHandler argumentHandler, Sort sort) {
+            AnnotationDescription.Loadable<Produces> produces =
+                instrumentedMethod.getDeclaredAnnotations().ofType(Produces.class);
+            if (produces == null) {
+                throw new IllegalStateException("method is not annotated with @Produces: " + instrumentedMethod);
+            }
+            Class<?> eventType = produces.loadSilent().value();
+            // fail fast in case the event's builder is missing
+            EventBuilderRegistry.of(eventType);
+            return Target.ForStackManipulation.of(new TypeDescription.ForLoadedType(eventType));
         }
+
     }
 
     public static class EventProducerImpl {
 
         private final PageFragment pageFragment;
         private final Browser browser;
-        private final Configuration configuration;
-        private final Produces produces;
-        private PageFragmentEventBuilder eventBuilder;
+        private final PageFragmentEventBuilder eventBuilder;
 
-        public EventProducerImpl(PageFragment pageFragment, Method method) {
+        private EventProducerImpl(PageFragment pageFragment, Browser browser, PageFragmentEventBuilder eventBuilder) {
             this.pageFragment = pageFragment;
-            this.browser = pageFragment.browser();
-            this.configuration = browser.configuration();
-            this.produces = method.getAnnotation(Produces.class);
+            this.browser = browser;
+            this.eventBuilder = eventBuilder;
         }
 
-        public void onMethodEnter() {
-            if (shouldExecute()) {
-                eventBuilder = getEventBuilderFor(produces);
-                eventBuilder.setPageFragment(pageFragment);
-                if (eventBuilder.needsBeforeData()) {
-                    tryToSetBeforeData(eventBuilder, pageFragment);
-                }
+        public static EventProducerImpl start(PageFragment pageFragment, Class<?> eventType) {
+            Browser browser = pageFragment.browser();
+            if (!browser.configuration().isEventSystemEnabled()) {
+                return null;
             }
-        }
-
-        public void onMethodExit() {
-            if (shouldExecute() && eventBuilder != null) {
-                if (eventBuilder.needsAfterData()) {
-                    tryToSetAfterData(eventBuilder, pageFragment);
-                }
-                Event event = eventBuilder.build();
-                EventSystem eventSystem = browser.events();
-                eventSystem.fireEvent(event);
+            PageFragmentEventBuilder eventBuilder = EventBuilderRegistry.of(eventType).get();
+            eventBuilder.setPageFragment(pageFragment);
+            if (eventBuilder.needsBeforeData()) {
+                tryToSetBeforeData(eventBuilder, pageFragment);
             }
+            return new EventProducerImpl(pageFragment, browser, eventBuilder);
         }
 
-        private boolean shouldExecute() {
-            return configuration.isEventSystemEnabled() && produces != null;
-        }
-
-        private PageFragmentEventBuilder getEventBuilderFor(Produces producesEvent) {
-            String eventBuilderClassName = producesEvent.value().getName() + BUILDER_SUFFIX;
-            Class<PageFragmentEventBuilder> builderClass = getPageFragmentEventBuilderClass(eventBuilderClassName);
-            try {
-                return builderClass.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new NoDefaultConstructorException(builderClass, e);
+        public void finish() {
+            if (eventBuilder.needsAfterData()) {
+                tryToSetAfterData(eventBuilder, pageFragment);
             }
+            Event event = eventBuilder.build();
+            browser.events().fireEvent(event);
         }
 
-        @SuppressWarnings("unchecked")
-        private Class<PageFragmentEventBuilder> getPageFragmentEventBuilderClass(String eventBuilderClassName) {
-            return lookupClass(eventBuilderClassName).filter(PageFragmentEventBuilder.class::isAssignableFrom)
-                .map(aClass -> ( Class<PageFragmentEventBuilder> ) aClass)
-                .orElseThrow(() -> new IllegalArgumentException("No event builder class found: " + eventBuilderClassName));
-        }
-
-        private void tryToSetBeforeData(PageFragmentEventBuilder eventBuilder, PageFragment pageFragment) {
+        private static void tryToSetBeforeData(PageFragmentEventBuilder eventBuilder, PageFragment pageFragment) {
             try {
                 WebElement webElement = pageFragment.webElement();
                 eventBuilder.setBeforeData(webElement);
@@ -114,7 +135,7 @@ public class EventProducerAdvice {
             }
         }
 
-        private void tryToSetAfterData(PageFragmentEventBuilder eventBuilder, PageFragment pageFragment) {
+        private static void tryToSetAfterData(PageFragmentEventBuilder eventBuilder, PageFragment pageFragment) {
             try {
                 WebElement webElement = pageFragment.webElement();
                 eventBuilder.setAfterData(webElement);
@@ -124,16 +145,6 @@ public class EventProducerAdvice {
             }
         }
 
-        private Optional<Class<?>> lookupClass(String className) {
-            Class<?> loadedClass = null;
-            try {
-                loadedClass = Class.forName(className);
-            } catch (ClassNotFoundException e) {
-                log.error("error loading event builder class: " + className, e);
-            }
-            return Optional.ofNullable(loadedClass);
-        }
-
     }
 
 }
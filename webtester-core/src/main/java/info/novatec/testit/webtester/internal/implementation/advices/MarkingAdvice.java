@@ -1,54 +1,83 @@
 package info.novatec.testit.webtester.internal.implementation.advices;
 
-import java.lang.reflect.Method;
-
 import net.bytebuddy.asm.Advice;
 
-import info.novatec.testit.webtester.browser.Browser;
-import info.novatec.testit.webtester.config.Configuration;
 import info.novatec.testit.webtester.css.DefaultStyleChanger;
 import info.novatec.testit.webtester.markings.Marker;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.annotations.As;
 import info.novatec.testit.webtester.pagefragments.annotations.Mark;
 
 
+/**
+ * Marks page fragments when {@link Mark @Mark} annotated methods are invoked.
+ * <p>
+ * There is a dedicated advice for each kind of marking ({@link AsRead} and {@link AsUsed}). They are only applied to
+ * methods annotated with the corresponding {@link Mark @Mark}, so the annotation does not need to be looked up on each
+ * invocation.
+ *
+ * @since 2.0
+ */
 public class MarkingAdvice {
 
     private static final Marker MARKER = new Marker(new DefaultStyleChanger());
 
-    @Advice.OnMethodEnter
-    public static void mark(@Advice.This PageFragment pageFragment, @Advice.Origin Method method) {
-        new MarkingAdviceImpl(pageFragment, method).execute();
+    /**
+     * Returns the advice class for the given kind of marking.
+     *
+     * @param as the kind of marking
+     * @return the advice class
+     * @since 2.7
+     */
+    public static Class<?> forMarking(As as) {
+        switch (as) {
+            case READ:
+                return AsRead.class;
+            case USED:
+                return AsUsed.class;
+            default:
+                throw new IllegalArgumentException("unknown marking: " + as);
+        }
     }
 
-    public static class MarkingAdviceImpl {
+    public static void mark(PageFragment pageFragment, As as) {
+        if (!pageFragment.browser().configuration().isMarkingsEnabled()) {
+            return;
+        }
+        switch (as) {
+            case READ:
+                MARKER.markAsRead(pageFragment);
+                break;
+            case USED:
+                MARKER.markAsUsed(pageFragment);
+                break;
+        }
+    }
 
-        private final PageFragment pageFragment;
-        private final Method method;
+    /**
+     * Advice for methods annotated with <code>@Mark(As.READ)</code>.
+     *
+     * @since 2.7
+     */
+    public static class AsRead {
 
-        public MarkingAdviceImpl(PageFragment pageFragment, Method method) {
-            this.pageFragment = pageFragment;
-            this.method = method;
+        @Advice.OnMethodEnter
+        public static void mark(@Advice.This PageFragment pageFragment) {
+            MarkingAdvice.mark(pageFragment, As.READ);
         }
 
-        public void execute() {
-
-            Browser browser = pageFragment.browser();
-            Configuration configuration = browser.configuration();
-            Mark mark = method.getAnnotation(Mark.class);
-            if (!configuration.isMarkingsEnabled() || mark == null) {
-                return;
-            }
+    }
 
-            switch (mark.value()) {
-                case READ:
-                    MARKER.markAsRead(pageFragment);
-                    break;
-                case USED:
-                    MARKER.markAsUsed(pageFragment);
-                    break;
-            }
+    /**
+     * Advice for methods annotated with <code>@Mark(As.USED)</code>.
+     *
+     * @since 2.7
+     */
+    public static class AsUsed {
 
+        @Advice.OnMethodEnter
+        public static void mark(@Advice.This PageFragment pageFragment) {
+            MarkingAdvice.mark(pageFragment, As.USED);
         }
 
     }
@@ -0,0 +1,15 @@
+package info.novatec.testit.webtester.internal.implementation.exceptions;
+
+public class NoEventBuilderException extends DynamicImplementationException {
+
+    private static final String MESSAGE = "Event class '%s' does not declare a nested event builder class 'Builder'!";
+
+    public NoEventBuilderException(Class<?> eventType) {
+        super(String.format(MESSAGE, eventType.getCanonicalName()));
+    }
+
+    public NoEventBuilderException(Class<?> eventType, Throwable cause) {
+        super(String.format(MESSAGE, eventType.getCanonicalName()), cause);
+    }
+
+}
@@ -10,6 +10,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -23,9 +26,16 @@ import info.novatec.testit.webtester.internal.OffersBrowserGetter;
 import info.novatec.testit.webtester.internal.implementation.PageFragmentFactory;
 import info.novatec.testit.webtester.internal.implementation.exceptions.NoDefaultConstructorException;
 import info.novatec.testit.webtester.internal.implementation.exceptions.UnsupportedReturnTypeException;
-import info.novatec.testit.webtester.internal.implementation.pagefragments.StaticWebElementSupplier;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.BasePageFragment;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.CachingWebElementSupplier;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.ComposableLocator;
 import info.novatec.testit.webtester.internal.implementation.pagefragments.DynamicWebElementSupplier;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.LazyPageFragmentList;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.PageFragmentSearchContext;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.PagedWebElements;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.StaticWebElementSupplier;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.annotations.Cached;
 import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.pagefragments.annotations.Named;
 import info.novatec.testit.webtester.pagefragments.annotations.WaitUntil;
@@ -34,183 +44,187 @@ import info.novatec.testit.webtester.pages.Page;
 import info.novatec.testit.webtester.waiting.Wait;
 
 
+/**
+ * Handles invocations of {@link IdentifyUsing @IdentifyUsing} annotated methods.
+ * <p>
+ * Each method is analyzed only once, on its first invocation. The result is an immutable
+ * {@link AbstractInvocation invocation plan} containing everything which does not depend on the invoked instance: the
+ * {@link By} used to find the elements, the page fragment type, the fragment's name, the wait condition and how to
+ * collect multiple results. All following invocations of that method are dispatched straight to the plan.
+ * <p>
+ * Elements of page fragments nested within other page fragments are found using a single round trip to the browser
+ * whenever the locators of all levels can be combined (see {@link ComposableLocator}) and none of the outer page
+ * fragments has a mapping to validate. Otherwise, or if
+ * {@link info.novatec.testit.webtester.config.Configuration#isLocatorCompositionEnabled() locator composition} is
+ * disabled, they are found one level at a time.
+ * <p>
+ * In case {@link info.novatec.testit.webtester.config.Configuration#isLazyFragmentsEnabled() lazy resolution} is
+ * enabled, {@link List lists} and {@link Stream streams} of page fragments are resolved lazily and in pages (see
+ * {@link LazyPageFragmentList} and {@link PagedWebElements}), as long as their locator is known.
+ *
+ * @since 2.0
+ */
 @SuppressWarnings("unchecked")
 public class IdentifyUsingInvocationHandler implements InvocationHandler {
 
+    private final ConcurrentMap<Method, AbstractInvocation> invocations = new ConcurrentHashMap<>();
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) {
+        AbstractInvocation invocation = invocations.get(method);
+        if (invocation == null) {
+            invocation = invocations.computeIfAbsent(method, IdentifyUsingInvocationHandler::compile);
+        }
+        return invocation.invoke(proxy);
+    }
+
+    private static AbstractInvocation compile(Method method) {
 
         Class<?> returnType = method.getReturnType();
 
         if (PageFragment.class.isAssignableFrom(returnType)) {
-            return new SinglePageFragmentInvocation(proxy, method).invoke();
+            return new SinglePageFragmentInvocation(method);
         }
 
         if (Stream.class.isAssignableFrom(returnType)) {
-            return new StreamMultiplePageFragmentsInvocation(proxy, method).invoke();
+            return new MultiplePageFragmentsInvocation(method, stream -> stream,
+                (webElements, factory) -> webElements.stream().map(factory));
         } else if (List.class.isAssignableFrom(returnType)) {
-            return new ListMultiplePageFragmentsInvocation(proxy, method).invoke();
+            return new MultiplePageFragmentsInvocation(method, stream -> stream.collect(toList()),
+                LazyPageFragmentList::new);
         } else if (Set.class.isAssignableFrom(returnType)) {
-            return new SetMultiplePageFragmentsInvocation(proxy, method).invoke();
+            return new MultiplePageFragmentsInvocation(method, stream -> stream.collect(toSet()), null);
         } else if (Collection.class.isAssignableFrom(returnType)) {
-            return new CollectionMultiplePageFragmentsInvocation(proxy, method).invoke();
+            return new MultiplePageFragmentsInvocation(method, stream -> stream.collect(toList()), null);
         }
 
         throw new UnsupportedReturnTypeException(method);
 
     }
 
-    private static class SinglePageFragmentInvocation extends AbstractInvocation<PageFragment> {
+    private static class SinglePageFragmentInvocation extends AbstractInvocation {
 
         private static final String IDENTIFIED_BY_NAME = "%s identified by %s: %s";
 
-        private SinglePageFragmentInvocation(Object proxy, Method method) {
-            super(proxy, method);
-        }
-
-        @Override
-        PageFragment doInvokeMethod() {
-            PageFragmentFactory.PageFragmentDescriptor descriptor = PageFragmentFactory.PageFragmentDescriptor.builder()
-                .pageFragmentType(getPageFragmentType())
-                .webElementSupplier(getWebElementSupplier())
-                .name(getName())
-                .build();
-            return getFactory().createInstanceOf(descriptor);
-        }
-
-        private Class<? extends PageFragment> getPageFragmentType() {
-            return ( Class<? extends PageFragment> ) method.getReturnType();
-        }
-
-        private Supplier<WebElement> getWebElementSupplier() {
-            return new DynamicWebElementSupplier(getSearchContextSupplier(), getBy());
-        }
+        private final Class<? extends PageFragment> pageFragmentType;
+        private final String name;
+        private final Cached cached;
 
-        private String getName() {
-            return Optional.of(method)//
-                .map(m -> m.getAnnotation(Named.class))//
+        private SinglePageFragmentInvocation(Method method) {
+            super(method);
+            this.pageFragmentType = ( Class<? extends PageFragment> ) method.getReturnType();
+            this.cached = method.getAnnotation(Cached.class);
+            this.name = Optional.ofNullable(method.getAnnotation(Named.class))//
                 .map(Named::value)//
-                .orElseGet(this::getIdentifiedByNameFrom);
+                .orElseGet(() -> getIdentifiedByName(method));
         }
 
-        private String getIdentifiedByNameFrom() {
+        private String getIdentifiedByName(Method method) {
             IdentifyUsing annotation = method.getAnnotation(IdentifyUsing.class);
             String how = annotation.how().getSimpleName();
             String value = annotation.value();
-            String pageFragmentClass = getPageFragmentType().getSimpleName();
+            String pageFragmentClass = pageFragmentType.getSimpleName();
             return String.format(IDENTIFIED_BY_NAME, pageFragmentClass, how, value);
         }
 
-    }
-
-    private static class StreamMultiplePageFragmentsInvocation
-        extends AbstractMultiplePageFragmentsInvocation<Stream<? extends PageFragment>> {
-
-        private StreamMultiplePageFragmentsInvocation(Object proxy, Method method) {
-            super(proxy, method);
-        }
-
         @Override
-        Stream<? extends PageFragment> postProcess(Stream<? extends PageFragment> stream) {
-            return stream;
+        PageFragment doInvoke(Object proxy) {
+            Browser browser = getBrowser(proxy);
+            PageFragmentFactory.PageFragmentDescriptor descriptor = PageFragmentFactory.PageFragmentDescriptor.builder()
+                .pageFragmentType(pageFragmentType)
+                .webElementSupplier(createWebElementSupplier(proxy, browser))
+                .name(name)
+                .build();
+            return PageFragmentFactory.createInstanceFor(browser).createInstanceOf(descriptor);
         }
 
-    }
-
-    private static class ListMultiplePageFragmentsInvocation
-        extends AbstractMultiplePageFragmentsInvocation<List<? extends PageFragment>> {
-
-        private ListMultiplePageFragmentsInvocation(Object proxy, Method method) {
-            super(proxy, method);
+        private Supplier<WebElement> createWebElementSupplier(Object proxy, Browser browser) {
+            Supplier<WebElement> webElementSupplier = createDynamicWebElementSupplier(proxy, browser);
+            if (isCached(browser)) {
+                return new CachingWebElementSupplier(browser, webElementSupplier);
+            }
+            return webElementSupplier;
         }
 
-        @Override
-        List<? extends PageFragment> postProcess(Stream<? extends PageFragment> stream) {
-            return stream.collect(toList());
+        private boolean isCached(Browser browser) {
+            if (cached != null) {
+                return cached.value();
+            }
+            return browser.configuration().isElementCacheEnabled();
         }
 
     }
 
-    private static class SetMultiplePageFragmentsInvocation
-        extends AbstractMultiplePageFragmentsInvocation<Set<? extends PageFragment>> {
-
-        private SetMultiplePageFragmentsInvocation(Object proxy, Method method) {
-            super(proxy, method);
-        }
-
-        @Override
-        Set<? extends PageFragment> postProcess(Stream<? extends PageFragment> stream) {
-            return stream.collect(toSet());
-        }
+    private static class MultiplePageFragmentsInvocation extends AbstractInvocation {
 
-    }
-
-    private static class CollectionMultiplePageFragmentsInvocation
-        extends AbstractMultiplePageFragmentsInvocation<Collection<? extends PageFragment>> {
+        private final Class<? extends PageFragment> pageFragmentType;
+        private final Function<Stream<PageFragment>, Object> postProcessor;
+        /** Collects lazily resolved page fragments into the return type, null if it can't be resolved lazily. */
+        private final LazyCollector lazyCollector;
 
-        private CollectionMultiplePageFragmentsInvocation(Object proxy, Method method) {
-            super(proxy, method);
+        private MultiplePageFragmentsInvocation(Method method, Function<Stream<PageFragment>, Object> postProcessor,
+            LazyCollector lazyCollector) {
+            super(method);
+            ParameterizedType genericType = ( ParameterizedType ) method.getGenericReturnType();
+            this.pageFragmentType = ( Class<? extends PageFragment> ) genericType.getActualTypeArguments()[0];
+            this.postProcessor = postProcessor;
+            this.lazyCollector = lazyCollector;
         }
 
         @Override
-        Collection<? extends PageFragment> postProcess(Stream<? extends PageFragment> stream) {
-            return stream.collect(toList());
+        Object doInvoke(Object proxy) {
+            Browser browser = getBrowser(proxy);
+            PageFragmentFactory factory = PageFragmentFactory.createInstanceFor(browser);
+            Function<WebElement, PageFragment> pageFragmentFactory = webElement -> {
+                PageFragmentFactory.PageFragmentDescriptor descriptor = PageFragmentFactory.PageFragmentDescriptor.builder()
+                    .pageFragmentType(pageFragmentType)
+                    .webElementSupplier(new StaticWebElementSupplier(webElement))
+                    .build();
+                return factory.createInstanceOf(descriptor);
+            };
+            DynamicWebElementSupplier webElementSupplier = createDynamicWebElementSupplier(proxy, browser);
+            if (lazyCollector != null && browser.configuration().isLazyFragmentsEnabled()) {
+                Optional<PagedWebElements> pagedWebElements = PagedWebElements.of(browser, webElementSupplier);
+                if (pagedWebElements.isPresent()) {
+                    return lazyCollector.collect(pagedWebElements.get(), pageFragmentFactory);
+                }
+            }
+            return postProcessor.apply(webElementSupplier.getAll().stream().map(pageFragmentFactory));
         }
 
     }
 
-    private static abstract class AbstractMultiplePageFragmentsInvocation<T> extends AbstractInvocation<T> {
-
-        private AbstractMultiplePageFragmentsInvocation(Object proxy, Method method) {
-            super(proxy, method);
-        }
-
-        @Override
-        T doInvokeMethod() {
-            PageFragmentFactory factory = getFactory();
-            Class<? extends PageFragment> pageFragmentType = getPageFragmentType();
-            Stream<PageFragment> stream = getSearchContextSupplier().get()//
-                .findElements(getBy())//
-                .stream()//
-                .map(webElement -> {
-                    PageFragmentFactory.PageFragmentDescriptor descriptor = PageFragmentFactory.PageFragmentDescriptor.builder()
-                        .pageFragmentType(pageFragmentType)
-                        .webElementSupplier(new StaticWebElementSupplier(webElement))
-                        .build();
-                    return factory.createInstanceOf(descriptor);
-                });
-            return postProcess(stream);
-        }
-
-        abstract T postProcess(Stream<? extends PageFragment> stream);
-
-        private Class<? extends PageFragment> getPageFragmentType() {
-            ParameterizedType genericType = ( ParameterizedType ) method.getGenericReturnType();
-            return ( Class<? extends PageFragment> ) genericType.getActualTypeArguments()[0];
-        }
-
+    @FunctionalInterface
+    private interface LazyCollector {
+        Object collect(PagedWebElements webElements, Function<WebElement, PageFragment> pageFragmentFactory);
     }
 
-    private static abstract class AbstractInvocation<T> {
+    /**
+     * Immutable invocation plan of a single {@link IdentifyUsing @IdentifyUsing} method.
+     */
+    private static abstract class AbstractInvocation {
 
-        final Object proxy;
-        final Method method;
+        final By by;
+        private final ComposableLocator locator;
+        private final WaitUntil waitUntil;
+        private final Condition condition;
 
-        AbstractInvocation(Object proxy, Method method) {
-            this.proxy = proxy;
-            this.method = method;
+        AbstractInvocation(Method method) {
+            IdentifyUsing identifyUsing = method.getAnnotation(IdentifyUsing.class);
+            this.by = createBy(identifyUsing);
+            this.locator = ComposableLocator.of(identifyUsing.how(), identifyUsing.value()).orElse(null);
+            this.waitUntil = method.getAnnotation(WaitUntil.class);
+            this.condition = waitUntil != null ? createCondition(waitUntil) : null;
         }
 
-        final T invoke() {
-            waitIfAnnotationPresent();
-            return doInvokeMethod();
+        final Object invoke(Object proxy) {
+            waitIfNecessary(proxy);
+            return doInvoke(proxy);
         }
 
-        final void waitIfAnnotationPresent() {
-            WaitUntil waitUntil = method.getAnnotation(WaitUntil.class);
+        private void waitIfNecessary(Object proxy) {
             if (waitUntil != null) {
-                Supplier<Object> invocation = this::doInvokeMethod;
-                Condition condition = getCondition(waitUntil);
+                Supplier<Object> invocation = () -> doInvoke(proxy);
                 if (waitUntil.timeout() > 0) {
                     Wait.withTimeoutOf(waitUntil.timeout(), waitUntil.unit())//
                         .untilSupplied(invocation)//
@@ -222,9 +236,9 @@ public class IdentifyUsingInvocationHandler implements InvocationHandler {
             }
         }
 
-        abstract T doInvokeMethod();
+        abstract Object doInvoke(Object proxy);
 
-        final Condition getCondition(WaitUntil waitUntil) {
+        private static Condition createCondition(WaitUntil waitUntil) {
             Class<? extends Condition> conditionType = waitUntil.value();
             try {
                 return conditionType.newInstance();
@@ -233,41 +247,67 @@ public class IdentifyUsingInvocationHandler implements InvocationHandler {
             }
         }
 
-        final ByProducer getByProducer(IdentifyUsing annotation) {
+        private static By createBy(IdentifyUsing annotation) {
             Class<? extends ByProducer> byProducerType = annotation.how();
             try {
-                return byProducerType.newInstance();
+                return byProducerType.newInstance().createBy(annotation.value());
             } catch (InstantiationException | IllegalAccessException e) {
                 throw new NoDefaultConstructorException(byProducerType, e);
             }
         }
 
-        final PageFragmentFactory getFactory() {
-            return PageFragmentFactory.createInstanceFor(getBrowser());
+        /**
+         * Creates the supplier of this invocation's element(s). In case the proxy's own element is found using a
+         * composable locator and doesn't need to be validated, both locators are combined and the element is found in
+         * the proxy's search context.
+         */
+        DynamicWebElementSupplier createDynamicWebElementSupplier(Object proxy, Browser browser) {
+            if (locator == null) {
+                return new DynamicWebElementSupplier(getSearchContextSupplier(proxy), by);
+            }
+            if (browser.configuration().isLocatorCompositionEnabled()) {
+                Optional<DynamicWebElementSupplier> composedSupplier = createComposedWebElementSupplier(proxy);
+                if (composedSupplier.isPresent()) {
+                    return composedSupplier.get();
+                }
+            }
+            return new DynamicWebElementSupplier(getSearchContextSupplier(proxy), by, locator, proxy instanceof Page);
         }
 
-        final Browser getBrowser() {
+        private Optional<DynamicWebElementSupplier> createComposedWebElementSupplier(Object proxy) {
+            // the proxy's own web element is never resolved, so its mapping could not be validated
+            if (BasePageFragment.hasMappings(proxy)) {
+                return Optional.empty();
+            }
+            Optional<DynamicWebElementSupplier> parentSupplier = BasePageFragment.webElementSupplierOf(proxy)//
+                .filter(DynamicWebElementSupplier.class::isInstance)//
+                .map(DynamicWebElementSupplier.class::cast);
+            if (!parentSupplier.isPresent() || !parentSupplier.get().getLocator().isPresent()) {
+                return Optional.empty();
+            }
+            DynamicWebElementSupplier parent = parentSupplier.get();
+            ComposableLocator parentLocator = parent.getLocator().get();
+            Optional<ComposableLocator> composedLocator = parent.isDocumentContext()
+                ? parentLocator.compose(locator) : parentLocator.composeWithinElement(locator);
+            return composedLocator.map(composed -> new DynamicWebElementSupplier(parent.getSearchContextSupplier(),
+                composed.toBy(), composed, parent.isDocumentContext()));
+        }
+
+        static Browser getBrowser(Object proxy) {
             OffersBrowserGetter browserGetter = ( OffersBrowserGetter ) proxy;
             return browserGetter.browser();
         }
 
-        final Supplier<SearchContext> getSearchContextSupplier() {
+        static Supplier<SearchContext> getSearchContextSupplier(Object proxy) {
             if (proxy instanceof Page) {
                 Browser browser = (( Page ) proxy).browser();
                 return browser::webDriver;
             } else if (proxy instanceof PageFragment) {
-                PageFragment pageFragment = ( PageFragment ) proxy;
-                return pageFragment::webElement;
+                return new PageFragmentSearchContext(( PageFragment ) proxy);
             }
             throw new IllegalStateException();
         }
 
-        final By getBy() {
-            IdentifyUsing identifyUsing = method.getAnnotation(IdentifyUsing.class);
-            ByProducer byProducer = getByProducer(identifyUsing);
-            return byProducer.createBy(identifyUsing.value());
-        }
-
     }
 
 }
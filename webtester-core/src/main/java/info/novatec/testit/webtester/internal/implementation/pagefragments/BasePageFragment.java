@@ -6,6 +6,7 @@ import java.util.function.Supplier;
 import org.openqa.selenium.WebElement;
 
 import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.mapping.DefaultMappingValidator;
 import info.novatec.testit.webtester.internal.mapping.MappingValidator;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 import info.novatec.testit.webtester.pages.Page;
@@ -18,6 +19,12 @@ public class BasePageFragment implements PageFragment {
     private final MappingValidator validator;
     private final String name;
 
+    /**
+     * The last web element of this page fragment which was found to be valid. Cached web elements are unwrapped, so
+     * re-resolving them leads to a new validation.
+     */
+    private volatile WebElement validWebElement;
+
     public BasePageFragment(Browser browser, Supplier<WebElement> webElementSupplier, MappingValidator validator,
         String name) {
         this.browser = browser;
@@ -39,7 +46,23 @@ public class BasePageFragment implements PageFragment {
     @Override
     public WebElement webElement() {
         WebElement webElement = webElementSupplier.get();
-        return validator.assertValidity(webElement);
+        WebElement resolvedWebElement = unwrap(webElement);
+        WebElement lastValidWebElement = validWebElement;
+        if (lastValidWebElement != null
+            && (lastValidWebElement == resolvedWebElement || browser.configuration().isValidateOnceEnabled())) {
+            DefaultMappingValidator.recordSkippedValidation();
+            return webElement;
+        }
+        validator.assertValidity(webElement);
+        validWebElement = resolvedWebElement;
+        return webElement;
+    }
+
+    private static WebElement unwrap(WebElement webElement) {
+        if (webElement instanceof CachedWebElement) {
+            return (( CachedWebElement ) webElement).getWrappedElement();
+        }
+        return webElement;
     }
 
     @Override
@@ -47,4 +70,50 @@ public class BasePageFragment implements PageFragment {
         return Optional.ofNullable(name);
     }
 
+    /**
+     * Returns the supplier of the given page fragment's web element. This is a static method in order to not interfere
+     * with the methods declared by page fragment interfaces.
+     *
+     * @param pageFragment the page fragment
+     * @return the supplier or an empty optional in case the page fragment is not based on this class
+     * @since 2.7
+     */
+    public static Optional<Supplier<WebElement>> webElementSupplierOf(Object pageFragment) {
+        if (pageFragment instanceof BasePageFragment) {
+            return Optional.of((( BasePageFragment ) pageFragment).webElementSupplier);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Validates the given web element against the mapping of the given page fragment. This is used for web elements
+     * which were resolved for the page fragment without using its web element supplier, e.g. within a script. This is
+     * a static method in order to not interfere with the methods declared by page fragment interfaces.
+     *
+     * @param pageFragment the page fragment
+     * @param webElement the web element resolved for the page fragment
+     * @return the same web element
+     * @throws info.novatec.testit.webtester.pagefragments.mapping.MappingException in case the web element is invalid
+     * @since 2.7
+     */
+    public static WebElement assertValidity(Object pageFragment, WebElement webElement) {
+        if (pageFragment instanceof BasePageFragment) {
+            return (( BasePageFragment ) pageFragment).validator.assertValidity(webElement);
+        }
+        return webElement;
+    }
+
+    /**
+     * Returns whether or not the web element of the given page fragment is validated against a
+     * {@link info.novatec.testit.webtester.pagefragments.annotations.Mapping mapping}. This is a static method in order
+     * to not interfere with the methods declared by page fragment interfaces.
+     *
+     * @param pageFragment the page fragment
+     * @return true if the page fragment is based on this class and has mappings, otherwise false
+     * @since 2.7
+     */
+    public static boolean hasMappings(Object pageFragment) {
+        return pageFragment instanceof BasePageFragment && (( BasePageFragment ) pageFragment).validator.hasMappings();
+    }
+
 }
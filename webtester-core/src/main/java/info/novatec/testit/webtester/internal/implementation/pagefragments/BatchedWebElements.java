@@ -0,0 +1,86 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+
+
+/**
+ * Resolves the elements of many {@link DynamicWebElementSupplier suppliers} using a single JavaScript execution
+ * instead of one round trip per supplier.
+ * <p>
+ * Only suppliers which know their {@link ComposableLocator locator} can be resolved this way. The elements are matched
+ * the same way as by the suppliers themselves: the first element matching the CSS selector (using
+ * <code>querySelector</code>) or XPath expression (using <code>document.evaluate</code>) relative to the supplier's
+ * search context. Search contexts shared by many suppliers (e.g. the {@link PageFragmentSearchContext web element} of
+ * a common parent page fragment) are only resolved once. The elements are not validated against any mapping, this has
+ * to be done by the caller.
+ *
+ * @see PagedWebElements
+ * @since 2.7
+ */
+public final class BatchedWebElements {
+
+    private static final String SCRIPT = "return arguments[0].map(function (lookup) {\n"
+        + "  var context = lookup[0] || document, css = lookup[1], xpath = lookup[2];\n"
+        + "  if (css !== null) { return context.querySelector(css); }\n"
+        + "  return document.evaluate(xpath, context, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)"
+        + ".singleNodeValue;\n"
+        + "});";
+
+    private BatchedWebElements() {
+        // utility class
+    }
+
+    /**
+     * Returns whether or not the given supplier's element can be resolved by {@link #resolve(Browser, List)}.
+     *
+     * @param supplier the supplier to check
+     * @return true if the supplier's locator is known, otherwise false
+     * @since 2.7
+     */
+    public static boolean isResolvable(DynamicWebElementSupplier supplier) {
+        return supplier.getLocator().isPresent();
+    }
+
+    /**
+     * Resolves the elements of all given suppliers using a single JavaScript execution. The search contexts of the
+     * suppliers are resolved beforehand.
+     *
+     * @param browser the browser to execute the JavaScript with
+     * @param suppliers the {@link #isResolvable(DynamicWebElementSupplier) resolvable} suppliers
+     * @return the elements in the order of the suppliers, <code>null</code> for each element which could not be found
+     * @since 2.7
+     */
+    public static List<WebElement> resolve(Browser browser, List<DynamicWebElementSupplier> suppliers) {
+        if (suppliers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // suppliers of nested page fragments often share the search context of their parent
+        Map<Supplier<SearchContext>, Object> contexts = new HashMap<>();
+        List<List<Object>> lookups = new ArrayList<>(suppliers.size());
+        for (DynamicWebElementSupplier supplier : suppliers) {
+            ComposableLocator locator = supplier.getLocator().orElseThrow(IllegalArgumentException::new);
+            Object context =
+                contexts.computeIfAbsent(supplier.getSearchContextSupplier(), BatchedWebElements::toContext);
+            lookups.add(Arrays.asList(context, locator.getCss(), locator.getXPath()));
+            locator.recordUsage();
+        }
+        return browser.javaScript().executeWithReturn(SCRIPT, lookups);
+    }
+
+    private static Object toContext(Supplier<SearchContext> searchContextSupplier) {
+        SearchContext searchContext = searchContextSupplier.get();
+        return searchContext instanceof WebElement ? searchContext : null;
+    }
+
+}
@@ -1,16 +1,8 @@
 package info.novatec.testit.webtester.internal.implementation.pagefragments;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.function.Supplier;
-
 import info.novatec.testit.webtester.browser.Browser;
-import info.novatec.testit.webtester.internal.implementation.pagefragments.exceptions.PageFragmentCreationException;
+import info.novatec.testit.webtester.internal.implementation.ImplementationRegistry;
 import info.novatec.testit.webtester.internal.implementation.pagefragments.exceptions.PageFragmentMustBeInterfaceException;
-import info.novatec.testit.webtester.internal.mapping.DefaultMappingValidator;
-import info.novatec.testit.webtester.internal.mapping.MappingValidator;
-import info.novatec.testit.webtester.internal.postconstruct.PostConstructInvoker;
-import info.novatec.testit.webtester.internal.postconstruct.PostConstructMustBeChecker;
 import info.novatec.testit.webtester.internal.implementation.PageFragmentFactory;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
@@ -27,8 +19,9 @@ public class ByteBuddyPageFragmentFactory implements PageFragmentFactory {
     public PageFragment createInstanceOf(PageFragmentDescriptor descriptor) {
         assertIsInterface(descriptor.getPageFragmentType());
         Class<? extends PageFragment> implType = PageFragmentImplementation.getOrCreate(descriptor.getPageFragmentType());
-        PageFragment pageFragment = createInstance(implType, descriptor);
-        invokePostConstructChecks(descriptor, pageFragment);
+        PageFragmentTypeModel model = PageFragmentTypeModel.of(descriptor.getPageFragmentType());
+        PageFragment pageFragment = createInstance(implType, model, descriptor);
+        model.postConstruct(pageFragment);
         return pageFragment;
     }
 
@@ -40,21 +33,19 @@ public class ByteBuddyPageFragmentFactory implements PageFragmentFactory {
 
     @SuppressWarnings("unchecked")
     private <T extends PageFragment> T createInstance(Class<? extends PageFragment> implType,
-        PageFragmentDescriptor descriptor) {
-        MappingValidator mappingValidator = new DefaultMappingValidator(descriptor.getPageFragmentType());
-        try {
-            Constructor<? extends PageFragment> constructor =
-                implType.getConstructor(Browser.class, Supplier.class, MappingValidator.class, String.class);
-            return ( T ) constructor.newInstance(browser, descriptor.getWebElementSupplier(), mappingValidator,
-                descriptor.getName());
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            throw new PageFragmentCreationException(implType, e);
-        }
+        PageFragmentTypeModel model, PageFragmentDescriptor descriptor) {
+        return ( T ) PageFragmentInstantiator.of(implType)
+            .newInstance(browser, descriptor.getWebElementSupplier(), model.getMappingValidator(), descriptor.getName());
     }
 
-    private void invokePostConstructChecks(PageFragmentDescriptor descriptor, PageFragment pageFragment) {
-        PostConstructMustBeChecker.checkMustMethods(descriptor.getPageFragmentType(), pageFragment);
-        PostConstructInvoker.invokePostConstructMethods(descriptor.getPageFragmentType(), pageFragment);
+    /**
+     * Returns the JVM wide statistics of the generated page fragment implementations.
+     *
+     * @return the statistics
+     * @since 2.7
+     */
+    public static ImplementationRegistry.Statistics getImplementationStatistics() {
+        return PageFragmentImplementation.getStatistics();
     }
 
 }
@@ -0,0 +1,201 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.internal.Coordinates;
+import org.openqa.selenium.interactions.internal.Locatable;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * {@link WebElement} delegating to the element resolved by a {@link CachingWebElementSupplier}. Each operation failing
+ * with a {@link StaleElementReferenceException} is retried once after the element was resolved again.
+ * <p>
+ * The resolved element can be unwrapped using {@link #getWrappedElement()}, which is also done by Selenium when passing
+ * the element to the browser (e.g. as a script argument). {@link #equals(Object)} and {@link #hashCode()} are based on
+ * the currently cached element and never resolve it, so they can be used within collections without remote calls.
+ *
+ * @see CachingWebElementSupplier
+ * @since 2.7
+ */
+@Slf4j
+class CachedWebElement implements WebElement, WrapsElement, WrapsDriver, Locatable {
+
+    private final CachingWebElementSupplier supplier;
+
+    CachedWebElement(CachingWebElementSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    private <T> T callRetryingIfStale(Function<WebElement, T> operation) {
+        WebElement webElement = supplier.resolve();
+        try {
+            return operation.apply(webElement);
+        } catch (StaleElementReferenceException e) {
+            log.debug("cached web element became stale, resolving it again: {}", webElement);
+            supplier.invalidate(webElement);
+            return operation.apply(supplier.resolve());
+        }
+    }
+
+    private void runRetryingIfStale(Consumer<WebElement> operation) {
+        callRetryingIfStale(webElement -> {
+            operation.accept(webElement);
+            return null;
+        });
+    }
+
+    @Override
+    public void click() {
+        runRetryingIfStale(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        runRetryingIfStale(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        runRetryingIfStale(webElement -> webElement.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        runRetryingIfStale(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return callRetryingIfStale(WebElement::getTagName);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return callRetryingIfStale(webElement -> webElement.getAttribute(name));
+    }
+
+    @Override
+    public boolean isSelected() {
+        return callRetryingIfStale(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return callRetryingIfStale(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return callRetryingIfStale(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return callRetryingIfStale(webElement -> webElement.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return callRetryingIfStale(webElement -> webElement.findElement(by));
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return callRetryingIfStale(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return callRetryingIfStale(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return callRetryingIfStale(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return callRetryingIfStale(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return callRetryingIfStale(webElement -> webElement.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return callRetryingIfStale(webElement -> webElement.getScreenshotAs(target));
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return callRetryingIfStale(webElement -> {
+            if (webElement instanceof Locatable) {
+                return (( Locatable ) webElement).getCoordinates();
+            }
+            throw new WebDriverException("web element is not locatable: " + webElement);
+        });
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return supplier.resolve();
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        WebElement webElement = supplier.resolve();
+        if (webElement instanceof WrapsDriver) {
+            return (( WrapsDriver ) webElement).getWrappedDriver();
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        WebElement webElement = supplier.cached();
+        return webElement != null && webElement.equals(cachedOrWrapped(obj));
+    }
+
+    private static Object cachedOrWrapped(Object obj) {
+        if (obj instanceof CachedWebElement) {
+            return (( CachedWebElement ) obj).supplier.cached();
+        }
+        if (obj instanceof WrapsElement) {
+            return (( WrapsElement ) obj).getWrappedElement();
+        }
+        return obj;
+    }
+
+    @Override
+    public int hashCode() {
+        WebElement webElement = supplier.cached();
+        return webElement != null ? webElement.hashCode() : System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "cached " + supplier.cached();
+    }
+
+}
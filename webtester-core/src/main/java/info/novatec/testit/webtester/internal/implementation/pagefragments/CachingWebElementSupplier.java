@@ -0,0 +1,78 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.ElementCaches;
+import info.novatec.testit.webtester.pagefragments.annotations.Cached;
+
+
+/**
+ * Supplies a cached {@link WebElement} which is resolved using another supplier only when needed.
+ * <p>
+ * The supplied element is a {@link CachedWebElement} delegating to the resolved element. It is resolved again if it
+ * became stale or the browser's document changed since it was resolved (see {@link ElementCaches}). Operations which
+ * failed because the element became stale are retried once with the newly resolved element.
+ *
+ * @see Cached
+ * @see CachedWebElement
+ * @since 2.7
+ */
+public class CachingWebElementSupplier implements Supplier<WebElement> {
+
+    private final Browser browser;
+    private final Supplier<WebElement> webElementSupplier;
+    private final CachedWebElement cachedWebElement;
+
+    private WebElement webElement;
+    private long version;
+
+    public CachingWebElementSupplier(Browser browser, Supplier<WebElement> webElementSupplier) {
+        this.browser = browser;
+        this.webElementSupplier = webElementSupplier;
+        this.cachedWebElement = new CachedWebElement(this);
+    }
+
+    @Override
+    public WebElement get() {
+        resolve();
+        return cachedWebElement;
+    }
+
+    /**
+     * Returns the resolved element, resolving it in case it was not yet resolved or the browser's document changed.
+     *
+     * @return the resolved element
+     */
+    synchronized WebElement resolve() {
+        long currentVersion = ElementCaches.versionOf(browser);
+        if (webElement == null || version != currentVersion) {
+            webElement = webElementSupplier.get();
+            version = currentVersion;
+        }
+        return webElement;
+    }
+
+    /**
+     * Returns the currently cached element without resolving it.
+     *
+     * @return the cached element or <code>null</code> if there is none
+     */
+    synchronized WebElement cached() {
+        return webElement;
+    }
+
+    /**
+     * Removes the given element from the cache if it is still the cached element.
+     *
+     * @param staleWebElement the element which became stale
+     */
+    synchronized void invalidate(WebElement staleWebElement) {
+        if (webElement == staleWebElement) {
+            webElement = null;
+        }
+    }
+
+}
@@ -0,0 +1,334 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+
+import lombok.extern.slf4j.Slf4j;
+
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pagefragments.identification.ByProducer;
+import info.novatec.testit.webtester.pagefragments.identification.producers.ClassName;
+import info.novatec.testit.webtester.pagefragments.identification.producers.CssSelector;
+import info.novatec.testit.webtester.pagefragments.identification.producers.Id;
+import info.novatec.testit.webtester.pagefragments.identification.producers.Name;
+import info.novatec.testit.webtester.pagefragments.identification.producers.TagName;
+import info.novatec.testit.webtester.pagefragments.identification.producers.XPath;
+
+
+/**
+ * Immutable locator which can be combined with the locators of nested page fragments into a single {@link By}.
+ * <p>
+ * Nested page fragments are normally found one level at a time: first the parent's web element and then the child
+ * within it. Combining their locators saves one round trip to the browser per level:
+ * <ul>
+ * <li>XPath expressions are combined by using the first element matching the parent's expression as the context of
+ * the child's relative expression: <code>(parent)[1]/child</code></li>
+ * <li>CSS selectors are only combined with parents identified by their ID and only if the child's selector does not
+ * contain combinators: <code>#parent child</code></li>
+ * </ul>
+ * Combined CSS selectors only find the same element as resolving one level at a time if they are executed against
+ * the whole document. Selectors executed within a web element are still matched against the whole document, so
+ * <code>#parent child</code> would also find elements whose <code>#parent</code> is an ancestor of that web element.
+ * Within web elements only the combined XPath expressions are used (see {@link #composeWithinElement}). The combined
+ * locator does not validate the parent's web element, this has to be considered by the caller.
+ * Locators can be created for the {@link Id}, {@link CssSelector}, {@link XPath}, {@link ClassName}, {@link TagName}
+ * and {@link Name} producers. Everything else is resolved one level at a time.
+ *
+ * @see DynamicWebElementSupplier
+ * @since 2.7
+ */
+@Slf4j
+public final class ComposableLocator {
+
+    private static final Pattern CSS_IDENTIFIER = Pattern.compile("-?[_a-zA-Z][_a-zA-Z0-9-]*");
+    private static final char[] COMBINATORS = { ' ', '>', '+', '~' };
+    private static final String XPATH_CONTEXT = "(%s)[1]";
+
+    private static final LongAdder SAVED_ROUND_TRIPS = new LongAdder();
+
+    private final String css;
+    private final boolean unique;
+    private final String xpath;
+    private final int levels;
+    private final By by;
+    /** This locator without its CSS selector, null in case it can only be expressed as a CSS selector. */
+    private final ComposableLocator xpathLocator;
+
+    /** Compositions with child locators, so each chain of locators is only composed once. */
+    private final ConcurrentMap<ComposableLocator, Optional<ComposableLocator>> compositions =
+        new ConcurrentHashMap<>();
+
+    private ComposableLocator(String css, boolean unique, String xpath, int levels) {
+        this.css = css;
+        this.unique = unique;
+        this.xpath = xpath;
+        this.levels = levels;
+        this.by = css != null ? By.cssSelector(css) : By.xpath(xpath);
+        if (css == null) {
+            this.xpathLocator = this;
+        } else if (xpath == null) {
+            this.xpathLocator = null;
+        } else {
+            this.xpathLocator = new ComposableLocator(null, false, xpath, levels);
+        }
+    }
+
+    /**
+     * Creates a locator for the given {@link IdentifyUsing @IdentifyUsing} properties.
+     *
+     * @param how the by producer type
+     * @param value the value to produce the by from
+     * @return the locator or an empty optional in case the producer type is not supported
+     * @since 2.7
+     */
+    public static Optional<ComposableLocator> of(Class<? extends ByProducer> how, String value) {
+        if (how == Id.class) {
+            return create(isCssIdentifier(value) ? "#" + value : null, true, xpathAttribute("id", value));
+        } else if (how == CssSelector.class) {
+            boolean unique = !value.isEmpty() && value.charAt(0) == '#' && isCssIdentifier(value.substring(1));
+            return create(value, unique, null);
+        } else if (how == XPath.class) {
+            return create(null, false, value);
+        } else if (how == ClassName.class) {
+            String xpath = isCssIdentifier(value)
+                ? ".//*[contains(concat(' ', normalize-space(@class), ' '), ' " + value + " ')]" : null;
+            return create(isCssIdentifier(value) ? "." + value : null, false, xpath);
+        } else if (how == TagName.class) {
+            return isCssIdentifier(value) ? create(value, false, ".//" + value) : Optional.empty();
+        } else if (how == Name.class) {
+            String xpath = xpathAttribute("name", value);
+            return create(xpath != null ? "*[name='" + value + "']" : null, false, xpath);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<ComposableLocator> create(String css, boolean unique, String xpath) {
+        if (css == null && xpath == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ComposableLocator(css, unique, xpath, 1));
+    }
+
+    private static boolean isCssIdentifier(String value) {
+        return CSS_IDENTIFIER.matcher(value).matches();
+    }
+
+    private static String xpathAttribute(String attribute, String value) {
+        if (value.contains("'")) {
+            return null;
+        }
+        return ".//*[@" + attribute + "='" + value + "']";
+    }
+
+    /**
+     * Combines this (parent) locator with the given child locator.
+     *
+     * @param child the locator of the child
+     * @return the combined locator or an empty optional in case the locators can't be combined
+     * @since 2.7
+     */
+    public Optional<ComposableLocator> compose(ComposableLocator child) {
+        Optional<ComposableLocator> composition = compositions.get(child);
+        if (composition == null) {
+            composition = compositions.computeIfAbsent(child, this::doCompose);
+        }
+        return composition;
+    }
+
+    /**
+     * Combines this (parent) locator with the given child locator for use within a web element instead of the whole
+     * document. Only XPath expressions are combined, since they are evaluated relative to the web element while CSS
+     * selectors are matched against the whole document.
+     *
+     * @param child the locator of the child
+     * @return the combined locator or an empty optional in case the locators can't be combined as XPath expressions
+     * @since 2.7
+     */
+    public Optional<ComposableLocator> composeWithinElement(ComposableLocator child) {
+        return compose(child).map(composed -> composed.xpathLocator);
+    }
+
+    private Optional<ComposableLocator> doCompose(ComposableLocator child) {
+        String composedCss = null;
+        if (unique && css != null && child.css != null) {
+            composedCss = composeCss(css, child.css);
+        }
+        String composedXPath = null;
+        if (xpath != null && child.xpath != null) {
+            composedXPath = composeXPath(xpath, child.xpath);
+        }
+        if (composedCss == null && composedXPath == null) {
+            log.debug("could not combine locators {} and {}, resolving them one level at a time", this, child);
+            return Optional.empty();
+        }
+        boolean composedUnique = composedCss != null && child.unique;
+        ComposableLocator composed =
+            new ComposableLocator(composedCss, composedUnique, composedXPath, levels + child.levels);
+        log.debug("combined locators {} and {} into {}", this, child, composed);
+        return Optional.of(composed);
+    }
+
+    private static String composeCss(String parent, String child) {
+        List<String> selectors = split(child, ',');
+        if (selectors.isEmpty()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        for (String selector : selectors) {
+            String trimmed = selector.trim();
+            // combinators would also match ancestors of the parent when resolved one level at a time
+            if (trimmed.isEmpty() || containsCombinator(trimmed)) {
+                return null;
+            }
+            joiner.add(parent + " " + trimmed);
+        }
+        return joiner.toString();
+    }
+
+    private static boolean containsCombinator(String selector) {
+        for (char combinator : COMBINATORS) {
+            if (split(selector, combinator).size() != 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String composeXPath(String parent, String child) {
+        List<String> branches = split(child, '|');
+        if (branches.isEmpty()) {
+            return null;
+        }
+        String context = String.format(XPATH_CONTEXT, parent);
+        StringJoiner joiner = new StringJoiner("|");
+        for (String branch : branches) {
+            String trimmed = branch.trim();
+            if (trimmed.startsWith("./")) {
+                joiner.add(context + trimmed.substring(1));
+            } else if (startsWithNameTest(trimmed)) {
+                joiner.add(context + "/" + trimmed);
+            } else {
+                return null;
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static boolean startsWithNameTest(String expression) {
+        if (expression.isEmpty() || !(Character.isLetter(expression.charAt(0)) || expression.charAt(0) == '*')) {
+            return false;
+        }
+        int index = 1;
+        while (index < expression.length() && isNameCharacter(expression.charAt(index))) {
+            index++;
+        }
+        // function calls (e.g. id('foo')) can't be used as a step
+        return index == expression.length() || expression.charAt(index) != '(';
+    }
+
+    private static boolean isNameCharacter(char character) {
+        return Character.isLetterOrDigit(character) || character == '-' || character == '_' || character == '.'
+            || character == ':';
+    }
+
+    /**
+     * Splits the given expression at each top level occurrence of the separator. Separators within brackets,
+     * parentheses or quotes are ignored. Returns an empty list in case the expression is not balanced.
+     */
+    private static List<String> split(String expression, char separator) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < expression.length(); i++) {
+            char character = expression.charAt(i);
+            if (quote != 0) {
+                if (character == quote) {
+                    quote = 0;
+                }
+            } else if (character == '\'' || character == '"') {
+                quote = character;
+            } else if (character == '[' || character == '(') {
+                depth++;
+            } else if (character == ']' || character == ')') {
+                depth--;
+            } else if (character == separator && depth == 0) {
+                parts.add(expression.substring(start, i));
+                start = i + 1;
+            }
+        }
+        if (depth != 0 || quote != 0) {
+            return new ArrayList<>();
+        }
+        parts.add(expression.substring(start));
+        return parts;
+    }
+
+    /**
+     * Returns the {@link By} of this locator. CSS selectors are preferred over XPath expressions.
+     *
+     * @return the by
+     * @since 2.7
+     */
+    public By toBy() {
+        return by;
+    }
+
+    /**
+     * Returns the CSS selector of this locator, or null in case it can only be expressed as an XPath expression.
+     */
+    String getCss() {
+        return css;
+    }
+
+    /**
+     * Returns the XPath expression of this locator, or null in case it can only be expressed as a CSS selector.
+     */
+    String getXPath() {
+        return xpath;
+    }
+
+    /**
+     * Returns the number of page fragment levels combined in this locator.
+     *
+     * @return the number of levels
+     * @since 2.7
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Returns the number of round trips to the browser which were saved by finding elements using combined locators
+     * instead of one level at a time.
+     *
+     * @return the number of saved round trips
+     * @since 2.7
+     */
+    public static long getSavedRoundTrips() {
+        return SAVED_ROUND_TRIPS.sum();
+    }
+
+    /**
+     * Records the saved round trips of finding an element with this locator.
+     */
+    void recordUsage() {
+        if (levels > 1) {
+            SAVED_ROUND_TRIPS.add(levels - 1L);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ComposableLocator(" + by + ", levels=" + levels + ")";
+    }
+
+}
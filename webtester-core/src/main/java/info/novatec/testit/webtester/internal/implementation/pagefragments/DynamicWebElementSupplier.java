@@ -1,5 +1,7 @@
 package info.novatec.testit.webtester.internal.implementation.pagefragments;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.openqa.selenium.By;
@@ -11,15 +13,96 @@ public class DynamicWebElementSupplier implements Supplier<WebElement> {
 
     private final Supplier<SearchContext> searchContextSupplier;
     private final By by;
+    private final ComposableLocator locator;
+    private final boolean documentContext;
 
     public DynamicWebElementSupplier(Supplier<SearchContext> searchContextSupplier, By by) {
+        this(searchContextSupplier, by, null);
+    }
+
+    /**
+     * Creates a supplier which also knows the {@link ComposableLocator locator} used to find the element within a web
+     * element.
+     *
+     * @param searchContextSupplier the supplier of the search context to find the element in
+     * @param by the by to find the element with
+     * @param locator the locator equivalent to the by relative to the search context, might be null
+     * @since 2.7
+     */
+    public DynamicWebElementSupplier(Supplier<SearchContext> searchContextSupplier, By by, ComposableLocator locator) {
+        this(searchContextSupplier, by, locator, false);
+    }
+
+    /**
+     * Creates a supplier which also knows the {@link ComposableLocator locator} used to find the element. Nested page
+     * fragments can combine their own locators with it in order to find their elements using the same search context
+     * and a single round trip.
+     *
+     * @param searchContextSupplier the supplier of the search context to find the element in
+     * @param by the by to find the element with
+     * @param locator the locator equivalent to the by relative to the search context, might be null
+     * @param documentContext whether the search context is the whole document or a web element
+     * @since 2.7
+     */
+    public DynamicWebElementSupplier(Supplier<SearchContext> searchContextSupplier, By by, ComposableLocator locator,
+        boolean documentContext) {
         this.searchContextSupplier = searchContextSupplier;
         this.by = by;
+        this.locator = locator;
+        this.documentContext = documentContext;
     }
 
     @Override
     public WebElement get() {
-        return searchContextSupplier.get().findElement(by);
+        WebElement webElement = searchContextSupplier.get().findElement(by);
+        if (locator != null) {
+            locator.recordUsage();
+        }
+        return webElement;
+    }
+
+    /**
+     * Returns all elements matching this supplier's by instead of only the first one.
+     *
+     * @return the matching elements
+     * @since 2.7
+     */
+    public List<WebElement> getAll() {
+        List<WebElement> webElements = searchContextSupplier.get().findElements(by);
+        if (locator != null) {
+            locator.recordUsage();
+        }
+        return webElements;
+    }
+
+    /**
+     * Returns the supplier of the search context the element is found in.
+     *
+     * @return the search context supplier
+     * @since 2.7
+     */
+    public Supplier<SearchContext> getSearchContextSupplier() {
+        return searchContextSupplier;
+    }
+
+    /**
+     * Returns whether the {@link #getSearchContextSupplier() search context} is the whole document or a web element.
+     *
+     * @return true if the element is found within the whole document, false if it is found within a web element
+     * @since 2.7
+     */
+    public boolean isDocumentContext() {
+        return documentContext;
+    }
+
+    /**
+     * Returns the locator used to find the element relative to the {@link #getSearchContextSupplier() search context}.
+     *
+     * @return the locator or an empty optional in case it is unknown
+     * @since 2.7
+     */
+    public Optional<ComposableLocator> getLocator() {
+        return Optional.ofNullable(locator);
     }
 
 }
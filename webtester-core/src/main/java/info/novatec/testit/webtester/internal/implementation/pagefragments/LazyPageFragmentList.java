@@ -0,0 +1,145 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+
+
+/**
+ * {@link List} of page fragments which resolves its elements only when they are accessed.
+ * <p>
+ * {@link #size()} and {@link #isEmpty()} are answered by counting the matching elements within the browser. Indexed
+ * access via {@link #get(int)} resolves only the {@link PagedWebElements#PAGE_SIZE page} containing the requested
+ * index, so a loop over the first indices doesn't cost a round trip per element. Every other operation (iteration,
+ * streaming, modification, equality ...) resolves all elements at once and works on those from then on.
+ * <p>
+ * In contrast to the eagerly collected lists, the elements of a lazy list reflect the page at the time they are
+ * accessed. The size is counted only once.
+ *
+ * @param <T> the type of the page fragments
+ * @see PagedWebElements
+ * @see IdentifyUsing
+ * @since 2.7
+ */
+public class LazyPageFragmentList<T extends PageFragment> extends AbstractList<T> implements RandomAccess {
+
+    private final PagedWebElements webElements;
+    private final Function<WebElement, T> pageFragmentFactory;
+
+    private final Map<Integer, List<WebElement>> pages = new HashMap<>();
+    private final Map<Integer, T> pageFragments = new HashMap<>();
+    private Integer size;
+    private List<T> all;
+
+    public LazyPageFragmentList(PagedWebElements webElements, Function<WebElement, T> pageFragmentFactory) {
+        this.webElements = webElements;
+        this.pageFragmentFactory = pageFragmentFactory;
+    }
+
+    @Override
+    public int size() {
+        if (all != null) {
+            return all.size();
+        }
+        if (size == null) {
+            size = webElements.count();
+        }
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (all != null) {
+            return all.get(index);
+        }
+        T pageFragment = pageFragments.get(index);
+        if (pageFragment == null) {
+            pageFragment = pageFragmentFactory.apply(getWebElement(index));
+            pageFragments.put(index, pageFragment);
+        }
+        return pageFragment;
+    }
+
+    private WebElement getWebElement(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        int pageNumber = index / PagedWebElements.PAGE_SIZE;
+        List<WebElement> page = pages.get(pageNumber);
+        if (page == null) {
+            page = webElements.getPage(pageNumber * PagedWebElements.PAGE_SIZE, PagedWebElements.PAGE_SIZE);
+            pages.put(pageNumber, page);
+        }
+        int indexInPage = index % PagedWebElements.PAGE_SIZE;
+        if (indexInPage >= page.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return page.get(indexInPage);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return all().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        all().add(index, element);
+    }
+
+    @Override
+    public T remove(int index) {
+        return all().remove(index);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return all().iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return all().listIterator(index);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return all().spliterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return all().toArray();
+    }
+
+    @Override
+    public <A> A[] toArray(A[] array) {
+        return all().toArray(array);
+    }
+
+    private List<T> all() {
+        if (all == null) {
+            List<T> resolved = new ArrayList<>();
+            for (WebElement webElement : webElements.getAll()) {
+                resolved.add(pageFragmentFactory.apply(webElement));
+            }
+            all = resolved;
+            pages.clear();
+            pageFragments.clear();
+        }
+        return all;
+    }
+
+}
@@ -1,50 +1,109 @@
 package info.novatec.testit.webtester.internal.implementation.pagefragments;
 
+import static net.bytebuddy.matcher.ElementMatchers.annotationType;
+import static net.bytebuddy.matcher.ElementMatchers.declaresAnnotation;
 import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
 import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
 import static net.bytebuddy.matcher.ElementMatchers.isDefaultMethod;
+import static net.bytebuddy.matcher.ElementMatchers.not;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.DefaultMethodCall;
+import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.matcher.ElementMatcher;
 
 import info.novatec.testit.webtester.internal.ClasspathUtils;
+import info.novatec.testit.webtester.internal.implementation.ImplementationRegistry;
+import info.novatec.testit.webtester.internal.implementation.PreGeneratedImplementations;
+import info.novatec.testit.webtester.internal.implementation.StaticFieldInitializer;
 import info.novatec.testit.webtester.internal.implementation.advices.ActionAdvice;
 import info.novatec.testit.webtester.internal.implementation.advices.EventProducerAdvice;
 import info.novatec.testit.webtester.internal.implementation.advices.MarkingAdvice;
 import info.novatec.testit.webtester.internal.implementation.invocationhandler.AttributeInvocationHandler;
 import info.novatec.testit.webtester.internal.implementation.invocationhandler.IdentifyUsingInvocationHandler;
 import info.novatec.testit.webtester.internal.implementation.invocationhandler.KotlinDefaultMethodHandler;
+import info.novatec.testit.webtester.events.Produces;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.annotations.Action;
+import info.novatec.testit.webtester.pagefragments.annotations.As;
 import info.novatec.testit.webtester.pagefragments.annotations.Attribute;
 import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pagefragments.annotations.Mark;
 
 
-final class PageFragmentImplementation {
+/**
+ * Generates the implementation classes of {@link PageFragment page fragment} interfaces.
+ * <p>
+ * Implementations are either pre-generated at build time or generated with ByteBuddy on first use.
+ *
+ * @see PreGeneratedImplementations
+ * @since 2.0
+ */
+public final class PageFragmentImplementation {
 
-    private static final Map<ClassLoader, Map<Class<? extends PageFragment>, Class<? extends PageFragment>>> CACHE =
-        new HashMap<>();
+    private static final String IDENTIFY_USING_HANDLER = "identifyUsingHandler$webtester";
+    private static final String ATTRIBUTE_HANDLER = "attributeHandler$webtester";
+    private static final String KOTLIN_DEFAULT_METHOD_HANDLER = "kotlinDefaultMethodHandler$webtester";
+
+    private static final Map<String, Supplier<InvocationHandler>> HANDLERS = new HashMap<>();
+
+    static {
+        HANDLERS.put(IDENTIFY_USING_HANDLER, IdentifyUsingInvocationHandler::new);
+        HANDLERS.put(ATTRIBUTE_HANDLER, AttributeInvocationHandler::new);
+        HANDLERS.put(KOTLIN_DEFAULT_METHOD_HANDLER, KotlinDefaultMethodHandler::new);
+    }
+
+    private static final ImplementationRegistry<PageFragment> REGISTRY =
+        new ImplementationRegistry<PageFragment>(PageFragmentImplementation::lookupOrCreate);
 
     static Class<? extends PageFragment> getOrCreate(Class<? extends PageFragment> pageFragmentType) {
-        ClassLoader classLoader = pageFragmentType.getClassLoader();
-        Map<Class<? extends PageFragment>, Class<? extends PageFragment>> implementationMap =
-            CACHE.computeIfAbsent(classLoader, cl -> new HashMap<>());
-        return implementationMap.computeIfAbsent(pageFragmentType, PageFragmentImplementation::create);
+        return REGISTRY.getOrCreate(pageFragmentType);
+    }
+
+    static ImplementationRegistry.Statistics getStatistics() {
+        return REGISTRY.getStatistics();
+    }
+
+    private static Class<? extends PageFragment> lookupOrCreate(Class<? extends PageFragment> pageFragmentType) {
+        return PreGeneratedImplementations.lookup(pageFragmentType, BasePageFragment.class, HANDLERS)
+            .orElseGet(() -> create(pageFragmentType));
     }
 
     private static Class<? extends PageFragment> create(Class<? extends PageFragment> pageFragmentType) {
+        return make(pageFragmentType).load(pageFragmentType.getClassLoader()).getLoaded();
+    }
+
+    /**
+     * Creates the unloaded implementation type of the given {@link PageFragment page fragment} interface. This can be
+     * used to save the implementation at build time.
+     *
+     * @param pageFragmentType the page fragment type to implement
+     * @return the unloaded implementation type
+     * @since 2.7
+     */
+    public static DynamicType.Unloaded<BasePageFragment> make(Class<? extends PageFragment> pageFragmentType) {
 
-        String className = pageFragmentType.getCanonicalName() + "$$Impl";
-        ClassLoader classLoader = pageFragmentType.getClassLoader();
+        String className = PreGeneratedImplementations.implementationNameOf(pageFragmentType);
 
         InvocationHandler identifyUsingHandler = new IdentifyUsingInvocationHandler();
         InvocationHandler attributeHandler = new AttributeInvocationHandler();
@@ -59,24 +118,83 @@ final class PageFragmentImplementation {
             pageFragmentTypeBuilder = addKotlinImplementations(pageFragmentTypeBuilder, pageFragmentType);
         }
 
-        pageFragmentTypeBuilder = pageFragmentTypeBuilder//
-            .method(isDefaultMethod())//
-            .intercept(Advice.to(ActionAdvice.class)//
-                .wrap(Advice.to(MarkingAdvice.class)//
-                    .wrap(Advice.to(EventProducerAdvice.class)//
-                        .wrap(DefaultMethodCall.prioritize(pageFragmentType)))));
+        pageFragmentTypeBuilder = addDefaultMethodImplementations(pageFragmentTypeBuilder, pageFragmentType);
 
         pageFragmentTypeBuilder = pageFragmentTypeBuilder//
             .method(isAbstract().and(isAnnotatedWith(IdentifyUsing.class)).and(takesArguments(0)))
-            .intercept(InvocationHandlerAdapter.of(identifyUsingHandler));
+            .intercept(InvocationHandlerAdapter.of(identifyUsingHandler, IDENTIFY_USING_HANDLER));
 
         pageFragmentTypeBuilder = pageFragmentTypeBuilder//
-            .method(isAbstract().and(isAnnotatedWith(Attribute.class)).and(takesArguments(0)))
-            .intercept(Advice.to(MarkingAdvice.class)//
-                .wrap(InvocationHandlerAdapter.of(attributeHandler)));
+            .defineField(ATTRIBUTE_HANDLER, InvocationHandler.class, Visibility.PUBLIC, Ownership.STATIC,
+                FieldManifestation.VOLATILE)
+            .initializer(new StaticFieldInitializer(ATTRIBUTE_HANDLER, attributeHandler));
+        Implementation attributeImplementation = InvocationHandlerAdapter.toField(ATTRIBUTE_HANDLER);
+        ElementMatcher.Junction<MethodDescription> isAttributeMethod =
+            isAbstract().and(isAnnotatedWith(Attribute.class)).and(takesArguments(0));
+        pageFragmentTypeBuilder = pageFragmentTypeBuilder//
+            .method(isAttributeMethod)
+            .intercept(attributeImplementation);
+        for (As as : As.values()) {
+            pageFragmentTypeBuilder = pageFragmentTypeBuilder//
+                .method(isAttributeMethod.and(isMarkedAs(as)))
+                .intercept(Advice.to(MarkingAdvice.forMarking(as)).wrap(attributeImplementation));
+        }
+
+        return pageFragmentTypeBuilder.make();
+
+    }
 
-        return pageFragmentTypeBuilder.make().load(classLoader).getLoaded();
+    /**
+     * Default methods are only wrapped with those advices they actually need. Since ByteBuddy uses the last matching
+     * method definition, the plain default method call is registered first and every combination of {@link Action},
+     * {@link Mark} and {@link Produces} annotations afterwards.
+     */
+    private static Builder<BasePageFragment> addDefaultMethodImplementations(
+        Builder<BasePageFragment> pageFragmentTypeBuilder, Class<? extends PageFragment> pageFragmentType) {
+
+        Implementation defaultMethodCall = DefaultMethodCall.prioritize(pageFragmentType);
+        Builder<BasePageFragment> builder = pageFragmentTypeBuilder//
+            .method(isDefaultMethod())//
+            .intercept(defaultMethodCall);
+
+        List<As> markings = new ArrayList<>(Arrays.asList(As.values()));
+        markings.add(null);
+        for (boolean action : new boolean[] { true, false }) {
+            for (As marking : markings) {
+                for (boolean produces : new boolean[] { true, false }) {
+                    if (action || marking != null || produces) {
+                        ElementMatcher.Junction<MethodDescription> matcher = isDefaultMethod()//
+                            .and(annotated(Action.class, action))//
+                            .and(marking != null ? isMarkedAs(marking) : not(isAnnotatedWith(Mark.class)))//
+                            .and(annotated(Produces.class, produces));
+                        Implementation implementation = defaultMethodCall;
+                        if (produces) {
+                            implementation = EventProducerAdvice.advice().wrap(implementation);
+                        }
+                        if (marking != null) {
+                            implementation = Advice.to(MarkingAdvice.forMarking(marking)).wrap(implementation);
+                        }
+                        if (action) {
+                            implementation = Advice.to(ActionAdvice.class).wrap(implementation);
+                        }
+                        builder = builder.method(matcher).intercept(implementation);
+                    }
+                }
+            }
+        }
+
+        return builder;
+
+    }
+
+    private static ElementMatcher.Junction<MethodDescription> annotated(Class<? extends Annotation> annotation,
+        boolean present) {
+        return present ? isAnnotatedWith(annotation) : not(isAnnotatedWith(annotation));
+    }
 
+    private static ElementMatcher.Junction<MethodDescription> isMarkedAs(As as) {
+        return declaresAnnotation(annotationType(Mark.class)//
+            .and(annotation -> annotation.prepare(Mark.class).loadSilent().value() == as));
     }
 
     private static Builder<BasePageFragment> addKotlinImplementations(Builder<BasePageFragment> pageFragmentTypeBuilder,
@@ -87,7 +205,7 @@ final class PageFragmentImplementation {
                 InvocationHandler kotlinDefaultMethodHandler = new KotlinDefaultMethodHandler();
                 return pageFragmentTypeBuilder//
                     .method(isAbstract())//
-                    .intercept(InvocationHandlerAdapter.of(kotlinDefaultMethodHandler));
+                    .intercept(InvocationHandlerAdapter.of(kotlinDefaultMethodHandler, KOTLIN_DEFAULT_METHOD_HANDLER));
             }
             return pageFragmentTypeBuilder;
         } catch (ClassNotFoundException e) {
@@ -0,0 +1,95 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.exceptions.PageFragmentCreationException;
+import info.novatec.testit.webtester.internal.mapping.MappingValidator;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * Creates instances of a generated {@link PageFragment page fragment} implementation class.
+ * <p>
+ * The implementation's constructor is resolved only once per class and bound to a {@link MethodHandle}. Creating
+ * instances does not involve any reflection after that. Instantiators are attached to their implementation class using
+ * a {@link ClassValue} and will not keep the class from being unloaded.
+ *
+ * @since 2.7
+ */
+final class PageFragmentInstantiator {
+
+    private static final MethodType CONSTRUCTOR_TYPE =
+        MethodType.methodType(PageFragment.class, Browser.class, Supplier.class, MappingValidator.class, String.class);
+
+    private static final ClassValue<PageFragmentInstantiator> INSTANTIATORS =
+        new ClassValue<PageFragmentInstantiator>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected PageFragmentInstantiator computeValue(Class<?> implType) {
+                return new PageFragmentInstantiator(( Class<? extends PageFragment> ) implType);
+            }
+        };
+
+    private final Class<? extends PageFragment> implType;
+    private final MethodHandle constructor;
+
+    private PageFragmentInstantiator(Class<? extends PageFragment> implType) {
+        this.implType = implType;
+        this.constructor = resolveConstructor(implType);
+    }
+
+    private static MethodHandle resolveConstructor(Class<? extends PageFragment> implType) {
+        try {
+            Constructor<? extends PageFragment> constructor =
+                implType.getConstructor(Browser.class, Supplier.class, MappingValidator.class, String.class);
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            throw new PageFragmentCreationException(implType, e);
+        }
+    }
+
+    /**
+     * Returns the (cached) {@link PageFragmentInstantiator} for the given implementation class.
+     *
+     * @param implType the implementation class
+     * @return the instantiator
+     * @throws PageFragmentCreationException in case the implementation class does not offer the needed constructor
+     * @since 2.7
+     */
+    static PageFragmentInstantiator of(Class<? extends PageFragment> implType) {
+        return INSTANTIATORS.get(implType);
+    }
+
+    /**
+     * Creates a new instance of this instantiator's implementation class.
+     *
+     * @param browser the browser of the new page fragment
+     * @param webElementSupplier the supplier of the page fragment's web element
+     * @param validator the mapping validator of the page fragment
+     * @param name the optional name of the page fragment
+     * @return the new instance
+     * @throws PageFragmentCreationException in case the constructor threw a checked exception
+     * @since 2.7
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // invokeExact declares Throwable, unchecked ones are not wrapped
+    PageFragment newInstance(Browser browser, Supplier<WebElement> webElementSupplier, MappingValidator validator,
+        String name) {
+        try {
+            return ( PageFragment ) constructor.invokeExact(browser, webElementSupplier, validator, name);
+        } catch (Throwable e) {
+            throwIfUnchecked(e);
+            throw new PageFragmentCreationException(implType, e);
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.function.Supplier;
+
+import org.openqa.selenium.SearchContext;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * Supplies the web element of a {@link PageFragment} as the search context of its nested page fragments.
+ * <p>
+ * Two instances are equal if they supply the web element of the same page fragment instance. This allows callers
+ * resolving the elements of many nested page fragments at once (see {@link BatchedWebElements}) to resolve each
+ * search context only once. The page fragment itself is compared by identity, since its own
+ * {@link Object#equals(Object) equals} might resolve its web element.
+ *
+ * @since 2.7
+ */
+public final class PageFragmentSearchContext implements Supplier<SearchContext> {
+
+    private final PageFragment pageFragment;
+
+    public PageFragmentSearchContext(PageFragment pageFragment) {
+        this.pageFragment = pageFragment;
+    }
+
+    @Override
+    public SearchContext get() {
+        return pageFragment.webElement();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PageFragmentSearchContext
+            && (( PageFragmentSearchContext ) obj).pageFragment == pageFragment;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(pageFragment);
+    }
+
+    @Override
+    public String toString() {
+        return "PageFragmentSearchContext(" + pageFragment.getName().orElse("unnamed page fragment") + ")";
+    }
+
+}
@@ -0,0 +1,72 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import info.novatec.testit.webtester.internal.mapping.DefaultMappingValidator;
+import info.novatec.testit.webtester.internal.mapping.MappingValidator;
+import info.novatec.testit.webtester.internal.postconstruct.PostConstructMethods;
+import info.novatec.testit.webtester.internal.postconstruct.PostConstructMustBeChecks;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * Immutable meta data of a {@link PageFragment page fragment} interface.
+ * <p>
+ * The model is computed once per interface and shared by all its instances. It contains the {@link MappingValidator},
+ * the {@link PostConstructMethods post construct methods} and the {@link PostConstructMustBeChecks post construct must be
+ * checks} of the type. Models are attached to their type using a {@link ClassValue} and will not keep the type from
+ * being unloaded.
+ *
+ * @since 2.7
+ */
+final class PageFragmentTypeModel {
+
+    private static final ClassValue<PageFragmentTypeModel> MODELS = new ClassValue<PageFragmentTypeModel>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected PageFragmentTypeModel computeValue(Class<?> pageFragmentType) {
+            return new PageFragmentTypeModel(( Class<? extends PageFragment> ) pageFragmentType);
+        }
+    };
+
+    private final MappingValidator mappingValidator;
+    private final PostConstructMethods postConstructMethods;
+    private final PostConstructMustBeChecks postConstructMustBeChecks;
+
+    private PageFragmentTypeModel(Class<? extends PageFragment> pageFragmentType) {
+        this.mappingValidator = new DefaultMappingValidator(pageFragmentType);
+        this.postConstructMethods = PostConstructMethods.of(pageFragmentType);
+        this.postConstructMustBeChecks = PostConstructMustBeChecks.of(pageFragmentType);
+    }
+
+    /**
+     * Returns the (cached) model of the given page fragment type.
+     *
+     * @param pageFragmentType the page fragment type
+     * @return the model
+     * @since 2.7
+     */
+    static PageFragmentTypeModel of(Class<? extends PageFragment> pageFragmentType) {
+        return MODELS.get(pageFragmentType);
+    }
+
+    /**
+     * Returns the {@link MappingValidator} shared by all instances of this model's type.
+     *
+     * @return the mapping validator
+     * @since 2.7
+     */
+    MappingValidator getMappingValidator() {
+        return mappingValidator;
+    }
+
+    /**
+     * Executes all post construct checks and methods on the given newly created page fragment.
+     *
+     * @param pageFragment the page fragment to process
+     * @since 2.7
+     */
+    void postConstruct(PageFragment pageFragment) {
+        postConstructMustBeChecks.checkOn(pageFragment);
+        postConstructMethods.invokeOn(pageFragment);
+    }
+
+}
@@ -0,0 +1,170 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+
+
+/**
+ * Resolves the elements matching a {@link DynamicWebElementSupplier supplier's} {@link ComposableLocator locator} in
+ * pages instead of all at once.
+ * <p>
+ * The number of matching elements is counted within the browser and pages of elements are resolved by their position
+ * among all matches, both using a single JavaScript execution. The elements are matched the same way as by the
+ * supplier: CSS selectors are evaluated with <code>querySelectorAll</code> and XPath expressions with
+ * <code>document.evaluate</code>, both relative to the supplier's search context.
+ *
+ * @see LazyPageFragmentList
+ * @since 2.7
+ */
+public class PagedWebElements {
+
+    /** The number of elements resolved at once by indexed access and the size of a stream's first page. */
+    static final int PAGE_SIZE = 25;
+
+    private static final String SCRIPT =
+        "var context = arguments[0] || document, css = arguments[1], xpath = arguments[2];\n"
+        + "var from = arguments[3], max = arguments[4], count, item;\n"
+        + "if (css !== null) {\n"
+        + "  var matches = context.querySelectorAll(css);\n"
+        + "  count = matches.length;\n"
+        + "  item = function (i) { return matches[i]; };\n"
+        + "} else {\n"
+        + "  var snapshot = document.evaluate(xpath, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n"
+        + "  count = snapshot.snapshotLength;\n"
+        + "  item = function (i) { return snapshot.snapshotItem(i); };\n"
+        + "}\n"
+        + "if (max < 0) { return count; }\n"
+        + "var result = [];\n"
+        + "for (var i = from; i < Math.min(count, from + max); i++) { result.push(item(i)); }\n"
+        + "return result;";
+
+    private final Browser browser;
+    private final DynamicWebElementSupplier supplier;
+    private final ComposableLocator locator;
+
+    private PagedWebElements(Browser browser, DynamicWebElementSupplier supplier, ComposableLocator locator) {
+        this.browser = browser;
+        this.supplier = supplier;
+        this.locator = locator;
+    }
+
+    /**
+     * Creates paged access to the elements of the given supplier.
+     *
+     * @param browser the browser to execute the JavaScript with
+     * @param supplier the supplier whose elements should be resolved in pages
+     * @return the paged elements or an empty optional in case the supplier's locator is unknown
+     * @since 2.7
+     */
+    public static Optional<PagedWebElements> of(Browser browser, DynamicWebElementSupplier supplier) {
+        return supplier.getLocator().map(locator -> new PagedWebElements(browser, supplier, locator));
+    }
+
+    /**
+     * Counts the matching elements without transferring them.
+     *
+     * @return the number of matching elements
+     * @since 2.7
+     */
+    public int count() {
+        Number count = execute(0, -1);
+        return count != null ? count.intValue() : 0;
+    }
+
+    /**
+     * Resolves a page of the matching elements.
+     *
+     * @param from the position of the page's first element among all matches
+     * @param max the maximum number of elements to resolve
+     * @return the page's elements, fewer than the maximum in case there are no more matches
+     * @since 2.7
+     */
+    public List<WebElement> getPage(int from, int max) {
+        List<WebElement> page = execute(from, max);
+        return page != null ? page : Collections.emptyList();
+    }
+
+    /**
+     * Resolves all matching elements at once.
+     *
+     * @return all matching elements
+     * @since 2.7
+     */
+    public List<WebElement> getAll() {
+        return supplier.getAll();
+    }
+
+    /**
+     * Streams the matching elements. The elements are resolved in pages while the stream is consumed. Each page is
+     * twice the size of the previous one, so consuming all elements costs a logarithmic number of round trips while
+     * short-circuiting operations like {@link Stream#findFirst()} only resolve the first page.
+     *
+     * @return the stream of elements
+     * @since 2.7
+     */
+    public Stream<WebElement> stream() {
+        Spliterator<WebElement> spliterator =
+            Spliterators.spliteratorUnknownSize(new PageIterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(int from, int max) {
+        SearchContext searchContext = supplier.getSearchContextSupplier().get();
+        Object context = searchContext instanceof WebElement ? searchContext : null;
+        Object result = browser.javaScript()
+            .executeWithReturn(SCRIPT, context, locator.getCss(), locator.getXPath(), from, max);
+        locator.recordUsage();
+        return ( T ) result;
+    }
+
+    private class PageIterator implements Iterator<WebElement> {
+
+        private final Deque<WebElement> buffer = new ArrayDeque<>();
+
+        private int nextPosition;
+        private int pageSize = PAGE_SIZE;
+        private boolean lastPageRead;
+
+        @Override
+        public boolean hasNext() {
+            if (buffer.isEmpty() && !lastPageRead) {
+                readNextPage();
+            }
+            return !buffer.isEmpty();
+        }
+
+        private void readNextPage() {
+            List<WebElement> page = new ArrayList<>(getPage(nextPosition, pageSize));
+            buffer.addAll(page);
+            nextPosition += page.size();
+            lastPageRead = page.size() < pageSize;
+            pageSize *= 2;
+        }
+
+        @Override
+        public WebElement next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer.poll();
+        }
+
+    }
+
+}
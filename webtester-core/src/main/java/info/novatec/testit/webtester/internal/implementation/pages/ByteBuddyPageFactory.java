@@ -1,14 +1,8 @@
 package info.novatec.testit.webtester.internal.implementation.pages;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
-
 import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.implementation.ImplementationRegistry;
 import info.novatec.testit.webtester.internal.implementation.PageFactory;
-import info.novatec.testit.webtester.internal.implementation.pages.exceptions.PageCreationException;
-import info.novatec.testit.webtester.internal.postconstruct.PostConstructInvoker;
-import info.novatec.testit.webtester.internal.postconstruct.PostConstructMustBeChecker;
 import info.novatec.testit.webtester.internal.implementation.pages.exceptions.PageMustBeInterfaceException;
 import info.novatec.testit.webtester.pages.Page;
 
@@ -24,9 +18,6 @@ public class ByteBuddyPageFactory implements PageFactory {
     @Override
     public <T extends Page> T createInstanceOf(Class<T> type) {
         assertIsInterface(type);
-
-        Arrays.stream(type.getDeclaredConstructors()).forEach(constructor -> constructor.setAccessible(true));
-
         Class<? extends Page> typeImpl = PageImplementation.getOrCreate(type);
         T page = createInstance(typeImpl);
         invokePostConstructChecks(type, page);
@@ -41,17 +32,21 @@ public class ByteBuddyPageFactory implements PageFactory {
 
     @SuppressWarnings("unchecked")
     private <T extends Page> T createInstance(Class<? extends Page> pageImplType) {
-        try {
-            Constructor<? extends Page> constructor = pageImplType.getConstructor(Browser.class);
-            return ( T ) constructor.newInstance(browser);
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            throw new PageCreationException(pageImplType, e);
-        }
+        return ( T ) PageInstantiator.of(pageImplType).newInstance(browser);
     }
 
     private void invokePostConstructChecks(Class<? extends Page> type, Page page) {
-        PostConstructMustBeChecker.checkMustMethods(type, page);
-        PostConstructInvoker.invokePostConstructMethods(type, page);
+        PageTypeModel.of(type).postConstruct(page);
+    }
+
+    /**
+     * Returns the JVM wide statistics of the generated page implementations.
+     *
+     * @return the statistics
+     * @since 2.7
+     */
+    public static ImplementationRegistry.Statistics getImplementationStatistics() {
+        return PageImplementation.getStatistics();
     }
 
 }
@@ -8,38 +8,79 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 import java.lang.reflect.InvocationHandler;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.Advice;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.DefaultMethodCall;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 
 import info.novatec.testit.webtester.internal.ClasspathUtils;
+import info.novatec.testit.webtester.internal.implementation.ImplementationRegistry;
+import info.novatec.testit.webtester.internal.implementation.PreGeneratedImplementations;
 import info.novatec.testit.webtester.internal.implementation.advices.ActionAdvice;
 import info.novatec.testit.webtester.internal.implementation.invocationhandler.IdentifyUsingInvocationHandler;
 import info.novatec.testit.webtester.internal.implementation.invocationhandler.KotlinDefaultMethodHandler;
+import info.novatec.testit.webtester.pagefragments.annotations.Action;
 import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.pages.Page;
 
 
-final class PageImplementation {
+/**
+ * Generates the implementation classes of {@link Page page} interfaces.
+ * <p>
+ * Implementations are either pre-generated at build time or generated with ByteBuddy on first use.
+ *
+ * @see PreGeneratedImplementations
+ * @since 2.0
+ */
+public final class PageImplementation {
 
-    private static final Map<ClassLoader, Map<Class<? extends Page>, Class<? extends Page>>> CACHE = new HashMap<>();
+    private static final String IDENTIFY_USING_HANDLER = "identifyUsingHandler$webtester";
+    private static final String KOTLIN_DEFAULT_METHOD_HANDLER = "kotlinDefaultMethodHandler$webtester";
+
+    private static final Map<String, Supplier<InvocationHandler>> HANDLERS = new HashMap<>();
+
+    static {
+        HANDLERS.put(IDENTIFY_USING_HANDLER, IdentifyUsingInvocationHandler::new);
+        HANDLERS.put(KOTLIN_DEFAULT_METHOD_HANDLER, KotlinDefaultMethodHandler::new);
+    }
+
+    private static final ImplementationRegistry<Page> REGISTRY =
+        new ImplementationRegistry<Page>(PageImplementation::lookupOrCreate);
 
     static Class<? extends Page> getOrCreate(Class<? extends Page> pageType) {
-        ClassLoader classLoader = pageType.getClassLoader();
-        Map<Class<? extends Page>, Class<? extends Page>> implementationMap =
-            CACHE.computeIfAbsent(classLoader, cl -> new HashMap<>());
-        return implementationMap.computeIfAbsent(pageType, PageImplementation::create);
+        return REGISTRY.getOrCreate(pageType);
+    }
+
+    static ImplementationRegistry.Statistics getStatistics() {
+        return REGISTRY.getStatistics();
+    }
+
+    private static Class<? extends Page> lookupOrCreate(Class<? extends Page> pageType) {
+        return PreGeneratedImplementations.lookup(pageType, BasePage.class, HANDLERS)
+            .orElseGet(() -> create(pageType));
     }
 
     private static Class<? extends Page> create(Class<? extends Page> pageType) {
+        return make(pageType).load(pageType.getClassLoader()).getLoaded();
+    }
 
-        String className = pageType.getCanonicalName() + "$$Impl";
-        ClassLoader classLoader = pageType.getClassLoader();
+    /**
+     * Creates the unloaded implementation type of the given {@link Page page} interface. This can be used to save the
+     * implementation at build time.
+     *
+     * @param pageType the page type to implement
+     * @return the unloaded implementation type
+     * @since 2.7
+     */
+    public static DynamicType.Unloaded<BasePage> make(Class<? extends Page> pageType) {
+
+        String className = PreGeneratedImplementations.implementationNameOf(pageType);
 
         InvocationHandler identifyUsingHandler = new IdentifyUsingInvocationHandler();
 
@@ -55,14 +96,18 @@ final class PageImplementation {
 
         pageTypeBuilder = pageTypeBuilder//
             .method(isDefaultMethod())//
+            .intercept(DefaultMethodCall.prioritize(pageType));
+
+        pageTypeBuilder = pageTypeBuilder//
+            .method(isDefaultMethod().and(isAnnotatedWith(Action.class)))//
             .intercept(Advice.to(ActionAdvice.class)//
                 .wrap(DefaultMethodCall.prioritize(pageType)));
 
         pageTypeBuilder = pageTypeBuilder//
             .method(isAbstract().and(isAnnotatedWith(IdentifyUsing.class)).and(takesArguments(0)))
-            .intercept(InvocationHandlerAdapter.of(identifyUsingHandler));
+            .intercept(InvocationHandlerAdapter.of(identifyUsingHandler, IDENTIFY_USING_HANDLER));
 
-        return pageTypeBuilder.make().load(classLoader).getLoaded();
+        return pageTypeBuilder.make();
 
     }
 
@@ -74,7 +119,7 @@ final class PageImplementation {
                 InvocationHandler kotlinDefaultMethodHandler = new KotlinDefaultMethodHandler();
                 return pageTypeBuilder//
                     .method(isAbstract())//
-                    .intercept(InvocationHandlerAdapter.of(kotlinDefaultMethodHandler));
+                    .intercept(InvocationHandlerAdapter.of(kotlinDefaultMethodHandler, KOTLIN_DEFAULT_METHOD_HANDLER));
             }
             return pageTypeBuilder;
         } catch (ClassNotFoundException e) {
@@ -0,0 +1,83 @@
+package info.novatec.testit.webtester.internal.implementation.pages;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.implementation.pages.exceptions.PageCreationException;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * Creates instances of a generated {@link Page page} implementation class.
+ * <p>
+ * The implementation's constructor is resolved only once per class and bound to a {@link MethodHandle}. Creating
+ * instances does not involve any reflection after that.
+ *
+ * @since 2.7
+ */
+final class PageInstantiator {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Page.class, Browser.class);
+
+    private static final ClassValue<PageInstantiator> INSTANTIATORS = new ClassValue<PageInstantiator>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected PageInstantiator computeValue(Class<?> implType) {
+            return new PageInstantiator(( Class<? extends Page> ) implType);
+        }
+    };
+
+    private final Class<? extends Page> implType;
+    private final MethodHandle constructor;
+
+    private PageInstantiator(Class<? extends Page> implType) {
+        this.implType = implType;
+        this.constructor = resolveConstructor(implType);
+    }
+
+    private static MethodHandle resolveConstructor(Class<? extends Page> implType) {
+        try {
+            Constructor<? extends Page> constructor = implType.getConstructor(Browser.class);
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            throw new PageCreationException(implType, e);
+        }
+    }
+
+    /**
+     * Returns the (cached) {@link PageInstantiator} for the given implementation class.
+     *
+     * @param implType the implementation class
+     * @return the instantiator
+     * @throws PageCreationException in case the implementation class does not offer the needed constructor
+     * @since 2.7
+     */
+    static PageInstantiator of(Class<? extends Page> implType) {
+        return INSTANTIATORS.get(implType);
+    }
+
+    /**
+     * Creates a new instance of this instantiator's implementation class.
+     *
+     * @param browser the browser of the new page
+     * @return the new instance
+     * @throws PageCreationException in case the constructor threw a checked exception
+     * @since 2.7
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // invokeExact declares Throwable, unchecked ones are not wrapped
+    Page newInstance(Browser browser) {
+        try {
+            return ( Page ) constructor.invokeExact(browser);
+        } catch (Throwable e) {
+            throwIfUnchecked(e);
+            throw new PageCreationException(implType, e);
+        }
+    }
+
+}
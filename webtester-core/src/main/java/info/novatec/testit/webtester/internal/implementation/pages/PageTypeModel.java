@@ -0,0 +1,55 @@
+package info.novatec.testit.webtester.internal.implementation.pages;
+
+import info.novatec.testit.webtester.internal.postconstruct.PostConstructMethods;
+import info.novatec.testit.webtester.internal.postconstruct.PostConstructMustBeChecks;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * Immutable meta data of a {@link Page page} interface.
+ * <p>
+ * The model is computed once per interface and shared by all its instances. It contains the {@link PostConstructMethods
+ * post construct methods} and the {@link PostConstructMustBeChecks post construct must be checks} of the type.
+ *
+ * @since 2.7
+ */
+final class PageTypeModel {
+
+    private static final ClassValue<PageTypeModel> MODELS = new ClassValue<PageTypeModel>() {
+        @Override
+        protected PageTypeModel computeValue(Class<?> pageType) {
+            return new PageTypeModel(pageType);
+        }
+    };
+
+    private final PostConstructMethods postConstructMethods;
+    private final PostConstructMustBeChecks postConstructMustBeChecks;
+
+    private PageTypeModel(Class<?> pageType) {
+        this.postConstructMethods = PostConstructMethods.of(pageType);
+        this.postConstructMustBeChecks = PostConstructMustBeChecks.of(pageType);
+    }
+
+    /**
+     * Returns the (cached) model of the given page type.
+     *
+     * @param pageType the page type
+     * @return the model
+     * @since 2.7
+     */
+    static PageTypeModel of(Class<? extends Page> pageType) {
+        return MODELS.get(pageType);
+    }
+
+    /**
+     * Executes all post construct checks and methods on the given newly created page.
+     *
+     * @param page the page to process
+     * @since 2.7
+     */
+    void postConstruct(Page page) {
+        postConstructMustBeChecks.checkOn(page);
+        postConstructMethods.invokeOn(page);
+    }
+
+}
@@ -3,6 +3,7 @@ package info.novatec.testit.webtester.internal.mapping;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
@@ -21,12 +22,19 @@ import info.novatec.testit.webtester.pagefragments.mapping.validators.TagWithout
 
 /**
  * This is the default implementation of {@link MappingValidator}.
+ * <p>
+ * Validating a web element costs at least one command per {@link Validator} (e.g. reading its tag name). Instances are
+ * shared by all page fragments of a type, so they don't remember any web elements. Page fragments can skip
+ * validations of web elements they already validated and record them via {@link #recordSkippedValidation()}. The
+ * number of validations saved this way can be retrieved via {@link #getSavedValidations()}.
  *
  * @see MappingValidator
  * @since 2.0
  */
 public class DefaultMappingValidator implements MappingValidator {
 
+    private static final LongAdder SAVED_VALIDATIONS = new LongAdder();
+
     private final Class<? extends PageFragment> pageFragmentType;
     private final List<Validator> validators;
     private final List<String> validConstellationDescriptions;
@@ -88,6 +96,33 @@ public class DefaultMappingValidator implements MappingValidator {
 
     }
 
+    @Override
+    public boolean hasMappings() {
+        return !validators.isEmpty();
+    }
+
+    /**
+     * Returns the number of validations which were not executed because the caller
+     * {@link #recordSkippedValidation() skipped} them. Each saved validation saves at least one command sent to the
+     * browser.
+     *
+     * @return the number of saved validations
+     * @since 2.7
+     */
+    public static long getSavedValidations() {
+        return SAVED_VALIDATIONS.sum();
+    }
+
+    /**
+     * Records a validation which was skipped by the caller, e.g. because the page fragment already validated the same
+     * web element.
+     *
+     * @since 2.7
+     */
+    public static void recordSkippedValidation() {
+        SAVED_VALIDATIONS.increment();
+    }
+
     private String getInvalidityMessage(WebElement webElement) {
         return webElement + " is not a valid web element for class: " + pageFragmentType
             + "\n\tValid elements include: \n\t - " + StringUtils.join(validConstellationDescriptions, "\n\t - ");
@@ -36,4 +36,15 @@ public interface MappingValidator {
      */
     WebElement assertValidity(WebElement webElement) throws MappingException;
 
+    /**
+     * Returns whether or not this {@link MappingValidator} checks any {@link Mapping}. Validators without mappings
+     * accept every {@link WebElement web element}.
+     *
+     * @return true if web elements are checked against mappings, otherwise false
+     * @since 2.7
+     */
+    default boolean hasMappings() {
+        return true;
+    }
+
 }
@@ -0,0 +1,106 @@
+package info.novatec.testit.webtester.internal.postconstruct;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.annotation.PostConstruct;
+
+import info.novatec.testit.webtester.internal.exceptions.IllegalSignatureException;
+
+
+/**
+ * Immutable collection of all {@link PostConstruct @PostConstruct} methods of a page or page fragment type.
+ * <p>
+ * The methods are collected and their signatures validated when the instance is created. Invoking them afterwards does
+ * not involve any further lookups.
+ *
+ * @see PostConstructInvoker
+ * @since 2.7
+ */
+public final class PostConstructMethods {
+
+    private static final String ILLEGAL_SIGNATURE_MSG =
+        "invalid @PostConstruct method declarations (returns VOID and has no parameters): ";
+
+    private static final Predicate<Method> IS_POST_CONSTRUCT_METHOD =
+        method -> method.isAnnotationPresent(PostConstruct.class);
+    private static final Predicate<Method> RETURNS_VOID = method -> Void.TYPE.equals(method.getReturnType());
+    private static final Predicate<Method> HAS_NO_PARAMS = method -> method.getParameterCount() == 0;
+    private static final Predicate<Method> IS_VALID_METHOD = RETURNS_VOID.and(HAS_NO_PARAMS);
+
+    private final List<Method> methods;
+
+    private PostConstructMethods(List<Method> methods) {
+        this.methods = methods;
+    }
+
+    /**
+     * Collects the {@link PostConstruct @PostConstruct} methods of the given type.
+     * <p>
+     * <b>Note:</b> since pages and page fragments are proxies, the original interface needs to be provided!
+     *
+     * @param type the type to collect the methods of
+     * @return the collected methods
+     * @throws IllegalSignatureException in case one of the methods has an invalid signature
+     * @since 2.7
+     */
+    public static PostConstructMethods of(Class<?> type) {
+        List<Method> postConstructMethods = getPostConstructMethods(type);
+        assertThatAllMethodsHaveValidSignature(postConstructMethods);
+
+        Map<String, Method> singularMethods = new LinkedHashMap<>();
+        postConstructMethods.forEach(method -> singularMethods.put(method.getName(), method));
+
+        return new PostConstructMethods(Collections.unmodifiableList(new ArrayList<>(singularMethods.values())));
+    }
+
+    private static List<Method> getPostConstructMethods(Class<?> type) {
+        List<Method> postConstructMethods = new ArrayList<>();
+        Arrays.stream(type.getInterfaces())
+            .flatMap(aClass -> Arrays.stream(aClass.getDeclaredMethods()))
+            .filter(IS_POST_CONSTRUCT_METHOD)
+            .forEach(postConstructMethods::add);
+        Arrays.stream(type.getDeclaredMethods()).filter(IS_POST_CONSTRUCT_METHOD).forEach(postConstructMethods::add);
+        return postConstructMethods;
+    }
+
+    private static void assertThatAllMethodsHaveValidSignature(List<Method> postConstructMethods) {
+        List<Method> illegalMethods = new ArrayList<>();
+        postConstructMethods.forEach(method -> {
+            if (!IS_VALID_METHOD.test(method)) {
+                illegalMethods.add(method);
+            }
+        });
+        if (!illegalMethods.isEmpty()) {
+            throw new IllegalSignatureException(ILLEGAL_SIGNATURE_MSG + illegalMethods);
+        }
+    }
+
+    /**
+     * Invokes all methods on the given object.
+     *
+     * @param object the object to invoke the methods on
+     * @throws PostConstructInvocationException in case one of the methods could not be invoked
+     * @since 2.7
+     */
+    public void invokeOn(Object object) {
+        for (Method method : methods) {
+            invoke(method, object);
+        }
+    }
+
+    private static void invoke(Method method, Object object) {
+        try {
+            method.invoke(object);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new PostConstructInvocationException(e);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package info.novatec.testit.webtester.internal.postconstruct;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.internal.exceptions.IllegalSignatureException;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pagefragments.annotations.PostConstructMustBe;
+
+
+/**
+ * Immutable collection of all {@link PostConstructMustBe @PostConstructMustBe} checks of a page or page fragment type.
+ * <p>
+ * The methods are collected, their signatures validated and their {@link Condition conditions} instantiated when the
+ * instance is created. Checking them afterwards does not involve any further lookups.
+ *
+ * @see PostConstructMustBeChecker
+ * @since 2.7
+ */
+public final class PostConstructMustBeChecks {
+
+    private static final String ILLEGAL_SIGNATURE_MSG =
+        "invalid @PostConstructMustBe method declarations (must not have parameters): ";
+
+    private static final Predicate<Method> IS_IDENTIFICATION_METHOD =
+        method -> method.isAnnotationPresent(IdentifyUsing.class);
+    private static final Predicate<Method> IS_MUST_METHOD =
+        method -> method.isAnnotationPresent(PostConstructMustBe.class);
+    private static final Predicate<Method> IS_RELEVANT_METHOD = IS_IDENTIFICATION_METHOD.and(IS_MUST_METHOD);
+    private static final Predicate<Method> HAS_NO_PARAMS = method -> method.getParameterCount() == 0;
+    private static final Predicate<Method> IS_VALID_METHOD = HAS_NO_PARAMS;
+
+    private final List<Check> checks;
+
+    private PostConstructMustBeChecks(List<Check> checks) {
+        this.checks = checks;
+    }
+
+    /**
+     * Collects the {@link PostConstructMustBe @PostConstructMustBe} checks of the given type.
+     * <p>
+     * <b>Note:</b> since pages and page fragments are proxies, the original interface needs to be provided!
+     *
+     * @param type the type to collect the checks of
+     * @return the collected checks
+     * @throws IllegalSignatureException in case one of the methods has an invalid signature
+     * @throws PostConstructMustBeConditionException in case one of the conditions could not be instantiated
+     * @since 2.7
+     */
+    public static PostConstructMustBeChecks of(Class<?> type) {
+        List<Method> mustMethods = getMustMethods(type);
+        assertThatAllMethodsHaveValidSignature(mustMethods);
+
+        Map<String, Method> singularMethods = new LinkedHashMap<>();
+        mustMethods.forEach(method -> singularMethods.put(method.getName(), method));
+
+        List<Check> checks = new ArrayList<>();
+        singularMethods.values().forEach(method -> checks.add(new Check(method, createCondition(method))));
+        return new PostConstructMustBeChecks(Collections.unmodifiableList(checks));
+    }
+
+    private static List<Method> getMustMethods(Class<?> type) {
+        List<Method> mustMethods = new ArrayList<>();
+        Arrays.stream(type.getInterfaces())
+            .flatMap(aClass -> Arrays.stream(aClass.getDeclaredMethods()))
+            .filter(IS_RELEVANT_METHOD)
+            .forEach(mustMethods::add);
+        Arrays.stream(type.getDeclaredMethods()).filter(IS_RELEVANT_METHOD).forEach(mustMethods::add);
+        return mustMethods;
+    }
+
+    private static void assertThatAllMethodsHaveValidSignature(List<Method> mustMethods) {
+        List<Method> illegalMethods = new ArrayList<>();
+        mustMethods.forEach(method -> {
+            if (!IS_VALID_METHOD.test(method)) {
+                illegalMethods.add(method);
+            }
+        });
+        if (!illegalMethods.isEmpty()) {
+            throw new IllegalSignatureException(ILLEGAL_SIGNATURE_MSG + illegalMethods);
+        }
+    }
+
+    private static Condition createCondition(Method method) {
+        try {
+            return method.getAnnotation(PostConstructMustBe.class).value().newInstance();
+        } catch (IllegalAccessException | InstantiationException e) {
+            throw new PostConstructMustBeConditionException(e);
+        }
+    }
+
+    /**
+     * Executes all checks on the given object.
+     *
+     * @param object the object to check
+     * @throws PostConstructMustBeConditionException in case one of the conditions is not met
+     * @since 2.7
+     */
+    public void checkOn(Object object) {
+        for (Check check : checks) {
+            check.execute(object);
+        }
+    }
+
+    private static final class Check {
+
+        private final Method method;
+        private final Condition condition;
+
+        private Check(Method method, Condition condition) {
+            this.method = method;
+            this.condition = condition;
+        }
+
+        private void execute(Object object) {
+            try {
+                Object fragment = method.invoke(object);
+                if (!doInvoke(fragment, condition)) {
+                    throw new PostConstructMustBeConditionException(
+                        "condition not met for method (" + method + "): " + condition);
+                }
+            } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
+                throw new PostConstructMustBeConditionException(e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static boolean doInvoke(Object fragment, Condition condition) {
+            try {
+                return condition.test(fragment);
+            } catch (ClassCastException e) {
+                throw new PostConstructMustBeConditionException(
+                    "Condition '" + name(condition) + "' can't handle type '" + name(fragment) + "'!");
+            }
+        }
+
+        private static String name(Object object) {
+            return object.getClass().getSimpleName();
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.FindsByCssSelector;
+import org.openqa.selenium.internal.FindsByLinkText;
+import org.openqa.selenium.internal.FindsByXPath;
+import org.w3c.dom.Node;
+
+
+/**
+ * Base class for all contexts the elements of a {@link SnapshotDocument} can be searched in. All {@link By}
+ * strategies are resolved by evaluating XPath expressions against the snapshot's DOM.
+ * {@link By#cssSelector(String) CSS selectors} are translated using the {@link CssSelectorTranslator}.
+ *
+ * @since 2.7
+ */
+abstract class AbstractSnapshotSearchContext
+    implements SearchContext, FindsByXPath, FindsByCssSelector, FindsByLinkText {
+
+    protected final SnapshotDocument snapshot;
+
+    AbstractSnapshotSearchContext(SnapshotDocument snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns the DOM node relative XPath expressions are evaluated against.
+     *
+     * @return the context node
+     */
+    abstract Node contextNode();
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return by.findElements(this);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return by.findElement(this);
+    }
+
+    @Override
+    public List<WebElement> findElementsByXPath(String using) {
+        return snapshot.evaluate(using, contextNode())
+            .stream()
+            .map(element -> new SnapshotWebElement(snapshot, element))
+            .collect(toList());
+    }
+
+    @Override
+    public WebElement findElementByXPath(String using) {
+        return first(findElementsByXPath(using), "xpath", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByCssSelector(String using) {
+        return findElementsByXPath(CssSelectorTranslator.toXPath(using));
+    }
+
+    @Override
+    public WebElement findElementByCssSelector(String using) {
+        return first(findElementsByCssSelector(using), "css selector", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByLinkText(String using) {
+        return findLinks(text -> text.equals(using.trim()));
+    }
+
+    @Override
+    public WebElement findElementByLinkText(String using) {
+        return first(findElementsByLinkText(using), "link text", using);
+    }
+
+    @Override
+    public List<WebElement> findElementsByPartialLinkText(String using) {
+        return findLinks(text -> text.contains(using));
+    }
+
+    @Override
+    public WebElement findElementByPartialLinkText(String using) {
+        return first(findElementsByPartialLinkText(using), "partial link text", using);
+    }
+
+    private List<WebElement> findLinks(Predicate<String> textPredicate) {
+        return findElementsByXPath(".//a[@href]").stream()
+            .filter(link -> textPredicate.test(link.getText()))
+            .collect(toList());
+    }
+
+    private static WebElement first(List<WebElement> elements, String strategy, String using) {
+        if (elements.isEmpty()) {
+            String message = "Cannot locate an element in DOM snapshot using " + strategy + "=" + using;
+            throw new NoSuchElementException(message);
+        }
+        return elements.get(0);
+    }
+
+}
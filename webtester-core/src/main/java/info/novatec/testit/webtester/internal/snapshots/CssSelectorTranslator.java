@@ -0,0 +1,320 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.openqa.selenium.InvalidSelectorException;
+
+
+/**
+ * Translates CSS selectors into equivalent XPath expressions relative to a context node.
+ * <p>
+ * DOM snapshots are evaluated using the JDK's XPath implementation. In order to also support
+ * {@link org.openqa.selenium.By#cssSelector(String) CSS selectors}, the following subset of CSS is translated:
+ * <ul>
+ * <li>type (<code>div</code>) and universal (<code>*</code>) selectors</li>
+ * <li>ID (<code>#id</code>) and class (<code>.class</code>) selectors</li>
+ * <li>attribute selectors with the operators <code>=</code>, <code>~=</code>, <code>|=</code>, <code>^=</code>,
+ * <code>$=</code> and <code>*=</code></li>
+ * <li>the pseudo classes <code>:first-child</code>, <code>:last-child</code>, <code>:only-child</code>,
+ * <code>:nth-child(n)</code>, <code>:empty</code>, <code>:checked</code>, <code>:disabled</code>,
+ * <code>:enabled</code> and <code>:not(...)</code></li>
+ * <li>descendant, child (<code>&gt;</code>), adjacent sibling (<code>+</code>) and general sibling
+ * (<code>~</code>) combinators as well as selector lists (<code>,</code>)</li>
+ * </ul>
+ * All other selectors are rejected with an {@link InvalidSelectorException}. As with
+ * {@link org.openqa.selenium.By#xpath(String) relative XPaths}, all parts of a selector have to match within the
+ * context node.
+ *
+ * @since 2.7
+ */
+public final class CssSelectorTranslator {
+
+    private final String selector;
+    private int position;
+
+    private CssSelectorTranslator(String selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Translates the given CSS selector into an XPath expression relative to the context node.
+     *
+     * @param selector the CSS selector to translate
+     * @return the XPath expression
+     * @throws InvalidSelectorException in case the selector is invalid or not supported
+     * @since 2.7
+     */
+    public static String toXPath(String selector) {
+        return new CssSelectorTranslator(selector).translateSelectorList();
+    }
+
+    private String translateSelectorList() {
+        List<String> paths = new ArrayList<>();
+        do {
+            paths.add(translateSelector());
+        } while (consume(','));
+        if (position < selector.length()) {
+            throw invalid();
+        }
+        return String.join(" | ", paths);
+    }
+
+    private String translateSelector() {
+        skipWhitespace();
+        StringBuilder xpath = new StringBuilder();
+        String combinator = ".//";
+        String axis = "";
+        while (combinator != null) {
+            xpath.append(combinator).append(translateCompound(axis));
+            boolean whitespace = skipWhitespace();
+            axis = "";
+            if (consume('>')) {
+                combinator = "/";
+            } else if (consume('+')) {
+                combinator = "/following-sibling::*[1]";
+                axis = "self::";
+            } else if (consume('~')) {
+                combinator = "/following-sibling::";
+            } else if (whitespace && position < selector.length() && peek() != ',') {
+                combinator = "//";
+            } else {
+                combinator = null;
+            }
+        }
+        return xpath.toString();
+    }
+
+    /**
+     * Translates a compound selector into a node test with predicates. In case an axis is given, the node test is
+     * moved into a predicate using that axis.
+     */
+    private String translateCompound(String axis) {
+        skipWhitespace();
+        String tag = "*";
+        boolean typed = consume('*');
+        if (!typed && isIdentifierStart()) {
+            tag = readIdentifier().toLowerCase(Locale.ROOT);
+            typed = true;
+        }
+        StringBuilder predicates = new StringBuilder();
+        while (position < selector.length()) {
+            if (consume('#')) {
+                predicates.append("[@id=").append(literal(readIdentifier())).append(']');
+            } else if (consume('.')) {
+                predicates.append(containsWord("class", readIdentifier()));
+            } else if (consume('[')) {
+                predicates.append(translateAttribute());
+            } else if (consume(':')) {
+                predicates.append(translatePseudoClass());
+            } else {
+                break;
+            }
+        }
+        if (!typed && predicates.length() == 0) {
+            throw invalid();
+        }
+        if (axis.isEmpty()) {
+            return tag + predicates;
+        }
+        return "*".equals(tag) ? predicates.toString() : "[" + axis + tag + "]" + predicates;
+    }
+
+    private String translateAttribute() {
+        skipWhitespace();
+        String name = readIdentifier().toLowerCase(Locale.ROOT);
+        skipWhitespace();
+        if (consume(']')) {
+            return "[@" + name + "]";
+        }
+        String operator = readOperator();
+        skipWhitespace();
+        String value = peek() == '"' || peek() == '\'' ? readString() : readIdentifier();
+        skipWhitespace();
+        expect(']');
+        String attribute = "@" + name;
+        String literal = literal(value);
+        switch (operator) {
+            case "=":
+                return "[" + attribute + "=" + literal + "]";
+            case "~=":
+                return containsWord(name, value);
+            case "|=":
+                return "[" + attribute + "=" + literal + " or starts-with(" + attribute + ", " + literal(value + "-")
+                    + ")]";
+            case "^=":
+                return "[starts-with(" + attribute + ", " + literal + ")]";
+            case "$=":
+                return "[substring(" + attribute + ", string-length(" + attribute + ") - " + value.length()
+                    + " + 1)=" + literal + "]";
+            default:
+                return "[contains(" + attribute + ", " + literal + ")]";
+        }
+    }
+
+    private String readOperator() {
+        for (String operator : new String[] { "~=", "|=", "^=", "$=", "*=", "=" }) {
+            if (selector.startsWith(operator, position)) {
+                position += operator.length();
+                return operator;
+            }
+        }
+        throw invalid();
+    }
+
+    private String translatePseudoClass() {
+        String name = readIdentifier().toLowerCase(Locale.ROOT);
+        switch (name) {
+            case "first-child":
+                return "[not(preceding-sibling::*)]";
+            case "last-child":
+                return "[not(following-sibling::*)]";
+            case "only-child":
+                return "[not(preceding-sibling::*) and not(following-sibling::*)]";
+            case "empty":
+                return "[not(node())]";
+            case "checked":
+                return "[@checked or @selected]";
+            case "disabled":
+                return "[@disabled]";
+            case "enabled":
+                return "[not(@disabled)]";
+            case "nth-child":
+                return "[count(preceding-sibling::*)=" + (readIndexArgument() - 1) + "]";
+            case "not":
+                return translateNegation();
+            default:
+                throw invalid();
+        }
+    }
+
+    private int readIndexArgument() {
+        expect('(');
+        skipWhitespace();
+        int start = position;
+        while (position < selector.length() && Character.isDigit(peek())) {
+            position++;
+        }
+        if (start == position) {
+            throw invalid();
+        }
+        int index = Integer.parseInt(selector.substring(start, position));
+        skipWhitespace();
+        expect(')');
+        return index;
+    }
+
+    private String translateNegation() {
+        expect('(');
+        String compound = translateCompound("self::");
+        skipWhitespace();
+        expect(')');
+        return "[not(self::*" + compound + ")]";
+    }
+
+    private static String containsWord(String attribute, String word) {
+        return "[contains(concat(' ', normalize-space(@" + attribute + "), ' '), " + literal(" " + word + " ") + ")]";
+    }
+
+    /**
+     * Creates an XPath string literal for the given value. XPath 1.0 does not support escaping, which is why values
+     * containing both kinds of quotes are concatenated.
+     */
+    static String literal(String value) {
+        if (value.indexOf('\'') < 0) {
+            return "'" + value + "'";
+        }
+        if (value.indexOf('"') < 0) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+
+    private String readString() {
+        char quote = selector.charAt(position++);
+        StringBuilder value = new StringBuilder();
+        while (position < selector.length() && peek() != quote) {
+            value.append(readCharacter());
+        }
+        expect(quote);
+        return value.toString();
+    }
+
+    private String readIdentifier() {
+        if (!isIdentifierStart()) {
+            throw invalid();
+        }
+        StringBuilder identifier = new StringBuilder();
+        while (position < selector.length() && isIdentifierPart(peek())) {
+            identifier.append(readCharacter());
+        }
+        return identifier.toString();
+    }
+
+    private String readCharacter() {
+        char current = selector.charAt(position++);
+        if (current != '\\' || position >= selector.length()) {
+            return String.valueOf(current);
+        }
+        int start = position;
+        while (position < selector.length() && position - start < 6 && Character.digit(peek(), 16) >= 0) {
+            position++;
+        }
+        if (start == position) {
+            return String.valueOf(selector.charAt(position++));
+        }
+        int codePoint = Integer.parseInt(selector.substring(start, position), 16);
+        if (position < selector.length() && peek() == ' ') {
+            position++;
+        }
+        return new String(Character.toChars(codePoint));
+    }
+
+    private boolean isIdentifierStart() {
+        if (position >= selector.length()) {
+            return false;
+        }
+        char current = peek();
+        boolean hyphen = current == '-' && position + 1 < selector.length()
+            && !Character.isDigit(selector.charAt(position + 1));
+        return Character.isLetter(current) || current == '_' || current == '\\' || current > 127 || hyphen;
+    }
+
+    private static boolean isIdentifierPart(char character) {
+        return Character.isLetterOrDigit(character) || character == '-' || character == '_' || character == '\\'
+            || character > 127;
+    }
+
+    private boolean skipWhitespace() {
+        int start = position;
+        while (position < selector.length() && Character.isWhitespace(peek())) {
+            position++;
+        }
+        return position > start;
+    }
+
+    private boolean consume(char expected) {
+        if (position < selector.length() && peek() == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!consume(expected)) {
+            throw invalid();
+        }
+    }
+
+    private char peek() {
+        return position < selector.length() ? selector.charAt(position) : '\0';
+    }
+
+    private InvalidSelectorException invalid() {
+        return new InvalidSelectorException(
+            "unsupported CSS selector for DOM snapshot: '" + selector + "' (at position " + position + ")");
+    }
+
+}
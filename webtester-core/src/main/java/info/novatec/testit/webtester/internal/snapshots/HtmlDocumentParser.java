@@ -0,0 +1,370 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+
+/**
+ * Lenient parser creating a read-only {@link Document DOM} from HTML source code as it is returned by a browser.
+ * <p>
+ * Browsers serialize their current DOM into well structured markup. This parser therefore does not implement the full
+ * HTML parsing algorithm, but only what is needed to handle serialized documents: void elements, raw text elements
+ * (e.g. <code>script</code>), comments, character references and the most common implicitly closed elements (e.g.
+ * <code>li</code> or <code>option</code>). End tags without a matching open element are ignored. Tag and attribute
+ * names are lower-cased. Attributes whose names are not valid XML names (e.g. <code>@click</code>) are skipped.
+ * <p>
+ * The parsed document always has an <code>html</code> root element.
+ *
+ * @since 2.7
+ */
+public final class HtmlDocumentParser {
+
+    private static final Set<String> VOID_ELEMENTS = setOf("area", "base", "br", "col", "embed", "hr", "img", "input",
+        "keygen", "link", "meta", "param", "source", "track", "wbr");
+    private static final Set<String> RAW_TEXT_ELEMENTS = setOf("script", "style", "textarea", "title", "xmp");
+    private static final Set<String> IMPLICITLY_CLOSED_ELEMENTS = setOf("li", "option", "p", "tr", "dt", "dd");
+    private static final Set<String> TABLE_CELLS = setOf("td", "th");
+    private static final Set<String> DEFINITIONS = setOf("dt", "dd");
+    private static final Map<String, String> NAMED_REFERENCES = new HashMap<>();
+
+    static {
+        NAMED_REFERENCES.put("amp", "&");
+        NAMED_REFERENCES.put("lt", "<");
+        NAMED_REFERENCES.put("gt", ">");
+        NAMED_REFERENCES.put("quot", "\"");
+        NAMED_REFERENCES.put("apos", "'");
+        NAMED_REFERENCES.put("nbsp", "\u00A0");
+        NAMED_REFERENCES.put("shy", "\u00AD");
+        NAMED_REFERENCES.put("copy", "\u00A9");
+        NAMED_REFERENCES.put("reg", "\u00AE");
+        NAMED_REFERENCES.put("euro", "\u20AC");
+        NAMED_REFERENCES.put("ndash", "\u2013");
+        NAMED_REFERENCES.put("mdash", "\u2014");
+        NAMED_REFERENCES.put("hellip", "\u2026");
+    }
+
+    private final String source;
+    private final Document document;
+    private final Deque<Element> openElements = new ArrayDeque<>();
+    private int position;
+
+    private HtmlDocumentParser(String source) {
+        this.source = source;
+        this.document = newDocument();
+        Element root = document.createElement("html");
+        document.appendChild(root);
+        openElements.push(root);
+    }
+
+    /**
+     * Parses the given HTML source code into a new {@link Document}.
+     *
+     * @param source the HTML source code to parse
+     * @return the parsed document
+     * @since 2.7
+     */
+    public static Document parse(String source) {
+        HtmlDocumentParser parser = new HtmlDocumentParser(source);
+        parser.parse();
+        return parser.document;
+    }
+
+    private void parse() {
+        while (position < source.length()) {
+            if (source.startsWith("<!--", position)) {
+                skipPast("-->", position + 4);
+            } else if (source.startsWith("<!", position) || source.startsWith("<?", position)) {
+                skipPast(">", position + 2);
+            } else if (source.startsWith("</", position) && isLetterAt(position + 2)) {
+                parseEndTag();
+            } else if (source.charAt(position) == '<' && isLetterAt(position + 1)) {
+                parseStartTag();
+            } else {
+                parseText();
+            }
+        }
+    }
+
+    private void parseText() {
+        int end = source.indexOf('<', position + 1);
+        end = end < 0 ? source.length() : end;
+        appendText(source.substring(position, end));
+        position = end;
+    }
+
+    private void parseEndTag() {
+        position += 2;
+        String name = readName();
+        skipPast(">", position);
+        if (openElements.stream().anyMatch(element -> element.getTagName().equals(name))) {
+            // closes all elements which were implicitly closed by this end tag
+            boolean closed = false;
+            while (!closed && openElements.size() > 1) {
+                closed = openElements.pop().getTagName().equals(name);
+            }
+        }
+    }
+
+    private void parseStartTag() {
+        position++;
+        String name = readName();
+        Element element = createElement(name);
+        boolean selfClosing = parseAttributes(element);
+        if (element != null && "html".equals(name)) {
+            copyAttributes(element, document.getDocumentElement());
+        } else if (element != null) {
+            openElement(name, element, selfClosing);
+        }
+    }
+
+    private void openElement(String name, Element element, boolean selfClosing) {
+        closeImplicitlyClosedElements(name);
+        openElements.peek().appendChild(element);
+        if (RAW_TEXT_ELEMENTS.contains(name) && !selfClosing) {
+            parseRawText(element);
+        } else if (!selfClosing && !VOID_ELEMENTS.contains(name)) {
+            openElements.push(element);
+        }
+    }
+
+    private boolean parseAttributes(Element element) {
+        while (position < source.length()) {
+            skipWhitespace();
+            if (position >= source.length()) {
+                return false;
+            }
+            char current = source.charAt(position);
+            if (current == '>') {
+                position++;
+                return false;
+            }
+            if (source.startsWith("/>", position)) {
+                position += 2;
+                return true;
+            }
+            if (current == '/') {
+                position++;
+                continue;
+            }
+            String name = readAttributeName();
+            skipWhitespace();
+            String value = "";
+            if (position < source.length() && source.charAt(position) == '=') {
+                position++;
+                skipWhitespace();
+                value = decode(readAttributeValue());
+            }
+            setAttribute(element, name, value);
+        }
+        return false;
+    }
+
+    private void parseRawText(Element element) {
+        String endTag = "</" + element.getTagName();
+        int end = indexOfIgnoreCase(endTag, position);
+        String text = source.substring(position, end);
+        boolean escapable = "textarea".equals(element.getTagName()) || "title".equals(element.getTagName());
+        if (!text.isEmpty()) {
+            element.appendChild(document.createTextNode(escapable ? decode(text) : text));
+        }
+        position = end;
+        if (end < source.length()) {
+            skipPast(">", end);
+        }
+    }
+
+    private void closeImplicitlyClosedElements(String name) {
+        if ("tr".equals(name) && TABLE_CELLS.contains(currentTagName())) {
+            closeCurrentElement();
+        }
+        if (closesImplicitly(name, currentTagName())) {
+            closeCurrentElement();
+        }
+    }
+
+    private static boolean closesImplicitly(String name, String current) {
+        return (IMPLICITLY_CLOSED_ELEMENTS.contains(name) && name.equals(current))
+            || (TABLE_CELLS.contains(name) && TABLE_CELLS.contains(current))
+            || (DEFINITIONS.contains(name) && DEFINITIONS.contains(current));
+    }
+
+    private String currentTagName() {
+        return openElements.peek().getTagName();
+    }
+
+    private void closeCurrentElement() {
+        if (openElements.size() > 1) {
+            openElements.pop();
+        }
+    }
+
+    private void appendText(String text) {
+        String decoded = decode(text);
+        Node parent = openElements.peek();
+        Node last = parent.getLastChild();
+        if (last != null && last.getNodeType() == Node.TEXT_NODE) {
+            last.setNodeValue(last.getNodeValue() + decoded);
+        } else {
+            parent.appendChild(document.createTextNode(decoded));
+        }
+    }
+
+    private Element createElement(String name) {
+        try {
+            return document.createElement(name);
+        } catch (DOMException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("PMD.EmptyCatchBlock") // attributes which can not be represented are skipped on purpose
+    private static void setAttribute(Element element, String name, String value) {
+        if (element == null || name.isEmpty() || element.hasAttribute(name)) {
+            return;
+        }
+        try {
+            element.setAttribute(name, value);
+        } catch (DOMException e) {
+            // names like '@click' or '[value]' can not be represented in an XML DOM
+        }
+    }
+
+    private static void copyAttributes(Element from, Element to) {
+        for (int i = 0; i < from.getAttributes().getLength(); i++) {
+            Node attribute = from.getAttributes().item(i);
+            setAttribute(to, attribute.getNodeName(), attribute.getNodeValue());
+        }
+    }
+
+    private String readName() {
+        int start = position;
+        while (position < source.length() && !isNameEnd(source.charAt(position))) {
+            position++;
+        }
+        return source.substring(start, position).toLowerCase(Locale.ROOT);
+    }
+
+    private String readAttributeName() {
+        int start = position;
+        while (position < source.length() && !isNameEnd(source.charAt(position)) && source.charAt(position) != '=') {
+            position++;
+        }
+        if (start == position) {
+            position++;
+        }
+        return source.substring(start, position).toLowerCase(Locale.ROOT);
+    }
+
+    private String readAttributeValue() {
+        if (position >= source.length()) {
+            return "";
+        }
+        char quote = source.charAt(position);
+        if (quote == '"' || quote == '\'') {
+            int end = source.indexOf(quote, position + 1);
+            end = end < 0 ? source.length() : end;
+            String value = source.substring(position + 1, end);
+            position = Math.min(end + 1, source.length());
+            return value;
+        }
+        int start = position;
+        while (position < source.length() && !Character.isWhitespace(source.charAt(position))
+            && source.charAt(position) != '>') {
+            position++;
+        }
+        return source.substring(start, position);
+    }
+
+    private int indexOfIgnoreCase(String value, int from) {
+        for (int index = from; index <= source.length() - value.length(); index++) {
+            if (source.regionMatches(true, index, value, 0, value.length())) {
+                return index;
+            }
+        }
+        return source.length();
+    }
+
+    private void skipWhitespace() {
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void skipPast(String delimiter, int from) {
+        int end = source.indexOf(delimiter, from);
+        position = end < 0 ? source.length() : end + delimiter.length();
+    }
+
+    private boolean isLetterAt(int index) {
+        return index < source.length() && Character.isLetter(source.charAt(index));
+    }
+
+    private static boolean isNameEnd(char character) {
+        return Character.isWhitespace(character) || character == '>' || character == '/';
+    }
+
+    static String decode(String text) {
+        int ampersand = text.indexOf('&');
+        if (ampersand < 0) {
+            return text;
+        }
+        StringBuilder decoded = new StringBuilder(text.length());
+        int index = 0;
+        while (ampersand >= 0) {
+            int semicolon = text.indexOf(';', ampersand);
+            String replacement = semicolon < 0 ? null : decodeReference(text.substring(ampersand + 1, semicolon));
+            decoded.append(text, index, ampersand);
+            if (replacement == null) {
+                decoded.append('&');
+                index = ampersand + 1;
+            } else {
+                decoded.append(replacement);
+                index = semicolon + 1;
+            }
+            ampersand = text.indexOf('&', index);
+        }
+        return decoded.append(text, index, text.length()).toString();
+    }
+
+    private static String decodeReference(String reference) {
+        if (!reference.isEmpty() && reference.charAt(0) == '#') {
+            try {
+                boolean hex = reference.startsWith("#x") || reference.startsWith("#X");
+                int codePoint = hex
+                    ? Integer.parseInt(reference.substring(2), 16)
+                    : Integer.parseInt(reference.substring(1));
+                return new String(Character.toChars(codePoint));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return NAMED_REFERENCES.get(reference);
+    }
+
+    private static Document newDocument() {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("could not create DOM document", e);
+        }
+    }
+
+    private static Set<String> setOf(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+}
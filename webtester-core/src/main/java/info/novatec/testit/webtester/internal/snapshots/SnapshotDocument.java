@@ -0,0 +1,154 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.openqa.selenium.InvalidSelectorException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import lombok.Getter;
+
+
+/**
+ * Parsed, read-only DOM of a page at a certain point in time.
+ * <p>
+ * In case the source was serialized by the browser itself (see <code>isRendered()</code>), elements which were not
+ * rendered visibly are marked with the {@link #INVISIBLE_MARKER} attribute. Otherwise visibility has to be derived
+ * from the markup alone.
+ * <p>
+ * Once a snapshot is {@link #release() released}, its DOM is dropped and all further access fails with an
+ * {@link IllegalStateException}.
+ *
+ * @since 2.7
+ */
+public final class SnapshotDocument {
+
+    /** Attribute marking elements which were not rendered visibly when the snapshot was taken. */
+    public static final String INVISIBLE_MARKER = "data-webtester-invisible";
+
+    @Getter
+    private final String url;
+    @Getter
+    private final String source;
+    @Getter
+    private final boolean rendered;
+
+    private final XPath xPath = XPathFactory.newInstance().newXPath();
+    private final Map<String, XPathExpression> expressions = new HashMap<>();
+    private volatile Document document;
+
+    /**
+     * Creates a new {@link SnapshotDocument} by parsing the given HTML source code.
+     *
+     * @param source the HTML source code of the page
+     * @param url the URL of the page
+     * @param rendered whether or not invisible elements are marked with the {@link #INVISIBLE_MARKER}
+     * @since 2.7
+     */
+    public SnapshotDocument(String source, String url, boolean rendered) {
+        this.url = url;
+        this.source = source;
+        this.rendered = rendered;
+        this.document = HtmlDocumentParser.parse(source);
+    }
+
+    /**
+     * Returns the parsed DOM of this snapshot.
+     *
+     * @return the document
+     * @throws IllegalStateException in case the snapshot was already released
+     * @since 2.7
+     */
+    public Document document() {
+        Document current = document;
+        if (current == null) {
+            throw new IllegalStateException("DOM snapshot of '" + url + "' was already released");
+        }
+        return current;
+    }
+
+    /**
+     * Returns the title of the page as defined by its <code>title</code> element.
+     *
+     * @return the title, empty if there is none
+     * @since 2.7
+     */
+    public String getTitle() {
+        NodeList titles = document().getElementsByTagName("title");
+        if (titles.getLength() == 0) {
+            return "";
+        }
+        return titles.item(0).getTextContent().replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Evaluates the given XPath expression with the given node as its context and returns all matching elements in
+     * document order. Compiled expressions are cached for the lifetime of the snapshot.
+     *
+     * @param expression the XPath expression
+     * @param context the context node
+     * @return the matching elements
+     * @throws InvalidSelectorException in case the expression is invalid or does not select elements
+     * @throws IllegalStateException in case the snapshot was already released
+     * @since 2.7
+     */
+    public synchronized List<Element> evaluate(String expression, Node context) {
+        document();
+        NodeList nodes;
+        try {
+            nodes = ( NodeList ) compile(expression).evaluate(context, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            throw new InvalidSelectorException("invalid XPath for DOM snapshot: '" + expression + "'", e);
+        }
+        List<Element> elements = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node.getNodeType() != Node.ELEMENT_NODE) {
+                throw new InvalidSelectorException("XPath '" + expression + "' selects nodes other than elements");
+            }
+            elements.add(( Element ) node);
+        }
+        return elements;
+    }
+
+    private XPathExpression compile(String expression) throws XPathExpressionException {
+        XPathExpression compiled = expressions.get(expression);
+        if (compiled == null) {
+            compiled = xPath.compile(expression);
+            expressions.put(expression, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Releases this snapshot's DOM. Releasing an already released snapshot has no effect.
+     *
+     * @since 2.7
+     */
+    public synchronized void release() {
+        document = null;
+        expressions.clear();
+    }
+
+    /**
+     * Returns whether or not this snapshot was released.
+     *
+     * @return true if released, otherwise false
+     * @since 2.7
+     */
+    public boolean isReleased() {
+        return document == null;
+    }
+
+}
@@ -0,0 +1,100 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.openqa.selenium.WebDriver;
+import org.w3c.dom.Node;
+
+
+/**
+ * Read-only {@link WebDriver} serving a {@link SnapshotDocument} instead of a live browser.
+ * <p>
+ * Elements are searched within the snapshot's DOM (see {@link SnapshotWebElement}). The current URL, title and page
+ * source are those of the page at the time the snapshot was taken. Quitting or closing the driver releases the
+ * snapshot. Navigation, window switching and browser options are not supported and throw an
+ * {@link UnsupportedOperationException}.
+ *
+ * @since 2.7
+ */
+public final class SnapshotWebDriver extends AbstractSnapshotSearchContext implements WebDriver {
+
+    private static final String WINDOW_HANDLE = "dom-snapshot";
+
+    /**
+     * Creates a new {@link SnapshotWebDriver} for the given snapshot.
+     *
+     * @param snapshot the snapshot to serve
+     * @since 2.7
+     */
+    public SnapshotWebDriver(SnapshotDocument snapshot) {
+        super(snapshot);
+    }
+
+    @Override
+    Node contextNode() {
+        return snapshot.document();
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return snapshot.getUrl();
+    }
+
+    @Override
+    public String getTitle() {
+        return snapshot.getTitle();
+    }
+
+    @Override
+    public String getPageSource() {
+        return snapshot.getSource();
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton(WINDOW_HANDLE);
+    }
+
+    @Override
+    public void close() {
+        snapshot.release();
+    }
+
+    @Override
+    public void quit() {
+        snapshot.release();
+    }
+
+    /* unsupported operations */
+
+    @Override
+    public void get(String url) {
+        throw readOnly("get");
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw readOnly("switchTo");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw readOnly("navigate");
+    }
+
+    @Override
+    public Options manage() {
+        throw readOnly("manage");
+    }
+
+    private static UnsupportedOperationException readOnly(String operation) {
+        return new UnsupportedOperationException("operation '" + operation + "' is not supported by DOM snapshots");
+    }
+
+}
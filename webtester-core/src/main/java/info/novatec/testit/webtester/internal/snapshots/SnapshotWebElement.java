@@ -0,0 +1,361 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import static info.novatec.testit.webtester.internal.snapshots.SnapshotDocument.INVISIBLE_MARKER;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+
+/**
+ * Read-only {@link WebElement} backed by an element of a {@link SnapshotDocument}.
+ * <p>
+ * All reading methods are answered from the snapshot's DOM without communicating with the browser:
+ * <ul>
+ * <li>attributes are read from the markup, boolean attributes (e.g. <code>disabled</code>) are returned as
+ * <code>"true"</code> or <code>null</code></li>
+ * <li>the visible text is the element's text content without invisible descendants, with whitespace collapsed and
+ * block elements on separate lines</li>
+ * <li>CSS values are only available if they are declared in the element's <code>style</code> attribute</li>
+ * <li>if the snapshot was rendered (see {@link SnapshotDocument}), an element is displayed unless the browser
+ * marked it as invisible; otherwise it is displayed unless it or one of its ancestors is a non-rendered element (e.g.
+ * <code>head</code>), has the <code>hidden</code> attribute or an inline <code>display: none</code> or
+ * <code>visibility: hidden</code> style</li>
+ * </ul>
+ * Interactions, geometry and screenshots are not supported and throw an {@link UnsupportedOperationException}.
+ * Accessing an element of a released snapshot throws an {@link IllegalStateException}.
+ *
+ * @since 2.7
+ */
+public final class SnapshotWebElement extends AbstractSnapshotSearchContext implements WebElement {
+
+    private static final String INPUT = "input";
+    private static final String OPTION = "option";
+
+    private static final Set<String> BOOLEAN_ATTRIBUTES = setOf("async", "autofocus", "autoplay", "checked",
+        "compact", "complete", "controls", "declare", "default", "defaultchecked", "defaultselected", "defer",
+        "disabled", "draggable", "ended", "formnovalidate", "hidden", "indeterminate", "iscontenteditable", "ismap",
+        "itemscope", "loop", "multiple", "muted", "nohref", "noresize", "noshade", "novalidate", "nowrap", "open",
+        "paused", "pubdate", "readonly", "required", "reversed", "scoped", "seamless", "seeking", "selected",
+        "spellcheck", "truespeed", "willvalidate");
+    private static final Set<String> URL_ATTRIBUTES = setOf("href", "src");
+    private static final Set<String> NON_RENDERED_ELEMENTS = setOf("head", "script", "style", "template", "noscript",
+        "title", "meta", "link", "base");
+    private static final Set<String> BLOCK_ELEMENTS = setOf("address", "article", "aside", "blockquote", "body",
+        "caption", "center", "dd", "details", "dialog", "dir", "div", "dl", "dt", "fieldset", "figcaption", "figure",
+        "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hr", "legend", "li", "main", "menu", "nav",
+        "ol", "option", "p", "pre", "section", "summary", "table", "tbody", "tfoot", "thead", "tr", "ul");
+    private static final Set<String> FORM_CONTROLS = setOf("button", "input", "optgroup", "option", "select",
+        "textarea", "fieldset");
+
+    private final Element element;
+
+    /**
+     * Creates a new {@link SnapshotWebElement} for the given element of the given snapshot.
+     *
+     * @param snapshot the snapshot the element belongs to
+     * @param element the DOM element
+     * @since 2.7
+     */
+    public SnapshotWebElement(SnapshotDocument snapshot, Element element) {
+        super(snapshot);
+        this.element = element;
+    }
+
+    @Override
+    Node contextNode() {
+        return checkedElement();
+    }
+
+    private Element checkedElement() {
+        snapshot.document();
+        return element;
+    }
+
+    @Override
+    public String getTagName() {
+        return checkedElement().getTagName();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        Element current = checkedElement();
+        String attribute = name.toLowerCase(Locale.ROOT);
+        if (BOOLEAN_ATTRIBUTES.contains(attribute)) {
+            return current.hasAttribute(attribute) ? "true" : null;
+        }
+        switch (attribute) {
+            case "class":
+            case "classname":
+                return attributeOrNull(current, "class");
+            case "value":
+                return getValue(current);
+            case "type":
+                if (INPUT.equals(current.getTagName()) && !current.hasAttribute(attribute)) {
+                    return "text";
+                }
+                return attributeOrNull(current, attribute);
+            case "index":
+                if (OPTION.equals(current.getTagName())) {
+                    return String.valueOf(getOptionIndex(current));
+                }
+                return attributeOrNull(current, attribute);
+            case "textcontent":
+                return current.getTextContent();
+            case "innertext":
+                return getText();
+            default:
+                if (URL_ATTRIBUTES.contains(attribute) && current.hasAttribute(attribute)) {
+                    return resolve(current.getAttribute(attribute));
+                }
+                return INVISIBLE_MARKER.equals(attribute) ? null : attributeOrNull(current, attribute);
+        }
+    }
+
+    private String getValue(Element current) {
+        String tagName = current.getTagName();
+        if ("textarea".equals(tagName)) {
+            return current.getTextContent();
+        }
+        if (current.hasAttribute("value")) {
+            return current.getAttribute("value");
+        }
+        if (OPTION.equals(tagName)) {
+            return normalize(current.getTextContent());
+        }
+        if (INPUT.equals(tagName)) {
+            String type = current.getAttribute("type").toLowerCase(Locale.ROOT);
+            return "checkbox".equals(type) || "radio".equals(type) ? "on" : "";
+        }
+        return null;
+    }
+
+    private static int getOptionIndex(Element option) {
+        Node select = option.getParentNode();
+        while (select instanceof Element && !"select".equals(( ( Element ) select ).getTagName())) {
+            select = select.getParentNode();
+        }
+        if (!(select instanceof Element)) {
+            return 0;
+        }
+        NodeList options = ( ( Element ) select ).getElementsByTagName(OPTION);
+        for (int i = 0; i < options.getLength(); i++) {
+            if (options.item(i) == option) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private String resolve(String url) {
+        String baseUrl = snapshot.getUrl();
+        if (baseUrl == null) {
+            return url;
+        }
+        try {
+            return URI.create(baseUrl).resolve(url.trim()).toString();
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    @Override
+    public String getText() {
+        Element current = checkedElement();
+        if (!isDisplayed(current)) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        appendText(current, text);
+        // like WebDriver, non-breaking spaces are not collapsed but reported as spaces
+        return Arrays.stream(text.toString().split("\n"))
+            .map(line -> normalize(line).replace('\u00A0', ' ').trim())
+            .filter(line -> !line.isEmpty())
+            .collect(Collectors.joining("\n"));
+    }
+
+    private void appendText(Node node, StringBuilder text) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.TEXT_NODE) {
+                text.append(child.getNodeValue());
+            } else if (child.getNodeType() == Node.ELEMENT_NODE && !isHiddenItself(( Element ) child)) {
+                String tagName = (( Element ) child).getTagName();
+                boolean block = BLOCK_ELEMENTS.contains(tagName);
+                text.append(block ? "\n" : "");
+                appendText(child, text);
+                text.append(block || "br".equals(tagName) ? "\n" : "");
+                text.append("td".equals(tagName) || "th".equals(tagName) ? " " : "");
+            }
+        }
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        String style = checkedElement().getAttribute("style");
+        String property = propertyName.trim().toLowerCase(Locale.ROOT);
+        String value = "";
+        for (String declaration : style.split(";")) {
+            int colon = declaration.indexOf(':');
+            if (colon > 0 && declaration.substring(0, colon).trim().equalsIgnoreCase(property)) {
+                value = declaration.substring(colon + 1).replace("!important", "").trim();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return isDisplayed(checkedElement());
+    }
+
+    private boolean isDisplayed(Element current) {
+        if (snapshot.isRendered()) {
+            Element select = closest(current, "select");
+            boolean option = OPTION.equals(current.getTagName()) || "optgroup".equals(current.getTagName());
+            return !current.hasAttribute(INVISIBLE_MARKER) && (!option || select == null || isDisplayed(select));
+        }
+        for (Node node = current; node instanceof Element; node = node.getParentNode()) {
+            if (isHiddenItself(( Element ) node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isHiddenItself(Element current) {
+        if (snapshot.isRendered()) {
+            String tagName = current.getTagName();
+            return current.hasAttribute(INVISIBLE_MARKER) && !OPTION.equals(tagName) && !"optgroup".equals(tagName);
+        }
+        String style = current.getAttribute("style").replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+        boolean hiddenInput = INPUT.equals(current.getTagName())
+            && "hidden".equalsIgnoreCase(current.getAttribute("type"));
+        return NON_RENDERED_ELEMENTS.contains(current.getTagName()) || current.hasAttribute("hidden") || hiddenInput
+            || style.contains("display:none") || style.contains("visibility:hidden");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        Element current = checkedElement();
+        if (!FORM_CONTROLS.contains(current.getTagName())) {
+            return true;
+        }
+        for (Node node = current; node instanceof Element; node = node.getParentNode()) {
+            Element ancestor = ( Element ) node;
+            if (FORM_CONTROLS.contains(ancestor.getTagName()) && ancestor.hasAttribute("disabled")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isSelected() {
+        Element current = checkedElement();
+        switch (current.getTagName()) {
+            case INPUT:
+                return current.hasAttribute("checked");
+            case OPTION:
+                return current.hasAttribute("selected");
+            default:
+                return false;
+        }
+    }
+
+    /* unsupported operations */
+
+    @Override
+    public void click() {
+        throw readOnly("click");
+    }
+
+    @Override
+    public void submit() {
+        throw readOnly("submit");
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        throw readOnly("sendKeys");
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly("clear");
+    }
+
+    @Override
+    public Point getLocation() {
+        throw readOnly("getLocation");
+    }
+
+    @Override
+    public Dimension getSize() {
+        throw readOnly("getSize");
+    }
+
+    @Override
+    public Rectangle getRect() {
+        throw readOnly("getRect");
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw readOnly("getScreenshotAs");
+    }
+
+    private static UnsupportedOperationException readOnly(String operation) {
+        return new UnsupportedOperationException("operation '" + operation + "' is not supported by DOM snapshots");
+    }
+
+    /* utilities */
+
+    private static Element closest(Element current, String tagName) {
+        for (Node node = current.getParentNode(); node instanceof Element; node = node.getParentNode()) {
+            if (tagName.equals(( ( Element ) node ).getTagName())) {
+                return ( Element ) node;
+            }
+        }
+        return null;
+    }
+
+    private static String attributeOrNull(Element current, String name) {
+        return current.hasAttribute(name) ? current.getAttribute(name) : null;
+    }
+
+    private static String normalize(String text) {
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    private static Set<String> setOf(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SnapshotWebElement && (( SnapshotWebElement ) other).element == element;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(element);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotWebElement(" + element.getTagName() + ")";
+    }
+
+}
@@ -1,11 +1,17 @@
 package info.novatec.testit.webtester.pagefragments;
 
+import java.util.Map;
+
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 
 import info.novatec.testit.webtester.events.Produces;
 import info.novatec.testit.webtester.events.pagefragments.FormSubmittedEvent;
+import info.novatec.testit.webtester.events.pagefragments.TextSetEvent;
 import info.novatec.testit.webtester.pagefragments.annotations.Action;
 import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
+import info.novatec.testit.webtester.pagefragments.utils.FormFiller;
 
 
 @Mapping(tag = "form")
@@ -27,4 +33,34 @@ public interface Form extends PageFragment {
         return this;
     }
 
+    /**
+     * Sets the texts of the given {@link GenericTextField text fields} of this {@link Form} using a single JavaScript
+     * execution and fires a {@link TextSetEvent} for each field. The fields are filled in the map's iteration order.
+     * <p>
+     * In contrast to calling {@link GenericTextField#setText(String)} for each field, no keystrokes are simulated.
+     * Instead each value is set directly and an <code>input</code> and <code>change</code> event is dispatched.
+     *
+     * @param texts the texts to set by their fields
+     * @return the same form for fluent API use
+     * @throws NoSuchElementException in case a field could not be found, nothing is changed in that case
+     * @throws InvalidElementStateException in case a field is disabled or read-only, nothing is changed in that case
+     * @see FormFiller
+     * @since 2.7
+     */
+    default Form fill(Map<? extends GenericTextField<?>, String> texts) {
+        return fill().setAll(texts).apply();
+    }
+
+    /**
+     * Creates a new {@link FormFiller} for this {@link Form}. It can be used to set the texts of many fields, given
+     * as page fragments or CSS selectors, using a single JavaScript execution.
+     *
+     * @return the new form filler
+     * @see FormFiller
+     * @since 2.7
+     */
+    default FormFiller fill() {
+        return new FormFiller(this);
+    }
+
 }
@@ -9,7 +9,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
 import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
+import info.novatec.testit.webtester.pagefragments.utils.BulkSelect;
 import info.novatec.testit.webtester.pagefragments.utils.EnhancedSelect;
+import info.novatec.testit.webtester.pagefragments.utils.SelectOption;
 
 
 @Mapping(tag = "select")
@@ -42,6 +44,9 @@ public interface GenericSelect<T extends GenericSelect<T>> extends PageFragment
      * @since 2.0
      */
     default Stream<String> streamOptionTexts() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getOptions().stream().map(SelectOption::getText);
+        }
         return new EnhancedSelect(webElement()).getOptions().stream().map(WebElement::getText);
     }
 
@@ -72,6 +77,9 @@ public interface GenericSelect<T extends GenericSelect<T>> extends PageFragment
      * @since 2.0
      */
     default Stream<String> streamOptionValues() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getOptions().stream().map(SelectOption::getValue);
+        }
         return new EnhancedSelect(webElement()).getOptions().stream().map(option -> option.getAttribute("value"));
     }
 
@@ -13,6 +13,8 @@ import info.novatec.testit.webtester.pagefragments.annotations.As;
 import info.novatec.testit.webtester.pagefragments.annotations.Attribute;
 import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
 import info.novatec.testit.webtester.pagefragments.annotations.Mark;
+import info.novatec.testit.webtester.pagefragments.utils.TextEntry;
+import info.novatec.testit.webtester.pagefragments.utils.TextEntryMode;
 
 
 @Mapping(tag = "input")
@@ -22,18 +24,25 @@ public interface GenericTextField<T extends GenericTextField> extends PageFragme
     /**
      * Sets the text of this {@link GenericTextField text field} by first clearing it's value and then typing the given text
      * and fires a {@link TextSetEvent}.
+     * <p>
+     * In case a different {@link TextEntryMode text entry mode} is configured, the text is entered using JavaScript.
      *
      * @param text the text to set
      * @return the same text field for fluent API use
      * @see GenericTextField
      * @see WebElement#clear()
      * @see WebElement#sendKeys(CharSequence...)
+     * @see TextEntry
      * @since 2.0
      */
     @Action
     @Mark(As.USED)
     @Produces(TextSetEvent.class)
     default T setText(String text) {
+        if (browser().configuration().getTextEntryMode() != TextEntryMode.KEYSTROKES) {
+            new TextEntry(this).setText(text);
+            return (T) this;
+        }
         WebElement webElement = webElement();
         webElement.clear();
         webElement.sendKeys(text);
@@ -43,17 +52,24 @@ public interface GenericTextField<T extends GenericTextField> extends PageFragme
     /**
      * Appends the text of this {@link GenericTextField text field} by typing the given text and fires a
      * {@link TextAppendedEvent}.
+     * <p>
+     * In case a different {@link TextEntryMode text entry mode} is configured, the text is entered using JavaScript.
      *
      * @param text the text to append
      * @return the same text field for fluent API use
      * @see GenericTextField
      * @see WebElement#sendKeys(CharSequence...)
+     * @see TextEntry
      * @since 2.0
      */
     @Action
     @Mark(As.USED)
     @Produces(TextAppendedEvent.class)
     default T appendText(String text) {
+        if (browser().configuration().getTextEntryMode() != TextEntryMode.KEYSTROKES) {
+            new TextEntry(this).appendText(text);
+            return (T) this;
+        }
         webElement().sendKeys(text);
         return (T) this;
     }
@@ -23,7 +23,9 @@ import info.novatec.testit.webtester.pagefragments.annotations.Action;
 import info.novatec.testit.webtester.pagefragments.annotations.As;
 import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
 import info.novatec.testit.webtester.pagefragments.annotations.Mark;
+import info.novatec.testit.webtester.pagefragments.utils.BulkSelect;
 import info.novatec.testit.webtester.pagefragments.utils.EnhancedSelect;
+import info.novatec.testit.webtester.pagefragments.utils.SelectOption;
 
 
 @Mapping(tag = "select", attribute = "multiple")
@@ -41,6 +43,10 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
     @Mark(As.USED)
     @Produces(DeselectedAllEvent.class)
     default MultiSelect deselectAll() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).deselectAll();
+            return this;
+        }
         new EnhancedSelect(webElement()).deselectAll();
         return this;
     }
@@ -74,6 +80,10 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
     @Mark(As.USED)
     @Produces(DeselectedByTextsEvent.class)
     default MultiSelect deselectByTexts(Collection<String> texts) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).deselectByTexts(texts);
+            return this;
+        }
         Select select = new EnhancedSelect(webElement());
         texts.forEach(select::deselectByVisibleText);
         return this;
@@ -108,6 +118,10 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
     @Mark(As.USED)
     @Produces(DeselectedByValuesEvent.class)
     default MultiSelect deselectByValues(Collection<String> values) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).deselectByValues(values);
+            return this;
+        }
         Select select = new EnhancedSelect(webElement());
         values.forEach(select::deselectByValue);
         return this;
@@ -142,6 +156,10 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
     @Mark(As.USED)
     @Produces(DeselectedByIndicesEvent.class)
     default MultiSelect deselectByIndices(Collection<Integer> indices) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).deselectByIndices(indices);
+            return this;
+        }
         Select select = new EnhancedSelect(webElement());
         indices.forEach(select::deselectByIndex);
         return this;
@@ -176,6 +194,10 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
     @Mark(As.USED)
     @Produces(SelectedByTextsEvent.class)
     default MultiSelect selectByTexts(Collection<String> texts) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).selectByTexts(texts);
+            return this;
+        }
         Select select = new EnhancedSelect(webElement());
         texts.forEach(select::selectByVisibleText);
         return this;
@@ -210,6 +232,10 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
     @Mark(As.USED)
     @Produces(SelectedByValuesEvent.class)
     default MultiSelect selectByValues(Collection<String> values) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).selectByValues(values);
+            return this;
+        }
         Select select = new EnhancedSelect(webElement());
         values.forEach(select::selectByValue);
         return this;
@@ -244,6 +270,10 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
     @Mark(As.USED)
     @Produces(SelectedByIndicesEvent.class)
     default MultiSelect selectByIndices(Collection<Integer> indices) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).selectByIndices(indices);
+            return this;
+        }
         Select select = new EnhancedSelect(webElement());
         indices.forEach(select::selectByIndex);
         return this;
@@ -275,6 +305,9 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
      */
     @Mark(As.READ)
     default Stream<String> streamSelectionTexts() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getSelectedOptions().stream().map(SelectOption::getText);
+        }
         return new EnhancedSelect(webElement()).getAllSelectedOptions().stream().map(WebElement::getText);
     }
 
@@ -304,6 +337,9 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
      */
     @Mark(As.READ)
     default Stream<String> streamSelectionValues() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getSelectedOptions().stream().map(SelectOption::getValue);
+        }
         return new EnhancedSelect(webElement()).getAllSelectedOptions().stream().map(option -> option.getAttribute("value"));
     }
 
@@ -333,6 +369,9 @@ public interface MultiSelect extends GenericSelect<MultiSelect> {
      */
     @Mark(As.READ)
     default Stream<Integer> streamSelectionIndices() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getSelectedOptions().stream().map(SelectOption::getIndex);
+        }
         return new EnhancedSelect(webElement()).getAllSelectedOptions()
             .stream()
             .map(option -> option.getAttribute("index"))
@@ -18,6 +18,7 @@ import info.novatec.testit.webtester.pagefragments.annotations.As;
 import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.pagefragments.annotations.Mark;
 import info.novatec.testit.webtester.pagefragments.annotations.Named;
+import info.novatec.testit.webtester.pagefragments.snapshots.PageFragmentSnapshot;
 
 
 /**
@@ -263,6 +264,22 @@ public interface PageFragment extends OffersBrowserGetter, OffersAdHocFinding, O
         return !isEnabled();
     }
 
+    /**
+     * Takes an immutable {@link PageFragmentSnapshot snapshot} of this {@link PageFragment}'s tag name, visible text,
+     * attributes, the given CSS values, visibility and enabled state. In contrast to calling the individual methods of
+     * this fragment, all of these values are gathered using a single JavaScript execution.
+     *
+     * @param cssProperties the names of the CSS properties to include in the snapshot
+     * @return the snapshot
+     * @see PageFragmentSnapshot
+     * @see PageFragmentSnapshot#ofAll(java.util.Collection, String...)
+     * @see PageFragment
+     * @since 2.7
+     */
+    default PageFragmentSnapshot snapshot(String... cssProperties) {
+        return PageFragmentSnapshot.of(this, cssProperties);
+    }
+
     /* ad-hoc page fragment finding */
 
     @Override
@@ -1,5 +1,6 @@
 package info.novatec.testit.webtester.pagefragments;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import org.openqa.selenium.NoSuchElementException;
@@ -14,7 +15,9 @@ import info.novatec.testit.webtester.pagefragments.annotations.Action;
 import info.novatec.testit.webtester.pagefragments.annotations.As;
 import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
 import info.novatec.testit.webtester.pagefragments.annotations.Mark;
+import info.novatec.testit.webtester.pagefragments.utils.BulkSelect;
 import info.novatec.testit.webtester.pagefragments.utils.EnhancedSelect;
+import info.novatec.testit.webtester.pagefragments.utils.SelectOption;
 
 
 @Mapping(tag = "select", attribute = "!multiple")
@@ -37,6 +40,10 @@ public interface SingleSelect extends GenericSelect<SingleSelect> {
     @Mark(As.USED)
     @Produces(SelectedByTextEvent.class)
     default SingleSelect selectByText(String text) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).selectByTexts(Collections.singletonList(text));
+            return this;
+        }
         new EnhancedSelect(webElement()).selectByVisibleText(text);
         return this;
     }
@@ -58,6 +65,10 @@ public interface SingleSelect extends GenericSelect<SingleSelect> {
     @Mark(As.USED)
     @Produces(SelectedByValueEvent.class)
     default SingleSelect selectByValue(String value) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).selectByValues(Collections.singletonList(value));
+            return this;
+        }
         new EnhancedSelect(webElement()).selectByValue(value);
         return this;
     }
@@ -79,6 +90,10 @@ public interface SingleSelect extends GenericSelect<SingleSelect> {
     @Mark(As.USED)
     @Produces(SelectedByIndexEvent.class)
     default SingleSelect selectByIndex(Integer index) throws NoSuchElementException {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            new BulkSelect(this).selectByIndices(Collections.singletonList(index));
+            return this;
+        }
         new EnhancedSelect(webElement()).selectByIndex(index);
         return this;
     }
@@ -96,6 +111,9 @@ public interface SingleSelect extends GenericSelect<SingleSelect> {
      */
     @Mark(As.READ)
     default Optional<String> getSelectionText() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getSelectedOptions().stream().findFirst().map(SelectOption::getText);
+        }
         try {
             String text = new EnhancedSelect(webElement()).getFirstSelectedOption().getText();
             return Optional.ofNullable(text);
@@ -117,6 +135,9 @@ public interface SingleSelect extends GenericSelect<SingleSelect> {
      */
     @Mark(As.READ)
     default Optional<String> getSelectionValue() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getSelectedOptions().stream().findFirst().map(SelectOption::getValue);
+        }
         try {
             String value = new EnhancedSelect(webElement()).getFirstSelectedOption().getAttribute("value");
             return Optional.ofNullable(value);
@@ -138,6 +159,9 @@ public interface SingleSelect extends GenericSelect<SingleSelect> {
      */
     @Mark(As.READ)
     default Optional<Integer> getSelectionIndex() {
+        if (browser().configuration().isBulkSelectionEnabled()) {
+            return new BulkSelect(this).getSelectedOptions().stream().findFirst().map(SelectOption::getIndex);
+        }
         try {
             String index = new EnhancedSelect(webElement()).getFirstSelectedOption().getAttribute("index");
             return Optional.ofNullable(index).map(Integer::parseInt);
@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
 import info.novatec.testit.webtester.pagefragments.identification.producers.XPath;
+import info.novatec.testit.webtester.pagefragments.utils.TableExtractor;
 
 
 @Mapping(tag = "table")
@@ -241,4 +242,36 @@ public interface Table extends PageFragment {
         return footerRows().get(index);
     }
 
+    /**
+     * Returns the visible texts of all cells of this {@link Table table} as rows by cells. The rows are the same as
+     * returned by {@link #allRows()}.
+     * <p>
+     * In contrast to reading the texts through the {@link TableRow rows} and {@link TableField fields}, which costs at
+     * least one round trip to the browser per row, all texts are read using a single JavaScript execution.
+     *
+     * @return the texts of all cells
+     * @see TableExtractor
+     * @see Table
+     * @since 2.7
+     */
+    default String[][] getCellTexts() {
+        return new TableExtractor(this).extract();
+    }
+
+    /**
+     * Returns a stream of the visible texts of all cells of this {@link Table table} row by row. The rows are read in
+     * chunks of the given size using one JavaScript execution per chunk, so very large tables never have to be held in
+     * memory at once.
+     *
+     * @param chunkSize the maximum number of rows to read at once
+     * @return the stream of rows of cell texts
+     * @throws IllegalArgumentException in case the chunk size is not positive
+     * @see TableExtractor
+     * @see Table
+     * @since 2.7
+     */
+    default Stream<String[]> streamCellTexts(int chunkSize) {
+        return new TableExtractor(this).stream(chunkSize);
+    }
+
 }
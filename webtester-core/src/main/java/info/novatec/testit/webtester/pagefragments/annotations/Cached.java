@@ -0,0 +1,53 @@
+package info.novatec.testit.webtester.pagefragments.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.openqa.selenium.StaleElementReferenceException;
+
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pages.Page;
+
+
+/**
+ * This annotation can be added to {@link IdentifyUsing @IdentifyUsing} annotated {@link PageFragment} returning methods of
+ * {@link Page} or {@link PageFragment} subclasses in order to cache the web element of the returned fragment.
+ * <p>
+ * A cached fragment resolves its web element only once and reuses it for all following operations. In case the element
+ * became stale (a {@link StaleElementReferenceException} is thrown), it is resolved again and the operation is retried
+ * once. Navigating the browser or switching frames and windows invalidates all cached elements of that browser.
+ * <p>
+ * Caching can be enabled for all fragments using {@link Configuration#setElementCacheEnabled(boolean)}. In that case
+ * <code>&#64;Cached(false)</code> disables it for single methods.
+ * <p>
+ * <b>Important:</b> The presence of a cached element is not checked again until it is used. Fragments which are
+ * expected to disappear from the page (e.g. waiting for them not to be present) should not be cached.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * &#64;Cached
+ * &#64;IdentifyUsing("#username")
+ * TextField username();
+ * </pre>
+ *
+ * @see IdentifyUsing
+ * @see Configuration#isElementCacheEnabled()
+ * @since 2.7
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cached {
+
+    /**
+     * @return whether or not the web element should be cached
+     * @see Cached
+     * @since 2.7
+     */
+    boolean value() default true;
+
+}
@@ -0,0 +1,285 @@
+package info.novatec.testit.webtester.pagefragments.snapshots;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.lang.StringUtils;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.internal.ElementScripts;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * Immutable snapshot of a {@link PageFragment page fragment's} state at a certain point in time.
+ * <p>
+ * Reading a page fragment's tag name, visible text, attributes, CSS values, visibility and enabled state through the
+ * {@link PageFragment} methods costs one round trip to the browser each. A snapshot gathers all of these using a single
+ * JavaScript execution. Snapshots of many page fragments can be taken at once using {@link #ofAll(Collection,
+ * String...)}. Snapshots can also be created using their builder.
+ * <p>
+ * Since a snapshot is evaluated by JavaScript, some values are close approximations of the WebDriver semantics:
+ * <ul>
+ * <li>visibility, enabled state and visible text are evaluated using the {@link ElementScripts shared element
+ * helpers}, the same way as compiled conditions are</li>
+ * <li>attributes are the element's DOM attributes, except for <code>value</code>, <code>checked</code> and
+ * <code>selected</code> which reflect the element's current state</li>
+ * </ul>
+ * <b>Example:</b>
+ * <pre>
+ * PageFragmentSnapshot snapshot = button.snapshot("color");
+ * assertThat(snapshot.isVisible()).isTrue();
+ * assertThat(snapshot.getCssValue("color")).contains("rgba(0, 0, 0, 1)");
+ *
+ * List&lt;PageFragmentSnapshot&gt; snapshots = PageFragmentSnapshot.ofAll(list.getItems());
+ * </pre>
+ *
+ * @see PageFragment#snapshot(String...)
+ * @since 2.7
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class PageFragmentSnapshot {
+
+    private static final String SCRIPT = "var elements = arguments[0], cssProperties = arguments[1], snapshots = [];\n"
+        + ElementScripts.HELPERS
+        + "for (var i = 0; i < elements.length; i++) {\n"
+        + "  var e = elements[i], style = window.getComputedStyle(e), attributes = {}, css = {};\n"
+        + "  for (var j = 0; j < e.attributes.length; j++) {\n"
+        + "    attributes[e.attributes[j].name] = e.attributes[j].value;\n"
+        + "  }\n"
+        + "  if (typeof e.value === 'string') { attributes.value = e.value; }\n"
+        + "  ['checked', 'selected'].forEach(function (p) {\n"
+        + "    if (typeof e[p] === 'boolean') {\n"
+        + "      if (e[p]) { attributes[p] = 'true'; } else { delete attributes[p]; }\n"
+        + "    }\n"
+        + "  });\n"
+        + "  for (var k = 0; k < cssProperties.length; k++) {\n"
+        + "    css[cssProperties[k]] = style.getPropertyValue(cssProperties[k]);\n"
+        + "  }\n"
+        + "  var shown = visible(e);\n"
+        + "  snapshots.push({\n"
+        + "    tagName: e.tagName.toLowerCase(),\n"
+        + "    visibleText: shown ? renderedText(e) : '',\n"
+        + "    attributes: attributes,\n"
+        + "    cssValues: css,\n"
+        + "    visible: shown,\n"
+        + "    enabled: enabled(e)\n"
+        + "  });\n"
+        + "}\n"
+        + "return snapshots;";
+
+    /** The tag name of the page fragment in lower case. */
+    private final String tagName;
+    /** The visible text of the page fragment. Empty for invisible page fragments. */
+    private final String visibleText;
+    /** Unmodifiable map of the page fragment's attributes. */
+    private final Map<String, String> attributes;
+    /** Unmodifiable map of the CSS values requested when the snapshot was taken. */
+    private final Map<String, String> cssValues;
+    /** Whether or not the page fragment was visible. */
+    private final boolean visible;
+    /** Whether or not the page fragment was enabled. */
+    private final boolean enabled;
+
+    @Builder
+    private PageFragmentSnapshot(String tagName, String visibleText, Map<String, String> attributes,
+        Map<String, String> cssValues, boolean visible, boolean enabled) {
+        this.tagName = tagName;
+        this.visibleText = StringUtils.defaultString(visibleText);
+        this.attributes = unmodifiableMap(new LinkedHashMap<>(attributes));
+        this.cssValues = unmodifiableMap(new LinkedHashMap<>(cssValues));
+        this.visible = visible;
+        this.enabled = enabled;
+    }
+
+    private static PageFragmentSnapshot fromScriptResult(Object result) {
+        Map<?, ?> values = ( Map<?, ?> ) result;
+        PageFragmentSnapshotBuilder builder = builder()//
+            .tagName(String.valueOf(values.get("tagName")))//
+            .visibleText(( String ) values.get("visibleText"))//
+            .visible(Boolean.TRUE.equals(values.get("visible")))//
+            .enabled(Boolean.TRUE.equals(values.get("enabled")));
+        forEachEntry(values.get("attributes"), builder::attribute);
+        forEachEntry(values.get("cssValues"), builder::cssValue);
+        return builder.build();
+    }
+
+    private static void forEachEntry(Object map, BiConsumer<String, String> consumer) {
+        if (map instanceof Map) {
+            (( Map<?, ?> ) map).forEach((key, value) -> consumer.accept(String.valueOf(key), String.valueOf(value)));
+        }
+    }
+
+    /**
+     * Takes a snapshot of the given {@link PageFragment page fragment} using a single JavaScript execution.
+     *
+     * @param pageFragment the page fragment to take a snapshot of
+     * @param cssProperties the names of the CSS properties to include in the snapshot
+     * @return the snapshot
+     * @see PageFragment#snapshot(String...)
+     * @since 2.7
+     */
+    public static PageFragmentSnapshot of(PageFragment pageFragment, String... cssProperties) {
+        return ofAll(singletonList(pageFragment), cssProperties).get(0);
+    }
+
+    /**
+     * Takes snapshots of all given {@link PageFragment page fragments} using a single JavaScript execution. The
+     * snapshots are returned in the order of the given page fragments. All page fragments must belong to the same
+     * {@link Browser}.
+     *
+     * @param pageFragments the page fragments to take snapshots of
+     * @param cssProperties the names of the CSS properties to include in the snapshots
+     * @return the snapshots
+     * @throws IllegalArgumentException in case the page fragments belong to different browsers
+     * @see JavaScriptExecutor
+     * @since 2.7
+     */
+    public static List<PageFragmentSnapshot> ofAll(Collection<? extends PageFragment> pageFragments,
+        String... cssProperties) throws IllegalArgumentException {
+        if (pageFragments.isEmpty()) {
+            return emptyList();
+        }
+        Browser browser = pageFragments.iterator().next().browser();
+        if (pageFragments.stream().anyMatch(pageFragment -> !browser.equals(pageFragment.browser()))) {
+            throw new IllegalArgumentException("page fragments must belong to the same browser: " + pageFragments);
+        }
+        List<Object> webElements = pageFragments.stream().map(PageFragment::webElement).collect(toList());
+        List<?> results =
+            browser.javaScript().executeWithReturn(SCRIPT, webElements, new ArrayList<>(Arrays.asList(cssProperties)));
+        if (results == null || results.size() != webElements.size()) {
+            throw new IllegalStateException("JavaScript did not return a snapshot for each page fragment: " + results);
+        }
+        return results.stream()//
+            .map(PageFragmentSnapshot::fromScriptResult)//
+            .collect(toList());
+    }
+
+    /**
+     * Builder of {@link PageFragmentSnapshot page fragment snapshots}. Attributes and CSS values are added one by one
+     * or in bulk, the remaining methods are generated.
+     *
+     * @since 2.7
+     */
+    public static class PageFragmentSnapshotBuilder {
+
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+        private final Map<String, String> cssValues = new LinkedHashMap<>();
+
+        /**
+         * Adds the given attribute to the snapshot.
+         *
+         * @param name the name of the attribute
+         * @param value the value of the attribute
+         * @return the same instance for fluent API use
+         * @since 2.7
+         */
+        public PageFragmentSnapshotBuilder attribute(String name, String value) {
+            attributes.put(name, value);
+            return this;
+        }
+
+        /**
+         * Adds all of the given attributes to the snapshot.
+         *
+         * @param attributes the attributes by their name
+         * @return the same instance for fluent API use
+         * @since 2.7
+         */
+        public PageFragmentSnapshotBuilder attributes(Map<String, String> attributes) {
+            this.attributes.putAll(attributes);
+            return this;
+        }
+
+        /**
+         * Adds the given CSS value to the snapshot.
+         *
+         * @param property the name of the CSS property
+         * @param value the value of the CSS property
+         * @return the same instance for fluent API use
+         * @since 2.7
+         */
+        public PageFragmentSnapshotBuilder cssValue(String property, String value) {
+            cssValues.put(property, value);
+            return this;
+        }
+
+        /**
+         * Adds all of the given CSS values to the snapshot.
+         *
+         * @param cssValues the CSS values by their property name
+         * @return the same instance for fluent API use
+         * @since 2.7
+         */
+        public PageFragmentSnapshotBuilder cssValues(Map<String, String> cssValues) {
+            this.cssValues.putAll(cssValues);
+            return this;
+        }
+
+    }
+
+    /**
+     * Returns the optional value of the given attribute at the time the snapshot was taken.
+     *
+     * @param attributeName the name of the attribute
+     * @return the optional value of the attribute
+     * @see PageFragment#getAttribute(String)
+     * @since 2.7
+     */
+    public Optional<String> getAttribute(String attributeName) {
+        return Optional.ofNullable(attributes.get(attributeName));
+    }
+
+    /**
+     * Returns the optional value of the given CSS property at the time the snapshot was taken. Only CSS properties
+     * which were requested when the snapshot was taken are available.
+     *
+     * @param cssProperty the name of the CSS property
+     * @return the optional value of the property
+     * @see PageFragment#getCssValue(String)
+     * @since 2.7
+     */
+    public Optional<String> getCssValue(String cssProperty) {
+        return Optional.ofNullable(cssValues.get(cssProperty)).filter(StringUtils::isNotBlank);
+    }
+
+    /**
+     * Returns whether or not the page fragment was invisible at the time the snapshot was taken.
+     *
+     * @return true if the page fragment was invisible
+     * @since 2.7
+     */
+    public boolean isInvisible() {
+        return !visible;
+    }
+
+    /**
+     * Returns whether or not the page fragment was disabled at the time the snapshot was taken.
+     *
+     * @return true if the page fragment was disabled
+     * @since 2.7
+     */
+    public boolean isDisabled() {
+        return !enabled;
+    }
+
+}
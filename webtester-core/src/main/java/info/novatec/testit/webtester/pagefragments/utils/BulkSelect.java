@@ -0,0 +1,212 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.support.ui.Select;
+
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.GenericSelect;
+import info.novatec.testit.webtester.pagefragments.MultiSelect;
+import info.novatec.testit.webtester.pagefragments.SingleSelect;
+
+
+/**
+ * Changes and reads the options of a {@link GenericSelect select} using JavaScript.
+ * <p>
+ * Selenium's {@link Select} interacts with each option separately: every option which is selected or deselected costs
+ * at least one round trip to the browser and reading the texts or values of all options costs one round trip per
+ * option. This helper applies an entire selection change with a single JavaScript execution and reads the text,
+ * value, index and selection state of all options at once.
+ * <p>
+ * Selection changes are atomic: if there is no option for at least one of the given texts, values or indices a
+ * {@link NoSuchElementException} is thrown and the selection is not changed at all. Disabled options are never
+ * changed. In case the selection was changed, a single <code>input</code> and <code>change</code> event is dispatched
+ * on the select afterwards, as would be the case for a user's interaction.
+ * <p>
+ * Options are matched the same way Selenium does: texts are compared to the option's text with normalized whitespace
+ * and indices are compared to the option's <code>index</code> property. When selecting options of a single select,
+ * only the first option matching a text, value or index is selected.
+ * <p>
+ * {@link SingleSelect} and {@link MultiSelect} use this helper in case bulk selection is enabled.
+ *
+ * @see SelectOption
+ * @see Configuration#isBulkSelectionEnabled()
+ * @since 2.7
+ */
+public class BulkSelect {
+
+    private static final String READ_SCRIPT = "return Array.prototype.map.call(arguments[0].options, function (o) {\n"
+        + "  return { text: (o.text || '').replace(/\\s+/g, ' ').trim(), value: o.value, index: o.index,"
+        + " selected: o.selected };\n"
+        + "});";
+
+    private static final String CHANGE_SCRIPT =
+        "var select = arguments[0], by = arguments[1], keys = arguments[2], selected = arguments[3];\n"
+        + "var options = select.options, matches = keys === null ? Array.prototype.slice.call(options) : [];\n"
+        + "var firstOnly = selected && !select.multiple;\n"
+        + "if (keys !== null) {\n"
+        + "  var lookup = {};\n"
+        + "  for (var i = 0; i < options.length; i++) {\n"
+        + "    var o = options[i], key = by === 'text' ? (o.text || '').replace(/\\s+/g, ' ').trim()\n"
+        + "      : by === 'value' ? o.value : String(o.index);\n"
+        + "    (lookup['#' + key] = lookup['#' + key] || []).push(o);\n"
+        + "  }\n"
+        + "  for (var k = 0; k < keys.length; k++) {\n"
+        + "    var found = lookup['#' + keys[k]];\n"
+        + "    if (!found) { return String(keys[k]); }\n"
+        + "    matches.push.apply(matches, firstOnly ? found.slice(0, 1) : found);\n"
+        + "  }\n"
+        + "}\n"
+        + "var changed = false;\n"
+        + "for (var m = 0; m < matches.length; m++) {\n"
+        + "  if (!matches[m].disabled && matches[m].selected !== selected) {\n"
+        + "    matches[m].selected = selected;\n"
+        + "    changed = true;\n"
+        + "  }\n"
+        + "}\n"
+        + "if (changed) {\n"
+        + "  ['input', 'change'].forEach(function (type) {\n"
+        + "    var event = document.createEvent('HTMLEvents');\n"
+        + "    event.initEvent(type, true, false);\n"
+        + "    select.dispatchEvent(event);\n"
+        + "  });\n"
+        + "}\n"
+        + "return null;";
+
+    private final GenericSelect<?> select;
+
+    public BulkSelect(GenericSelect<?> select) {
+        this.select = select;
+    }
+
+    /**
+     * Reads the text, value, index and selection state of all options in order using a single JavaScript execution.
+     *
+     * @return the state of all options
+     * @since 2.7
+     */
+    public List<SelectOption> getOptions() {
+        JavaScriptExecutor javaScript = select.browser().javaScript();
+        List<?> options = javaScript.executeWithReturn(READ_SCRIPT, select.webElement());
+        if (options == null) {
+            return Collections.emptyList();
+        }
+        List<SelectOption> result = new ArrayList<>(options.size());
+        for (Object option : options) {
+            Map<?, ?> values = ( Map<?, ?> ) option;
+            String text = toString(values.get("text"));
+            String value = toString(values.get("value"));
+            int index = ( ( Number ) values.get("index") ).intValue();
+            boolean selected = Boolean.TRUE.equals(values.get("selected"));
+            result.add(new SelectOption(text, value, index, selected));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the state of all selected options in order using a single JavaScript execution.
+     *
+     * @return the state of all selected options
+     * @since 2.7
+     */
+    public List<SelectOption> getSelectedOptions() {
+        return getOptions().stream().filter(SelectOption::isSelected).collect(toList());
+    }
+
+    /**
+     * Selects all options with the given texts using a single JavaScript execution.
+     *
+     * @param texts the texts to select
+     * @throws NoSuchElementException in case there isn't an option for at least one of the given texts
+     * @since 2.7
+     */
+    public void selectByTexts(Collection<String> texts) throws NoSuchElementException {
+        change("text", texts, true);
+    }
+
+    /**
+     * Selects all options with the given values using a single JavaScript execution.
+     *
+     * @param values the values to select
+     * @throws NoSuchElementException in case there isn't an option for at least one of the given values
+     * @since 2.7
+     */
+    public void selectByValues(Collection<String> values) throws NoSuchElementException {
+        change("value", values, true);
+    }
+
+    /**
+     * Selects all options with the given indices using a single JavaScript execution.
+     *
+     * @param indices the indices to select
+     * @throws NoSuchElementException in case there isn't an option for at least one of the given indices
+     * @since 2.7
+     */
+    public void selectByIndices(Collection<Integer> indices) throws NoSuchElementException {
+        change("index", indices, true);
+    }
+
+    /**
+     * Deselects all options with the given texts using a single JavaScript execution.
+     *
+     * @param texts the texts to deselect
+     * @throws NoSuchElementException in case there isn't an option for at least one of the given texts
+     * @since 2.7
+     */
+    public void deselectByTexts(Collection<String> texts) throws NoSuchElementException {
+        change("text", texts, false);
+    }
+
+    /**
+     * Deselects all options with the given values using a single JavaScript execution.
+     *
+     * @param values the values to deselect
+     * @throws NoSuchElementException in case there isn't an option for at least one of the given values
+     * @since 2.7
+     */
+    public void deselectByValues(Collection<String> values) throws NoSuchElementException {
+        change("value", values, false);
+    }
+
+    /**
+     * Deselects all options with the given indices using a single JavaScript execution.
+     *
+     * @param indices the indices to deselect
+     * @throws NoSuchElementException in case there isn't an option for at least one of the given indices
+     * @since 2.7
+     */
+    public void deselectByIndices(Collection<Integer> indices) throws NoSuchElementException {
+        change("index", indices, false);
+    }
+
+    /**
+     * Deselects all options using a single JavaScript execution.
+     *
+     * @since 2.7
+     */
+    public void deselectAll() {
+        change("all", null, false);
+    }
+
+    private void change(String by, Collection<?> keys, boolean selected) {
+        List<String> keyList = keys != null ? keys.stream().map(String::valueOf).collect(toList()) : null;
+        JavaScriptExecutor javaScript = select.browser().javaScript();
+        Object missingKey = javaScript.executeWithReturn(CHANGE_SCRIPT, select.webElement(), by, keyList, selected);
+        if (missingKey != null) {
+            throw new NoSuchElementException("Cannot locate option with " + by + ": " + missingKey);
+        }
+    }
+
+    private static String toString(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+}
@@ -0,0 +1,290 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import lombok.AllArgsConstructor;
+
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.events.EventSystem;
+import info.novatec.testit.webtester.events.pagefragments.TextSetEvent;
+import info.novatec.testit.webtester.internal.ActionTemplate;
+import info.novatec.testit.webtester.internal.implementation.PageFragmentFactory;
+import info.novatec.testit.webtester.internal.implementation.PageFragmentFactory.PageFragmentDescriptor;
+import info.novatec.testit.webtester.internal.implementation.advices.ActionAdvice;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.BasePageFragment;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.BatchedWebElements;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.DynamicWebElementSupplier;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.StaticWebElementSupplier;
+import info.novatec.testit.webtester.pagefragments.Form;
+import info.novatec.testit.webtester.pagefragments.GenericElement;
+import info.novatec.testit.webtester.pagefragments.GenericTextField;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * Sets the texts of many fields of a {@link Form form} using a single JavaScript execution.
+ * <p>
+ * {@link GenericTextField#setText(String)} clears and types into each field separately, and every call is
+ * decelerated, marked and observed for events on its own. This helper applies all texts at once: each field's value
+ * is set using the browser's native value setter (so frameworks tracking the value notice the change) followed by
+ * an <code>input</code> and a <code>change</code> event, as would be the case for a user's interaction. Keystroke
+ * events are not simulated.
+ * <p>
+ * Fields can be given as {@link GenericTextField text field} page fragments or as CSS selectors relative to the form.
+ * Page fragments whose web elements are found using a composable locator (CSS, ID, XPath, class name, tag name or
+ * name based {@link info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing identification}) are
+ * resolved together using a single additional JavaScript execution and validated against their mappings before any
+ * value is changed. All other page fragments are resolved as usual (which is free in case their web elements are
+ * cached). Selectors are resolved within the filling script itself. Filling is atomic: if at least one field can not be
+ * found or is disabled or read-only, no value is changed at all.
+ * <p>
+ * After the texts are set, a {@link TextSetEvent} for each field is fired in order (if the event system is enabled).
+ * The action is decelerated only once for the whole form. Optionally the resulting values can be
+ * {@link #verifying() verified} against the given texts, e.g. to detect input restrictions like
+ * <code>maxlength</code> or value manipulating event handlers.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * registration.fill()
+ *     .set(registration.firstName(), "Jane")
+ *     .set(registration.lastName(), "Doe")
+ *     .set("input[name=email]", "jane.doe@example.com")
+ *     .verifying()
+ *     .apply();
+ * </pre>
+ *
+ * @see Form#fill()
+ * @see Form#fill(Map)
+ * @since 2.7
+ */
+public class FormFiller {
+
+    private static final String FILL_SCRIPT =
+        "var form = arguments[0], targets = arguments[1], texts = arguments[2], elements = [];\n"
+        + "for (var i = 0; i < targets.length; i++) {\n"
+        + "  var element = typeof targets[i] === 'string' ? form.querySelector(targets[i]) : targets[i];\n"
+        + "  if (!element) { return { failed: i, reason: 'missing' }; }\n"
+        + "  if (element.disabled || element.readOnly) { return { failed: i, reason: 'disabled or read-only' }; }\n"
+        + "  elements.push(element);\n"
+        + "}\n"
+        + "var before = [], after = [];\n"
+        + "elements.forEach(function (element, index) {\n"
+        + "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');\n"
+        + "  before.push(element.value);\n"
+        + "  if (descriptor && descriptor.set) { descriptor.set.call(element, texts[index]); }\n"
+        + "  else { element.value = texts[index]; }\n"
+        + "  ['input', 'change'].forEach(function (type) {\n"
+        + "    var event = document.createEvent('HTMLEvents');\n"
+        + "    event.initEvent(type, true, false);\n"
+        + "    element.dispatchEvent(event);\n"
+        + "  });\n"
+        + "  after.push(element.value);\n"
+        + "});\n"
+        + "return { before: before, after: after, elements: elements };";
+
+    private static final String CANNOT_LOCATE = "Cannot locate form field: ";
+
+    private final Form form;
+    private final List<Field> fields = new ArrayList<>();
+    private boolean verifying;
+
+    public FormFiller(Form form) {
+        this.form = form;
+    }
+
+    /**
+     * Adds the given text for the given {@link GenericTextField text field}.
+     *
+     * @param field the field to set the text of
+     * @param text the text to set
+     * @return the same filler for fluent API use
+     * @since 2.7
+     */
+    public FormFiller set(GenericTextField<?> field, String text) {
+        fields.add(new Field(field, null, Objects.requireNonNull(text, "text")));
+        return this;
+    }
+
+    /**
+     * Adds the given text for the field matching the given CSS selector within the form.
+     *
+     * @param cssSelector the CSS selector of the field, relative to the form
+     * @param text the text to set
+     * @return the same filler for fluent API use
+     * @since 2.7
+     */
+    public FormFiller set(String cssSelector, String text) {
+        fields.add(new Field(null, cssSelector, Objects.requireNonNull(text, "text")));
+        return this;
+    }
+
+    /**
+     * Adds the given texts for their {@link GenericTextField text fields}. The fields are filled in the map's
+     * iteration order.
+     *
+     * @param texts the texts to set by their fields
+     * @return the same filler for fluent API use
+     * @since 2.7
+     */
+    public FormFiller setAll(Map<? extends GenericTextField<?>, String> texts) {
+        texts.forEach(this::set);
+        return this;
+    }
+
+    /**
+     * Enables the verification of the resulting values. In case at least one field's value differs from the text
+     * which was set, a {@link FormFillingException} is thrown after all events were fired.
+     *
+     * @return the same filler for fluent API use
+     * @since 2.7
+     */
+    public FormFiller verifying() {
+        this.verifying = true;
+        return this;
+    }
+
+    /**
+     * Sets all added texts using a single JavaScript execution and fires a {@link TextSetEvent} for each field.
+     *
+     * @return the filled form for fluent API use
+     * @throws NoSuchElementException in case a field could not be found, nothing is changed in that case
+     * @throws InvalidElementStateException in case a field is disabled or read-only, nothing is changed in that case
+     * @throws FormFillingException in case verification is enabled and at least one value differs from its text
+     * @since 2.7
+     */
+    public Form apply() throws NoSuchElementException, InvalidElementStateException, FormFillingException {
+        if (!fields.isEmpty()) {
+            ActionAdvice.decelerate(form);
+            ActionTemplate.pageFragment(form).execute(filledForm -> fill());
+        }
+        return form;
+    }
+
+    private void fill() {
+        List<Object> targets = resolveTargets();
+        List<String> texts = fields.stream().map(field -> field.text).collect(toList());
+        JavaScriptExecutor javaScript = form.browser().javaScript();
+        Map<?, ?> result = javaScript.executeWithReturn(FILL_SCRIPT, form.webElement(), targets, texts);
+        if (result.get("failed") != null) {
+            Field failed = fields.get(( ( Number ) result.get("failed") ).intValue());
+            if ("missing".equals(result.get("reason"))) {
+                throw new NoSuchElementException(CANNOT_LOCATE + failed.describe());
+            }
+            throw new InvalidElementStateException("Form field is " + result.get("reason") + ": " + failed.describe());
+        }
+        List<?> before = ( List<?> ) result.get("before");
+        List<?> after = ( List<?> ) result.get("after");
+        List<?> elements = ( List<?> ) result.get("elements");
+        fireEvents(before, after, elements);
+        if (verifying) {
+            verify(after);
+        }
+    }
+
+    /**
+     * Returns the targets of all fields: web elements or CSS selectors. Fields whose locators are known are resolved
+     * using a single JavaScript execution instead of one round trip each.
+     */
+    private List<Object> resolveTargets() {
+        List<Object> targets = new ArrayList<>(fields.size());
+        List<Integer> batchedIndices = new ArrayList<>();
+        List<DynamicWebElementSupplier> batchedSuppliers = new ArrayList<>();
+        for (Field field : fields) {
+            Optional<DynamicWebElementSupplier> supplier = field.resolvableSupplier();
+            if (supplier.isPresent()) {
+                batchedIndices.add(targets.size());
+                batchedSuppliers.add(supplier.get());
+                targets.add(null);
+            } else {
+                targets.add(field.target());
+            }
+        }
+        List<WebElement> webElements = BatchedWebElements.resolve(form.browser(), batchedSuppliers);
+        for (int i = 0; i < batchedIndices.size(); i++) {
+            int index = batchedIndices.get(i);
+            Field field = fields.get(index);
+            WebElement webElement = webElements.get(i);
+            if (webElement == null) {
+                throw new NoSuchElementException(CANNOT_LOCATE + field.describe());
+            }
+            targets.set(index, BasePageFragment.assertValidity(field.field, webElement));
+        }
+        return targets;
+    }
+
+    private void fireEvents(List<?> before, List<?> after, List<?> elements) {
+        EventSystem eventSystem = form.browser().events();
+        if (!eventSystem.isEnabled()) {
+            return;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            PageFragment fragment = fields.get(i).fragment(( WebElement ) elements.get(i));
+            eventSystem.fireEvent(new TextSetEvent(fragment, toString(before.get(i)), toString(after.get(i))));
+        }
+    }
+
+    private void verify(List<?> after) {
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            String value = toString(after.get(i));
+            if (!field.text.equals(value)) {
+                mismatches.add(field.describe() + " is '" + value + "' instead of '" + field.text + "'");
+            }
+        }
+        if (!mismatches.isEmpty()) {
+            throw new FormFillingException("form fields were not filled as expected: " + String.join(", ", mismatches));
+        }
+    }
+
+    private static String toString(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    @AllArgsConstructor
+    private final class Field {
+
+        private final GenericTextField<?> field;
+        private final String cssSelector;
+        private final String text;
+
+        Object target() {
+            return field != null ? field.webElement() : cssSelector;
+        }
+
+        Optional<DynamicWebElementSupplier> resolvableSupplier() {
+            return BasePageFragment.webElementSupplierOf(field)
+                .filter(DynamicWebElementSupplier.class::isInstance)
+                .map(DynamicWebElementSupplier.class::cast)
+                .filter(BatchedWebElements::isResolvable);
+        }
+
+        PageFragment fragment(WebElement webElement) {
+            if (field != null) {
+                return field;
+            }
+            PageFragmentDescriptor descriptor = PageFragmentDescriptor.builder()
+                .pageFragmentType(GenericElement.class)
+                .webElementSupplier(new StaticWebElementSupplier(webElement))
+                .name(cssSelector)
+                .build();
+            return PageFragmentFactory.createInstanceFor(form.browser()).createInstanceOf(descriptor);
+        }
+
+        String describe() {
+            return field != null ? "'" + field.getName().orElse(field.toString()) + "'" : "'" + cssSelector + "'";
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import info.novatec.testit.webtester.WebTesterException;
+
+
+/**
+ * This exception is thrown in case a verified {@link FormFiller form filling} resulted in field values which differ
+ * from the texts which were set.
+ *
+ * @see FormFiller#verifying()
+ * @since 2.7
+ */
+public class FormFillingException extends WebTesterException {
+
+    public FormFillingException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,32 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import info.novatec.testit.webtester.pagefragments.GenericSelect;
+
+
+/**
+ * Immutable state of a single option of a {@link GenericSelect select} as read by {@link BulkSelect#getOptions()}.
+ *
+ * @see BulkSelect
+ * @since 2.7
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public final class SelectOption {
+
+    /** The option's visible text with normalized whitespace. */
+    private final String text;
+    /** The option's value. Falls back to the option's text in case there is no <code>value</code> attribute. */
+    private final String value;
+    /** The option's index within its select. */
+    private final int index;
+    /** Whether or not the option is currently selected. */
+    private final boolean selected;
+
+}
@@ -0,0 +1,164 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.internal.ElementScripts;
+import info.novatec.testit.webtester.pagefragments.Table;
+import info.novatec.testit.webtester.pagefragments.TableRow;
+
+
+/**
+ * Extracts the visible texts of all cells of a {@link Table table} using JavaScript.
+ * <p>
+ * Reading a table through its {@link TableRow rows} and their fields costs at least one round trip to the browser
+ * per row and creates a page fragment per row and cell. This helper reads the texts of all cells within the browser
+ * instead and transfers them as a compact <code>String[][]</code> (rows by cells).
+ * <p>
+ * For very large tables {@link #stream(int)} pulls the rows in chunks of a given size. Only one chunk at a time is
+ * held in memory. Since each chunk is read separately, changes to the table while the stream is consumed might lead
+ * to rows being skipped or read twice.
+ * <p>
+ * The rows are the same as those of {@link Table#allRows()}: direct rows of the table and rows of its direct
+ * children (e.g. <code>&lt;thead&gt;</code>) in document order. The cells of a row are its <code>&lt;th&gt;</code>
+ * and <code>&lt;td&gt;</code> children. A cell's text is evaluated using the {@link ElementScripts shared element
+ * helpers}: its trimmed <code>innerText</code> with non-breaking spaces replaced by spaces, or an empty string in case
+ * it is not visible.
+ *
+ * @see Table#getCellTexts()
+ * @see Table#streamCellTexts(int)
+ * @since 2.7
+ */
+public class TableExtractor {
+
+    private static final String SCRIPT =
+        "var table = arguments[0], from = arguments[1], max = arguments[2], rows = [], result = [];\n"
+        + ElementScripts.HELPERS
+        + "for (var i = 0; i < table.children.length; i++) {\n"
+        + "  var child = table.children[i];\n"
+        + "  if (child.tagName === 'TR') { rows.push(child); continue; }\n"
+        + "  for (var j = 0; j < child.children.length; j++) {\n"
+        + "    if (child.children[j].tagName === 'TR') { rows.push(child.children[j]); }\n"
+        + "  }\n"
+        + "}\n"
+        + "var to = max < 0 ? rows.length : Math.min(rows.length, from + max);\n"
+        + "for (var r = from; r < to; r++) {\n"
+        + "  var texts = [];\n"
+        + "  for (var c = 0; c < rows[r].children.length; c++) {\n"
+        + "    var cell = rows[r].children[c];\n"
+        + "    if (cell.tagName === 'TH' || cell.tagName === 'TD') {\n"
+        + "      texts.push(text(cell));\n"
+        + "    }\n"
+        + "  }\n"
+        + "  result.push(texts);\n"
+        + "}\n"
+        + "return result;";
+
+    private static final String[][] NO_ROWS = new String[0][];
+
+    private final Table table;
+
+    public TableExtractor(Table table) {
+        this.table = table;
+    }
+
+    /**
+     * Extracts the visible texts of all cells of the table using a single JavaScript execution.
+     *
+     * @return the texts of all cells (rows by cells)
+     * @since 2.7
+     */
+    public String[][] extract() {
+        return extract(table.webElement(), 0, -1);
+    }
+
+    /**
+     * Streams the visible texts of all cells of the table row by row. The rows are read in chunks of the given size,
+     * each chunk with a single JavaScript execution. The first chunk is read when the stream is consumed.
+     *
+     * @param chunkSize the maximum number of rows to read with a single JavaScript execution
+     * @return the stream of rows
+     * @throws IllegalArgumentException in case the chunk size is not positive
+     * @since 2.7
+     */
+    public Stream<String[]> stream(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+        }
+        Spliterator<String[]> spliterator = Spliterators.spliteratorUnknownSize(new ChunkIterator(chunkSize),
+            Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private String[][] extract(WebElement tableElement, int from, int max) {
+        JavaScriptExecutor javaScript = table.browser().javaScript();
+        List<?> rows = javaScript.executeWithReturn(SCRIPT, tableElement, from, max);
+        if (rows == null || rows.isEmpty()) {
+            return NO_ROWS;
+        }
+        String[][] texts = new String[rows.size()][];
+        for (int row = 0; row < texts.length; row++) {
+            List<?> cells = ( List<?> ) rows.get(row);
+            texts[row] = new String[cells.size()];
+            for (int cell = 0; cell < texts[row].length; cell++) {
+                Object text = cells.get(cell);
+                texts[row][cell] = text != null ? text.toString() : "";
+            }
+        }
+        return texts;
+    }
+
+    private class ChunkIterator implements Iterator<String[]> {
+
+        private final int chunkSize;
+        private final Deque<String[]> buffer = new ArrayDeque<>();
+
+        private WebElement tableElement;
+        private int nextRow;
+        private boolean lastChunkRead;
+
+        ChunkIterator(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (buffer.isEmpty() && !lastChunkRead) {
+                readNextChunk();
+            }
+            return !buffer.isEmpty();
+        }
+
+        private void readNextChunk() {
+            if (tableElement == null) {
+                tableElement = table.webElement();
+            }
+            String[][] chunk = extract(tableElement, nextRow, chunkSize);
+            for (String[] row : chunk) {
+                buffer.add(row);
+            }
+            nextRow += chunk.length;
+            lastChunkRead = chunk.length < chunkSize;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer.poll();
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.GenericTextField;
+
+
+/**
+ * Enters text into a {@link GenericTextField text field} using the configured {@link TextEntryMode text entry mode}.
+ * <p>
+ * {@link WebElement#sendKeys(CharSequence...)} streams the text character by character through the driver, which
+ * dominates the runtime of tests typing long texts. Depending on the mode this helper assigns the value with a single
+ * JavaScript execution instead. The value is assigned using the browser's native value setter (so frameworks tracking
+ * the value notice the change) followed by an <code>input</code> event. In {@link TextEntryMode#JAVASCRIPT JavaScript}
+ * mode a <code>change</code> event is dispatched as well. In {@link TextEntryMode#HYBRID hybrid} mode the last
+ * character is typed afterwards, which triggers its keyboard events and leaves the <code>change</code> event to the
+ * browser.
+ * <p>
+ * Texts containing special {@link Keys keys} (e.g. {@link Keys#ENTER}) are always typed, because they can not be
+ * assigned as a value. Disabled and read-only fields are rejected with an {@link InvalidElementStateException}, as
+ * would be the case when typing. Since browsers don't apply a field's <code>maxlength</code> to assigned values, the
+ * assigned text is cut at the <code>maxlength</code> the same way the browser would cut typed text.
+ * <p>
+ * {@link GenericTextField#setText(String)} and {@link GenericTextField#appendText(String)} use this helper in case the
+ * configured mode is not {@link TextEntryMode#KEYSTROKES keystrokes}.
+ *
+ * @see TextEntryMode
+ * @see Configuration#getTextEntryMode()
+ * @since 2.7
+ */
+public class TextEntry {
+
+    private static final String ASSIGN_SCRIPT =
+        "var element = arguments[0], text = arguments[1], append = arguments[2], types = arguments[3];\n"
+        + "if (element.disabled || element.readOnly) { return false; }\n"
+        + "var current = append ? element.value : '';\n"
+        + "if (element.maxLength >= 0) { text = text.substring(0, Math.max(0, element.maxLength - current.length)); }\n"
+        + "var value = current + text;\n"
+        + "var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');\n"
+        + "if (descriptor && descriptor.set) { descriptor.set.call(element, value); }\n"
+        + "else { element.value = value; }\n"
+        + "types.forEach(function (type) {\n"
+        + "  var event = document.createEvent('HTMLEvents');\n"
+        + "  event.initEvent(type, true, false);\n"
+        + "  element.dispatchEvent(event);\n"
+        + "});\n"
+        + "return true;";
+
+    private static final List<String> INPUT_EVENT = Collections.singletonList("input");
+    private static final List<String> INPUT_AND_CHANGE_EVENTS = Arrays.asList("input", "change");
+
+    private final GenericTextField<?> field;
+    private final TextEntryMode mode;
+
+    public TextEntry(GenericTextField<?> field) {
+        this(field, field.browser().configuration().getTextEntryMode());
+    }
+
+    public TextEntry(GenericTextField<?> field, TextEntryMode mode) {
+        this.field = field;
+        this.mode = mode;
+    }
+
+    /**
+     * Replaces the text of the field with the given text.
+     *
+     * @param text the text to set
+     * @throws InvalidElementStateException in case the field is disabled or read-only
+     * @since 2.7
+     */
+    public void setText(String text) throws InvalidElementStateException {
+        enter(text, false);
+    }
+
+    /**
+     * Appends the given text to the text of the field.
+     *
+     * @param text the text to append
+     * @throws InvalidElementStateException in case the field is disabled or read-only
+     * @since 2.7
+     */
+    public void appendText(String text) throws InvalidElementStateException {
+        enter(text, true);
+    }
+
+    private void enter(String text, boolean append) {
+        WebElement webElement = field.webElement();
+        if (mode == TextEntryMode.KEYSTROKES || containsSpecialKeys(text)) {
+            type(webElement, text, append);
+        } else if (mode == TextEntryMode.JAVASCRIPT || text.isEmpty()) {
+            assign(webElement, text, append, INPUT_AND_CHANGE_EVENTS);
+        } else {
+            int lastCharacter = text.offsetByCodePoints(text.length(), -1);
+            assign(webElement, text.substring(0, lastCharacter), append, INPUT_EVENT);
+            webElement.sendKeys(text.substring(lastCharacter));
+        }
+    }
+
+    private void type(WebElement webElement, String text, boolean append) {
+        if (!append) {
+            webElement.clear();
+        }
+        webElement.sendKeys(text);
+    }
+
+    private void assign(WebElement webElement, String text, boolean append, List<String> events) {
+        if (append && text.isEmpty()) {
+            return;
+        }
+        JavaScriptExecutor javaScript = field.browser().javaScript();
+        Boolean assigned = javaScript.executeWithReturn(ASSIGN_SCRIPT, webElement, text, append, events);
+        if (!Boolean.TRUE.equals(assigned)) {
+            throw new InvalidElementStateException("Text field is disabled or read-only: " + field);
+        }
+    }
+
+    private static boolean containsSpecialKeys(String text) {
+        return text.chars().anyMatch(character -> Keys.getKeyFromUnicode(( char ) character) != null);
+    }
+
+}
@@ -0,0 +1,37 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.GenericTextField;
+
+
+/**
+ * Defines how {@link GenericTextField text fields} enter text when setting or appending it.
+ *
+ * @see TextEntry
+ * @see Configuration#getTextEntryMode()
+ * @since 2.7
+ */
+public enum TextEntryMode {
+
+    /**
+     * Types the text character by character using {@link WebElement#sendKeys(CharSequence...)}. This triggers all
+     * keyboard events and is the most exact simulation of a user's interaction, but it is slow for long texts.
+     */
+    KEYSTROKES,
+
+    /**
+     * Assigns the value using a single JavaScript execution and dispatches an <code>input</code> and a
+     * <code>change</code> event afterwards. No keyboard events are triggered.
+     */
+    JAVASCRIPT,
+
+    /**
+     * Assigns all but the last character using a single JavaScript execution and types the last character. This
+     * triggers the keyboard events of the last character (e.g. for auto-completion or validation handlers) while
+     * keeping the number of keystrokes constant.
+     */
+    HYBRID
+
+}
@@ -0,0 +1,140 @@
+package info.novatec.testit.webtester.waiting;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.conditions.Conditions;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * This class provides asynchronous wait operations, which don't block the calling thread. The conditions are checked
+ * on a shared executor and the result is provided as a {@link CompletableFuture}. This allows a single thread to wait
+ * for many browsers at once.
+ * <p>
+ * The future completes with the checked object as soon as the condition is met. In case the condition is not met
+ * within the timeout, it completes exceptionally with a {@link TimeoutException}. Cancelling the future stops the
+ * checks.
+ * <p>
+ * <b>Note:</b> Conditions are checked on the executor's threads. Since WebDriver instances are not thread-safe, the
+ * same browser should not be used by another thread until the future has completed.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * CompletableFuture&lt;Button&gt; button = Wait.async().until(page.button(), visible());
+ * CompletableFuture&lt;Void&gt; done = Wait.withTimeoutOf(10).async().until(() -&gt; jobIsDone());
+ * CompletableFuture.allOf(button, done).join();
+ * </pre>
+ *
+ * @see Wait#async()
+ * @see ConfiguredWait#async()
+ * @since 2.7
+ */
+@Getter(AccessLevel.PACKAGE)
+public class AsyncWait {
+
+    /** The {@link AsyncWaiter} to use when executing wait operations. */
+    @NonNull
+    private final AsyncWaiter waiter;
+    /**
+     * The {@link WaitConfig} to use when deciding how long to wait. If not set, the configuration of the checked
+     * {@link PageFragment page fragment} or the {@link WaitConfig defaults} are used.
+     */
+    private final WaitConfig config;
+
+    AsyncWait(AsyncWaiter waiter, WaitConfig config) {
+        this.waiter = waiter;
+        this.config = config;
+    }
+
+    /**
+     * Waits until the given condition is met for the given object. A set of default conditions can be initialized from
+     * {@link Conditions}.
+     * <p>
+     * Unless configured otherwise, the timeout of {@link PageFragment page fragments} is taken from their browser's
+     * configuration.
+     *
+     * @param object the object to check
+     * @param condition the condition to wait for
+     * @param <T> the type of the object
+     * @return the future completing with the object once the condition is met
+     * @see Conditions
+     * @since 2.7
+     */
+    public <T> CompletableFuture<T> until(T object, Condition<? super T> condition) {
+        return thenSupply(waiter.waitUntil(configFor(object), WaitUntil.check(() -> object, condition)), () -> object);
+    }
+
+    /**
+     * Waits until the given condition is met for the object provided by the given {@link Supplier}. The supplier is
+     * called for each check. A set of default conditions can be initialized from {@link Conditions}.
+     *
+     * @param objectSupplier the supplier of the object to check
+     * @param condition the condition to wait for
+     * @param <T> the type of the object
+     * @return the future completing with the last supplied object once the condition is met
+     * @see Conditions
+     * @since 2.7
+     */
+    public <T> CompletableFuture<T> untilSupplied(Supplier<T> objectSupplier, Condition<? super T> condition) {
+        LastSupplied<T> lastSupplied = new LastSupplied<>(objectSupplier);
+        return thenSupply(waiter.waitUntil(configFor(null), WaitUntil.check(lastSupplied, condition)),
+            () -> lastSupplied.value);
+    }
+
+    /**
+     * Waits until the given boolean supplier returns <code>true</code>.
+     *
+     * @param condition the supplier for the wait until operation
+     * @return the future completing once the supplier returned <code>true</code>
+     * @since 2.7
+     */
+    public CompletableFuture<Void> until(Supplier<Boolean> condition) {
+        return waiter.waitUntil(configFor(null), condition);
+    }
+
+    private WaitConfig configFor(Object object) {
+        if (config != null) {
+            return config;
+        }
+        return object instanceof PageFragment ? WaitConfig.from(( PageFragment ) object) : new WaitConfig();
+    }
+
+    /**
+     * Completes the returned future with the supplied value once the given future of the checks completed. Unlike
+     * {@link CompletableFuture#thenApply(java.util.function.Function)} alone, cancelling the returned future also
+     * cancels the checks.
+     */
+    private static <T> CompletableFuture<T> thenSupply(CompletableFuture<Void> checks, Supplier<T> value) {
+        CompletableFuture<T> result = checks.thenApply(nothing -> value.get());
+        result.whenComplete((object, exception) -> {
+            if (result.isCancelled()) {
+                checks.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private static class LastSupplied<T> implements Supplier<T> {
+
+        private final Supplier<T> supplier;
+        private volatile T value;
+
+        LastSupplied(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public T get() {
+            value = supplier.get();
+            return value;
+        }
+
+    }
+
+}
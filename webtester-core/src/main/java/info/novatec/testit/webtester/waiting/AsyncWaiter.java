@@ -0,0 +1,167 @@
+package info.novatec.testit.webtester.waiting;
+
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Executes 'wait until X' operations without blocking the calling thread. Instead of sleeping between two checks of
+ * a condition, the next check is scheduled on a {@link ScheduledExecutorService}. The result of the wait operation is
+ * provided as a {@link CompletableFuture}, which completes as soon as the condition is met or exceptionally with a
+ * {@link TimeoutException} once the timeout is reached.
+ * <p>
+ * The intervals between the checks are decided by the {@link WaitConfig#getPollingStrategy() polling strategy} of the
+ * wait operation, just like they are for the {@link DefaultWaiter}. Cancelling the future stops the checks.
+ *
+ * @see AsyncWait
+ * @see DefaultWaiter
+ * @since 2.7
+ */
+@Slf4j
+@AllArgsConstructor
+@Getter(AccessLevel.PACKAGE)
+class AsyncWaiter {
+
+    /** The value futures of met conditions complete with, {@link Void} has no other value. */
+    private static final Void CONDITION_MET = null;
+
+    /** The {@link ScheduledExecutorService} the checks are executed on. */
+    @NonNull
+    private final ScheduledExecutorService executor;
+    /** The {@link Clock} to use for tracking the passing of time. */
+    @NonNull
+    private final Clock clock;
+
+    /**
+     * Creates a new {@link AsyncWaiter} using the given {@link ScheduledExecutorService} and a
+     * {@link Clock#systemDefaultZone()} clock.
+     *
+     * @param executor the executor to schedule the checks on
+     * @since 2.7
+     */
+    AsyncWaiter(ScheduledExecutorService executor) {
+        this(executor, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns the {@link ScheduledExecutorService} shared by all asynchronous wait operations. It is created on first
+     * use and uses one daemon thread per available processor (at least two).
+     *
+     * @return the shared executor
+     * @since 2.7
+     */
+    static ScheduledExecutorService sharedExecutor() {
+        return SharedExecutor.INSTANCE;
+    }
+
+    /**
+     * Starts checking the given boolean {@link Supplier} until it returns <code>true</code> or the
+     * {@link WaitConfig configured} timeout is reached. The first check is executed immediately on the executor.
+     *
+     * @param config the configuration to use
+     * @param condition the condition to evaluate
+     * @return the future completing once the condition is met
+     * @see WaitConfig
+     * @since 2.7
+     */
+    CompletableFuture<Void> waitUntil(WaitConfig config, Supplier<Boolean> condition) {
+        Poll poll = new Poll(config.getTimeoutInMillis(), config.getPollingStrategy().start(), condition);
+        poll.scheduleIn(0L);
+        return poll.future;
+    }
+
+    private class Poll implements Runnable {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final long timeout;
+        private final PollingStrategy.Schedule schedule;
+        private final Supplier<Boolean> condition;
+        private final long start = clock.millis();
+        private RuntimeException lastException;
+
+        Poll(long timeout, PollingStrategy.Schedule schedule, Supplier<Boolean> condition) {
+            this.timeout = timeout;
+            this.schedule = schedule;
+            this.condition = condition;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void run() {
+            if (future.isDone()) {
+                return;
+            }
+
+            boolean conditionMet = false;
+            try {
+                conditionMet = Boolean.TRUE.equals(condition.get());
+            } catch (ConditionParameterMismatchException e) {
+                future.completeExceptionally(e);
+                return;
+            } catch (RuntimeException e) {
+                lastException = e;
+            }
+            log.trace("condition '{}' met: {}", condition, conditionMet);
+
+            long elapsed = clock.millis() - start;
+            if (conditionMet) {
+                schedule.conditionMet(elapsed);
+                log.debug("condition met: {}", condition);
+                future.complete(CONDITION_MET);
+            } else if (elapsed >= timeout) {
+                log.debug("condition not met: {}", condition);
+                future.completeExceptionally(timeoutException());
+            } else {
+                scheduleIn(Math.min(schedule.nextInterval(elapsed), timeout - elapsed));
+            }
+        }
+
+        private TimeoutException timeoutException() {
+            String message = "condition not met within the given timeout";
+            if (lastException != null) {
+                return new TimeoutException(message, lastException);
+            }
+            return new TimeoutException(message);
+        }
+
+        void scheduleIn(long millis) {
+            try {
+                executor.schedule(this, millis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+    }
+
+    private static final class SharedExecutor {
+
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+                Thread thread = new Thread(runnable, "webtester-async-wait-" + THREAD_NUMBER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+
+    }
+
+}
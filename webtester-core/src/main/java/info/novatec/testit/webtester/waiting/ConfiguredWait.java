@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 
+import java.util.Arrays;
 import java.util.function.Supplier;
 
 
@@ -32,6 +33,34 @@ public class ConfiguredWait {
     @NonNull
     private final WaitConfig config;
 
+    /**
+     * Sets the {@link PollingStrategy} deciding the intervals between the checks of conditions.
+     *
+     * @param strategy the polling strategy to use
+     * @return the same instance for fluent API use
+     * @see PollingStrategies
+     * @since 2.7
+     */
+    public ConfiguredWait pollingWith(PollingStrategy strategy) {
+        config.setPollingStrategy(strategy);
+        return this;
+    }
+
+    /**
+     * Creates an {@link AsyncWait asynchronous wait} with this {@link ConfiguredWait}'s {@link WaitConfig}. Its wait
+     * operations don't block the calling thread, see {@link Wait#async()}.
+     * <p>
+     * <b>Example:</b> {@code Wait.withTimeoutOf(10).async().until(fragment, visible());}
+     *
+     * @return the asynchronous wait instance
+     * @see Wait
+     * @see AsyncWait
+     * @since 2.7
+     */
+    public AsyncWait async() {
+        return new AsyncWait(Wait.asyncWaiter(), config);
+    }
+
     /**
      * Creates a {@link WaitUntil} with this {@link ConfiguredWait}'s {@link ConfiguredWait} for the given object.
      *
@@ -65,6 +94,36 @@ public class ConfiguredWait {
         return new WaitUntil<>(waiter, config, objectSupplier);
     }
 
+    /**
+     * Waits with this {@link ConfiguredWait}'s {@link WaitConfig} until all of the given {@link WaitTarget targets}
+     * met their conditions. All targets are checked together, see {@link Wait#untilAll(WaitTarget[])}.
+     *
+     * @param targets the targets to wait for
+     * @return the result containing the targets in the order they met their conditions
+     * @throws TimeoutException in case not all targets met their conditions within the configured timeout
+     * @see Wait
+     * @see WaitTarget
+     * @since 2.7
+     */
+    public MultiWaitResult untilAll(WaitTarget<?>... targets) throws TimeoutException {
+        return new MultiTargetWait(waiter, config, Arrays.asList(targets)).untilAll();
+    }
+
+    /**
+     * Waits with this {@link ConfiguredWait}'s {@link WaitConfig} until any of the given {@link WaitTarget targets}
+     * met its condition. All targets are checked together, see {@link Wait#untilAny(WaitTarget[])}.
+     *
+     * @param targets the targets to wait for
+     * @return the result containing the targets which met their conditions
+     * @throws TimeoutException in case no target met its condition within the configured timeout
+     * @see Wait
+     * @see WaitTarget
+     * @since 2.7
+     */
+    public MultiWaitResult untilAny(WaitTarget<?>... targets) throws TimeoutException {
+        return new MultiTargetWait(waiter, config, Arrays.asList(targets)).untilAny();
+    }
+
     /**
      * Executes a wait operation based on this {@link ConfiguredWait}'s {@link ConfiguredWait} and the given boolean
      * supplier. The wait is executed until either the supplier returns <code>true</code> or the timeout is reached.
@@ -1,6 +1,7 @@
 package info.novatec.testit.webtester.waiting;
 
 import java.time.Clock;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -10,9 +11,19 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+import info.novatec.testit.webtester.waiting.polling.AdaptivePolling;
+
 
 /**
  * Default implementation of {@link Waiter} using a {@link Sleeper} and a {@link Clock} to wait and keep time.
+ * <p>
+ * The intervals between the checks of a condition are decided by the {@link WaitConfig#getPollingStrategy() polling
+ * strategy} of the wait operation. Intervals are shortened so that no wait operation sleeps beyond its timeout.
+ * <p>
+ * In case they are {@link WaitStatistics#isEnabled() enabled}, the duration and number of checks of each wait operation
+ * are recorded in the {@link Wait#statistics() shared} {@link WaitStatistics}.
  *
  * @see Waiter
  * @see Sleeper
@@ -30,6 +41,8 @@ class DefaultWaiter implements Waiter {
     /** The {@link Clock} to use for tracking the passing of time. */
     @NonNull
     private final Clock clock;
+    /** The {@link WaitStatistics} to record the wait operations in. */
+    private final WaitStatistics statistics = WaitStatistics.shared();
 
     /**
      * Creates a new default {@link DefaultWaiter}. It has a {@link CurrentThreadSleeper} as a sleeper and a
@@ -74,12 +87,15 @@ class DefaultWaiter implements Waiter {
 
         long effectiveTimeout = config.getTimeoutInMillis();
         long start = now();
+        PollingStrategy.Schedule schedule = config.getPollingStrategy().start();
 
         boolean conditionMet = false;
         RuntimeException lastException = null;
+        long polls = 0L;
 
         do {
             try {
+                polls++;
                 conditionMet = condition.get();
             } catch (ConditionParameterMismatchException e) {
                 throw e;
@@ -88,10 +104,78 @@ class DefaultWaiter implements Waiter {
             }
             log.trace("condition '{}' met: {}", condition, conditionMet);
             if (!conditionMet) {
+                long elapsed = timeSince(start);
+                long interval = Math.min(schedule.nextInterval(elapsed), Math.max(effectiveTimeout - elapsed, 1L));
+                waitExactly(interval, TimeUnit.MILLISECONDS);
+            }
+        } while (!conditionMet && timeSince(start) < effectiveTimeout);
+
+        record(condition, start, effectiveTimeout, polls, conditionMet);
+        if (!conditionMet) {
+            String message = "condition not met within the given timeout";
+            log.debug("condition not met: {}", condition);
+            if (lastException != null) {
+                throw new TimeoutException(message, lastException);
+            }
+            throw new TimeoutException(message);
+        } else {
+            schedule.conditionMet(timeSince(start));
+            log.debug("condition met: {}", condition);
+        }
+
+    }
+
+    /**
+     * Waits until the given {@link JavaScriptCondition} is met within the browser. Instead of polling the condition,
+     * the DOM is observed for changes using an asynchronous script which completes as soon as the condition is met.
+     * If the script fails (e.g. because the page was unloaded while waiting), the DOM is observed again for the
+     * remaining time after waiting one interval. In case the browser can not observe the DOM, the condition is polled.
+     *
+     * @param config the configuration to use
+     * @param browser the browser to evaluate the condition in
+     * @param condition the condition to evaluate
+     * @see DomChangeObserver
+     * @since 2.7
+     */
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void waitUntil(WaitConfig config, Browser browser, JavaScriptCondition condition) {
+
+        if (!DomChangeObserver.isSupported(browser)) {
+            waitUntil(config, () -> condition.test(browser));
+            return;
+        }
+
+        long effectiveTimeout = config.getTimeoutInMillis();
+        long start = now();
+
+        Boolean conditionMet = false;
+        RuntimeException lastException = null;
+        long polls = 0L;
+
+        do {
+            try {
+                polls++;
+                long remainingTimeout = Math.max(effectiveTimeout - timeSince(start), 0L);
+                conditionMet = DomChangeObserver.await(browser, condition, remainingTimeout);
+            } catch (RuntimeException e) {
+                lastException = e;
                 waitExactly(config.getInterval(), TimeUnit.MILLISECONDS);
             }
+            if (conditionMet == null) {
+                log.debug("browser can not observe the DOM, falling back to polling: {}", condition);
+                long remainingTimeout = Math.max(effectiveTimeout - timeSince(start), 0L);
+                WaitConfig remaining = new WaitConfig().setTimeout(( int ) remainingTimeout)
+                    .setTimeUnit(TimeUnit.MILLISECONDS)
+                    .setInterval(config.getInterval())
+                    .setPollingStrategy(config.getPollingStrategy());
+                waitUntil(remaining, () -> condition.test(browser));
+                return;
+            }
+            log.trace("condition '{}' met: {}", condition, conditionMet);
         } while (!conditionMet && timeSince(start) < effectiveTimeout);
 
+        record(condition, start, effectiveTimeout, polls, conditionMet);
         if (!conditionMet) {
             String message = "condition not met within the given timeout";
             log.debug("condition not met: {}", condition);
@@ -105,6 +189,32 @@ class DefaultWaiter implements Waiter {
 
     }
 
+    private static String callSite(Object condition) {
+        String callSite = AdaptivePolling.currentCallSite();
+        return describe(condition).map(description -> callSite + " " + description).orElse(callSite);
+    }
+
+    /**
+     * Describes the given condition by its {@link Object#toString()}. Lambdas, synthetic classes and classes without
+     * their own {@link Object#toString()} are not described, since their default descriptions contain identity hash
+     * codes and would be different for each instance.
+     */
+    static Optional<String> describe(Object condition) {
+        String description = String.valueOf(condition);
+        Class<?> type = condition.getClass();
+        if (type.isSynthetic() || description.startsWith(type.getName() + '@') || description.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(description);
+    }
+
+    private void record(Object condition, long start, long timeout, long polls, boolean conditionMet) {
+        if (statistics.isEnabled()) {
+            long elapsed = timeSince(start);
+            statistics.record(callSite(condition), elapsed, timeout, polls, !conditionMet);
+        }
+    }
+
     private long timeSince(long start) {
         return now() - start;
     }
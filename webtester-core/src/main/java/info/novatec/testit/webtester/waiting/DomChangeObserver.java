@@ -0,0 +1,129 @@
+package info.novatec.testit.webtester.waiting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+import info.novatec.testit.webtester.config.Configuration;
+
+
+/**
+ * Waits for a {@link JavaScriptCondition} within the browser using a single asynchronous JavaScript execution.
+ * <p>
+ * The script evaluates the condition's predicate once and, in case it is not met, installs a
+ * <code>MutationObserver</code> on the document. The predicate is evaluated again whenever the DOM changes or an
+ * <code>input</code>, <code>change</code>, <code>transitionend</code> or <code>animationend</code> event occurs
+ * (value, transition and animation changes are not DOM mutations). The script completes as soon as the predicate is
+ * met or the timeout expired. Errors thrown by the predicate are treated as not met. In case the predicate is still not
+ * met when the timeout expired, the last error is reported as a {@link JavascriptException}, the same way a failing
+ * predicate is reported when polling.
+ * <p>
+ * Since asynchronous scripts are limited by the driver's script timeout, it is raised to the timeout of the wait plus a
+ * margin if the configured {@link Configuration#getWaitScriptTimeout() script timeout} is too short. After the script
+ * completed, the configured script timeout is restored.
+ *
+ * @see DefaultWaiter
+ * @see JavaScriptCondition
+ * @since 2.7
+ */
+@Slf4j
+@UtilityClass
+class DomChangeObserver {
+
+    /** The margin added to the wait timeout to account for the latency of the asynchronous script's execution. */
+    private static final long SCRIPT_TIMEOUT_MARGIN = 5_000L;
+
+    private static final String OBSERVE_SCRIPT_START =
+        "var timeout = arguments[0], args = arguments[1], callback = arguments[arguments.length - 1];\n"
+        + "var predicate = function () {\n";
+
+    private static final String OBSERVE_SCRIPT_END = "\n};\n"
+        + "var types = ['input', 'change', 'transitionend', 'animationend'];\n"
+        + "var done = false, observer, timer, error = null;\n"
+        + "function test() {\n"
+        + "  error = null;\n"
+        + "  try { return !!predicate.apply(null, args); } catch (e) { error = String(e); return false; }\n"
+        + "}\n"
+        + "function finish(result) {\n"
+        + "  if (done) { return; }\n"
+        + "  done = true;\n"
+        + "  observer.disconnect();\n"
+        + "  clearTimeout(timer);\n"
+        + "  types.forEach(function (type) { document.removeEventListener(type, check, true); });\n"
+        + "  callback(result || error === null ? result : { error: error });\n"
+        + "}\n"
+        + "function check() { if (!done && test()) { finish(true); } }\n"
+        + "if (test()) { callback(true); return; }\n"
+        + "if (typeof MutationObserver === 'undefined') { callback(null); return; }\n"
+        + "observer = new MutationObserver(check);\n"
+        + "observer.observe(document, { attributes: true, childList: true, characterData: true, subtree: true });\n"
+        + "types.forEach(function (type) { document.addEventListener(type, check, true); });\n"
+        + "timer = setTimeout(function () { finish(test()); }, timeout);";
+
+    /**
+     * Waits within the browser until the given condition is met or the given timeout expired.
+     *
+     * @param browser the browser to wait in
+     * @param condition the condition to wait for
+     * @param timeoutInMillis the maximum time to wait within the browser
+     * @return <code>true</code> if the condition was met, <code>false</code> if it was not met within the timeout and
+     * <code>null</code> if the browser does not support observing the DOM
+     * @throws JavascriptException in case the condition was not met and its predicate failed when it was last
+     * evaluated (e.g. because it accessed an element which did not exist yet)
+     * @throws WebDriverException in case the script failed, e.g. because the page was unloaded while waiting
+     * @since 2.7
+     */
+    static Boolean await(Browser browser, JavaScriptCondition condition, long timeoutInMillis)
+        throws JavascriptException, WebDriverException {
+        WebDriver webDriver = browser.webDriver();
+        String script = OBSERVE_SCRIPT_START + condition.getPredicate() + OBSERVE_SCRIPT_END;
+        List<Object> arguments = Arrays.asList(condition.resolveArguments());
+
+        long configuredTimeout = browser.configuration().getWaitScriptTimeout();
+        long requiredTimeout = timeoutInMillis + SCRIPT_TIMEOUT_MARGIN;
+        boolean raiseTimeout = requiredTimeout > configuredTimeout;
+        if (raiseTimeout) {
+            setScriptTimeout(webDriver, requiredTimeout);
+        }
+        try {
+            Object result = ( ( JavascriptExecutor ) webDriver ).executeAsyncScript(script, timeoutInMillis, arguments);
+            if (result instanceof Map) {
+                Object error = ( ( Map<?, ?> ) result ).get("error");
+                throw new JavascriptException("predicate of " + condition + " failed: " + error);
+            }
+            return result == null ? null : Boolean.TRUE.equals(result);
+        } finally {
+            if (raiseTimeout) {
+                setScriptTimeout(webDriver, configuredTimeout);
+            }
+        }
+    }
+
+    /**
+     * Returns whether or not the given browser's driver is able to execute asynchronous scripts.
+     *
+     * @param browser the browser to check
+     * @return true if the DOM can be observed, otherwise false
+     * @since 2.7
+     */
+    static boolean isSupported(Browser browser) {
+        return browser.webDriver() instanceof JavascriptExecutor;
+    }
+
+    private static void setScriptTimeout(WebDriver webDriver, long timeout) {
+        webDriver.manage().timeouts().setScriptTimeout(timeout, TimeUnit.MILLISECONDS);
+        log.debug("set script timeout to {}ms for observing the DOM", timeout);
+    }
+
+}
@@ -0,0 +1,173 @@
+package info.novatec.testit.webtester.waiting;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import lombok.extern.slf4j.Slf4j;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.conditions.CompiledCondition;
+import info.novatec.testit.webtester.config.Configuration;
+
+
+/**
+ * Waits for several {@link WaitTarget targets} at once using a single {@link Waiter#waitUntil(WaitConfig,
+ * java.util.function.Supplier) wait operation}.
+ * <p>
+ * Each check evaluates the targets which are not yet satisfied. Targets with {@link CompiledCondition compilable}
+ * conditions are evaluated using a single JavaScript execution per browser, in case the browser supports JavaScript
+ * and its configuration {@link Configuration#isCompiledConditionsEnabled() enables} compiled conditions. Their web
+ * elements are resolved once and again only if they are missing or became stale. All other targets are evaluated
+ * within the JVM. Targets given more than once are waited for only once.
+ *
+ * @see Wait#untilAll(WaitTarget[])
+ * @see Wait#untilAny(WaitTarget[])
+ * @since 2.7
+ */
+@Slf4j
+class MultiTargetWait {
+
+    private final Waiter waiter;
+    private final WaitConfig config;
+    private final List<WaitTarget<?>> targets;
+    private final Clock clock;
+
+    private final Map<WaitTarget<?>, Optional<CompiledCondition>> compiledConditions = new HashMap<>();
+    private final Map<WaitTarget<?>, WebElement> webElements = new HashMap<>();
+    private final Map<Browser, Boolean> compilingBrowsers = new HashMap<>();
+    private RuntimeException lastException;
+
+    MultiTargetWait(Waiter waiter, WaitConfig config, List<WaitTarget<?>> targets) {
+        this(waiter, config, targets, Clock.systemDefaultZone());
+    }
+
+    MultiTargetWait(Waiter waiter, WaitConfig config, List<WaitTarget<?>> targets, Clock clock) {
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("at least one target must be given");
+        }
+        this.waiter = waiter;
+        this.config = config;
+        this.targets = new ArrayList<>(new LinkedHashSet<>(targets));
+        this.clock = clock;
+    }
+
+    MultiWaitResult untilAll() throws TimeoutException {
+        return doWait(true);
+    }
+
+    MultiWaitResult untilAny() throws TimeoutException {
+        return doWait(false);
+    }
+
+    private MultiWaitResult doWait(boolean all) {
+        Map<WaitTarget<?>, Long> satisfied = new LinkedHashMap<>();
+        long start = clock.millis();
+        try {
+            waiter.waitUntil(config, () -> {
+                List<WaitTarget<?>> met = check(pending(satisfied));
+                long elapsed = clock.millis() - start;
+                met.forEach(target -> satisfied.put(target, elapsed));
+                return all ? satisfied.size() == targets.size() : !satisfied.isEmpty();
+            });
+        } catch (TimeoutException e) {
+            String message = "targets not satisfied within the given timeout: " + pending(satisfied);
+            throw new TimeoutException(message, e.getCause() != null ? e.getCause() : lastException);
+        }
+        MultiWaitResult result = new MultiWaitResult(satisfied);
+        log.debug("{}", result);
+        return result;
+    }
+
+    private List<WaitTarget<?>> pending(Map<WaitTarget<?>, Long> satisfied) {
+        return targets.stream().filter(target -> !satisfied.containsKey(target)).collect(Collectors.toList());
+    }
+
+    private List<WaitTarget<?>> check(List<WaitTarget<?>> pending) {
+        boolean[] met = new boolean[pending.size()];
+        Map<Browser, List<Integer>> batches = new LinkedHashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            WaitTarget<?> target = pending.get(i);
+            Browser browser = target.getFragment().browser();
+            if (compiled(target).isPresent() && evaluatesCompiledConditions(browser)) {
+                batches.computeIfAbsent(browser, key -> new ArrayList<>()).add(i);
+            } else {
+                met[i] = checkWithinJvm(target);
+            }
+        }
+        batches.forEach((browser, indices) -> checkWithinBrowser(browser, pending, indices, met));
+
+        List<WaitTarget<?>> metTargets = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            if (met[i]) {
+                metTargets.add(pending.get(i));
+            }
+        }
+        return metTargets;
+    }
+
+    private Optional<CompiledCondition> compiled(WaitTarget<?> target) {
+        return compiledConditions.computeIfAbsent(target, key -> CompiledCondition.compile(key.getCondition()));
+    }
+
+    private boolean evaluatesCompiledConditions(Browser browser) {
+        return compilingBrowsers.computeIfAbsent(browser, WaitUntil::evaluatesCompiledConditions);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // failing checks are retried until the timeout
+    private boolean checkWithinJvm(WaitTarget<?> target) {
+        try {
+            return target.test();
+        } catch (ClassCastException e) {
+            throw new ConditionParameterMismatchException(target.getCondition().getClass(),
+                target.getFragment().getClass(), e);
+        } catch (RuntimeException e) {
+            lastException = e;
+            return false;
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // failing checks are retried until the timeout
+    private void checkWithinBrowser(Browser browser, List<WaitTarget<?>> pending, List<Integer> indices,
+        boolean[] met) {
+        List<WaitTarget<?>> batch = indices.stream().map(pending::get).collect(Collectors.toList());
+        List<CompiledCondition> conditions =
+            batch.stream().map(target -> compiled(target).get()).collect(Collectors.toList());
+        List<WebElement> elements = batch.stream().map(this::webElement).collect(Collectors.toList());
+        try {
+            List<Boolean> results = CompiledCondition.testAll(browser, conditions, elements);
+            for (int i = 0; i < indices.size(); i++) {
+                met[indices.get(i)] = Boolean.TRUE.equals(results.get(i));
+            }
+        } catch (StaleElementReferenceException e) {
+            batch.forEach(webElements::remove);
+            lastException = e;
+        } catch (RuntimeException e) {
+            lastException = e;
+        }
+    }
+
+    private WebElement webElement(WaitTarget<?> target) {
+        WebElement element = webElements.get(target);
+        if (element == null) {
+            try {
+                element = target.getFragment().webElement();
+                webElements.put(target, element);
+            } catch (NoSuchElementException e) {
+                lastException = e;
+            }
+        }
+        return element;
+    }
+
+}
@@ -0,0 +1,80 @@
+package info.novatec.testit.webtester.waiting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * The result of waiting for several {@link WaitTarget targets} at once. It contains the satisfied targets in the order
+ * they met their conditions. Targets which met their conditions during the same check are ordered as they were given.
+ *
+ * @see Wait#untilAll(WaitTarget[])
+ * @see Wait#untilAny(WaitTarget[])
+ * @since 2.7
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class MultiWaitResult {
+
+    /** The satisfied targets and their milliseconds until satisfied, in the order they were satisfied. */
+    private final Map<WaitTarget<?>, Long> satisfiedTargets;
+
+    /**
+     * Returns the satisfied targets in the order they met their conditions.
+     *
+     * @return the satisfied targets
+     * @since 2.7
+     */
+    public List<WaitTarget<?>> getSatisfiedTargets() {
+        return Collections.unmodifiableList(new ArrayList<>(satisfiedTargets.keySet()));
+    }
+
+    /**
+     * Returns the target which met its condition first.
+     *
+     * @return the first satisfied target or empty in case no target was satisfied
+     * @since 2.7
+     */
+    public Optional<WaitTarget<?>> getFirstSatisfiedTarget() {
+        return satisfiedTargets.keySet().stream().findFirst();
+    }
+
+    /**
+     * Returns whether or not the given target met its condition.
+     *
+     * @param target the target to check
+     * @return true if the target was satisfied, otherwise false
+     * @since 2.7
+     */
+    public boolean isSatisfied(WaitTarget<?> target) {
+        return satisfiedTargets.containsKey(target);
+    }
+
+    /**
+     * Returns the time in milliseconds from the start of the wait until the given target met its condition.
+     *
+     * @param target the target to get the time for
+     * @return the time in milliseconds or empty in case the target was not satisfied
+     * @since 2.7
+     */
+    public Optional<Long> getMillisUntilSatisfied(WaitTarget<?> target) {
+        return Optional.ofNullable(satisfiedTargets.get(target));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("satisfied targets: [");
+        String separator = "";
+        for (Map.Entry<WaitTarget<?>, Long> entry : satisfiedTargets.entrySet()) {
+            builder.append(separator).append(entry.getKey()).append(" after ").append(entry.getValue()).append("ms");
+            separator = ", ";
+        }
+        return builder.append(']').toString();
+    }
+
+}
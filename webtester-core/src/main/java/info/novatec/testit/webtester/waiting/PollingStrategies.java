@@ -0,0 +1,133 @@
+package info.novatec.testit.webtester.waiting;
+
+import java.util.Locale;
+
+import lombok.experimental.UtilityClass;
+
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.waiting.polling.AdaptivePolling;
+import info.novatec.testit.webtester.waiting.polling.ExponentialPolling;
+import info.novatec.testit.webtester.waiting.polling.FibonacciPolling;
+import info.novatec.testit.webtester.waiting.polling.FixedPolling;
+import info.novatec.testit.webtester.waiting.polling.JitteredPolling;
+
+
+/**
+ * This class provides factory methods for all kinds of {@link PollingStrategy} implementations.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * Wait.withTimeoutOf(5).pollingWith(exponential(50, 2.0, 1000)).until(fragment).is(visible());
+ * Wait.pollingWith(jittered(adaptive(25, 1000), 0.2)).until(fragment).is(visible());
+ * </pre>
+ *
+ * @see PollingStrategy
+ * @since 2.7
+ */
+@UtilityClass
+public class PollingStrategies {
+
+    /**
+     * Creates a new {@link FixedPolling} strategy.
+     *
+     * @param interval the interval in milliseconds
+     * @return the created strategy
+     * @see FixedPolling
+     * @since 2.7
+     */
+    public static FixedPolling fixed(long interval) {
+        return new FixedPolling(interval);
+    }
+
+    /**
+     * Creates a new {@link ExponentialPolling} strategy.
+     *
+     * @param initialInterval the first interval in milliseconds
+     * @param factor the factor to multiply the interval by after each check
+     * @param maxInterval the maximum interval in milliseconds
+     * @return the created strategy
+     * @see ExponentialPolling
+     * @since 2.7
+     */
+    public static ExponentialPolling exponential(long initialInterval, double factor, long maxInterval) {
+        return new ExponentialPolling(initialInterval, factor, maxInterval);
+    }
+
+    /**
+     * Creates a new {@link FibonacciPolling} strategy.
+     *
+     * @param initialInterval the first interval in milliseconds
+     * @param maxInterval the maximum interval in milliseconds
+     * @return the created strategy
+     * @see FibonacciPolling
+     * @since 2.7
+     */
+    public static FibonacciPolling fibonacci(long initialInterval, long maxInterval) {
+        return new FibonacciPolling(initialInterval, maxInterval);
+    }
+
+    /**
+     * Creates a new {@link JitteredPolling} strategy.
+     *
+     * @param strategy the strategy which intervals should be varied
+     * @param jitter the maximum relative variation of each interval, between 0 and 1
+     * @return the created strategy
+     * @see JitteredPolling
+     * @since 2.7
+     */
+    public static JitteredPolling jittered(PollingStrategy strategy, double jitter) {
+        return new JitteredPolling(strategy, jitter);
+    }
+
+    /**
+     * Creates a new {@link AdaptivePolling} strategy.
+     *
+     * @param minInterval the minimum interval in milliseconds
+     * @param maxInterval the maximum interval in milliseconds
+     * @return the created strategy
+     * @see AdaptivePolling
+     * @since 2.7
+     */
+    public static AdaptivePolling adaptive(long minInterval, long maxInterval) {
+        return new AdaptivePolling(minInterval, maxInterval);
+    }
+
+    /**
+     * Creates the {@link PollingStrategy} described by the given {@link Configuration}. The
+     * {@link Configuration#getWaitPolling() polling type} selects the strategy, the
+     * {@link Configuration#getWaitInterval() wait interval} is used as its (initial or minimum) interval and the
+     * {@link Configuration#getWaitMaxInterval() maximum interval} caps growing intervals. In case a
+     * {@link Configuration#getWaitJitter() jitter} is configured, the strategy is {@link #jittered(PollingStrategy,
+     * double) jittered}.
+     *
+     * @param configuration the configuration to use
+     * @return the created strategy
+     * @throws IllegalArgumentException in case the configured polling type is unknown
+     * @since 2.7
+     */
+    public static PollingStrategy from(Configuration configuration) throws IllegalArgumentException {
+        String type = configuration.getWaitPolling();
+        long interval = configuration.getWaitInterval();
+        long maxInterval = Math.max(configuration.getWaitMaxInterval(), interval);
+        PollingStrategy strategy;
+        switch (type == null ? "fixed" : type.toLowerCase(Locale.ROOT)) {
+            case "fixed":
+                strategy = fixed(interval);
+                break;
+            case "exponential":
+                strategy = exponential(Math.max(interval, 1L), 2.0, Math.max(maxInterval, 1L));
+                break;
+            case "fibonacci":
+                strategy = fibonacci(Math.max(interval, 1L), Math.max(maxInterval, 1L));
+                break;
+            case "adaptive":
+                strategy = adaptive(Math.max(interval, 1L), Math.max(maxInterval, 1L));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown polling strategy: " + type);
+        }
+        double jitter = configuration.getWaitJitter();
+        return jitter > 0.0 ? jittered(strategy, jitter) : strategy;
+    }
+
+}
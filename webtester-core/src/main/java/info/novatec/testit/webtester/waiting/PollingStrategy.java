@@ -0,0 +1,56 @@
+package info.novatec.testit.webtester.waiting;
+
+/**
+ * A polling strategy decides how long to wait between two checks of a condition during a
+ * {@link Waiter#waitUntil(WaitConfig, java.util.function.Supplier) wait until} operation.
+ * <p>
+ * For each wait operation a new {@link Schedule schedule} is {@link #start() started}. Strategies are shared between
+ * wait operations (and threads) and must therefore be thread-safe. Schedules are only used by a single wait
+ * operation.
+ * <p>
+ * A set of default strategies can be initialized from {@link PollingStrategies}.
+ *
+ * @see PollingStrategies
+ * @see Waiter
+ * @since 2.7
+ */
+public interface PollingStrategy {
+
+    /**
+     * Starts a new {@link Schedule schedule} for a single wait operation.
+     *
+     * @return the new schedule
+     * @since 2.7
+     */
+    Schedule start();
+
+    /**
+     * The intervals between the checks of a single wait operation.
+     *
+     * @since 2.7
+     */
+    interface Schedule {
+
+        /**
+         * Returns the number of milliseconds to wait before the next check of the condition.
+         *
+         * @param elapsedMillis the number of milliseconds elapsed since the wait operation started
+         * @return the interval in milliseconds
+         * @since 2.7
+         */
+        long nextInterval(long elapsedMillis);
+
+        /**
+         * Is called once the condition was met. This can be used by strategies which learn from previous wait
+         * operations. The default implementation does nothing.
+         *
+         * @param elapsedMillis the number of milliseconds elapsed until the condition was met
+         * @since 2.7
+         */
+        default void conditionMet(long elapsedMillis) {
+            // nothing to learn by default
+        }
+
+    }
+
+}
@@ -1,11 +1,14 @@
 package info.novatec.testit.webtester.waiting;
 
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import lombok.Setter;
 import lombok.experimental.UtilityClass;
 
+import info.novatec.testit.webtester.conditions.CompilableCondition;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
 
@@ -19,6 +22,9 @@ import info.novatec.testit.webtester.pagefragments.PageFragment;
  * Wait.withTimeoutOf(5).until(fragment).is(visible());
  * Wait.withTimeoutOf(5, TimeUnit.SECONDS).until(fragment).is(visible());
  * Wait.until(fragment).is(visible()).but().not(editable());
+ * Wait.withTimeoutOf(5).pollingWith(exponential(50, 2.0, 1000)).until(fragment).is(visible());
+ * Wait.untilAll(target(chart, visible()), target(table, visible()));
+ * Wait.async().until(fragment, visible()).thenAccept(visibleFragment -&gt; ...);
  * </pre>
  *
  * @see Waiter
@@ -40,6 +46,26 @@ public class Wait {
     @Setter
     private static Supplier<Waiter> waiter = DEFAULT_WAITER;
 
+    /**
+     * The default {@link ScheduledExecutorService} supplier for asynchronous wait operations. Always returns the same
+     * executor, which uses one daemon thread per available processor.
+     *
+     * @since 2.7
+     */
+    public static final Supplier<ScheduledExecutorService> DEFAULT_ASYNC_EXECUTOR = AsyncWaiter::sharedExecutor;
+
+    /**
+     * A supplier used to get the {@link ScheduledExecutorService} on which the conditions of {@link AsyncWait
+     * asynchronous} wait operations are checked. The supplier can be changed externally, e.g. to use a differently
+     * sized executor. Since this is a static field you should keep in mind that this will have an JVM global effect!
+     * <p>
+     * The default supplier is {@link #DEFAULT_ASYNC_EXECUTOR}.
+     *
+     * @since 2.7
+     */
+    @Setter
+    private static Supplier<ScheduledExecutorService> asyncExecutor = DEFAULT_ASYNC_EXECUTOR;
+
     /**
      * Creates a {@link ConfiguredWait configured fluent wait} with a custom timeout.
      * <p>
@@ -73,6 +99,64 @@ public class Wait {
         return new ConfiguredWait(waiter.get(), new WaitConfig().setTimeout(timeout).setTimeUnit(timeUnit));
     }
 
+    /**
+     * Creates a {@link ConfiguredWait configured fluent wait} with a custom {@link PollingStrategy polling strategy}.
+     * <p>
+     * <b>Note:</b> see {@link WaitConfig} for defaults besides the polling strategy!
+     *
+     * @param strategy the polling strategy to use
+     * @return the fluent wait instance
+     * @see Wait
+     * @see ConfiguredWait
+     * @see PollingStrategies
+     * @since 2.7
+     */
+    public static ConfiguredWait pollingWith(PollingStrategy strategy) {
+        return new ConfiguredWait(waiter.get(), new WaitConfig().setPollingStrategy(strategy));
+    }
+
+    /**
+     * Returns the {@link WaitStatistics} in which the wait operations of the default waiter are recorded, in case they
+     * are enabled.
+     * <p>
+     * <b>Example:</b>
+     * <pre>
+     * Wait.statistics().setEnabled(true).reportOnShutdown(10);
+     * </pre>
+     *
+     * @return the wait statistics
+     * @see WaitStatistics
+     * @since 2.7
+     */
+    public static WaitStatistics statistics() {
+        return WaitStatistics.shared();
+    }
+
+    /**
+     * Creates an {@link AsyncWait asynchronous wait}, which doesn't block the calling thread but provides the result of
+     * its wait operations as a {@link java.util.concurrent.CompletableFuture CompletableFuture}. The timeout of page
+     * fragments is taken from their browser's configuration, for all other objects the defaults of {@link WaitConfig}
+     * are used.
+     * <p>
+     * <b>Example:</b>
+     * <pre>
+     * CompletableFuture&lt;Button&gt; button = Wait.async().until(page.button(), visible());
+     * </pre>
+     *
+     * @return the asynchronous wait instance
+     * @see Wait
+     * @see AsyncWait
+     * @see ConfiguredWait#async()
+     * @since 2.7
+     */
+    public static AsyncWait async() {
+        return new AsyncWait(asyncWaiter(), null);
+    }
+
+    static AsyncWaiter asyncWaiter() {
+        return new AsyncWaiter(asyncExecutor.get());
+    }
+
     /**
      * Creates a {@link WaitUntil} with the default timeout configuration of {@link WaitConfig} for the given object.
      *
@@ -119,6 +203,64 @@ public class Wait {
         return new WaitUntil<>(waiter.get(), WaitConfig.from(fragment), fragment);
     }
 
+    /**
+     * Waits until all of the given {@link WaitTarget targets} met their conditions, using the default timeout from the
+     * first target's page fragment's configuration.
+     * <p>
+     * In contrast to waiting for each target in turn, all targets are checked together and the wait takes as long as
+     * the slowest target. Targets with {@link CompilableCondition compilable} conditions are checked using a single
+     * JavaScript execution per check and browser.
+     * <p>
+     * <b>Example:</b>
+     * <pre>
+     * Wait.untilAll(target(chart, visible()), target(table, visible()), target(status, visibleText("ready")));
+     * </pre>
+     *
+     * @param targets the targets to wait for
+     * @return the result containing the targets in the order they met their conditions
+     * @throws IllegalArgumentException in case no targets are given
+     * @throws TimeoutException in case not all targets met their conditions within the timeout
+     * @see Wait
+     * @see WaitTarget
+     * @see MultiWaitResult
+     * @since 2.7
+     */
+    public static MultiWaitResult untilAll(WaitTarget<?>... targets)
+        throws IllegalArgumentException, TimeoutException {
+        return new MultiTargetWait(waiter.get(), configFor(targets), Arrays.asList(targets)).untilAll();
+    }
+
+    /**
+     * Waits until any of the given {@link WaitTarget targets} met its condition, using the default timeout from the
+     * first target's page fragment's configuration. All targets are checked together, see
+     * {@link #untilAll(WaitTarget[])}.
+     * <p>
+     * <b>Example:</b>
+     * <pre>
+     * MultiWaitResult result = Wait.untilAny(target(successMessage, visible()), target(errorMessage, visible()));
+     * </pre>
+     *
+     * @param targets the targets to wait for
+     * @return the result containing the targets which met their conditions
+     * @throws IllegalArgumentException in case no targets are given
+     * @throws TimeoutException in case no target met its condition within the timeout
+     * @see Wait
+     * @see WaitTarget
+     * @see MultiWaitResult
+     * @since 2.7
+     */
+    public static MultiWaitResult untilAny(WaitTarget<?>... targets)
+        throws IllegalArgumentException, TimeoutException {
+        return new MultiTargetWait(waiter.get(), configFor(targets), Arrays.asList(targets)).untilAny();
+    }
+
+    private static WaitConfig configFor(WaitTarget<?>... targets) {
+        if (targets.length == 0) {
+            throw new IllegalArgumentException("at least one target must be given");
+        }
+        return WaitConfig.from(targets[0].getFragment());
+    }
+
     /**
      * Executes a wait operation based on the default timeout configuration of {@link WaitConfig} and the given boolean
      * supplier. The wait is executed until either the supplier returns <code>true</code> or the timeout is reached.
@@ -9,6 +9,7 @@ import lombok.experimental.Accessors;
 import info.novatec.testit.webtester.browser.Browser;
 import info.novatec.testit.webtester.config.Configuration;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.waiting.polling.FixedPolling;
 
 
 /**
@@ -36,6 +37,22 @@ class WaitConfig {
     private TimeUnit timeUnit = DEFAULT_TIME_UNIT;
     /** The interval in which to check conditions of 'wait until X' style wait operations. */
     private long interval = DEFAULT_INTERVAL;
+    /**
+     * The strategy deciding the intervals between checks of 'wait until X' style wait operations. If not set, the
+     * {@link #interval} is used for all checks.
+     */
+    private PollingStrategy pollingStrategy;
+
+    /**
+     * Returns the {@link PollingStrategy} to use. In case none was set, a {@link FixedPolling fixed} strategy using
+     * the {@link #interval} is returned.
+     *
+     * @return the polling strategy
+     * @since 2.7
+     */
+    PollingStrategy getPollingStrategy() {
+        return pollingStrategy != null ? pollingStrategy : new FixedPolling(interval);
+    }
 
     /**
      * Converts the set {@link #timeout} into milliseconds.
@@ -79,7 +96,8 @@ class WaitConfig {
     static WaitConfig from(Configuration configuration) {
         return new WaitConfig().setTimeout(configuration.getWaitTimeout())
             .setTimeUnit(TimeUnit.SECONDS)
-            .setInterval(configuration.getWaitInterval());
+            .setInterval(configuration.getWaitInterval())
+            .setPollingStrategy(PollingStrategies.from(configuration));
     }
 
 }
@@ -0,0 +1,373 @@
+package info.novatec.testit.webtester.waiting;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.waiting.polling.AdaptivePolling;
+
+
+/**
+ * Records how long 'wait until X' operations of the {@link DefaultWaiter} take, grouped by call site.
+ * <p>
+ * A call site is the first stack frame outside of WebTester's waiting infrastructure (see
+ * {@link AdaptivePolling#currentCallSite()}), followed by a description of the checked condition, e.g.
+ * <code>com.example.LoginTest#login:42 username visible</code>. For each call site the number of waits, timeouts and
+ * polls as well as a histogram of the time until the condition was met are kept. The histogram uses power of two
+ * buckets (0ms, 1ms, 2-3ms, 4-7ms, ...), so percentiles are accurate to a factor of two. All values are updated
+ * without locking, so recording has no measurable impact on the waits.
+ * <p>
+ * Since descriptions of conditions may contain dynamic values, the number of call sites is limited to
+ * {@link #MAX_CALL_SITES}. Once it is reached, waits at further call sites are recorded as {@link #OTHER_CALL_SITES}.
+ * Concurrent waits at new call sites may exceed the limit slightly.
+ * <p>
+ * Recording is disabled by default. The resulting {@link #report(int) report} lists the slowest and most timeout-prone
+ * call sites. These are good candidates for tuning the {@link Configuration#getWaitTimeout() timeout} and
+ * {@link Configuration#getWaitInterval() interval}.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * Wait.statistics().setEnabled(true).reportOnShutdown(10);
+ * </pre>
+ *
+ * @see Wait#statistics()
+ * @see DefaultWaiter
+ * @since 2.7
+ */
+@Slf4j
+public final class WaitStatistics {
+
+    /** Waits which needed more than this fraction of their timeout are considered to be close to the timeout. */
+    public static final double NEAR_TIMEOUT_RATIO = 0.8;
+    /** The maximum number of distinct call sites which are recorded separately. */
+    public static final int MAX_CALL_SITES = 1000;
+    /** The name under which waits are recorded once {@link #MAX_CALL_SITES} call sites were recorded. */
+    public static final String OTHER_CALL_SITES = "(other call sites)";
+
+    private static final WaitStatistics SHARED = new WaitStatistics();
+    private static final int BUCKETS = 40;
+
+    private final ConcurrentMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    private final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
+    private volatile int shutdownReportLimit;
+    @Getter(AccessLevel.PACKAGE)
+    private final Thread shutdownHook =
+        new Thread(() -> log.info("{}", report(shutdownReportLimit)), "webtester-wait-statistics");
+
+    WaitStatistics() {
+    }
+
+    /**
+     * Returns the {@link WaitStatistics} shared by all {@link DefaultWaiter default waiters} within the JVM.
+     *
+     * @return the shared statistics
+     * @since 2.7
+     */
+    static WaitStatistics shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns whether or not wait operations are recorded.
+     *
+     * @return true if wait operations are recorded, otherwise false
+     * @since 2.7
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether or not wait operations should be recorded.
+     *
+     * @param enabled whether or not wait operations should be recorded
+     * @return the same instance for fluent API use
+     * @since 2.7
+     */
+    public WaitStatistics setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Records a finished wait operation for the given call site. In case {@link #MAX_CALL_SITES} call sites were
+     * already recorded, waits at new call sites are recorded as {@link #OTHER_CALL_SITES}.
+     *
+     * @param callSite the call site of the wait operation
+     * @param elapsedMillis the time in milliseconds until the condition was met or the wait timed out
+     * @param timeoutMillis the timeout of the wait operation in milliseconds
+     * @param polls the number of times the condition was checked
+     * @param timedOut whether or not the wait timed out
+     * @since 2.7
+     */
+    void record(String callSite, long elapsedMillis, long timeoutMillis, long polls, boolean timedOut) {
+        Recorder recorder = recorders.get(callSite);
+        if (recorder == null) {
+            String name = recorders.size() < MAX_CALL_SITES ? callSite : OTHER_CALL_SITES;
+            recorder = recorders.computeIfAbsent(name, key -> new Recorder());
+        }
+        recorder.record(elapsedMillis, timeoutMillis, polls, timedOut);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of all recorded call sites.
+     *
+     * @return the statistics of all call sites
+     * @since 2.7
+     */
+    public List<CallSite> getCallSites() {
+        return recorders.entrySet()
+            .stream()
+            .map(entry -> entry.getValue().snapshot(entry.getKey()))
+            .sorted(Comparator.comparing(CallSite::getName))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the given number of call sites with the highest 95th percentile of the time until their conditions were
+     * met.
+     *
+     * @param limit the maximum number of call sites to return
+     * @return the slowest call sites, slowest first
+     * @since 2.7
+     */
+    public List<CallSite> getSlowest(int limit) {
+        return getCallSites().stream()
+            .sorted(Comparator.comparingLong(( CallSite site ) -> site.getPercentileMillis(0.95))
+                .thenComparingLong(CallSite::getMaxMillis)
+                .reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the given number of call sites which timed out or came close to their timeout most often, relative to
+     * their number of waits. Call sites which never came close to their timeout are not included.
+     *
+     * @param limit the maximum number of call sites to return
+     * @return the most timeout-prone call sites, most prone first
+     * @see #NEAR_TIMEOUT_RATIO
+     * @since 2.7
+     */
+    public List<CallSite> getMostTimeoutProne(int limit) {
+        return getCallSites().stream()
+            .filter(site -> site.getTimeouts() + site.getNearTimeouts() > 0)
+            .sorted(Comparator.comparingDouble(CallSite::getTimeoutRate)
+                .thenComparingDouble(CallSite::getNearTimeoutRate)
+                .thenComparingDouble(CallSite::getMaxTimeoutRatio)
+                .reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a human readable report of the {@link #getSlowest(int) slowest} and {@link #getMostTimeoutProne(int)
+     * most timeout-prone} call sites.
+     *
+     * @param limit the maximum number of call sites per section
+     * @return the report
+     * @since 2.7
+     */
+    public String report(int limit) {
+        List<CallSite> callSites = getCallSites();
+        long waits = callSites.stream().mapToLong(CallSite::getWaits).sum();
+        StringBuilder report = new StringBuilder(512);
+        report.append(String.format("wait statistics: %d waits at %d call sites%n", waits, callSites.size()))
+            .append(String.format("slowest waits:%n"));
+        getSlowest(limit).forEach(site -> report.append("  ").append(format(site)).append(System.lineSeparator()));
+        report.append(String.format("most timeout-prone waits:%n"));
+        getMostTimeoutProne(limit).forEach(
+            site -> report.append("  ").append(format(site)).append(System.lineSeparator()));
+        return report.toString();
+    }
+
+    private static String format(CallSite site) {
+        return String.format(Locale.ROOT, "%s: %d waits, %d timeouts, %d near timeouts, p50 %dms, p95 %dms, max %dms, "
+                + "%.1f polls per wait, up to %.0f%% of timeout", site.getName(), site.getWaits(), site.getTimeouts(),
+            site.getNearTimeouts(), site.getPercentileMillis(0.5), site.getPercentileMillis(0.95), site.getMaxMillis(),
+            site.getMeanPolls(), site.getMaxTimeoutRatio() * 100);
+    }
+
+    /**
+     * Logs the {@link #report(int) report} when the JVM shuts down, e.g. at the end of a test run. The shutdown hook
+     * is only registered once, calling this method again just changes the limit.
+     *
+     * @param limit the maximum number of call sites per section
+     * @return the same instance for fluent API use
+     * @since 2.7
+     */
+    public WaitStatistics reportOnShutdown(int limit) {
+        shutdownReportLimit = limit;
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+        return this;
+    }
+
+    /**
+     * Removes all recorded statistics.
+     *
+     * @since 2.7
+     */
+    public void reset() {
+        recorders.clear();
+    }
+
+    static int bucketOf(long millis) {
+        if (millis <= 0) {
+            return 0;
+        }
+        return Math.min(64 - Long.numberOfLeadingZeros(millis), BUCKETS - 1);
+    }
+
+    static long upperBoundOf(int bucket) {
+        return bucket == 0 ? 0L : ( 1L << bucket ) - 1;
+    }
+
+    private static final class Recorder {
+
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder nearTimeouts = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final AtomicLong maxTimeoutPermille = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void record(long elapsedMillis, long timeoutMillis, long pollCount, boolean timedOut) {
+            waits.increment();
+            polls.add(pollCount);
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+            histogram.incrementAndGet(bucketOf(elapsedMillis));
+            double ratio = timeoutMillis > 0 ? ( double ) elapsedMillis / timeoutMillis : 1.0;
+            maxTimeoutPermille.accumulateAndGet(Math.round(ratio * 1000), Math::max);
+            if (timedOut) {
+                timeouts.increment();
+            } else if (ratio >= NEAR_TIMEOUT_RATIO) {
+                nearTimeouts.increment();
+            }
+        }
+
+        CallSite snapshot(String name) {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+            }
+            return new CallSite(name, waits.sum(), timeouts.sum(), nearTimeouts.sum(), polls.sum(), totalMillis.sum(),
+                maxMillis.get(), maxTimeoutPermille.get() / 1000.0, counts);
+        }
+
+    }
+
+    /**
+     * Snapshot of the statistics of a single call site.
+     *
+     * @since 2.7
+     */
+    @Getter
+    @ToString(exclude = "histogram")
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class CallSite {
+
+        /** The call site and description of the condition. */
+        private final String name;
+        /** The number of wait operations. */
+        private final long waits;
+        /** The number of wait operations which timed out. */
+        private final long timeouts;
+        /** The number of wait operations which were successful but close to their timeout. */
+        private final long nearTimeouts;
+        /** The total number of times the conditions were checked. */
+        private final long polls;
+        /** The total time in milliseconds spent waiting. */
+        private final long totalMillis;
+        /** The longest wait operation in milliseconds. */
+        private final long maxMillis;
+        /** The highest fraction of the timeout a wait operation needed. */
+        private final double maxTimeoutRatio;
+        @Getter(AccessLevel.NONE)
+        private final long[] histogram;
+
+        /**
+         * Returns the given percentile of the time until the conditions were met or timed out. The value is the upper
+         * bound of the histogram bucket containing the percentile, but never more than the longest wait (see
+         * <code>getMaxMillis()</code>).
+         *
+         * @param percentile the percentile between 0.0 and 1.0, e.g. 0.95
+         * @return the percentile in milliseconds
+         * @since 2.7
+         */
+        public long getPercentileMillis(double percentile) {
+            long rank = Math.max(1L, ( long ) Math.ceil(percentile * waits));
+            long count = 0L;
+            for (int i = 0; i < histogram.length; i++) {
+                count += histogram[i];
+                if (count >= rank) {
+                    return Math.min(upperBoundOf(i), maxMillis);
+                }
+            }
+            return maxMillis;
+        }
+
+        /**
+         * Returns the average time in milliseconds spent waiting.
+         *
+         * @return the average time in milliseconds
+         * @since 2.7
+         */
+        public double getMeanMillis() {
+            return waits == 0 ? 0.0 : ( double ) totalMillis / waits;
+        }
+
+        /**
+         * Returns the average number of times the conditions were checked per wait operation.
+         *
+         * @return the average number of polls
+         * @since 2.7
+         */
+        public double getMeanPolls() {
+            return waits == 0 ? 0.0 : ( double ) polls / waits;
+        }
+
+        /**
+         * Returns the fraction of wait operations which timed out.
+         *
+         * @return the timeout rate between 0.0 and 1.0
+         * @since 2.7
+         */
+        public double getTimeoutRate() {
+            return waits == 0 ? 0.0 : ( double ) timeouts / waits;
+        }
+
+        /**
+         * Returns the fraction of wait operations which were successful but close to their timeout.
+         *
+         * @return the near timeout rate between 0.0 and 1.0
+         * @see WaitStatistics#NEAR_TIMEOUT_RATIO
+         * @since 2.7
+         */
+        public double getNearTimeoutRate() {
+            return waits == 0 ? 0.0 : ( double ) nearTimeouts / waits;
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package info.novatec.testit.webtester.waiting;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * A {@link PageFragment page fragment} and the {@link Condition} it should meet, used to wait for several page
+ * fragments at once.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * Wait.untilAll(target(chart, visible()), target(table, visible()), target(status, visibleText("ready")));
+ * </pre>
+ *
+ * @param <T> the type of the page fragment
+ * @see Wait#untilAll(WaitTarget[])
+ * @see Wait#untilAny(WaitTarget[])
+ * @since 2.7
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WaitTarget<T extends PageFragment> {
+
+    /** The page fragment to check. */
+    @NonNull
+    private final T fragment;
+    /** The condition the page fragment should meet. */
+    @NonNull
+    private final Condition<? super T> condition;
+
+    /**
+     * Creates a new {@link WaitTarget} for the given page fragment and condition.
+     *
+     * @param fragment the page fragment to check
+     * @param condition the condition the page fragment should meet
+     * @param <T> the type of the page fragment
+     * @return the created target
+     * @since 2.7
+     */
+    public static <T extends PageFragment> WaitTarget<T> target(T fragment, Condition<? super T> condition) {
+        return new WaitTarget<>(fragment, condition);
+    }
+
+    /**
+     * Returns whether or not the page fragment currently meets the condition, checked within the JVM.
+     *
+     * @return true if the condition is met, otherwise false
+     */
+    boolean test() {
+        return condition.test(fragment);
+    }
+
+    @Override
+    public String toString() {
+        return fragment.getName().orElse("unnamed fragment") + " " + condition;
+    }
+
+}
@@ -1,17 +1,35 @@
 package info.novatec.testit.webtester.waiting;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.conditions.CompilableCondition;
+import info.novatec.testit.webtester.conditions.CompiledCondition;
 import info.novatec.testit.webtester.conditions.Condition;
 import info.novatec.testit.webtester.conditions.Conditions;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
 
 
 /**
  * This class offers a number of methods which allow for the waiting until a specific condition is met for any object type.
+ * <p>
+ * {@link JavaScriptCondition JavaScript conditions} for a {@link Browser browser} are not polled but waited for within
+ * the browser, see {@link Waiter#waitUntil(WaitConfig, Browser, JavaScriptCondition)}. In case
+ * {@link Configuration#isCompiledConditionsEnabled() compiled conditions} are enabled,
+ * {@link CompilableCondition compilable conditions} of {@link PageFragment page fragments} are checked using a single
+ * JavaScript execution, see {@link CompiledCondition}.
  *
  * @see Wait
  * @since 2.0
@@ -107,19 +125,126 @@ public class WaitUntil<T> {
     }
 
     private WaitUntil<T> doWait(Condition<? super T> condition) {
-        waiter.waitUntil(config, () -> {
+        if (condition instanceof JavaScriptCondition) {
+            T value = objectSupplier.get();
+            if (value instanceof Browser) {
+                waiter.waitUntil(config, ( Browser ) value, ( JavaScriptCondition ) condition);
+                return this;
+            }
+        }
+        waiter.waitUntil(config, check(objectSupplier, condition));
+        return this;
+    }
+
+    /**
+     * Creates a boolean {@link Supplier} checking the given condition against the supplied object, using the
+     * {@link CompiledCondition compiled} condition where enabled.
+     *
+     * @param objectSupplier the supplier of the object to check
+     * @param condition the condition to check
+     * @param <T> the type of the object
+     * @return the supplier checking the condition
+     * @since 2.7
+     */
+    static <T> Supplier<Boolean> check(Supplier<T> objectSupplier, Condition<? super T> condition) {
+        return new ConditionCheck<>(objectSupplier, condition);
+    }
+
+    private static boolean isCompiledConditionsEnabled(Object value) {
+        return value instanceof PageFragment && evaluatesCompiledConditions(( ( PageFragment ) value ).browser());
+    }
+
+    /**
+     * Returns whether or not {@link CompiledCondition compiled conditions} should be evaluated within the given
+     * browser, i.e. they are {@link Configuration#isCompiledConditionsEnabled() enabled} and the browser supports
+     * JavaScript.
+     */
+    static boolean evaluatesCompiledConditions(Browser browser) {
+        return browser.webDriver() instanceof JavascriptExecutor && browser.configuration().isCompiledConditionsEnabled();
+    }
+
+    private static RuntimeException handleClassCastException(Condition<?> condition, Object value, ClassCastException e) {
+        return new ConditionParameterMismatchException(condition.getClass(), value.getClass(), e);
+    }
+
+    /**
+     * Checks a condition against the supplied object. Its {@link #toString()} describes the condition and the name of
+     * the last checked {@link PageFragment page fragment}, e.g. for logging and {@link WaitStatistics}. Lambdas are
+     * not described, so each wait of the same code is recorded as the same call site.
+     * <p>
+     * For compiled conditions the web element of the page fragment is resolved once and only resolved again if it was
+     * missing or became stale, so each check is a single JavaScript execution.
+     */
+    private static final class ConditionCheck<T> implements Supplier<Boolean> {
+
+        private final Supplier<T> objectSupplier;
+        private final Condition<? super T> condition;
+        private final Optional<CompiledCondition> compiled;
+        private volatile Object lastValue;
+
+        private PageFragment resolvedFragment;
+        private WebElement webElement;
+        private NoSuchElementException missing;
+
+        ConditionCheck(Supplier<T> objectSupplier, Condition<? super T> condition) {
+            this.objectSupplier = objectSupplier;
+            this.condition = condition;
+            this.compiled = CompiledCondition.compile(condition);
+        }
+
+        @Override
+        public Boolean get() {
             T value = objectSupplier.get();
+            lastValue = value;
             try {
+                if (compiled.isPresent() && isCompiledConditionsEnabled(value)) {
+                    return testCompiled(compiled.get(), ( PageFragment ) value);
+                }
                 return condition.test(value);
             } catch (ClassCastException e) {
                 throw handleClassCastException(condition, value, e);
             }
-        });
-        return this;
-    }
+        }
+
+        private boolean testCompiled(CompiledCondition compiledCondition, PageFragment fragment) {
+            if (fragment != resolvedFragment || webElement == null) {
+                resolve(fragment);
+            }
+            Boolean met;
+            try {
+                met = compiledCondition.evaluate(fragment.browser(), webElement);
+            } catch (StaleElementReferenceException e) {
+                resolve(fragment);
+                met = compiledCondition.evaluate(fragment.browser(), webElement);
+            }
+            if (met == null) {
+                throw missing != null ? missing : new NoSuchElementException("page fragment is not present");
+            }
+            return met;
+        }
+
+        private void resolve(PageFragment fragment) {
+            resolvedFragment = fragment;
+            try {
+                webElement = fragment.webElement();
+                missing = null;
+            } catch (NoSuchElementException e) {
+                webElement = null;
+                missing = e;
+            }
+        }
+
+        @Override
+        public String toString() {
+            Optional<String> description = DefaultWaiter.describe(condition);
+            Object value = lastValue;
+            if (value instanceof PageFragment) {
+                String name = ( ( PageFragment ) value ).getName().orElse("unnamed fragment");
+                return description.map(conditionDescription -> name + " " + conditionDescription).orElse(name);
+            }
+            return description.orElse("");
+        }
 
-    private RuntimeException handleClassCastException(Condition<?> condition, Object value, ClassCastException e) {
-        return new ConditionParameterMismatchException(condition.getClass(), value.getClass(), e);
     }
 
     /**
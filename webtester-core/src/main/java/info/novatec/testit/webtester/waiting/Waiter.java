@@ -3,6 +3,9 @@ package info.novatec.testit.webtester.waiting;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+
 
 /**
  * Implementations of this interface provide different kinds of wait operations.
@@ -35,4 +38,21 @@ public interface Waiter {
      */
     void waitUntil(WaitConfig config, Supplier<Boolean> condition);
 
+    /**
+     * Waits until the given {@link JavaScriptCondition} is met within the given {@link Browser} or the
+     * {@link WaitConfig configured} timeout is reached.
+     * <p>
+     * By default the condition is polled like any other condition. Implementations might wait for it within the
+     * browser instead.
+     *
+     * @param config the configuration to use
+     * @param browser the browser to evaluate the condition in
+     * @param condition the condition to evaluate
+     * @see WaitConfig
+     * @since 2.7
+     */
+    default void waitUntil(WaitConfig config, Browser browser, JavaScriptCondition condition) {
+        waitUntil(config, () -> condition.test(browser));
+    }
+
 }
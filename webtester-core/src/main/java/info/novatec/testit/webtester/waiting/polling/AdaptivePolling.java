@@ -0,0 +1,189 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import info.novatec.testit.webtester.internal.implementation.PreGeneratedImplementations;
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+/**
+ * {@link PollingStrategy} which learns how long conditions typically take to be met and polls densely around that
+ * time.
+ * <p>
+ * The time until a condition was met is recorded per call site, i.e. the first stack frame outside of WebTester, the
+ * JDK and generated classes. Waits started by WebTester itself (e.g. {@code browser.activity().waitForQuiescence()})
+ * are therefore attributed to the code calling WebTester. For each call site a moving average of these times and their
+ * deviation is kept (similar to TCP's round trip time estimation). A schedule for a known call site waits until
+ * shortly before the expected time using a single interval, then checks using the minimum interval until shortly
+ * after the expected time and backs off exponentially up to the maximum interval afterwards. For unknown call sites
+ * the schedule backs off exponentially from the minimum interval.
+ * <p>
+ * By default all adaptive strategies share their knowledge about call sites within the JVM.
+ *
+ * @see PollingStrategy
+ * @since 2.7
+ */
+@Getter
+public class AdaptivePolling implements PollingStrategy {
+
+    private static final ConcurrentMap<String, Estimate> SHARED_ESTIMATES = new ConcurrentHashMap<>();
+
+    private static final String[] SKIPPED_PACKAGES =
+        { "info.novatec.testit.webtester.", "java.", "javax.", "sun.", "jdk.", "net.bytebuddy." };
+
+    /** The minimum interval in milliseconds, used while polling densely. */
+    private final long minInterval;
+    /** The maximum interval in milliseconds. */
+    private final long maxInterval;
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<String, Estimate> estimates;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<String> callSite;
+
+    public AdaptivePolling(long minInterval, long maxInterval) {
+        this(minInterval, maxInterval, SHARED_ESTIMATES, AdaptivePolling::currentCallSite);
+    }
+
+    AdaptivePolling(long minInterval, long maxInterval, ConcurrentMap<String, Estimate> estimates,
+        Supplier<String> callSite) {
+        if (minInterval < 1 || maxInterval < minInterval) {
+            throw new IllegalArgumentException(
+                "intervals must be positive and the maximum at least the minimum interval: " + minInterval + ", "
+                    + maxInterval);
+        }
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.estimates = estimates;
+        this.callSite = callSite;
+    }
+
+    @Override
+    public Schedule start() {
+        String site = callSite.get();
+        return new AdaptiveSchedule(site, Optional.ofNullable(estimates.get(site)));
+    }
+
+    /**
+     * Returns the expected time in milliseconds until conditions waited for at the given call site are met.
+     *
+     * @param callSite the call site, e.g. <code>com.example.LoginTest#login:42</code>
+     * @return the expected time in milliseconds or empty in case the call site is unknown
+     * @since 2.7
+     */
+    public Optional<Long> getExpectedMillis(String callSite) {
+        return Optional.ofNullable(estimates.get(callSite)).map(estimate -> Math.round(estimate.mean));
+    }
+
+    /**
+     * Returns the current call site, i.e. the first stack frame outside of WebTester, the JDK and generated classes
+     * (lambdas and page fragment implementations).
+     *
+     * @return the call site, e.g. <code>com.example.LoginTest#login:42</code>
+     * @since 2.7
+     */
+    public static String currentCallSite() {
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            String className = element.getClassName();
+            if (!isSkipped(className)) {
+                return className + '#' + element.getMethodName() + ':' + element.getLineNumber();
+            }
+        }
+        return "unknown";
+    }
+
+    static boolean isSkipped(String className) {
+        for (String skippedPackage : SKIPPED_PACKAGES) {
+            if (className.startsWith(skippedPackage)) {
+                return true;
+            }
+        }
+        return className.contains("$$Lambda$") || className.contains(PreGeneratedImplementations.SUFFIX);
+    }
+
+    @Override
+    public String toString() {
+        return "adaptive(" + minInterval + "ms - " + maxInterval + "ms)";
+    }
+
+    private final class AdaptiveSchedule implements Schedule {
+
+        private final String site;
+        private final Optional<Estimate> estimate;
+        private long backoff = minInterval;
+
+        private AdaptiveSchedule(String site, Optional<Estimate> estimate) {
+            this.site = site;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public long nextInterval(long elapsedMillis) {
+            if (estimate.isPresent()) {
+                long lower = estimate.get().lowerBound(minInterval);
+                if (elapsedMillis < lower) {
+                    return clamp(lower - elapsedMillis);
+                }
+                if (elapsedMillis <= estimate.get().upperBound(minInterval)) {
+                    return minInterval;
+                }
+            }
+            long interval = backoff;
+            backoff = Math.min(backoff * 2, maxInterval);
+            return interval;
+        }
+
+        @Override
+        public void conditionMet(long elapsedMillis) {
+            estimates.merge(site, new Estimate(elapsedMillis), Estimate::update);
+        }
+
+        private long clamp(long interval) {
+            return Math.max(minInterval, Math.min(interval, maxInterval));
+        }
+
+    }
+
+    /** Immutable moving average and mean deviation of the times until conditions were met. */
+    static final class Estimate {
+
+        private static final double MEAN_GAIN = 0.125;
+        private static final double DEVIATION_GAIN = 0.25;
+
+        private final double mean;
+        private final double deviation;
+
+        Estimate(long sample) {
+            this(sample, sample / 2.0);
+        }
+
+        private Estimate(double mean, double deviation) {
+            this.mean = mean;
+            this.deviation = deviation;
+        }
+
+        Estimate update(Estimate sample) {
+            double error = sample.mean - mean;
+            return new Estimate(mean + MEAN_GAIN * error, deviation + DEVIATION_GAIN * ( Math.abs(error) - deviation ));
+        }
+
+        long lowerBound(long minMargin) {
+            return Math.max(0L, Math.round(mean - margin(minMargin)));
+        }
+
+        long upperBound(long minMargin) {
+            return Math.round(mean + margin(minMargin));
+        }
+
+        private double margin(long minMargin) {
+            return Math.max(2 * deviation, minMargin);
+        }
+
+    }
+
+}
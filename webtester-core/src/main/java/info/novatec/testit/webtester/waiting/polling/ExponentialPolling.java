@@ -0,0 +1,63 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import lombok.Getter;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+/**
+ * {@link PollingStrategy} which multiplies the interval by a constant factor after each check until a maximum interval
+ * is reached. This checks frequently for fast conditions while keeping the number of checks of slow conditions low.
+ * <p>
+ * <b>Example:</b> an initial interval of 50ms, a factor of 2 and a maximum of 500ms result in the schedule 50, 100,
+ * 200, 400, 500, 500, ...
+ *
+ * @see PollingStrategy
+ * @since 2.7
+ */
+@Getter
+public class ExponentialPolling implements PollingStrategy {
+
+    /** The first interval in milliseconds. */
+    private final long initialInterval;
+    /** The factor to multiply the interval by after each check. */
+    private final double factor;
+    /** The maximum interval in milliseconds. */
+    private final long maxInterval;
+
+    public ExponentialPolling(long initialInterval, double factor, long maxInterval) {
+        if (initialInterval < 1 || maxInterval < initialInterval) {
+            throw new IllegalArgumentException(
+                "intervals must be positive and the maximum at least the initial interval: " + initialInterval + ", "
+                    + maxInterval);
+        }
+        if (factor < 1.0) {
+            throw new IllegalArgumentException("factor must not be less than 1: " + factor);
+        }
+        this.initialInterval = initialInterval;
+        this.factor = factor;
+        this.maxInterval = maxInterval;
+    }
+
+    @Override
+    public Schedule start() {
+        return new Schedule() {
+
+            private double interval = initialInterval;
+
+            @Override
+            public long nextInterval(long elapsedMillis) {
+                long next = ( long ) Math.min(interval, maxInterval);
+                interval = Math.min(interval * factor, maxInterval);
+                return next;
+            }
+
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "exponential(" + initialInterval + "ms x" + factor + " up to " + maxInterval + "ms)";
+    }
+
+}
@@ -0,0 +1,59 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import lombok.Getter;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+/**
+ * {@link PollingStrategy} which grows the interval following the Fibonacci sequence until a maximum interval is
+ * reached. The intervals grow slower than with {@link ExponentialPolling exponential} polling by a factor of two.
+ * <p>
+ * <b>Example:</b> an initial interval of 50ms and a maximum of 500ms result in the schedule 50, 50, 100, 150, 250,
+ * 400, 500, 500, ...
+ *
+ * @see PollingStrategy
+ * @since 2.7
+ */
+@Getter
+public class FibonacciPolling implements PollingStrategy {
+
+    /** The first interval in milliseconds. */
+    private final long initialInterval;
+    /** The maximum interval in milliseconds. */
+    private final long maxInterval;
+
+    public FibonacciPolling(long initialInterval, long maxInterval) {
+        if (initialInterval < 1 || maxInterval < initialInterval) {
+            throw new IllegalArgumentException(
+                "intervals must be positive and the maximum at least the initial interval: " + initialInterval + ", "
+                    + maxInterval);
+        }
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+    }
+
+    @Override
+    public Schedule start() {
+        return new Schedule() {
+
+            private long current = initialInterval;
+            private long next = initialInterval;
+
+            @Override
+            public long nextInterval(long elapsedMillis) {
+                long interval = current;
+                current = next;
+                next = Math.min(interval + next, maxInterval);
+                return interval;
+            }
+
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "fibonacci(" + initialInterval + "ms up to " + maxInterval + "ms)";
+    }
+
+}
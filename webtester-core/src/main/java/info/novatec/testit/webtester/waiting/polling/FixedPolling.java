@@ -0,0 +1,39 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import lombok.Getter;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+/**
+ * {@link PollingStrategy} which always waits the same interval between two checks.
+ * <p>
+ * <b>Example:</b> an interval of 100ms results in the schedule 100, 100, 100, ...
+ *
+ * @see PollingStrategy
+ * @since 2.7
+ */
+@Getter
+public class FixedPolling implements PollingStrategy {
+
+    /** The interval in milliseconds. */
+    private final long interval;
+
+    public FixedPolling(long interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("interval must not be negative: " + interval);
+        }
+        this.interval = interval;
+    }
+
+    @Override
+    public Schedule start() {
+        return elapsedMillis -> interval;
+    }
+
+    @Override
+    public String toString() {
+        return "fixed(" + interval + "ms)";
+    }
+
+}
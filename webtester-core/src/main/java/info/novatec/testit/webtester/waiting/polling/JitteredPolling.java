@@ -0,0 +1,70 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+/**
+ * {@link PollingStrategy} which randomly varies the intervals of another strategy. This spreads the checks of many
+ * browsers waiting in parallel (e.g. on a Selenium Grid) instead of sending them in bursts.
+ * <p>
+ * Each interval is varied by up to the given jitter in both directions: a jitter of 0.25 turns an interval of 100ms
+ * into a random interval between 75ms and 125ms.
+ *
+ * @see PollingStrategy
+ * @since 2.7
+ */
+@Getter
+public class JitteredPolling implements PollingStrategy {
+
+    /** The strategy which intervals are varied. */
+    private final PollingStrategy strategy;
+    /** The maximum relative variation of each interval, between 0 and 1. */
+    private final double jitter;
+    @Getter(AccessLevel.NONE)
+    private final DoubleSupplier random;
+
+    public JitteredPolling(PollingStrategy strategy, double jitter) {
+        this(strategy, jitter, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    JitteredPolling(PollingStrategy strategy, double jitter, DoubleSupplier random) {
+        if (jitter < 0.0 || jitter > 1.0) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter);
+        }
+        this.strategy = strategy;
+        this.jitter = jitter;
+        this.random = random;
+    }
+
+    @Override
+    public Schedule start() {
+        Schedule schedule = strategy.start();
+        return new Schedule() {
+
+            @Override
+            public long nextInterval(long elapsedMillis) {
+                long interval = schedule.nextInterval(elapsedMillis);
+                double variation = jitter * ( 2.0 * random.getAsDouble() - 1.0 );
+                return Math.max(0L, Math.round(interval * ( 1.0 + variation )));
+            }
+
+            @Override
+            public void conditionMet(long elapsedMillis) {
+                schedule.conditionMet(elapsedMillis);
+            }
+
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "jittered(" + strategy + " by " + jitter + ")";
+    }
+
+}
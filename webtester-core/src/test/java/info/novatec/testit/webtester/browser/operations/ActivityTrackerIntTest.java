@@ -0,0 +1,67 @@
+package info.novatec.testit.webtester.browser.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import utils.integration.BaseIntTest;
+
+import info.novatec.testit.webtester.pagefragments.Button;
+import info.novatec.testit.webtester.pagefragments.GenericElement;
+
+
+public class ActivityTrackerIntTest extends BaseIntTest {
+
+    ActivityTracker cut;
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/browser/activity.html";
+    }
+
+    @Before
+    public void installTracking() {
+        cut = browser().activity().install();
+    }
+
+    @Test
+    public void chainedTimersAreWaitedFor() {
+        browser().find(Button.class).by("#chained").click();
+        cut.waitForQuiescence();
+        assertThat(result().getVisibleText()).isEqualTo("done");
+    }
+
+    @Test
+    public void requestsAndTheirFollowUpTimersAreWaitedFor() {
+        browser().find(Button.class).by("#request").click();
+        cut.waitForQuiescence();
+        assertThat(result().getVisibleText()).isEqualTo("loaded");
+    }
+
+    @Test
+    public void pagesWhichKeepPollingBecomeQuiescent() {
+        browser().find(Button.class).by("#polling").click();
+        cut.waitForQuiescence();
+        assertThat(cut.isQuiescent()).isTrue();
+    }
+
+    @Test
+    public void timersBeyondTheConfiguredChainAreNotTracked() {
+        configuration().setActivityTimerChain(0);
+        try {
+            open(getHTMLFilePath());
+            cut.install();
+            browser().find(Button.class).by("#chained").click();
+            cut.waitForQuiescence();
+            assertThat(result().getVisibleText()).isNotEqualTo("done");
+        } finally {
+            configuration().setActivityTimerChain(3);
+        }
+    }
+
+    GenericElement result() {
+        return browser().find("#result");
+    }
+
+}
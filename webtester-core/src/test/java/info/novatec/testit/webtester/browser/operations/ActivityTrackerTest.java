@@ -0,0 +1,154 @@
+package info.novatec.testit.webtester.browser.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.waiting.TimeoutException;
+import info.novatec.testit.webtester.waiting.polling.AdaptivePolling;
+
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ActivityTrackerTest {
+
+    @Mock
+    Browser browser;
+    @Mock
+    Configuration configuration;
+    @Mock
+    JavaScriptExecutor javaScript;
+
+    ActivityTracker cut;
+
+    @Before
+    public void setUp() {
+        doReturn(javaScript).when(browser).javaScript();
+        doReturn(configuration).when(browser).configuration();
+        doReturn(1).when(configuration).getWaitTimeout();
+        doReturn(10L).when(configuration).getWaitInterval();
+        cut = new ActivityTracker(browser);
+        doReturn(cut).when(browser).activity();
+    }
+
+    @Test
+    public void instrumentationIsInstalledWithConfiguredTimerChain() {
+        doReturn(5).when(configuration).getActivityTimerChain();
+        cut.install();
+        verify(javaScript).execute(anyString(), eq(5));
+    }
+
+    @Test
+    public void stateIsReadWithConfiguredTimerChain() {
+        doReturn(5).when(configuration).getActivityTimerChain();
+        stubState(state(true, 0L, 0L, 150L));
+        cut.isQuiescent();
+        verify(javaScript).executeWithReturn(anyString(), eq(5));
+    }
+
+    @Test
+    public void documentReadyStateIsReported() {
+        stubState(state(true, 1L, 0L, 0L));
+        assertThat(cut.isDocumentReady()).isTrue();
+        stubState(state(false, 0L, 0L, 0L));
+        assertThat(cut.isDocumentReady()).isFalse();
+    }
+
+    @Test
+    public void pendingRequestsAreReported() {
+        stubState(state(true, 3L, 0L, 0L));
+        assertThat(cut.getPendingRequests()).isEqualTo(3L);
+    }
+
+    @Test
+    public void idlePageIsQuiescent() {
+        stubState(state(true, 0L, 0L, 150L));
+        assertThat(cut.isQuiescent()).isTrue();
+    }
+
+    @Test
+    public void pageWithPendingRequestsIsNotQuiescent() {
+        stubState(state(true, 1L, 0L, 150L));
+        assertThat(cut.isQuiescent()).isFalse();
+    }
+
+    @Test
+    public void pageWithPendingTimersIsNotQuiescent() {
+        stubState(state(true, 0L, 1L, 150L));
+        assertThat(cut.isQuiescent()).isFalse();
+    }
+
+    @Test
+    public void loadingPageIsNotQuiescent() {
+        stubState(state(false, 0L, 0L, 150L));
+        assertThat(cut.isQuiescent()).isFalse();
+    }
+
+    @Test
+    public void recentlyActivePageIsNotQuiescent() {
+        stubState(state(true, 0L, 0L, 50L));
+        assertThat(cut.isQuiescent()).isFalse();
+        assertThat(cut.isQuiescent(50L)).isTrue();
+    }
+
+    @Test
+    public void waitingForQuiescenceEndsOnceThePageIsQuiescent() {
+        doReturn(state(true, 1L, 0L, 0L), state(true, 0L, 0L, 10L), state(true, 0L, 0L, 120L)).when(javaScript)
+            .executeWithReturn(anyString(), any());
+        cut.waitForQuiescence();
+        verify(javaScript, times(3)).executeWithReturn(anyString(), any());
+    }
+
+    @Test
+    public void waitingForQuiescenceTimesOut() {
+        stubState(state(true, 1L, 0L, 0L));
+        assertThatThrownBy(() -> cut.waitForQuiescence(0L)).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void waitingForQuiescenceIsAttributedToTheCallingCode() {
+        // the call site is computed while checking the condition, i.e. deep within the tracker and the waiting code
+        List<String> callSites = new ArrayList<>();
+        doReturn(new JavaScriptExecutor(browser) {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T executeWithReturn(String script, Object... parameters) {
+                callSites.add(AdaptivePolling.currentCallSite());
+                return ( T ) state(true, 0L, 0L, 150L);
+            }
+        }).when(browser).javaScript();
+        cut.waitForQuiescence();
+        assertThat(callSites).containsExactly(AdaptivePolling.currentCallSite());
+    }
+
+    void stubState(Map<String, Object> state) {
+        doReturn(state).when(javaScript).executeWithReturn(anyString(), any());
+    }
+
+    static Map<String, Object> state(boolean ready, long requests, long timers, long idle) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("ready", ready);
+        state.put("requests", requests);
+        state.put("timers", timers);
+        state.put("idle", idle);
+        return state;
+    }
+
+}
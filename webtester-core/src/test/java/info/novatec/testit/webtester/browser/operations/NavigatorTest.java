@@ -22,6 +22,7 @@ import info.novatec.testit.webtester.browser.Browser;
 import info.novatec.testit.webtester.events.EventSystem;
 import info.novatec.testit.webtester.events.browser.NavigatedBackwardsEvent;
 import info.novatec.testit.webtester.events.browser.NavigatedForwardsEvent;
+import info.novatec.testit.webtester.internal.ElementCaches;
 
 
 @EnableMocking
@@ -56,6 +57,13 @@ class NavigatorTest {
             verify(webDriver.navigate()).forward();
         }
 
+        @Test
+        void navigatingForwardsInvalidatesCachedElements() {
+            long version = ElementCaches.versionOf(browser);
+            cut.forwards();
+            assertThat(ElementCaches.versionOf(browser)).isGreaterThan(version);
+        }
+
         @Test
         void navigatingForwardsFiresEvent() {
             cut.forwards();
@@ -0,0 +1,55 @@
+package info.novatec.testit.webtester.browser.snapshots;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import utils.integration.BaseIntTest;
+
+import info.novatec.testit.webtester.pagefragments.Checkbox;
+import info.novatec.testit.webtester.pagefragments.GenericElement;
+import info.novatec.testit.webtester.pagefragments.SingleSelect;
+import info.novatec.testit.webtester.pagefragments.TextArea;
+import info.novatec.testit.webtester.pagefragments.TextField;
+
+
+public class DomSnapshotIntTest extends BaseIntTest {
+
+    static final List<String> ELEMENTS = Arrays.asList("visible", "nbsp", "displayNone", "parentDisplayNone",
+        "visibilityHidden", "parentTransparent", "zeroSizedWithChild", "text", "first", "hiddenOption");
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/browser/dom-snapshot.html";
+    }
+
+    @Test
+    public void visibilityAndTextsAreTheSameAsInTheBrowser() {
+        try (DomSnapshot snapshot = browser().domSnapshot()) {
+            for (String id : ELEMENTS) {
+                GenericElement live = browser().find('#' + id);
+                GenericElement offline = snapshot.browser().find('#' + id);
+                assertThat(offline.isVisible()).as(id).isEqualTo(live.isVisible());
+                assertThat(offline.getVisibleText()).as(id).isEqualTo(live.getVisibleText());
+            }
+        }
+    }
+
+    @Test
+    public void currentStateOfFormControlsIsSerialized() {
+        browser().find(TextField.class).by("#text").setText("changed");
+        browser().find(Checkbox.class).by("#checkbox").select();
+        browser().find(TextArea.class).by("#area").setText("typed");
+        browser().find(SingleSelect.class).by("#select").selectByText("two");
+        try (DomSnapshot snapshot = browser().domSnapshot()) {
+            assertThat(snapshot.browser().find(TextField.class).by("#text").getText()).isEqualTo("changed");
+            assertThat(snapshot.browser().find(Checkbox.class).by("#checkbox").isSelected()).isTrue();
+            assertThat(snapshot.browser().find(TextArea.class).by("#area").getText()).isEqualTo("typed");
+            assertThat(snapshot.browser().find(SingleSelect.class).by("#select").getSelectionText()).contains("two");
+        }
+    }
+
+}
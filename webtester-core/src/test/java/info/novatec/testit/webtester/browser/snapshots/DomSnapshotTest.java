@@ -0,0 +1,121 @@
+package info.novatec.testit.webtester.browser.snapshots;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.browser.operations.PageSourceSaver;
+import info.novatec.testit.webtester.config.BaseConfiguration;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.internal.snapshots.SnapshotDocument;
+import info.novatec.testit.webtester.pagefragments.GenericElement;
+import info.novatec.testit.webtester.pagefragments.ListItem;
+import info.novatec.testit.webtester.pagefragments.TextField;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pages.Page;
+
+
+class DomSnapshotTest {
+
+    static final String HTML = ""//
+        + "<html><head><title>Results</title></head><body>"
+        + "<input id='query' value='webtester'>"
+        + "<ul><li class='result'>first</li><li class='result'>second</li><li class='result' hidden>third</li></ul>"
+        + "</body></html>";
+
+    Browser browser = mock(Browser.class);
+    PageSourceSaver pageSource = mock(PageSourceSaver.class);
+    Configuration configuration = new BaseConfiguration().setMarkingsEnabled(true).setWaitTimeout(7);
+
+    @BeforeEach
+    void setUp() {
+        when(browser.webDriver()).thenReturn(mock(WebDriver.class));
+        when(browser.configuration()).thenReturn(configuration);
+        when(browser.pageSource()).thenReturn(pageSource);
+        when(browser.currentUrl()).thenReturn("http://localhost/results");
+        when(pageSource.get()).thenReturn(HTML);
+    }
+
+    @Test
+    void pagesAreEvaluatedAgainstSnapshot() {
+        try (DomSnapshot snapshot = DomSnapshot.of(browser)) {
+            ResultPage page = snapshot.create(ResultPage.class);
+            assertThat(page.query().getText()).isEqualTo("webtester");
+            assertThat(page.results()).extracting(ListItem::getVisibleText).containsExactly("first", "second", "");
+            assertThat(page.results().get(2).isVisible()).isFalse();
+            assertThat(page.missing().isPresent()).isFalse();
+            assertThat(snapshot.browser().currentPageTitle()).isEqualTo("Results");
+            assertThat(snapshot.getUrl()).isEqualTo("http://localhost/results");
+        }
+        verify(pageSource).get();
+    }
+
+    @Test
+    void adHocFindingIsEvaluatedAgainstSnapshot() {
+        try (DomSnapshot snapshot = DomSnapshot.of(browser)) {
+            assertThat(snapshot.browser().find("li.result").getVisibleText()).isEqualTo("first");
+        }
+    }
+
+    @Test
+    void configurationIsCopiedWithoutJavaScriptFeatures() {
+        try (DomSnapshot snapshot = DomSnapshot.of(browser)) {
+            Configuration copy = snapshot.browser().configuration();
+            assertThat(copy).isNotSameAs(configuration);
+            assertThat(copy.getWaitTimeout()).isEqualTo(7);
+            assertThat(copy.isMarkingsEnabled()).isFalse();
+        }
+    }
+
+    @Test
+    void browserSerializedSnapshotsAreTakenWithSingleScript() {
+        JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+        List<String> result = asList("http://localhost/rendered", "<p id='p' data-webtester-invisible>x</p>");
+        WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(browser.webDriver()).thenReturn(webDriver);
+        when(browser.javaScript()).thenReturn(javaScript);
+        when(javaScript.executeWithReturn(anyString(), eq(SnapshotDocument.INVISIBLE_MARKER))).thenReturn(result);
+        try (DomSnapshot snapshot = DomSnapshot.of(browser)) {
+            assertThat(snapshot.getUrl()).isEqualTo("http://localhost/rendered");
+            assertThat(snapshot.browser().find("#p").isVisible()).isFalse();
+        }
+    }
+
+    @Test
+    void closedSnapshotsAreReleased() {
+        DomSnapshot snapshot = DomSnapshot.of(browser);
+        ResultPage page = snapshot.create(ResultPage.class);
+        snapshot.close();
+        assertThat(snapshot.isReleased()).isTrue();
+        assertThrows(IllegalStateException.class, () -> page.query().getText());
+    }
+
+    public interface ResultPage extends Page {
+
+        @IdentifyUsing("#query")
+        TextField query();
+
+        @IdentifyUsing(".result")
+        List<ListItem> results();
+
+        @IdentifyUsing("#missing")
+        GenericElement missing();
+
+    }
+
+}
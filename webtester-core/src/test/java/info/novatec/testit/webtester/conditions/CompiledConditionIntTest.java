@@ -0,0 +1,93 @@
+package info.novatec.testit.webtester.conditions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import utils.integration.BaseIntTest;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+/**
+ * Verifies that compiled conditions are evaluated the same way within the browser as their Java implementations using
+ * the WebDriver commands.
+ */
+public class CompiledConditionIntTest extends BaseIntTest {
+
+    static final List<String> ELEMENTS = Arrays.asList("visible", "nbsp", "padded", "displayNone", "parentDisplayNone",
+        "visibilityHidden", "visibleInHidden", "transparent", "parentTransparent", "zeroSized", "zeroSizedWithChild",
+        "text", "readonly", "disabled", "disabledByFieldset", "hiddenInput", "checked", "unchecked", "select", "option",
+        "groupedOption", "hiddenSelect", "hiddenOption", "link", "missing");
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/conditions/compiled-conditions.html";
+    }
+
+    @Test
+    public void visibilityIsEvaluatedLikeWebDriver() {
+        assertSameResults(Conditions.visible(), Conditions.invisible(), Conditions.presentAndVisible());
+    }
+
+    @Test
+    public void stateIsEvaluatedLikeWebDriver() {
+        assertSameResults(Conditions.present(), Conditions.enabled(), Conditions.disabled(), Conditions.readOnly(),
+            Conditions.editable(), Conditions.interactable());
+    }
+
+    @Test
+    public void visibleTextIsEvaluatedLikeWebDriver() {
+        assertSameResults(Conditions.visibleText("visible text"), Conditions.visibleText("non breaking  spaces"),
+            Conditions.visibleText("padded text"), Conditions.visibleText(""),
+            Conditions.visibleTextContaining("breaking "), Conditions.visibleTextContaining("parent"),
+            Conditions.visibleText("one"));
+    }
+
+    @Test
+    public void attributesAreEvaluatedLikeWebDriver() {
+        assertSameResults(Conditions.attribute("type"), Conditions.attribute("title"), Conditions.attribute("checked"),
+            Conditions.attribute("readonly"), Conditions.attribute("disabled"),
+            Conditions.attributeWithValue("type", "text"), Conditions.attributeWithValue("value", "foo"),
+            Conditions.attributeWithValue("checked", "true"), Conditions.attributeWithValue("readonly", "true"),
+            Conditions.attributeWithValue("href", getUrlFor(getHTMLFilePath()) + "#anchor"));
+    }
+
+    @Test
+    public void composedConditionsAreEvaluatedLikeWebDriver() {
+        assertSameResults(Conditions.not(Conditions.visible()),
+            Conditions.either(Conditions.present(), Conditions.visible()),
+            Conditions.is(Conditions.enabled()), Conditions.has(Conditions.visibleTextContaining("text")));
+    }
+
+    @SafeVarargs
+    final void assertSameResults(Condition<PageFragment>... conditions) {
+        List<String> differences = new ArrayList<>();
+        for (Condition<PageFragment> condition : conditions) {
+            CompiledCondition compiled = CompiledCondition.compile(condition).get();
+            for (String id : ELEMENTS) {
+                PageFragment fragment = browser().find('#' + id);
+                String expected = outcomeOf(() -> condition.test(fragment));
+                String actual = outcomeOf(() -> compiled.test(fragment));
+                if (!expected.equals(actual)) {
+                    differences.add(condition + " of #" + id + ": expected " + expected + " but was " + actual);
+                }
+            }
+        }
+        assertThat(differences).isEmpty();
+    }
+
+    static String outcomeOf(Supplier<Boolean> evaluation) {
+        try {
+            return String.valueOf(evaluation.get());
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+}
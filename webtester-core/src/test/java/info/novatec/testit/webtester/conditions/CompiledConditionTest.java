@@ -0,0 +1,176 @@
+package info.novatec.testit.webtester.conditions;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.conditions.pagefragments.Present;
+import info.novatec.testit.webtester.conditions.pagefragments.Visible;
+import info.novatec.testit.webtester.conditions.syntax.Not;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+@RunWith(Enclosed.class)
+public class CompiledConditionTest {
+
+    public static class Compile {
+
+        @Test
+        public void compilableConditionsAreCompiled() {
+            CompiledCondition compiled = CompiledCondition.compile(new Visible()).get();
+            assertThat(compiled.getExpression()).isEqualTo("visible(need(e))");
+            assertThat(compiled.getScript()).contains("return !!(visible(need(e)));");
+        }
+
+        @Test
+        public void otherConditionsAreNotCompiled() {
+            Condition<Object> condition = object -> true;
+            assertThat(CompiledCondition.compile(condition)).isEmpty();
+        }
+
+        @Test
+        public void negatedCompilableConditionsAreCompiled() {
+            assertThat(CompiledCondition.compile(new Visible().negate()).get().getExpression())
+                .isEqualTo("!(visible(need(e)))");
+        }
+
+        @Test
+        public void toStringContainsExpression() {
+            assertThat(CompiledCondition.compile(new Present()).get()).hasToString("compiled(e != null)");
+        }
+
+    }
+
+    @RunWith(MockitoJUnitRunner.class)
+    public static class Evaluation {
+
+        @Mock
+        PageFragment fragment;
+        @Mock
+        Browser browser;
+        @Mock
+        JavaScriptExecutor javaScript;
+        @Mock
+        WebElement webElement;
+
+        @Before
+        public void stubBrowser() {
+            doReturn(browser).when(fragment).browser();
+            doReturn(javaScript).when(browser).javaScript();
+        }
+
+        @Test
+        public void conditionIsEvaluatedUsingSingleScriptExecution() {
+            doReturn(webElement).when(fragment).webElement();
+            doReturn(true).when(javaScript).executeWithReturn(contains("visible(need(e))"), ( Object ) eq(webElement));
+            boolean met = CompiledCondition.compile(new Visible()).get().test(fragment);
+            assertThat(met).isTrue();
+        }
+
+        @Test
+        public void conditionIsEvaluatedAgainstGivenElement() {
+            doReturn(false).when(javaScript).executeWithReturn(contains("visible(need(e))"), ( Object ) eq(webElement));
+            Boolean met = CompiledCondition.compile(new Visible()).get().evaluate(browser, webElement);
+            assertThat(met).isFalse();
+            verifyZeroInteractions(fragment);
+        }
+
+        @Test
+        public void missingElementIsPassedAsNull() {
+            doThrow(NoSuchElementException.class).when(fragment).webElement();
+            doReturn(true).when(javaScript).executeWithReturn(anyString(), ( Object ) isNull());
+            boolean met = CompiledCondition.compile(new Not<>(new Present())).get().test(fragment);
+            assertThat(met).isTrue();
+        }
+
+        @Test
+        public void missingElementIsThrownIfConditionRequiresIt() {
+            NoSuchElementException exception = new NoSuchElementException("not found");
+            doThrow(exception).when(fragment).webElement();
+            doReturn(null).when(javaScript).executeWithReturn(anyString(), ( Object ) isNull());
+            CompiledCondition compiled = CompiledCondition.compile(new Visible()).get();
+            assertThatThrownBy(() -> compiled.test(fragment)).isSameAs(exception);
+            verify(javaScript).executeWithReturn(anyString(), ( Object ) isNull());
+        }
+
+    }
+
+    @RunWith(MockitoJUnitRunner.class)
+    public static class EvaluationOfMany {
+
+        @Mock
+        Browser browser;
+        @Mock
+        JavaScriptExecutor javaScript;
+        @Mock
+        WebElement webElement;
+
+        @Test
+        public void conditionsAreEvaluatedUsingSingleScriptExecution() {
+            doReturn(javaScript).when(browser).javaScript();
+            doReturn(asList(true, null)).when(javaScript)
+                .executeWithReturn(contains("function (e) { return e != null; },\n  function (e) { return "
+                    + "visible(need(e)); }"), ( Object ) eq(asList(webElement, null)));
+            List<CompiledCondition> conditions =
+                asList(CompiledCondition.compile(new Present()).get(), CompiledCondition.compile(new Visible()).get());
+
+            List<Boolean> results = CompiledCondition.testAll(browser, conditions, asList(webElement, null));
+
+            assertThat(results).containsExactly(true, null);
+        }
+
+        @Test
+        public void nothingIsExecutedWithoutConditions() {
+            assertThat(CompiledCondition.testAll(browser, emptyList(), emptyList())).isEmpty();
+            verifyZeroInteractions(browser);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void numberOfConditionsAndElementsMustBeEqual() {
+            CompiledCondition.testAll(browser, asList(CompiledCondition.compile(new Visible()).get()), emptyList());
+        }
+
+    }
+
+    public static class Literal {
+
+        @Test
+        public void stringsAreSingleQuoted() {
+            assertThat(CompiledCondition.literal("foo bar")).isEqualTo("'foo bar'");
+        }
+
+        @Test
+        public void quotesAndBackslashesAreEscaped() {
+            assertThat(CompiledCondition.literal("it's a \\ \"test\"")).isEqualTo("'it\\'s a \\\\ \"test\"'");
+        }
+
+        @Test
+        public void lineTerminatorsAreEscaped() {
+            assertThat(CompiledCondition.literal("a\nb\rc\u2028d")).isEqualTo("'a\\u000ab\\u000dc\\u2028d'");
+        }
+
+    }
+
+}
@@ -8,6 +8,10 @@ import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
+import info.novatec.testit.webtester.conditions.browser.DocumentReady;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+import info.novatec.testit.webtester.conditions.browser.NoPendingRequests;
+import info.novatec.testit.webtester.conditions.browser.Quiescent;
 import info.novatec.testit.webtester.conditions.pagefragments.Attribute;
 import info.novatec.testit.webtester.conditions.pagefragments.AttributeWithValue;
 import info.novatec.testit.webtester.conditions.pagefragments.Disabled;
@@ -222,6 +226,31 @@ public class ConditionsTest {
             assertThat(condition.getExpectedPartialText()).isEqualTo("foo bar");
         }
 
+        @Test
+        public void javaScript() {
+            JavaScriptCondition condition = Conditions.javaScript("return arguments[0];", true);
+            assertThat(condition.getPredicate()).isEqualTo("return arguments[0];");
+            assertThat(condition.getArguments()).containsExactly(true);
+        }
+
+        @Test
+        public void documentReady() {
+            DocumentReady condition = Conditions.documentReady();
+            assertThat(condition).isNotNull();
+        }
+
+        @Test
+        public void noPendingRequests() {
+            NoPendingRequests condition = Conditions.noPendingRequests();
+            assertThat(condition).isNotNull();
+        }
+
+        @Test
+        public void quiescent() {
+            Quiescent condition = Conditions.quiescent(250L);
+            assertThat(condition.getQuietPeriodInMillis()).isEqualTo(250L);
+        }
+
     }
 
 }
@@ -0,0 +1,38 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
+
+
+public class DocumentReadyTest {
+
+    Browser browser = mock(Browser.class);
+    ActivityTracker activity = mock(ActivityTracker.class);
+
+    DocumentReady cut = new DocumentReady();
+
+    @Before
+    public void setUp() {
+        when(browser.activity()).thenReturn(activity);
+    }
+
+    @Test
+    public void readyDocumentEvaluatesToTrue() {
+        when(activity.isDocumentReady()).thenReturn(true);
+        assertThat(cut.test(browser)).isTrue();
+    }
+
+    @Test
+    public void loadingDocumentEvaluatesToFalse() {
+        when(activity.isDocumentReady()).thenReturn(false);
+        assertThat(cut.test(browser)).isFalse();
+    }
+
+}
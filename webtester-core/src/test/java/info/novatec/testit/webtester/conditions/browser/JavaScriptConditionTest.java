@@ -0,0 +1,67 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+public class JavaScriptConditionTest {
+
+    Browser browser = mock(Browser.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    WebElement webElement = mock(WebElement.class);
+    PageFragment fragment = mock(PageFragment.class);
+
+    @Before
+    public void setUp() {
+        when(browser.javaScript()).thenReturn(javaScript);
+        when(fragment.webElement()).thenReturn(webElement);
+    }
+
+    @Test
+    public void truthyPredicateEvaluatesToTrue() {
+        when(javaScript.executeWithReturn(anyString(), eq("foo"))).thenReturn(true);
+        JavaScriptCondition cut = new JavaScriptCondition("return arguments[0];", "foo");
+        assertThat(cut.test(browser)).isTrue();
+    }
+
+    @Test
+    public void falsyPredicateEvaluatesToFalse() {
+        when(javaScript.executeWithReturn(anyString(), eq("foo"))).thenReturn(false);
+        JavaScriptCondition cut = new JavaScriptCondition("return arguments[0];", "foo");
+        assertThat(cut.test(browser)).isFalse();
+    }
+
+    @Test
+    public void pageFragmentArgumentsAreResolvedToTheirWebElements() {
+        JavaScriptCondition cut = new JavaScriptCondition("return arguments[1].checked;", "foo", fragment);
+        assertThat(cut.resolveArguments()).containsExactly("foo", webElement);
+        cut.test(browser);
+        verify(javaScript).executeWithReturn(anyString(), eq("foo"), eq(webElement));
+    }
+
+    @Test
+    public void negatedConditionIsEvaluatedWithinTheBrowser() {
+        JavaScriptCondition cut = new JavaScriptCondition("return arguments[0];", "foo").negate();
+        assertThat(cut.getPredicate()).startsWith("return !(function () {\nreturn arguments[0];\n})");
+        assertThat(cut.getArguments()).containsExactly("foo");
+    }
+
+    @Test
+    public void toStringIsGeneratedCorrectly() {
+        JavaScriptCondition cut = new JavaScriptCondition("return true;");
+        assertThat(cut).hasToString("javaScript(return true;)");
+    }
+
+}
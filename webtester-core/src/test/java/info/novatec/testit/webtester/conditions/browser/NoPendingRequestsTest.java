@@ -0,0 +1,38 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
+
+
+public class NoPendingRequestsTest {
+
+    Browser browser = mock(Browser.class);
+    ActivityTracker activity = mock(ActivityTracker.class);
+
+    NoPendingRequests cut = new NoPendingRequests();
+
+    @Before
+    public void setUp() {
+        when(browser.activity()).thenReturn(activity);
+    }
+
+    @Test
+    public void noPendingRequestsEvaluatesToTrue() {
+        when(activity.getPendingRequests()).thenReturn(0L);
+        assertThat(cut.test(browser)).isTrue();
+    }
+
+    @Test
+    public void pendingRequestsEvaluateToFalse() {
+        when(activity.getPendingRequests()).thenReturn(2L);
+        assertThat(cut.test(browser)).isFalse();
+    }
+
+}
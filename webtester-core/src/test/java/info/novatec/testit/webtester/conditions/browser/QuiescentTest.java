@@ -0,0 +1,46 @@
+package info.novatec.testit.webtester.conditions.browser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.ActivityTracker;
+
+
+public class QuiescentTest {
+
+    Browser browser = mock(Browser.class);
+    ActivityTracker activity = mock(ActivityTracker.class);
+
+    @Before
+    public void setUp() {
+        when(browser.activity()).thenReturn(activity);
+    }
+
+    @Test
+    public void quiescentPageEvaluatesToTrue() {
+        when(activity.isQuiescent(250L)).thenReturn(true);
+        assertThat(new Quiescent(250L).test(browser)).isTrue();
+    }
+
+    @Test
+    public void activePageEvaluatesToFalse() {
+        when(activity.isQuiescent(250L)).thenReturn(false);
+        assertThat(new Quiescent(250L).test(browser)).isFalse();
+    }
+
+    @Test
+    public void defaultQuietPeriodIsUsed() {
+        assertThat(new Quiescent().getQuietPeriodInMillis()).isEqualTo(ActivityTracker.DEFAULT_QUIET_PERIOD);
+    }
+
+    @Test
+    public void toStringContainsQuietPeriod() {
+        assertThat(new Quiescent(250L)).hasToString("quiescent for 250ms");
+    }
+
+}
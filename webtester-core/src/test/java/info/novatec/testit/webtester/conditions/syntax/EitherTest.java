@@ -17,6 +17,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.conditions.pagefragments.Present;
+import info.novatec.testit.webtester.conditions.pagefragments.Visible;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 
 
@@ -105,6 +107,24 @@ public class EitherTest {
 
     }
 
+    public static class ToJavaScript {
+
+        @Test
+        public void compilableConditionsAreCompiledIntoAlternatives() {
+            Either<PageFragment> either = new Either<>(new Present(), new Visible());
+            String present = new Present().toJavaScript().get();
+            String visible = new Visible().toJavaScript().get();
+            assertThat(either.toJavaScript()).contains("(" + present + ") || (" + visible + ")");
+        }
+
+        @Test
+        public void conditionsCanNotBeCompiledIfAnyOfThemCanNotBeCompiled() {
+            Either<PageFragment> either = new Either<>(new Present(), pageFragment -> true);
+            assertThat(either.toJavaScript()).isEmpty();
+        }
+
+    }
+
     @RunWith(MockitoJUnitRunner.Silent.class)
     public static class ToString {
 
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.mock;
 import org.junit.Test;
 
 import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.conditions.pagefragments.Visible;
 
 
 public class HasTest {
@@ -25,6 +26,16 @@ public class HasTest {
         assertThat(has.test(object)).isFalse();
     }
 
+    @Test
+    public void compilableConditionIsCompiledIntoSameJavaScript() {
+        assertThat(new Has<>(new Visible()).toJavaScript()).isEqualTo(new Visible().toJavaScript());
+    }
+
+    @Test
+    public void otherConditionsCanNotBeCompiled() {
+        assertThat(new Has<>(object -> true).toJavaScript()).isEmpty();
+    }
+
     @Test
     public void toStringIsGeneratedCorrectly() {
         Condition<Object> condition = mock(Condition.class);
@@ -9,6 +9,7 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.conditions.pagefragments.Visible;
 
 
 @RunWith(MockitoJUnitRunner.class)
@@ -28,6 +29,16 @@ public class IsTest {
         assertThat(is.test(object)).isFalse();
     }
 
+    @Test
+    public void compilableConditionIsCompiledIntoSameJavaScript() {
+        assertThat(new Is<>(new Visible()).toJavaScript()).isEqualTo(new Visible().toJavaScript());
+    }
+
+    @Test
+    public void otherConditionsCanNotBeCompiled() {
+        assertThat(new Is<>(object -> true).toJavaScript()).isEmpty();
+    }
+
     @Test
     public void toStringIsGeneratedCorrectly() {
         Condition<Object> condition = mock(Condition.class);
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.mock;
 import org.junit.Test;
 
 import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.conditions.pagefragments.Visible;
 
 
 public class NotTest {
@@ -25,6 +26,17 @@ public class NotTest {
         assertThat(cut.test(object)).isTrue();
     }
 
+    @Test
+    public void compilableConditionIsCompiledIntoNegatedJavaScript() {
+        String visible = new Visible().toJavaScript().get();
+        assertThat(new Not<>(new Visible()).toJavaScript()).contains("!(" + visible + ")");
+    }
+
+    @Test
+    public void otherConditionsCanNotBeCompiled() {
+        assertThat(new Not<>(object -> true).toJavaScript()).isEmpty();
+    }
+
     @Test
     public void toStringIsGeneratedCorrectly() {
         Condition<Object> condition = mock(Condition.class);
@@ -18,6 +18,7 @@ import org.testit.testutils.mockito.junit5.EnableMocking;
 
 import info.novatec.testit.webtester.config.exceptions.InvalidValueTypeException;
 import info.novatec.testit.webtester.config.exceptions.SetNullValuesException;
+import info.novatec.testit.webtester.pagefragments.utils.TextEntryMode;
 
 
 class BaseConfigurationTest {
@@ -62,6 +63,46 @@ class BaseConfigurationTest {
         void defaultWaitConfiguration() {
             assertThat(cut.getWaitTimeout()).isEqualTo(2);
             assertThat(cut.getWaitInterval()).isEqualTo(100L);
+            assertThat(cut.getWaitPolling()).isEqualTo("fixed");
+            assertThat(cut.getWaitMaxInterval()).isEqualTo(1000L);
+            assertThat(cut.getWaitJitter()).isEqualTo(0.0);
+            assertThat(cut.getWaitScriptTimeout()).isEqualTo(30_000L);
+            assertThat(cut.isCompiledConditionsEnabled()).isFalse();
+        }
+
+        @Test
+        void defaultElementCacheConfiguration() {
+            assertThat(cut.isElementCacheEnabled()).isFalse();
+        }
+
+        @Test
+        void defaultBulkSelectionConfiguration() {
+            assertThat(cut.isBulkSelectionEnabled()).isFalse();
+        }
+
+        @Test
+        void defaultLazyFragmentsConfiguration() {
+            assertThat(cut.isLazyFragmentsEnabled()).isFalse();
+        }
+
+        @Test
+        void defaultValidateOnceConfiguration() {
+            assertThat(cut.isValidateOnceEnabled()).isFalse();
+        }
+
+        @Test
+        void defaultLocatorCompositionConfiguration() {
+            assertThat(cut.isLocatorCompositionEnabled()).isTrue();
+        }
+
+        @Test
+        void defaultTextEntryConfiguration() {
+            assertThat(cut.getTextEntryMode()).isEqualTo(TextEntryMode.KEYSTROKES);
+        }
+
+        @Test
+        void defaultActivityConfiguration() {
+            assertThat(cut.getActivityTimerChain()).isEqualTo(3);
         }
 
         @Test
@@ -85,6 +126,15 @@ class BaseConfigurationTest {
             assertThat(configuration).isSameAs(cut);
         }
 
+        @Test
+        void actionDecelerationChangesAreVisibleAfterBeingRead() {
+            assertThat(cut.getActionDeceleration()).isZero();
+            cut.setProperty("actions.deceleration", 100L);
+            assertThat(cut.getActionDeceleration()).isEqualTo(100L);
+            cut.removeProperty("actions.deceleration");
+            assertThat(cut.getActionDeceleration()).isZero();
+        }
+
         @Test
         void eventSystemEnabledCanBeChanged() {
             Configuration configuration = cut.setEventSystemEnabled(false);
@@ -175,6 +225,104 @@ class BaseConfigurationTest {
             assertThat(configuration).isSameAs(cut);
         }
 
+        @Test
+        void waitPollingCanBeChanged() {
+            Configuration configuration = cut.setWaitPolling("adaptive");
+            assertThat(cut.getWaitPolling()).isEqualTo("adaptive");
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void waitMaxIntervalCanBeChanged() {
+            Configuration configuration = cut.setWaitMaxInterval(5000L);
+            assertThat(cut.getWaitMaxInterval()).isEqualTo(5000L);
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void waitJitterCanBeChanged() {
+            Configuration configuration = cut.setWaitJitter(0.2);
+            assertThat(cut.getWaitJitter()).isEqualTo(0.2);
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void waitScriptTimeoutCanBeChanged() {
+            Configuration configuration = cut.setWaitScriptTimeout(60_000L);
+            assertThat(cut.getWaitScriptTimeout()).isEqualTo(60_000L);
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void compiledConditionsEnabledCanBeChanged() {
+            Configuration configuration = cut.setCompiledConditionsEnabled(true);
+            assertThat(cut.isCompiledConditionsEnabled()).isTrue();
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void elementCacheEnabledCanBeChanged() {
+            Configuration configuration = cut.setElementCacheEnabled(true);
+            assertThat(cut.isElementCacheEnabled()).isTrue();
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void bulkSelectionEnabledCanBeChanged() {
+            Configuration configuration = cut.setBulkSelectionEnabled(true);
+            assertThat(cut.isBulkSelectionEnabled()).isTrue();
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void lazyFragmentsEnabledCanBeChanged() {
+            Configuration configuration = cut.setLazyFragmentsEnabled(true);
+            assertThat(cut.isLazyFragmentsEnabled()).isTrue();
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void validateOnceEnabledCanBeChanged() {
+            Configuration configuration = cut.setValidateOnceEnabled(true);
+            assertThat(cut.isValidateOnceEnabled()).isTrue();
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void locatorCompositionEnabledCanBeChanged() {
+            Configuration configuration = cut.setLocatorCompositionEnabled(false);
+            assertThat(cut.isLocatorCompositionEnabled()).isFalse();
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void textEntryModeCanBeChanged() {
+            Configuration configuration = cut.setTextEntryMode(TextEntryMode.HYBRID);
+            assertThat(cut.getTextEntryMode()).isEqualTo(TextEntryMode.HYBRID);
+            assertThat(cut.getStringProperty("text-entry.mode")).contains("hybrid");
+            assertThat(configuration).isSameAs(cut);
+        }
+
+        @Test
+        void textEntryModeIsReadCaseInsensitive() {
+            cut.setProperty("text-entry.mode", "JavaScript");
+            assertThat(cut.getTextEntryMode()).isEqualTo(TextEntryMode.JAVASCRIPT);
+        }
+
+        @Test
+        void unknownTextEntryModeFallsBackToDefault() {
+            cut.setProperty("text-entry.mode", "telepathy");
+            assertThat(cut.getTextEntryMode()).isEqualTo(TextEntryMode.KEYSTROKES);
+            assertThat(cut.getActionDeceleration()).isZero();
+        }
+
+        @Test
+        void activityTimerChainCanBeChanged() {
+            Configuration configuration = cut.setActivityTimerChain(0);
+            assertThat(cut.getActivityTimerChain()).isZero();
+            assertThat(configuration).isSameAs(cut);
+        }
+
         @Test
         void remoteBrowserNameCanBeChanged() {
             Configuration configuration = cut.setRemoteBrowserName("chrome");
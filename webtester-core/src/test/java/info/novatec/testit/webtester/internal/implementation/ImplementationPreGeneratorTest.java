@@ -0,0 +1,85 @@
+package info.novatec.testit.webtester.internal.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pages.Page;
+
+
+public class ImplementationPreGeneratorTest {
+
+    ImplementationPreGenerator cut = new ImplementationPreGenerator(getClass().getClassLoader());
+
+    Path classesDirectory;
+
+    @BeforeEach
+    void createClassesDirectory() throws IOException {
+        classesDirectory = Files.createTempDirectory("webtester-classes");
+    }
+
+    @AfterEach
+    void deleteClassesDirectory() throws IOException {
+        FileUtils.deleteDirectory(classesDirectory.toFile());
+    }
+
+    @Test
+    void implementationsOfPublicPagesAndPageFragmentsAreGenerated() throws Exception {
+
+        copyClassFile(PublicPage.class);
+        copyClassFile(PublicPageFragment.class);
+
+        List<String> generated = cut.generate(classesDirectory.toFile());
+
+        String pageImplementation = PreGeneratedImplementations.implementationNameOf(PublicPage.class);
+        String pageFragmentImplementation = PreGeneratedImplementations.implementationNameOf(PublicPageFragment.class);
+        assertThat(generated).containsOnly(pageImplementation, pageFragmentImplementation);
+        assertThat(classFileOf(pageImplementation)).exists();
+        assertThat(classFileOf(pageFragmentImplementation)).exists();
+
+    }
+
+    @Test
+    void nonPublicInterfacesAndOtherClassesAreIgnored() throws Exception {
+        copyClassFile(NonPublicPageFragment.class);
+        copyClassFile(PublicClass.class);
+        assertThat(cut.generate(classesDirectory.toFile())).isEmpty();
+    }
+
+    void copyClassFile(Class<?> type) throws URISyntaxException, IOException {
+        String classFile = type.getName().replace('.', '/') + ".class";
+        Path source = Paths.get(getClass().getClassLoader().getResource(classFile).toURI());
+        Path target = classesDirectory.resolve(classFile);
+        Files.createDirectories(target.getParent());
+        Files.copy(source, target);
+    }
+
+    File classFileOf(String className) {
+        return classesDirectory.resolve(className.replace('.', File.separatorChar) + ".class").toFile();
+    }
+
+    public interface PublicPage extends Page {
+    }
+
+    public interface PublicPageFragment extends PageFragment {
+    }
+
+    interface NonPublicPageFragment extends PageFragment {
+    }
+
+    public static class PublicClass {
+    }
+
+}
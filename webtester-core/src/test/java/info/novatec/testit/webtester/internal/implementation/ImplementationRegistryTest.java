@@ -0,0 +1,128 @@
+package info.novatec.testit.webtester.internal.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+
+class ImplementationRegistryTest {
+
+    AtomicInteger generations = new AtomicInteger();
+
+    ImplementationRegistry<Object> cut = new ImplementationRegistry<>(type -> {
+        generations.incrementAndGet();
+        return ImplementationOfA.class;
+    });
+
+    @Test
+    void implementationIsGeneratedOnFirstAccess() {
+        Class<?> implementation = cut.getOrCreate(TypeA.class);
+        assertThat(implementation).isEqualTo(ImplementationOfA.class);
+        assertThat(generations).hasValue(1);
+    }
+
+    @Test
+    void implementationIsOnlyGeneratedOncePerType() {
+        cut.getOrCreate(TypeA.class);
+        cut.getOrCreate(TypeA.class);
+        cut.getOrCreate(TypeA.class);
+        assertThat(generations).hasValue(1);
+    }
+
+    @Test
+    void differentTypesAreGeneratedSeparately() {
+        cut.getOrCreate(TypeA.class);
+        cut.getOrCreate(TypeB.class);
+        assertThat(generations).hasValue(2);
+    }
+
+    @Test
+    void hitsAndMissesAreCounted() {
+        cut.getOrCreate(TypeA.class);
+        cut.getOrCreate(TypeA.class);
+        cut.getOrCreate(TypeA.class);
+        cut.getOrCreate(TypeB.class);
+        ImplementationRegistry.Statistics statistics = cut.getStatistics();
+        assertThat(statistics.getHits()).isEqualTo(2L);
+        assertThat(statistics.getMisses()).isEqualTo(2L);
+        assertThat(statistics.getGenerationTimeInNanos()).isPositive();
+    }
+
+    @Test
+    void failedGenerationsAreRetriedOnNextAccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        ImplementationRegistry<Object> registry = new ImplementationRegistry<>(type -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return ImplementationOfA.class;
+        });
+        assertThrows(IllegalStateException.class, () -> registry.getOrCreate(TypeA.class));
+        assertThat(registry.getOrCreate(TypeA.class)).isEqualTo(ImplementationOfA.class);
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void concurrentAccessGeneratesImplementationExactlyOnce() throws Exception {
+
+        int numberOfThreads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ImplementationRegistry<Object> registry = new ImplementationRegistry<>(type -> {
+            generations.incrementAndGet();
+            sleepBriefly();
+            return ImplementationOfA.class;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                Callable<Class<?>> lookup = () -> {
+                    start.await();
+                    return registry.getOrCreate(TypeA.class);
+                };
+                futures.add(executor.submit(lookup));
+            }
+            start.countDown();
+            for (Future<Class<?>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(ImplementationOfA.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(generations).hasValue(1);
+        assertThat(registry.getStatistics().getMisses()).isEqualTo(1L);
+        assertThat(registry.getStatistics().getHits()).isEqualTo(numberOfThreads - 1L);
+
+    }
+
+    static void sleepBriefly() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    interface TypeA {
+    }
+
+    interface TypeB {
+    }
+
+    static class ImplementationOfA implements TypeA {
+    }
+
+}
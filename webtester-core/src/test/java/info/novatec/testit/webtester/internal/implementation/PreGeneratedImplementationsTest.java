@@ -0,0 +1,90 @@
+package info.novatec.testit.webtester.internal.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.BasePageFragment;
+import info.novatec.testit.webtester.internal.mapping.MappingValidator;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+class PreGeneratedImplementationsTest {
+
+    static final InvocationHandler HANDLER = (proxy, method, args) -> null;
+
+    Map<String, Supplier<InvocationHandler>> handlers = new HashMap<>();
+
+    @Test
+    void implementationNameIsCanonicalNameWithSuffix() {
+        String name = PreGeneratedImplementations.implementationNameOf(NestedType.class);
+        assertThat(name).isEqualTo(getClass().getName() + ".NestedType$$Impl");
+    }
+
+    @Test
+    void missingImplementationIsNotFound() {
+        Optional<Class<? extends PageFragment>> implementation =
+            PreGeneratedImplementations.lookup(NestedType.class, BasePageFragment.class, handlers);
+        assertThat(implementation).isEmpty();
+    }
+
+    @Test
+    void existingImplementationIsFound() {
+        Optional<Class<? extends PageFragment>> implementation =
+            PreGeneratedImplementations.lookup(PreGeneratedFragment.class, BasePageFragment.class, handlers);
+        assertThat(implementation).contains(PreGeneratedFragment$$Impl.class);
+    }
+
+    @Test
+    void handlerFieldsOfImplementationAreInitialized() {
+        handlers.put("handler$webtester", () -> HANDLER);
+        handlers.put("unknownHandler$webtester", () -> HANDLER);
+        PreGeneratedImplementations.lookup(PreGeneratedFragment.class, BasePageFragment.class, handlers);
+        assertThat(PreGeneratedFragment$$Impl.handler$webtester).isSameAs(HANDLER);
+    }
+
+    @Test
+    void implementationNotExtendingTheBaseClassIsIgnored() {
+        assertThat(PreGeneratedImplementations.lookup(IncompatibleType.class, BasePageFragment.class, handlers))
+            .isEmpty();
+    }
+
+    interface NestedType extends PageFragment {
+    }
+
+}
+
+interface PreGeneratedFragment extends PageFragment {
+}
+
+class PreGeneratedFragment$$Impl extends BasePageFragment implements PreGeneratedFragment {
+
+    static InvocationHandler handler$webtester;
+
+    PreGeneratedFragment$$Impl(Browser browser, Supplier<WebElement> webElementSupplier, MappingValidator validator,
+        String name) {
+        super(browser, webElementSupplier, validator, name);
+    }
+
+}
+
+interface IncompatibleType extends Function<String, String> {
+}
+
+class IncompatibleType$$Impl implements IncompatibleType {
+
+    @Override
+    public String apply(String value) {
+        return value;
+    }
+
+}
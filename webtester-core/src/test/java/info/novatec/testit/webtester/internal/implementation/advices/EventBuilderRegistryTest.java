@@ -0,0 +1,72 @@
+package info.novatec.testit.webtester.internal.implementation.advices;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.events.PageFragmentEventBuilder;
+import info.novatec.testit.webtester.events.pagefragments.AbstractPageFragmentEvent;
+import info.novatec.testit.webtester.events.pagefragments.ClickedEvent;
+import info.novatec.testit.webtester.internal.implementation.exceptions.NoEventBuilderException;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+class EventBuilderRegistryTest {
+
+    @Test
+    void suppliersCreateNewBuilderInstances() {
+        Supplier<PageFragmentEventBuilder> supplier = EventBuilderRegistry.of(ClickedEvent.class);
+        PageFragmentEventBuilder first = supplier.get();
+        PageFragmentEventBuilder second = supplier.get();
+        assertThat(first).isInstanceOf(ClickedEvent.Builder.class);
+        assertThat(second).isInstanceOf(ClickedEvent.Builder.class).isNotSameAs(first);
+    }
+
+    @Test
+    void suppliersAreCachedPerEventType() {
+        assertThat(EventBuilderRegistry.of(ClickedEvent.class)).isSameAs(EventBuilderRegistry.of(ClickedEvent.class));
+    }
+
+    @Test
+    void eventsWithoutBuilderAreRejected() {
+        assertThrows(NoEventBuilderException.class, () -> EventBuilderRegistry.of(EventWithoutBuilder.class));
+    }
+
+    @Test
+    void builderClassesMustBeEventBuilders() {
+        assertThrows(NoEventBuilderException.class, () -> EventBuilderRegistry.of(EventWithWrongBuilder.class));
+    }
+
+    public static class EventWithoutBuilder extends AbstractPageFragmentEvent {
+
+        public EventWithoutBuilder(PageFragment fragment) {
+            super(fragment);
+        }
+
+        @Override
+        public String describe() {
+            return "without builder";
+        }
+
+    }
+
+    public static class EventWithWrongBuilder extends AbstractPageFragmentEvent {
+
+        public EventWithWrongBuilder(PageFragment fragment) {
+            super(fragment);
+        }
+
+        @Override
+        public String describe() {
+            return "with wrong builder";
+        }
+
+        public static class Builder {
+        }
+
+    }
+
+}
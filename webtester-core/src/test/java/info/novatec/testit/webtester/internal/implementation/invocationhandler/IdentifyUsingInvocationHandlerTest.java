@@ -0,0 +1,285 @@
+package info.novatec.testit.webtester.internal.implementation.invocationhandler;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.internal.implementation.exceptions.UnsupportedReturnTypeException;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.LazyPageFragmentList;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.annotations.Cached;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
+import info.novatec.testit.webtester.pagefragments.identification.ByProducer;
+import info.novatec.testit.webtester.pagefragments.identification.producers.ClassName;
+import info.novatec.testit.webtester.pagefragments.identification.producers.Id;
+import info.novatec.testit.webtester.pagefragments.identification.producers.XPath;
+import info.novatec.testit.webtester.pages.Page;
+
+
+class IdentifyUsingInvocationHandlerTest {
+
+    static final AtomicInteger BY_PRODUCERS_CREATED = new AtomicInteger();
+
+    WebDriver webDriver = mock(WebDriver.class);
+    Browser browser = mock(Browser.class);
+    Configuration configuration = mock(Configuration.class);
+    Page page = mock(Page.class);
+
+    IdentifyUsingInvocationHandler cut = new IdentifyUsingInvocationHandler();
+
+    @BeforeEach
+    void setUp() {
+        BY_PRODUCERS_CREATED.set(0);
+        when(page.browser()).thenReturn(browser);
+        when(browser.webDriver()).thenReturn(webDriver);
+        when(browser.configuration()).thenReturn(configuration);
+        when(configuration.isLocatorCompositionEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void invocationPlanIsOnlyCreatedOncePerMethod() throws Exception {
+        Method method = TestPage.class.getMethod("fragment");
+        cut.invoke(page, method, null);
+        cut.invoke(page, method, null);
+        cut.invoke(page, method, null);
+        assertThat(BY_PRODUCERS_CREATED).hasValue(1);
+    }
+
+    @Test
+    void fragmentNameIsResolvedFromAnnotation() throws Exception {
+        Method method = TestPage.class.getMethod("fragment");
+        PageFragment fragment = ( PageFragment ) cut.invoke(page, method, null);
+        assertThat(fragment.getName()).contains("PageFragment identified by CountingByProducer: #foo");
+    }
+
+    @Test
+    void multipleFragmentsAreCollectedAccordingToReturnType() throws Exception {
+        when(webDriver.findElements(By.cssSelector("#foo"))).thenReturn(asList(mock(WebElement.class), mock(WebElement.class)));
+        Method method = TestPage.class.getMethod("fragments");
+        Object result = cut.invoke(page, method, null);
+        assertThat(result).isInstanceOf(List.class);
+        assertThat(( List<?> ) result).hasSize(2);
+    }
+
+    @Test
+    void cachedFragmentsResolveTheirWebElementOnlyOnce() throws Exception {
+        when(webDriver.findElement(By.cssSelector("#foo"))).thenReturn(mock(WebElement.class));
+        PageFragment fragment = ( PageFragment ) cut.invoke(page, TestPage.class.getMethod("cachedFragment"), null);
+        fragment.webElement();
+        fragment.webElement();
+        verify(webDriver, times(1)).findElement(By.cssSelector("#foo"));
+    }
+
+    @Test
+    void fragmentsAreCachedIfEnabledInConfiguration() throws Exception {
+        when(configuration.isElementCacheEnabled()).thenReturn(true);
+        when(webDriver.findElement(By.cssSelector("#foo"))).thenReturn(mock(WebElement.class));
+        PageFragment fragment = ( PageFragment ) cut.invoke(page, TestPage.class.getMethod("fragment"), null);
+        fragment.webElement();
+        fragment.webElement();
+        verify(webDriver, times(1)).findElement(By.cssSelector("#foo"));
+    }
+
+    @Test
+    void cachingCanBeDisabledForSingleMethods() throws Exception {
+        when(configuration.isElementCacheEnabled()).thenReturn(true);
+        when(webDriver.findElement(By.cssSelector("#foo"))).thenReturn(mock(WebElement.class));
+        PageFragment fragment = ( PageFragment ) cut.invoke(page, TestPage.class.getMethod("uncachedFragment"), null);
+        fragment.webElement();
+        fragment.webElement();
+        verify(webDriver, times(2)).findElement(By.cssSelector("#foo"));
+    }
+
+    @Test
+    void nestedFragmentsOfIdentifiedParentsAreFoundWithCombinedLocator() throws Exception {
+        WebElement stubbedWebElement = mock(WebElement.class);
+        when(webDriver.findElement(By.cssSelector("#foo .bar"))).thenReturn(stubbedWebElement);
+        Object container = cut.invoke(page, TestPage.class.getMethod("container"), null);
+        PageFragment fragment = ( PageFragment ) cut.invoke(container, TestContainer.class.getMethod("child"), null);
+        assertThat(fragment.webElement()).isSameAs(stubbedWebElement);
+        verify(webDriver, never()).findElement(By.cssSelector("#foo"));
+    }
+
+    @Test
+    void nestedFragmentsOfAmbiguousParentsAreFoundOneLevelAtATime() throws Exception {
+        WebElement parentWebElement = mock(WebElement.class);
+        WebElement stubbedWebElement = mock(WebElement.class);
+        when(webDriver.findElement(By.cssSelector(".foo"))).thenReturn(parentWebElement);
+        when(parentWebElement.findElement(By.cssSelector(".bar"))).thenReturn(stubbedWebElement);
+        Object container = cut.invoke(page, TestPage.class.getMethod("ambiguousContainer"), null);
+        PageFragment fragment = ( PageFragment ) cut.invoke(container, TestContainer.class.getMethod("child"), null);
+        assertThat(fragment.webElement()).isSameAs(stubbedWebElement);
+    }
+
+    @Test
+    void nestedFragmentsAreFoundOneLevelAtATimeIfCompositionIsDisabled() throws Exception {
+        when(configuration.isLocatorCompositionEnabled()).thenReturn(false);
+        WebElement parentWebElement = mock(WebElement.class);
+        WebElement stubbedWebElement = mock(WebElement.class);
+        when(webDriver.findElement(By.cssSelector("#foo"))).thenReturn(parentWebElement);
+        when(parentWebElement.findElement(By.cssSelector(".bar"))).thenReturn(stubbedWebElement);
+        Object container = cut.invoke(page, TestPage.class.getMethod("container"), null);
+        PageFragment fragment = ( PageFragment ) cut.invoke(container, TestContainer.class.getMethod("child"), null);
+        assertThat(fragment.webElement()).isSameAs(stubbedWebElement);
+        verify(webDriver, never()).findElement(By.cssSelector("#foo .bar"));
+    }
+
+    @Test
+    void nestedFragmentsOfMappedParentsAreFoundOneLevelAtATime() throws Exception {
+        WebElement parentWebElement = mock(WebElement.class);
+        WebElement stubbedWebElement = mock(WebElement.class);
+        when(webDriver.findElement(By.cssSelector("#foo"))).thenReturn(parentWebElement);
+        when(parentWebElement.getTagName()).thenReturn("div");
+        when(parentWebElement.findElement(By.cssSelector(".bar"))).thenReturn(stubbedWebElement);
+        Object container = cut.invoke(page, TestPage.class.getMethod("mappedContainer"), null);
+        PageFragment fragment = ( PageFragment ) cut.invoke(container, TestContainer.class.getMethod("child"), null);
+        assertThat(fragment.webElement()).isSameAs(stubbedWebElement);
+        verify(parentWebElement).getTagName();
+    }
+
+    @Test
+    void nestedFragmentsWithinWebElementsAreOnlyCombinedAsXPath() throws Exception {
+        WebElement parentWebElement = mock(WebElement.class);
+        WebElement stubbedWebElement = mock(WebElement.class);
+        By combinedXPath =
+            By.xpath("(.//*[@id='baz'])[1]//*[contains(concat(' ', normalize-space(@class), ' '), ' bar ')]");
+        when(webDriver.findElement(By.cssSelector(".foo"))).thenReturn(parentWebElement);
+        when(parentWebElement.findElement(combinedXPath)).thenReturn(stubbedWebElement);
+        Object container = cut.invoke(page, TestPage.class.getMethod("ambiguousContainer"), null);
+        Object nested = cut.invoke(container, TestContainer.class.getMethod("nestedContainer"), null);
+        PageFragment fragment = ( PageFragment ) cut.invoke(nested, TestContainer.class.getMethod("classChild"), null);
+        assertThat(fragment.webElement()).isSameAs(stubbedWebElement);
+        verify(parentWebElement, never()).findElement(By.cssSelector("#baz .bar"));
+    }
+
+    @Test
+    void multipleNestedFragmentsAreFoundWithCombinedLocator() throws Exception {
+        when(webDriver.findElements(By.xpath("(.//form)[1]/input"))).thenReturn(asList(mock(WebElement.class)));
+        Object container = cut.invoke(page, TestPage.class.getMethod("xpathContainer"), null);
+        Object result = cut.invoke(container, TestContainer.class.getMethod("inputs"), null);
+        assertThat(( List<?> ) result).hasSize(1);
+    }
+
+    @Test
+    void multipleFragmentsAreCountedLazilyIfEnabled() throws Exception {
+        JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+        when(browser.javaScript()).thenReturn(javaScript);
+        when(configuration.isLazyFragmentsEnabled()).thenReturn(true);
+        when(javaScript.executeWithReturn(anyString(), (Object) isNull(), eq("#foo"), isNull(), eq(0), eq(-1)))
+            .thenReturn(5L);
+        Object result = cut.invoke(page, TestPage.class.getMethod("fragments"), null);
+        assertThat(result).isInstanceOf(LazyPageFragmentList.class);
+        assertThat(( List<?> ) result).hasSize(5);
+        verify(webDriver, never()).findElements(By.cssSelector("#foo"));
+    }
+
+    @Test
+    void streamedFragmentsAreResolvedWhenConsumedIfEnabled() throws Exception {
+        JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+        when(browser.javaScript()).thenReturn(javaScript);
+        when(configuration.isLazyFragmentsEnabled()).thenReturn(true);
+        Stream<?> result = ( Stream<?> ) cut.invoke(page, TestPage.class.getMethod("fragmentStream"), null);
+        verify(javaScript, never()).executeWithReturn(anyString(), (Object) any(), any());
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void unsupportedReturnTypesAreRejected() throws Exception {
+        Method method = TestPage.class.getMethod("unsupported");
+        assertThrows(UnsupportedReturnTypeException.class, () -> cut.invoke(page, method, null));
+    }
+
+    public interface TestPage extends Page {
+
+        @IdentifyUsing(value = "#foo", how = CountingByProducer.class)
+        PageFragment fragment();
+
+        @Cached
+        @IdentifyUsing("#foo")
+        PageFragment cachedFragment();
+
+        @Cached(false)
+        @IdentifyUsing("#foo")
+        PageFragment uncachedFragment();
+
+        @IdentifyUsing("#foo")
+        List<PageFragment> fragments();
+
+        @IdentifyUsing("#foo")
+        Stream<PageFragment> fragmentStream();
+
+        @IdentifyUsing("#foo")
+        String unsupported();
+
+        @IdentifyUsing("#foo")
+        TestContainer container();
+
+        @IdentifyUsing(".foo")
+        TestContainer ambiguousContainer();
+
+        @IdentifyUsing("#foo")
+        MappedContainer mappedContainer();
+
+        @IdentifyUsing(value = ".//form", how = XPath.class)
+        TestContainer xpathContainer();
+
+    }
+
+    public interface TestContainer extends PageFragment {
+
+        @IdentifyUsing(".bar")
+        PageFragment child();
+
+        @IdentifyUsing(value = "./input", how = XPath.class)
+        List<PageFragment> inputs();
+
+        @IdentifyUsing(value = "baz", how = Id.class)
+        TestContainer nestedContainer();
+
+        @IdentifyUsing(value = "bar", how = ClassName.class)
+        PageFragment classChild();
+
+    }
+
+    @Mapping(tag = "div")
+    public interface MappedContainer extends TestContainer {
+    }
+
+    public static class CountingByProducer implements ByProducer {
+
+        public CountingByProducer() {
+            BY_PRODUCERS_CREATED.incrementAndGet();
+        }
+
+        @Override
+        public By createBy(String value) {
+            return By.cssSelector(value);
+        }
+
+    }
+
+}
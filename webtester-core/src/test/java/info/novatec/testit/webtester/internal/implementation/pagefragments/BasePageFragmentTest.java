@@ -0,0 +1,107 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import com.google.common.collect.Lists;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.internal.ElementCaches;
+import info.novatec.testit.webtester.internal.mapping.DefaultMappingValidator;
+import info.novatec.testit.webtester.internal.mapping.MappingValidator;
+
+
+class BasePageFragmentTest {
+
+    Browser browser = mock(Browser.class);
+    Configuration configuration = mock(Configuration.class);
+    MappingValidator validator = mock(MappingValidator.class);
+    WebElement webElement = mock(WebElement.class);
+
+    BasePageFragment cut = new BasePageFragment(browser, () -> webElement, validator, "fragment");
+
+    @BeforeEach
+    void setUp() {
+        when(browser.configuration()).thenReturn(configuration);
+    }
+
+    @Test
+    void sameWebElementIsOnlyValidatedOnce() {
+        long savedValidations = DefaultMappingValidator.getSavedValidations();
+        cut.webElement();
+        cut.webElement();
+        cut.webElement();
+        verify(validator, times(1)).assertValidity(webElement);
+        assertThat(DefaultMappingValidator.getSavedValidations()).isGreaterThanOrEqualTo(savedValidations + 2);
+    }
+
+    @Test
+    void reResolvedWebElementsAreValidatedByDefault() {
+        WebElement otherWebElement = mock(WebElement.class);
+        Supplier<WebElement> supplier = supplierOf(webElement, otherWebElement);
+        BasePageFragment fragment = new BasePageFragment(browser, supplier, validator, null);
+        fragment.webElement();
+        fragment.webElement();
+        verify(validator).assertValidity(webElement);
+        verify(validator).assertValidity(otherWebElement);
+    }
+
+    @Test
+    void reResolvedCachedWebElementsAreValidatedAgain() {
+        WebElement otherWebElement = mock(WebElement.class);
+        Supplier<WebElement> supplier = new CachingWebElementSupplier(browser, supplierOf(webElement, otherWebElement));
+        BasePageFragment fragment = new BasePageFragment(browser, supplier, validator, null);
+        WebElement cachedWebElement = fragment.webElement();
+        fragment.webElement();
+        ElementCaches.invalidate(browser);
+        fragment.webElement();
+        verify(validator, times(2)).assertValidity(cachedWebElement);
+    }
+
+    @Test
+    void validatedWebElementsAreNotSharedBetweenPageFragments() {
+        BasePageFragment other = new BasePageFragment(browser, () -> webElement, validator, null);
+        cut.webElement();
+        other.webElement();
+        verify(validator, times(2)).assertValidity(webElement);
+    }
+
+    @Test
+    void webElementIsValidatedOnlyOnceIfEnabled() {
+        when(configuration.isValidateOnceEnabled()).thenReturn(true);
+        long savedValidations = DefaultMappingValidator.getSavedValidations();
+        assertThat(cut.webElement()).isSameAs(webElement);
+        assertThat(cut.webElement()).isSameAs(webElement);
+        verify(validator, times(1)).assertValidity(webElement);
+        assertThat(DefaultMappingValidator.getSavedValidations()).isGreaterThan(savedValidations);
+    }
+
+    @Test
+    void reResolvedWebElementsAreNotValidatedIfValidatedOnlyOnce() {
+        when(configuration.isValidateOnceEnabled()).thenReturn(true);
+        WebElement otherWebElement = mock(WebElement.class);
+        Supplier<WebElement> supplier = supplierOf(webElement, otherWebElement);
+        BasePageFragment fragment = new BasePageFragment(browser, supplier, validator, null);
+        fragment.webElement();
+        fragment.webElement();
+        verify(validator, never()).assertValidity(otherWebElement);
+    }
+
+    static Supplier<WebElement> supplierOf(WebElement first, WebElement... following) {
+        Iterator<WebElement> webElements = Lists.asList(first, following).iterator();
+        return () -> webElements.hasNext() ? webElements.next() : first;
+    }
+
+}
@@ -0,0 +1,81 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.identification.producers.CssSelector;
+import info.novatec.testit.webtester.pagefragments.identification.producers.XPath;
+
+
+class BatchedWebElementsTest {
+
+    Browser browser = mock(Browser.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement parentWebElement = mock(WebElement.class);
+    PageFragment parent = mock(PageFragment.class);
+
+    ComposableLocator cssLocator = ComposableLocator.of(CssSelector.class, "#foo").get();
+    ComposableLocator xpathLocator = ComposableLocator.of(XPath.class, ".//input").get();
+
+    @BeforeEach
+    void setUp() {
+        when(browser.javaScript()).thenReturn(javaScript);
+        when(parent.webElement()).thenReturn(parentWebElement);
+    }
+
+    @Test
+    void suppliersWithoutLocatorAreNotResolvable() {
+        DynamicWebElementSupplier supplier = new DynamicWebElementSupplier(() -> webDriver, By.linkText("foo"));
+        assertThat(BatchedWebElements.isResolvable(supplier)).isFalse();
+    }
+
+    @Test
+    void allElementsAreResolvedWithSingleExecution() {
+        List<WebElement> webElements = asList(mock(WebElement.class), null);
+        List<Object> documentLookup = asList(null, "#foo", null);
+        List<Object> elementLookup = asList(parentWebElement, null, ".//input");
+        when(javaScript.executeWithReturn(anyString(), eq(asList(documentLookup, elementLookup))))
+            .thenReturn(webElements);
+        DynamicWebElementSupplier first = new DynamicWebElementSupplier(() -> webDriver, cssLocator.toBy(), cssLocator);
+        DynamicWebElementSupplier second =
+            new DynamicWebElementSupplier(new PageFragmentSearchContext(parent), xpathLocator.toBy(), xpathLocator);
+        assertThat(BatchedWebElements.resolve(browser, asList(first, second))).isSameAs(webElements);
+    }
+
+    @Test
+    void sharedSearchContextsAreOnlyResolvedOnce() {
+        DynamicWebElementSupplier first =
+            new DynamicWebElementSupplier(new PageFragmentSearchContext(parent), cssLocator.toBy(), cssLocator);
+        DynamicWebElementSupplier second =
+            new DynamicWebElementSupplier(new PageFragmentSearchContext(parent), xpathLocator.toBy(), xpathLocator);
+        BatchedWebElements.resolve(browser, asList(first, second));
+        verify(parent, times(1)).webElement();
+    }
+
+    @Test
+    void nothingIsExecutedWithoutSuppliers() {
+        assertThat(BatchedWebElements.resolve(browser, Collections.emptyList())).isEmpty();
+        verifyZeroInteractions(javaScript);
+    }
+
+}
@@ -4,8 +4,12 @@ import static info.novatec.testit.webtester.pagefragments.identification.ByProdu
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
@@ -16,12 +20,20 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import info.novatec.testit.webtester.browser.Browser;
 import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.events.Event;
+import info.novatec.testit.webtester.events.EventSystem;
+import info.novatec.testit.webtester.events.Produces;
+import info.novatec.testit.webtester.events.pagefragments.AbstractPageFragmentEvent;
+import info.novatec.testit.webtester.events.pagefragments.ClearedEvent;
+import info.novatec.testit.webtester.events.pagefragments.ClickedEvent;
 import info.novatec.testit.webtester.internal.implementation.PageFragmentFactory.PageFragmentDescriptor;
+import info.novatec.testit.webtester.internal.implementation.exceptions.NoEventBuilderException;
 import info.novatec.testit.webtester.internal.implementation.pagefragments.exceptions.PageFragmentMustBeInterfaceException;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 import info.novatec.testit.webtester.pagefragments.TextField;
@@ -37,6 +49,7 @@ class ByteBuddyPageFragmentFactoryTest {
     WebDriver webDriver = mock(WebDriver.class);
     Configuration configuration = mock(Configuration.class);
     Browser browser = mock(Browser.class);
+    EventSystem events = mock(EventSystem.class);
     ByteBuddyPageFragmentFactory cut = new ByteBuddyPageFragmentFactory(browser);
 
     WebElement webElement = mock(WebElement.class);
@@ -45,6 +58,7 @@ class ByteBuddyPageFragmentFactoryTest {
     void setup() {
         when(browser.webDriver()).thenReturn(webDriver);
         when(browser.configuration()).thenReturn(configuration);
+        when(browser.events()).thenReturn(events);
     }
 
     @Test
@@ -108,6 +122,53 @@ class ByteBuddyPageFragmentFactoryTest {
         assertThat(result).isEqualTo(42);
     }
 
+    @Test
+    void annotatedDefaultMethodsAreAdvised() {
+        createTestFragment().defaultMethod(42);
+        verify(configuration).getActionDeceleration();
+        verify(configuration).isMarkingsEnabled();
+    }
+
+    @Test
+    void defaultMethodsWithoutAnnotationsAreNotAdvised() {
+        TestPageFragment fragment = createTestFragment();
+        int result = fragment.plainDefaultMethod(42);
+        assertThat(result).isEqualTo(42);
+        verifyZeroInteractions(configuration);
+    }
+
+    @Test
+    void producesAnnotatedMethodsFireEvents() {
+        when(configuration.isEventSystemEnabled()).thenReturn(true);
+        createTestFragment().clearingMethod();
+        verify(events).fireEvent(any(ClearedEvent.class));
+    }
+
+    @Test
+    void noEventsAreFiredIfEventSystemIsDisabled() {
+        createTestFragment().clearingMethod();
+        verifyZeroInteractions(events);
+    }
+
+    @Test
+    void nestedProducesAnnotatedMethodsFireTheirOwnEvents() {
+        when(configuration.isEventSystemEnabled()).thenReturn(true);
+        createTestFragment().clickingMethod();
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(events, times(2)).fireEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(Object::getClass)
+            .containsExactly(ClearedEvent.class, ClickedEvent.class);
+    }
+
+    @Test
+    void missingEventBuildersAreReportedWhenTheImplementationIsGenerated() {
+        PageFragmentDescriptor descriptor = PageFragmentDescriptor.builder()
+            .pageFragmentType(UnbuildableEventPageFragment.class)
+            .webElementSupplier(new StaticWebElementSupplier(webElement))
+            .build();
+        assertThrows(NoEventBuilderException.class, () -> cut.createInstanceOf(descriptor));
+    }
+
     @Test
     void browserGetterIsImplemented() {
         TestPageFragment fragment = createTestFragment();
@@ -234,6 +295,40 @@ class ByteBuddyPageFragmentFactoryTest {
             return value;
         }
 
+        default int plainDefaultMethod(int value) {
+            return value;
+        }
+
+        @Produces(ClickedEvent.class)
+        default void clickingMethod() {
+            clearingMethod();
+        }
+
+        @Produces(ClearedEvent.class)
+        default void clearingMethod() {
+        }
+
+    }
+
+    public interface UnbuildableEventPageFragment extends PageFragment {
+
+        @Produces(UnbuildableEvent.class)
+        default void producingMethod() {
+        }
+
+    }
+
+    public static class UnbuildableEvent extends AbstractPageFragmentEvent {
+
+        public UnbuildableEvent(PageFragment fragment) {
+            super(fragment);
+        }
+
+        @Override
+        public String describe() {
+            return "unbuildable";
+        }
+
     }
 
 }
\ No newline at end of file
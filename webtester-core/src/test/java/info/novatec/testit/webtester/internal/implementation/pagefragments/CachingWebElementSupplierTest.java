@@ -0,0 +1,99 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.ElementCaches;
+
+
+class CachingWebElementSupplierTest {
+
+    Browser browser = mock(Browser.class);
+    WebElement firstWebElement = mock(WebElement.class);
+    WebElement secondWebElement = mock(WebElement.class);
+
+    @SuppressWarnings("unchecked")
+    Supplier<WebElement> webElementSupplier = mock(Supplier.class);
+
+    CachingWebElementSupplier cut = new CachingWebElementSupplier(browser, webElementSupplier);
+
+    @Test
+    void webElementIsResolvedOnlyOnce() {
+        given(webElementSupplier.get()).willReturn(firstWebElement);
+        cut.get().click();
+        cut.get().getText();
+        verify(webElementSupplier, times(1)).get();
+        verify(firstWebElement).click();
+        verify(firstWebElement).getText();
+    }
+
+    @Test
+    void suppliedWebElementWrapsResolvedElement() {
+        given(webElementSupplier.get()).willReturn(firstWebElement);
+        WebElement webElement = cut.get();
+        assertThat(webElement).isInstanceOf(WrapsElement.class);
+        assertThat((( WrapsElement ) webElement).getWrappedElement()).isSameAs(firstWebElement);
+    }
+
+    @Test
+    void webElementIsResolvedAgainAfterBrowserInvalidatedCaches() {
+        given(webElementSupplier.get()).willReturn(firstWebElement, secondWebElement);
+        cut.get().click();
+        ElementCaches.invalidate(browser);
+        cut.get().click();
+        verify(firstWebElement).click();
+        verify(secondWebElement).click();
+    }
+
+    @Test
+    void staleOperationsAreRetriedOnceWithNewlyResolvedElement() {
+        given(webElementSupplier.get()).willReturn(firstWebElement, secondWebElement);
+        given(firstWebElement.getText()).willThrow(new StaleElementReferenceException("stale"));
+        given(secondWebElement.getText()).willReturn("foo");
+        assertThat(cut.get().getText()).isEqualTo("foo");
+        verify(webElementSupplier, times(2)).get();
+    }
+
+    @Test
+    void staleOperationsAreNotRetriedMoreThanOnce() {
+        given(webElementSupplier.get()).willReturn(firstWebElement, secondWebElement);
+        doThrow(new StaleElementReferenceException("stale")).when(firstWebElement).click();
+        doThrow(new StaleElementReferenceException("stale")).when(secondWebElement).click();
+        WebElement webElement = cut.get();
+        assertThrows(StaleElementReferenceException.class, webElement::click);
+    }
+
+    @Test
+    void equalityIsBasedOnCachedElementWithoutResolvingIt() {
+        given(webElementSupplier.get()).willReturn(firstWebElement);
+        WebElement webElement = cut.get();
+        ElementCaches.invalidate(browser);
+        assertThat(webElement).isEqualTo(firstWebElement);
+        assertThat(webElement.hashCode()).isEqualTo(firstWebElement.hashCode());
+        verify(webElementSupplier, times(1)).get();
+    }
+
+    @Test
+    void equalityDoesNotFailForStaleElements() {
+        given(webElementSupplier.get()).willReturn(firstWebElement, secondWebElement);
+        doThrow(new StaleElementReferenceException("stale")).when(firstWebElement).click();
+        doThrow(new StaleElementReferenceException("stale")).when(secondWebElement).click();
+        WebElement webElement = cut.get();
+        assertThrows(StaleElementReferenceException.class, webElement::click);
+        assertThat(webElement).isEqualTo(secondWebElement).isNotEqualTo(firstWebElement);
+    }
+
+}
@@ -0,0 +1,188 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import info.novatec.testit.webtester.pagefragments.identification.ByProducer;
+import info.novatec.testit.webtester.pagefragments.identification.producers.ClassName;
+import info.novatec.testit.webtester.pagefragments.identification.producers.CssSelector;
+import info.novatec.testit.webtester.pagefragments.identification.producers.Id;
+import info.novatec.testit.webtester.pagefragments.identification.producers.IdStartsWith;
+import info.novatec.testit.webtester.pagefragments.identification.producers.Name;
+import info.novatec.testit.webtester.pagefragments.identification.producers.TagName;
+import info.novatec.testit.webtester.pagefragments.identification.producers.XPath;
+
+
+class ComposableLocatorTest {
+
+    @Nested
+    class Creation {
+
+        @Test
+        void idsAreUsedAsCssSelectors() {
+            assertThat(locator(Id.class, "foo").toBy()).isEqualTo(By.cssSelector("#foo"));
+        }
+
+        @Test
+        void idsWhichAreNoCssIdentifiersAreUsedAsXPath() {
+            assertThat(locator(Id.class, "1foo").toBy()).isEqualTo(By.xpath(".//*[@id='1foo']"));
+        }
+
+        @Test
+        void classNamesAreUsedAsCssSelectors() {
+            assertThat(locator(ClassName.class, "foo").toBy()).isEqualTo(By.cssSelector(".foo"));
+        }
+
+        @Test
+        void namesAreUsedAsCssSelectors() {
+            assertThat(locator(Name.class, "foo").toBy()).isEqualTo(By.cssSelector("*[name='foo']"));
+        }
+
+        @Test
+        void tagNamesAreUsedAsCssSelectors() {
+            assertThat(locator(TagName.class, "div").toBy()).isEqualTo(By.cssSelector("div"));
+        }
+
+        @Test
+        void otherProducersAreNotComposable() {
+            assertThat(ComposableLocator.of(IdStartsWith.class, "foo")).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class CssComposition {
+
+        @Test
+        void childrenOfIdsAreCombined() {
+            ComposableLocator composed = compose(locator(Id.class, "foo"), locator(CssSelector.class, "a.bar"));
+            assertThat(composed.toBy()).isEqualTo(By.cssSelector("#foo a.bar"));
+            assertThat(composed.getLevels()).isEqualTo(2);
+        }
+
+        @Test
+        void eachSelectorOfAGroupIsCombined() {
+            ComposableLocator child = locator(CssSelector.class, "a, b[title='x,y']");
+            ComposableLocator composed = compose(locator(Id.class, "foo"), child);
+            assertThat(composed.toBy()).isEqualTo(By.cssSelector("#foo a, #foo b[title='x,y']"));
+        }
+
+        @Test
+        void childrenOfUniqueChildrenAreCombined() {
+            ComposableLocator child = compose(locator(CssSelector.class, "#foo"), locator(Id.class, "bar"));
+            ComposableLocator composed = compose(child, locator(TagName.class, "input"));
+            assertThat(composed.toBy()).isEqualTo(By.cssSelector("#foo #bar input"));
+            assertThat(composed.getLevels()).isEqualTo(3);
+        }
+
+        @Test
+        void childrenOfAmbiguousParentsAreNotCombined() {
+            ComposableLocator parent = locator(ClassName.class, "foo");
+            assertThat(parent.compose(locator(CssSelector.class, "a"))).isEmpty();
+        }
+
+        @Test
+        void childrenWithCombinatorsAreNotCombined() {
+            ComposableLocator parent = locator(CssSelector.class, "#foo");
+            assertThat(parent.compose(locator(CssSelector.class, "div a"))).isEmpty();
+            assertThat(parent.compose(locator(CssSelector.class, "div > a"))).isEmpty();
+            assertThat(parent.compose(locator(CssSelector.class, "div ~ a"))).isEmpty();
+        }
+
+        @Test
+        void compositionsAreOnlyCreatedOnce() {
+            ComposableLocator parent = locator(Id.class, "foo");
+            ComposableLocator child = locator(Id.class, "bar");
+            assertThat(parent.compose(child).get()).isSameAs(parent.compose(child).get());
+        }
+
+    }
+
+    @Nested
+    class XPathComposition {
+
+        @Test
+        void relativeChildrenAreCombinedWithFirstParent() {
+            ComposableLocator composed = compose(locator(XPath.class, ".//form"), locator(XPath.class, "./input"));
+            assertThat(composed.toBy()).isEqualTo(By.xpath("(.//form)[1]/input"));
+        }
+
+        @Test
+        void descendantsAreCombinedWithFirstParent() {
+            ComposableLocator composed = compose(locator(XPath.class, ".//form"), locator(XPath.class, ".//input"));
+            assertThat(composed.toBy()).isEqualTo(By.xpath("(.//form)[1]//input"));
+        }
+
+        @Test
+        void unionsAreCombinedPerBranch() {
+            ComposableLocator child = locator(XPath.class, "./th|td[@a='|']");
+            ComposableLocator composed = compose(locator(XPath.class, ".//tr"), child);
+            assertThat(composed.toBy()).isEqualTo(By.xpath("(.//tr)[1]/th|(.//tr)[1]/td[@a='|']"));
+        }
+
+        @Test
+        void cssChildrenAreCombinedUsingTheirXPath() {
+            ComposableLocator composed = compose(locator(XPath.class, ".//form"), locator(Name.class, "user"));
+            assertThat(composed.toBy()).isEqualTo(By.xpath("(.//form)[1]//*[@name='user']"));
+        }
+
+        @Test
+        void absoluteChildrenAreNotCombined() {
+            ComposableLocator parent = locator(XPath.class, ".//form");
+            assertThat(parent.compose(locator(XPath.class, "//input"))).isEmpty();
+            assertThat(parent.compose(locator(XPath.class, "id('foo')"))).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class CompositionWithinElements {
+
+        @Test
+        void onlyXPathExpressionsAreCombined() {
+            ComposableLocator parent = locator(Id.class, "foo");
+            Optional<ComposableLocator> composed = parent.composeWithinElement(locator(Name.class, "user"));
+            assertThat(composed.get().toBy()).isEqualTo(By.xpath("(.//*[@id='foo'])[1]//*[@name='user']"));
+            assertThat(composed.get().getLevels()).isEqualTo(2);
+        }
+
+        @Test
+        void cssOnlyCompositionsAreNotUsed() {
+            ComposableLocator parent = locator(Id.class, "foo");
+            assertThat(parent.composeWithinElement(locator(CssSelector.class, "a.bar"))).isEmpty();
+        }
+
+        @Test
+        void xpathCompositionsAreUsedAsIs() {
+            ComposableLocator parent = locator(XPath.class, ".//form");
+            ComposableLocator child = locator(XPath.class, "./input");
+            assertThat(parent.composeWithinElement(child).get()).isSameAs(parent.compose(child).get());
+        }
+
+    }
+
+    @Test
+    void savedRoundTripsAreRecorded() {
+        ComposableLocator composed = compose(locator(Id.class, "foo"), locator(Id.class, "bar"));
+        long before = ComposableLocator.getSavedRoundTrips();
+        composed.recordUsage();
+        locator(Id.class, "foo").recordUsage();
+        assertThat(ComposableLocator.getSavedRoundTrips() - before).isEqualTo(1);
+    }
+
+    static ComposableLocator locator(Class<? extends ByProducer> how, String value) {
+        return ComposableLocator.of(how, value).get();
+    }
+
+    static ComposableLocator compose(ComposableLocator parent, ComposableLocator child) {
+        Optional<ComposableLocator> composed = parent.compose(child);
+        assertThat(composed).isPresent();
+        return composed.get();
+    }
+
+}
@@ -1,9 +1,11 @@
 package info.novatec.testit.webtester.internal.implementation.pagefragments;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
@@ -27,4 +29,12 @@ class DynamicWebElementSupplierTest {
         assertThat(webElement).isSameAs(stubbedWebElement);
     }
 
+    @Test
+    void searchContextAndByAreUsedToFindAllWebElements() {
+        List<WebElement> stubbedWebElements = asList(mock(WebElement.class), mock(WebElement.class));
+        given(searchContext.findElements(by)).willReturn(stubbedWebElements);
+        List<WebElement> webElements = cut.getAll();
+        assertThat(webElements).isSameAs(stubbedWebElements);
+    }
+
 }
\ No newline at end of file
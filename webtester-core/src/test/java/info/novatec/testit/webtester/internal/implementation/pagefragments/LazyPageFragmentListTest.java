@@ -0,0 +1,91 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+class LazyPageFragmentListTest {
+
+    static final int PAGE_SIZE = PagedWebElements.PAGE_SIZE;
+
+    PagedWebElements webElements = mock(PagedWebElements.class);
+    WebElement first = mock(WebElement.class);
+    WebElement second = mock(WebElement.class);
+
+    Function<WebElement, PageFragment> factory = webElement -> {
+        PageFragment fragment = mock(PageFragment.class);
+        when(fragment.webElement()).thenReturn(webElement);
+        return fragment;
+    };
+
+    LazyPageFragmentList<PageFragment> cut = new LazyPageFragmentList<>(webElements, factory);
+
+    @Test
+    void sizeIsCountedOnlyOnce() {
+        when(webElements.count()).thenReturn(2);
+        assertThat(cut.size()).isEqualTo(2);
+        assertThat(cut.isEmpty()).isFalse();
+        verify(webElements, times(1)).count();
+        verify(webElements, never()).getAll();
+    }
+
+    @Test
+    void indexedAccessResolvesOnlyPageOfIndex() {
+        when(webElements.getPage(0, PAGE_SIZE)).thenReturn(asList(first, second));
+        assertThat(cut.get(1).webElement()).isSameAs(second);
+        assertThat(cut.get(0).webElement()).isSameAs(first);
+        verify(webElements, times(1)).getPage(anyInt(), anyInt());
+        verify(webElements, never()).getAll();
+    }
+
+    @Test
+    void indexedAccessReturnsSameFragmentForSameIndex() {
+        when(webElements.getPage(0, PAGE_SIZE)).thenReturn(asList(first));
+        assertThat(cut.get(0)).isSameAs(cut.get(0));
+    }
+
+    @Test
+    void laterPagesAreResolvedByPosition() {
+        when(webElements.getPage(PAGE_SIZE, PAGE_SIZE)).thenReturn(asList(first));
+        assertThat(cut.get(PAGE_SIZE).webElement()).isSameAs(first);
+    }
+
+    @Test
+    void indicesOutsideOfPageAreRejected() {
+        when(webElements.getPage(0, PAGE_SIZE)).thenReturn(asList(first));
+        assertThrows(IndexOutOfBoundsException.class, () -> cut.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> cut.get(-1));
+    }
+
+    @Test
+    void iterationResolvesAllElementsOnce() {
+        when(webElements.getAll()).thenReturn(asList(first, second));
+        assertThat(cut.stream().map(PageFragment::webElement)).containsExactly(first, second);
+        assertThat(cut).hasSize(2);
+        verify(webElements, times(1)).getAll();
+        verify(webElements, never()).count();
+    }
+
+    @Test
+    void listCanBeModified() {
+        when(webElements.getAll()).thenReturn(asList(first, second));
+        cut.remove(0);
+        assertThat(cut.get(0).webElement()).isSameAs(second);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+}
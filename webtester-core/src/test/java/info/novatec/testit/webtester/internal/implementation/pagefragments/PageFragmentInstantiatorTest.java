@@ -0,0 +1,88 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.exceptions.PageFragmentCreationException;
+import info.novatec.testit.webtester.internal.mapping.MappingValidator;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+class PageFragmentInstantiatorTest {
+
+    Browser browser = mock(Browser.class);
+    WebElement webElement = mock(WebElement.class);
+    MappingValidator validator = mock(MappingValidator.class);
+
+    @Test
+    void instantiatorsAreCachedPerImplementationClass() {
+        PageFragmentInstantiator first = PageFragmentInstantiator.of(BasePageFragment.class);
+        PageFragmentInstantiator second = PageFragmentInstantiator.of(BasePageFragment.class);
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    void newInstancesAreCreatedWithGivenArguments() {
+        PageFragment pageFragment =
+            PageFragmentInstantiator.of(BasePageFragment.class).newInstance(browser, () -> webElement, validator, "foo");
+        assertThat(pageFragment).isInstanceOf(BasePageFragment.class);
+        assertThat(pageFragment.browser()).isSameAs(browser);
+        assertThat(pageFragment.getName()).contains("foo");
+    }
+
+    @Test
+    void uncheckedExceptionsOfConstructorArePropagated() {
+        PageFragmentInstantiator instantiator = PageFragmentInstantiator.of(FailingPageFragment.class);
+        assertThrows(IllegalStateException.class,
+            () -> instantiator.newInstance(browser, () -> webElement, validator, "foo"));
+    }
+
+    @Test
+    void checkedExceptionsOfConstructorAreWrapped() {
+        PageFragmentInstantiator instantiator = PageFragmentInstantiator.of(CheckedFailingPageFragment.class);
+        assertThrows(PageFragmentCreationException.class,
+            () -> instantiator.newInstance(browser, () -> webElement, validator, "foo"));
+    }
+
+    @Test
+    void implementationsWithoutMatchingConstructorCanNotBeInstantiated() {
+        assertThrows(PageFragmentCreationException.class, () -> PageFragmentInstantiator.of(NoConstructor.class));
+    }
+
+    public static class FailingPageFragment extends BasePageFragment {
+
+        public FailingPageFragment(Browser browser, Supplier<WebElement> webElementSupplier, MappingValidator validator,
+            String name) {
+            super(browser, webElementSupplier, validator, name);
+            throw new IllegalStateException();
+        }
+
+    }
+
+    public static class CheckedFailingPageFragment extends BasePageFragment {
+
+        public CheckedFailingPageFragment(Browser browser, Supplier<WebElement> webElementSupplier,
+            MappingValidator validator, String name) throws IOException {
+            super(browser, webElementSupplier, validator, name);
+            throw new IOException();
+        }
+
+    }
+
+    public static class NoConstructor extends BasePageFragment {
+
+        public NoConstructor(Browser browser) {
+            super(browser, null, null, null);
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.PostConstruct;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.internal.exceptions.IllegalSignatureException;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+class PageFragmentTypeModelTest {
+
+    static List<String> invokedMethods = new ArrayList<>();
+
+    @BeforeEach
+    void clearInvokedMethods() {
+        invokedMethods.clear();
+    }
+
+    @Test
+    void modelIsOnlyCreatedOncePerType() {
+        PageFragmentTypeModel first = PageFragmentTypeModel.of(TestFragment.class);
+        PageFragmentTypeModel second = PageFragmentTypeModel.of(TestFragment.class);
+        assertThat(first).isSameAs(second);
+        assertThat(first.getMappingValidator()).isSameAs(second.getMappingValidator());
+    }
+
+    @Test
+    void postConstructMethodsAreInvokedOnEveryInstance() {
+        PageFragmentTypeModel model = PageFragmentTypeModel.of(TestFragment.class);
+        model.postConstruct(testFragment());
+        model.postConstruct(testFragment());
+        assertThat(invokedMethods).containsExactly("initialize", "initialize");
+    }
+
+    @Test
+    void invalidPostConstructMethodsAreDetectedWhenModelIsCreated() {
+        assertThrows(IllegalSignatureException.class, () -> PageFragmentTypeModel.of(InvalidFragment.class));
+    }
+
+    TestFragment testFragment() {
+        TestFragment fragment = mock(TestFragment.class);
+        doCallRealMethod().when(fragment).initialize();
+        return fragment;
+    }
+
+    public interface TestFragment extends PageFragment {
+
+        @PostConstruct
+        default void initialize() {
+            invokedMethods.add("initialize");
+        }
+
+    }
+
+    public interface InvalidFragment extends PageFragment {
+
+        @PostConstruct
+        default String initialize() {
+            return "invalid";
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package info.novatec.testit.webtester.internal.implementation.pagefragments;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pagefragments.identification.producers.CssSelector;
+import info.novatec.testit.webtester.pagefragments.identification.producers.XPath;
+
+
+class PagedWebElementsTest {
+
+    static final int PAGE_SIZE = PagedWebElements.PAGE_SIZE;
+
+    Browser browser = mock(Browser.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement parent = mock(WebElement.class);
+    WebElement webElement = mock(WebElement.class);
+
+    ComposableLocator cssLocator = ComposableLocator.of(CssSelector.class, ".item").get();
+
+    @BeforeEach
+    void setUp() {
+        when(browser.javaScript()).thenReturn(javaScript);
+    }
+
+    @Test
+    void elementsWithoutLocatorCanNotBePaged() {
+        DynamicWebElementSupplier supplier = new DynamicWebElementSupplier(() -> webDriver, By.linkText("foo"));
+        assertThat(PagedWebElements.of(browser, supplier)).isEmpty();
+    }
+
+    @Test
+    void elementsAreCountedInDocumentOfWebDriver() {
+        when(javaScript.executeWithReturn(anyString(), (Object) isNull(), eq(".item"), isNull(), eq(0), eq(-1)))
+            .thenReturn(42L);
+        assertThat(paged(webDriver, cssLocator).count()).isEqualTo(42);
+    }
+
+    @Test
+    void elementsAreCountedWithinParentElement() {
+        ComposableLocator locator = ComposableLocator.of(XPath.class, "./li").get();
+        when(javaScript.executeWithReturn(anyString(), eq(parent), isNull(), eq("./li"), eq(0), eq(-1))).thenReturn(3L);
+        assertThat(paged(parent, locator).count()).isEqualTo(3);
+    }
+
+    @Test
+    void pagesAreResolvedByPosition() {
+        when(javaScript.executeWithReturn(anyString(), (Object) isNull(), eq(".item"), isNull(), eq(10), eq(5)))
+            .thenReturn(asList(webElement));
+        assertThat(paged(webDriver, cssLocator).getPage(10, 5)).containsExactly(webElement);
+    }
+
+    @Test
+    void streamsAreResolvedWhenConsumed() {
+        Stream<WebElement> stream = paged(webDriver, cssLocator).stream();
+        verifyZeroInteractions(javaScript);
+        stubPage(0, PAGE_SIZE, nCopies(PAGE_SIZE, webElement));
+        assertThat(stream.findFirst()).contains(webElement);
+        verify(javaScript).executeWithReturn(anyString(), (Object) isNull(), eq(".item"), isNull(), eq(0),
+            eq(PAGE_SIZE));
+    }
+
+    @Test
+    void streamPagesGrowUntilLastPageIsRead() {
+        stubPage(0, PAGE_SIZE, nCopies(PAGE_SIZE, webElement));
+        stubPage(PAGE_SIZE, PAGE_SIZE * 2, nCopies(3, webElement));
+        List<WebElement> webElements = paged(webDriver, cssLocator).stream().collect(Collectors.toList());
+        assertThat(webElements).hasSize(PAGE_SIZE + 3);
+    }
+
+    PagedWebElements paged(Object searchContext, ComposableLocator locator) {
+        DynamicWebElementSupplier supplier = searchContext instanceof WebDriver
+            ? new DynamicWebElementSupplier(() -> webDriver, locator.toBy(), locator)
+            : new DynamicWebElementSupplier(() -> parent, locator.toBy(), locator);
+        return PagedWebElements.of(browser, supplier).get();
+    }
+
+    void stubPage(int from, int max, List<WebElement> page) {
+        when(javaScript.executeWithReturn(anyString(), (Object) isNull(), eq(".item"), isNull(), eq(from), eq(max)))
+            .thenReturn(page);
+    }
+
+}
@@ -0,0 +1,61 @@
+package info.novatec.testit.webtester.internal.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.annotations.Mapping;
+import info.novatec.testit.webtester.pagefragments.mapping.MappingException;
+
+
+class DefaultMappingValidatorTest {
+
+    DefaultMappingValidator cut = new DefaultMappingValidator(TestFragment.class);
+
+    @Test
+    void validWebElementsAreReturned() {
+        WebElement webElement = webElement("input", "text");
+        assertThat(cut.assertValidity(webElement)).isSameAs(webElement);
+    }
+
+    @Test
+    void invalidWebElementsAreRejected() {
+        WebElement webElement = webElement("div", null);
+        assertThrows(MappingException.class, () -> cut.assertValidity(webElement));
+    }
+
+    @Test
+    void validWebElementsAreValidatedEveryTime() {
+        WebElement webElement = webElement("input", "text");
+        cut.assertValidity(webElement);
+        cut.assertValidity(webElement);
+        verify(webElement, times(2)).getTagName();
+    }
+
+    @Test
+    void invalidWebElementsAreValidatedEveryTime() {
+        WebElement webElement = webElement("div", null);
+        assertThrows(MappingException.class, () -> cut.assertValidity(webElement));
+        assertThrows(MappingException.class, () -> cut.assertValidity(webElement));
+        verify(webElement, times(2)).getTagName();
+    }
+
+    static WebElement webElement(String tagName, String type) {
+        WebElement webElement = mock(WebElement.class);
+        when(webElement.getTagName()).thenReturn(tagName);
+        when(webElement.getAttribute("type")).thenReturn(type);
+        return webElement;
+    }
+
+    @Mapping(tag = "input", attribute = "type", values = "text")
+    interface TestFragment extends PageFragment {
+    }
+
+}
@@ -0,0 +1,98 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.InvalidSelectorException;
+
+
+class CssSelectorTranslatorTest {
+
+    static final String HTML = ""//
+        + "<div id='root' class='container main'>"
+        + "  <ul id='list' lang='en-US'>"
+        + "    <li id='first' class='item'>a</li>"
+        + "    <li id='second' class='item active' data-x='foo-bar'>b</li>"
+        + "    <li id='third' class='item'><a id='link' href='/path.html'>c</a></li>"
+        + "  </ul>"
+        + "  <input id='checkbox' type='checkbox' checked>"
+        + "  <input id='disabled' type='text' disabled>"
+        + "  <p id='empty'></p>"
+        + "</div>";
+
+    SnapshotDocument snapshot = new SnapshotDocument(HTML, "http://localhost/", false);
+
+    @ParameterizedTest
+    @CsvSource({ //
+        "li, first second third", //
+        "'#list > *', first second third", //
+        "div li.active, second", //
+        ".container.main > ul#list > li:first-child, first", //
+        "li:last-child a, link", //
+        "li:nth-child(2), second", //
+        "li:not(.active), first third", //
+        "li + li, second third", //
+        "'#first ~ li:not(#second)', third", //
+        "[data-x], second", //
+        "[data-x=\"foo-bar\"], second", //
+        "[data-x^=foo], second", //
+        "[data-x$=\"bar\"], second", //
+        "[data-x*=o-b], second", //
+        "[class~=active], second", //
+        "[lang|=en], list", //
+        "[href$=\".html\"], link", //
+        "input:checked, checkbox", //
+        "input:disabled, disabled", //
+        "input:enabled, checkbox", //
+        "p:empty, empty", //
+        "'#first, #third', first third" //
+    })
+    void selectorsAreTranslated(String selector, String expectedIds) {
+        assertThat(String.join(" ", ids(selector))).isEqualTo(expectedIds);
+    }
+
+    @Test
+    void whitespaceAroundCombinatorsIsIgnored() {
+        assertThat(ids("  #list   >   li.item:only-child  ")).isEmpty();
+        assertThat(ids(" ul>li , p ")).containsExactly("first", "second", "third", "empty");
+    }
+
+    @Test
+    void escapedCharactersAreSupported() {
+        SnapshotDocument document = new SnapshotDocument("<b id='a:b'></b><b id='1x'></b>", "", false);
+        assertThat(ids(document, "#a\\:b")).containsExactly("a:b");
+        assertThat(ids(document, "#\\31 x")).containsExactly("1x");
+    }
+
+    @Test
+    void quotesInValuesAreSupported() {
+        SnapshotDocument document = new SnapshotDocument("<b id='x' title=\"it's &quot;quoted&quot;\"></b>", "", false);
+        assertThat(ids(document, "[title='it\\'s \"quoted\"']")).containsExactly("x");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "li::before", "li:hover", "li:nth-child(odd)", "[data-x", "li >", "#", "a b ," })
+    void unsupportedSelectorsAreRejected(String selector) {
+        assertThrows(InvalidSelectorException.class, () -> CssSelectorTranslator.toXPath(selector));
+    }
+
+    List<String> ids(String selector) {
+        return ids(snapshot, selector);
+    }
+
+    static List<String> ids(SnapshotDocument document, String selector) {
+        String xpath = CssSelectorTranslator.toXPath(selector);
+        return document.evaluate(xpath, document.document())
+            .stream()
+            .map(element -> element.getAttribute("id"))
+            .collect(toList());
+    }
+
+}
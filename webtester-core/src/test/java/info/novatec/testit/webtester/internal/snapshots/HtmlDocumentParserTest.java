@@ -0,0 +1,106 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+
+class HtmlDocumentParserTest {
+
+    @Test
+    void elementsAndAttributesAreParsed() {
+        String html = "<DIV id='a' Class=\"b c\" data-x=y hidden><span>text</span></DIV>";
+        Document document = HtmlDocumentParser.parse(html);
+        Element div = element(document, "div");
+        assertThat(div.getAttribute("id")).isEqualTo("a");
+        assertThat(div.getAttribute("class")).isEqualTo("b c");
+        assertThat(div.getAttribute("data-x")).isEqualTo("y");
+        assertThat(div.hasAttribute("hidden")).isTrue();
+        assertThat(children(div)).containsExactly("span");
+        assertThat(div.getTextContent()).isEqualTo("text");
+    }
+
+    @Test
+    void documentAlwaysHasHtmlRoot() {
+        Document fragment = HtmlDocumentParser.parse("<p>foo</p>");
+        assertThat(fragment.getDocumentElement().getTagName()).isEqualTo("html");
+        assertThat(children(fragment.getDocumentElement())).containsExactly("p");
+
+        Document page = HtmlDocumentParser.parse("<!DOCTYPE html><html lang='de'><head></head><body></body></html>");
+        assertThat(page.getDocumentElement().getAttribute("lang")).isEqualTo("de");
+        assertThat(children(page.getDocumentElement())).containsExactly("head", "body");
+    }
+
+    @Test
+    void voidAndSelfClosingElementsAreNotOpened() {
+        Document document = HtmlDocumentParser.parse("<p>a<br>b<input name=x><img src='y'/>c</p>");
+        assertThat(children(element(document, "p"))).containsExactly("#text", "br", "#text", "input", "img", "#text");
+    }
+
+    @Test
+    void rawTextElementsAreNotParsed() {
+        Document document = HtmlDocumentParser.parse("<script>if (a < b) { x = '</div>'; }</SCRIPT><div>x</div>");
+        assertThat(element(document, "script").getTextContent()).isEqualTo("if (a < b) { x = '</div>'; }");
+        assertThat(element(document, "div").getTextContent()).isEqualTo("x");
+    }
+
+    @Test
+    void commentsAndProcessingInstructionsAreSkipped() {
+        Document document = HtmlDocumentParser.parse("<?xml version='1.0'?><div><!-- <span> -->text</div>");
+        assertThat(children(element(document, "div"))).containsExactly("#text");
+    }
+
+    @Test
+    void characterReferencesAreDecoded() {
+        Document document = HtmlDocumentParser.parse("<p title='a &amp; b'>&lt;&#65;&#x42;&nbsp;&unknown; & c</p>");
+        Element paragraph = element(document, "p");
+        assertThat(paragraph.getAttribute("title")).isEqualTo("a & b");
+        assertThat(paragraph.getTextContent()).isEqualTo("<AB &unknown; & c");
+    }
+
+    @Test
+    void implicitlyClosedElementsAreClosed() {
+        Document document = HtmlDocumentParser.parse("<ul><li>a<li>b</ul>"
+            + "<table><tr><td>1<td>2<tr><th>3</table>"
+            + "<select><option>x<option>y</select>");
+        assertThat(children(element(document, "ul"))).containsExactly("li", "li");
+        assertThat(children(element(document, "table"))).containsExactly("tr", "tr");
+        assertThat(children(element(document, "tr"))).containsExactly("td", "td");
+        assertThat(children(element(document, "select"))).containsExactly("option", "option");
+    }
+
+    @Test
+    void unmatchedEndTagsAreIgnored() {
+        Document document = HtmlDocumentParser.parse("<div></span>a<b>b</div>c");
+        Element div = element(document, "div");
+        assertThat(children(div)).containsExactly("#text", "b");
+        assertThat(children(document.getDocumentElement())).containsExactly("div", "#text");
+    }
+
+    @Test
+    void attributesWithInvalidNamesAreSkipped() {
+        Document document = HtmlDocumentParser.parse("<button @click='go()' [disabled]=\"x\" id='b'>Go</button>");
+        Element button = element(document, "button");
+        assertThat(button.getAttributes().getLength()).isEqualTo(1);
+        assertThat(button.getAttribute("id")).isEqualTo("b");
+    }
+
+    static Element element(Document document, String tagName) {
+        return ( Element ) document.getElementsByTagName(tagName).item(0);
+    }
+
+    static List<String> children(Element element) {
+        List<String> names = new ArrayList<>();
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            names.add(child.getNodeName());
+        }
+        return names;
+    }
+
+}
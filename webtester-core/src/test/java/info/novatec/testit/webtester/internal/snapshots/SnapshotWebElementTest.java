@@ -0,0 +1,184 @@
+package info.novatec.testit.webtester.internal.snapshots;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+
+class SnapshotWebElementTest {
+
+    static final String HTML = ""//
+        + "<html><head><title> The  Title </title><script>var x = 1;</script></head><body>"
+        + "<div id='content' class='main' style='color: red; display: block'>"
+        + "  <h1>Head&nbsp;&nbsp;line</h1>"
+        + "  <p>first   line<br>second <b>line</b></p>"
+        + "  <span hidden>hidden text</span><span style='display:none'>invisible</span>"
+        + "  <table><tr><td>a</td><td>b</td></tr></table>"
+        + "</div>"
+        + "<form>"
+        + "  <input id='name' name='username' value='Jane'>"
+        + "  <input id='agree' type='checkbox' checked>"
+        + "  <input id='token' type='hidden' value='secret'>"
+        + "  <fieldset disabled><button id='submit'>Send</button></fieldset>"
+        + "  <textarea id='comment'>Some &amp; text</textarea>"
+        + "  <select id='select'><option value='1'>One</option><option selected>Two</option></select>"
+        + "</form>"
+        + "<a id='link' href='other.html'>Go to other page</a>"
+        + "</body></html>";
+
+    SnapshotDocument snapshot = new SnapshotDocument(HTML, "http://localhost/path/index.html", false);
+    SnapshotWebDriver webDriver = new SnapshotWebDriver(snapshot);
+
+    @Nested
+    class Finding {
+
+        @Test
+        void elementsCanBeFoundWithAllStrategies() {
+            assertThat(webDriver.findElement(By.id("content")).getTagName()).isEqualTo("div");
+            assertThat(webDriver.findElement(By.name("username")).getAttribute("id")).isEqualTo("name");
+            assertThat(webDriver.findElement(By.className("main")).getAttribute("id")).isEqualTo("content");
+            assertThat(webDriver.findElements(By.tagName("input"))).hasSize(3);
+            assertThat(webDriver.findElement(By.linkText("Go to other page")).getAttribute("id")).isEqualTo("link");
+            assertThat(webDriver.findElement(By.partialLinkText("other")).getAttribute("id")).isEqualTo("link");
+            assertThat(webDriver.findElement(By.cssSelector("form > input[type=checkbox]")).getAttribute("id"))
+                .isEqualTo("agree");
+            assertThat(webDriver.findElement(By.xpath("//select/option[2]")).getText()).isEqualTo("Two");
+        }
+
+        @Test
+        void elementsAreSearchedWithinContextElement() {
+            WebElement form = webDriver.findElement(By.tagName("form"));
+            assertThat(ids(form.findElements(By.cssSelector("input")))).containsExactly("name", "agree", "token");
+            assertThat(form.findElements(By.tagName("h1"))).isEmpty();
+            assertThat(form.findElements(By.xpath("//h1"))).hasSize(1);
+        }
+
+        @Test
+        void missingElementsAreReported() {
+            assertThrows(NoSuchElementException.class, () -> webDriver.findElement(By.id("unknown")));
+        }
+
+        @Test
+        void sameDomElementsAreEqual() {
+            assertThat(webDriver.findElement(By.id("name"))).isEqualTo(webDriver.findElement(By.name("username")));
+            assertThat(webDriver.findElement(By.id("name"))).isNotEqualTo(webDriver.findElement(By.id("agree")));
+        }
+
+    }
+
+    @Nested
+    class Reading {
+
+        @Test
+        void visibleTextIsNormalized() {
+            assertThat(element("content").getText()).isEqualTo("Head  line\nfirst line\nsecond line\na b");
+        }
+
+        @Test
+        void textOfInvisibleElementsIsEmpty() {
+            assertThat(webDriver.findElement(By.cssSelector("span[hidden]")).getText()).isEmpty();
+        }
+
+        @Test
+        void attributesFollowWebDriverSemantics() {
+            assertThat(element("name").getAttribute("value")).isEqualTo("Jane");
+            assertThat(element("name").getAttribute("type")).isEqualTo("text");
+            assertThat(element("agree").getAttribute("checked")).isEqualTo("true");
+            assertThat(element("name").getAttribute("checked")).isNull();
+            assertThat(element("comment").getAttribute("value")).isEqualTo("Some & text");
+            assertThat(element("content").getAttribute("className")).isEqualTo("main");
+            assertThat(element("link").getAttribute("href")).isEqualTo("http://localhost/path/other.html");
+            assertThat(element("content").getAttribute("unknown")).isNull();
+        }
+
+        @Test
+        void optionValuesAndIndicesAreDerived() {
+            List<WebElement> options = webDriver.findElements(By.tagName("option"));
+            assertThat(options.get(1).getAttribute("value")).isEqualTo("Two");
+            assertThat(options.get(1).getAttribute("index")).isEqualTo("1");
+        }
+
+        @Test
+        void inlineCssValuesAreAvailable() {
+            assertThat(element("content").getCssValue("color")).isEqualTo("red");
+            assertThat(element("content").getCssValue("font-size")).isEmpty();
+        }
+
+        @Test
+        void visibilityIsDerivedFromMarkup() {
+            assertThat(element("content").isDisplayed()).isTrue();
+            assertThat(element("token").isDisplayed()).isFalse();
+            assertThat(webDriver.findElement(By.tagName("script")).isDisplayed()).isFalse();
+            assertThat(webDriver.findElement(By.cssSelector("span[style]")).isDisplayed()).isFalse();
+        }
+
+        @Test
+        void visibilityOfRenderedSnapshotsIsTakenFromMarkers() {
+            String html = "<div hidden><p id='a'>a</p></div><p id='b' data-webtester-invisible>b</p>"
+                + "<select data-webtester-invisible><option id='c'>c</option></select>";
+            SnapshotWebDriver rendered = new SnapshotWebDriver(new SnapshotDocument(html, "", true));
+            assertThat(rendered.findElement(By.id("a")).isDisplayed()).isTrue();
+            assertThat(rendered.findElement(By.id("b")).isDisplayed()).isFalse();
+            assertThat(rendered.findElement(By.id("b")).getAttribute("data-webtester-invisible")).isNull();
+            assertThat(rendered.findElement(By.id("c")).isDisplayed()).isFalse();
+        }
+
+        @Test
+        void enabledAndSelectedStatesAreDerived() {
+            assertThat(element("name").isEnabled()).isTrue();
+            assertThat(element("submit").isEnabled()).isFalse();
+            assertThat(element("agree").isSelected()).isTrue();
+            assertThat(element("name").isSelected()).isFalse();
+            assertThat(webDriver.findElement(By.cssSelector("option:checked")).getText()).isEqualTo("Two");
+        }
+
+        @Test
+        void pageInformationIsAvailable() {
+            assertThat(webDriver.getTitle()).isEqualTo("The Title");
+            assertThat(webDriver.getCurrentUrl()).isEqualTo("http://localhost/path/index.html");
+            assertThat(webDriver.getPageSource()).isEqualTo(HTML);
+        }
+
+    }
+
+    @Nested
+    class ReadOnly {
+
+        @Test
+        void interactionsAreNotSupported() {
+            WebElement element = element("name");
+            assertThrows(UnsupportedOperationException.class, element::click);
+            assertThrows(UnsupportedOperationException.class, () -> element.sendKeys("foo"));
+            assertThrows(UnsupportedOperationException.class, element::getLocation);
+            assertThrows(UnsupportedOperationException.class, () -> webDriver.get("http://localhost"));
+            assertThrows(UnsupportedOperationException.class, webDriver::navigate);
+        }
+
+        @Test
+        void releasedSnapshotsCanNotBeAccessed() {
+            WebElement element = element("name");
+            webDriver.quit();
+            assertThat(snapshot.isReleased()).isTrue();
+            assertThrows(IllegalStateException.class, element::getText);
+            assertThrows(IllegalStateException.class, () -> webDriver.findElement(By.id("name")));
+        }
+
+    }
+
+    WebElement element(String id) {
+        return webDriver.findElement(By.id(id));
+    }
+
+    static List<String> ids(List<WebElement> elements) {
+        return elements.stream().map(element -> element.getAttribute("id")).collect(toList());
+    }
+
+}
@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.pagefragments;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,7 @@ import info.novatec.testit.webtester.events.pagefragments.SelectedByTextEvent;
 import info.novatec.testit.webtester.events.pagefragments.SelectedByValueEvent;
 import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.pagefragments.mapping.MappingException;
+import info.novatec.testit.webtester.pagefragments.utils.BulkSelect;
 import info.novatec.testit.webtester.pages.Page;
 
 
@@ -56,6 +58,20 @@ public class SingleSelectIntTest extends BaseIntTest {
         page.noSelection().selectByText("unknown");
     }
 
+    @Test
+    public void selectionByDuplicateTextSelectsFirstOption() {
+        SingleSelect select = page.duplicateTexts();
+        select.selectByText("two");
+        assertThat(select.getSelectionValue()).contains("2");
+    }
+
+    @Test
+    public void bulkSelectionByDuplicateTextSelectsFirstOption() {
+        SingleSelect select = page.duplicateTexts();
+        new BulkSelect(select).selectByTexts(Collections.singletonList("two"));
+        assertThat(select.getSelectionValue()).contains("2");
+    }
+
     /* select by value */
 
     @Test
@@ -230,6 +246,8 @@ public class SingleSelectIntTest extends BaseIntTest {
         SingleSelect preSelected();
         @IdentifyUsing("#emptySelect")
         SingleSelect emptySelect();
+        @IdentifyUsing("#duplicateTexts")
+        SingleSelect duplicateTexts();
 
         @IdentifyUsing("#singleSelect")
         SingleSelect singleSelect();
@@ -226,6 +226,40 @@ public class TableIntTest extends BaseIntTest {
         page.modernTable().getFooterRow(42);
     }
 
+    /* cell texts */
+
+    @Test
+    public void cellTextsOfModernTablesAreExtractedCorrectly() {
+        String[][] texts = page.modernTable().getCellTexts();
+        assertThat(texts).hasSize(5);
+        assertThat(String.join(" ", texts[0])).isEqualTo(HEADER_ROW);
+        assertThat(String.join(" ", texts[2])).isEqualTo(BODY_ROW2);
+        assertThat(String.join(" ", texts[4])).isEqualTo(FOOTER_ROW);
+    }
+
+    @Test
+    public void cellTextsOfClassicTablesAreExtractedCorrectly() {
+        String[][] texts = page.classicTable().getCellTexts();
+        assertThat(texts).hasSize(5);
+        assertThat(String.join(" ", texts[0])).isEqualTo(HEADER_ROW);
+    }
+
+    @Test
+    public void cellTextsAreTheSameAsTheVisibleTextsOfTheFields() {
+        String[][] texts = page.modernTable().getCellTexts();
+        String[][] visibleTexts = page.modernTable()
+            .streamAllRows()
+            .map(row -> row.streamFields().map(TableField::getVisibleText).toArray(String[]::new))
+            .toArray(String[][]::new);
+        assertThat(texts).isEqualTo(visibleTexts);
+    }
+
+    @Test
+    public void cellTextsCanBeStreamedInChunks() {
+        Stream<String> rows = page.modernTable().streamCellTexts(2).map(texts -> String.join(" ", texts));
+        assertThat(rows).containsExactly(HEADER_ROW, BODY_ROW1, BODY_ROW2, BODY_ROW3, FOOTER_ROW);
+    }
+
     /* mapping */
 
     @Test
@@ -0,0 +1,59 @@
+package info.novatec.testit.webtester.pagefragments.snapshots;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import utils.integration.BaseIntTest;
+
+import info.novatec.testit.webtester.pagefragments.Checkbox;
+import info.novatec.testit.webtester.pagefragments.GenericElement;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.TextField;
+
+
+public class PageFragmentSnapshotIntTest extends BaseIntTest {
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/pagefragments/snapshot.html";
+    }
+
+    @Test
+    public void snapshotsMatchTheStateReportedByWebDriver() {
+        List<GenericElement> fragments = Stream.of("visible", "nbsp", "displayNone", "transparent",
+            "zeroSizedWithChild", "text", "disabled", "disabledByFieldset", "option", "hiddenOption")
+            .map(id -> browser().find('#' + id))
+            .collect(Collectors.toList());
+        List<PageFragmentSnapshot> snapshots = PageFragmentSnapshot.ofAll(fragments);
+        for (int i = 0; i < fragments.size(); i++) {
+            PageFragment fragment = fragments.get(i);
+            PageFragmentSnapshot snapshot = snapshots.get(i);
+            String description = fragment.getAttribute("id").orElse("");
+            assertThat(snapshot.getTagName()).as(description).isEqualTo(fragment.getTagName());
+            assertThat(snapshot.isVisible()).as(description).isEqualTo(fragment.isVisible());
+            assertThat(snapshot.isEnabled()).as(description).isEqualTo(fragment.isEnabled());
+            assertThat(snapshot.getVisibleText()).as(description).isEqualTo(fragment.getVisibleText());
+        }
+    }
+
+    @Test
+    public void currentStateOfFormElementsIsTaken() {
+        browser().find(TextField.class).by("#text").setText("changed");
+        browser().find(Checkbox.class).by("#checkbox").select();
+        assertThat(PageFragmentSnapshot.of(browser().find("#text")).getAttribute("value")).contains("changed");
+        assertThat(PageFragmentSnapshot.of(browser().find("#checkbox")).getAttribute("checked")).contains("true");
+    }
+
+    @Test
+    public void requestedCssValuesAreTaken() {
+        PageFragmentSnapshot snapshot = PageFragmentSnapshot.of(browser().find("#visible"), "display", "unknown");
+        assertThat(snapshot.getCssValue("display")).contains("block");
+        assertThat(snapshot.getCssValue("unknown")).isEmpty();
+    }
+
+}
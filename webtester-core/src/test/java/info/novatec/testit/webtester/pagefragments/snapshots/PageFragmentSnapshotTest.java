@@ -0,0 +1,140 @@
+package info.novatec.testit.webtester.pagefragments.snapshots;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+class PageFragmentSnapshotTest {
+
+    Browser browser = mock(Browser.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+
+    WebElement firstWebElement = mock(WebElement.class);
+    WebElement secondWebElement = mock(WebElement.class);
+    PageFragment first = fragment(firstWebElement);
+    PageFragment second = fragment(secondWebElement);
+
+    @BeforeEach
+    void setUp() {
+        when(browser.javaScript()).thenReturn(javaScript);
+    }
+
+    @Test
+    void valuesAreTakenFromScriptResult() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("id", "foo");
+        attributes.put("value", "bar");
+        Map<String, Object> cssValues = new HashMap<>();
+        cssValues.put("color", "rgba(0, 0, 0, 1)");
+        cssValues.put("font-size", "");
+        stubScriptResult(asList(result("input", "some text", attributes, cssValues, true, false)));
+
+        PageFragmentSnapshot snapshot = PageFragmentSnapshot.of(first, "color", "font-size");
+
+        assertThat(snapshot.getTagName()).isEqualTo("input");
+        assertThat(snapshot.getVisibleText()).isEqualTo("some text");
+        assertThat(snapshot.getAttribute("id")).contains("foo");
+        assertThat(snapshot.getAttribute("value")).contains("bar");
+        assertThat(snapshot.getAttribute("unknown")).isEmpty();
+        assertThat(snapshot.getCssValue("color")).contains("rgba(0, 0, 0, 1)");
+        assertThat(snapshot.getCssValue("font-size")).isEmpty();
+        assertThat(snapshot.isVisible()).isTrue();
+        assertThat(snapshot.isInvisible()).isFalse();
+        assertThat(snapshot.isEnabled()).isFalse();
+        assertThat(snapshot.isDisabled()).isTrue();
+    }
+
+    @Test
+    void webElementsAndCssPropertiesArePassedToScript() {
+        stubScriptResult(asList(emptyResult(), emptyResult()));
+        PageFragmentSnapshot.ofAll(asList(first, second), "color");
+        verify(javaScript).executeWithReturn(anyString(), eq(asList(firstWebElement, secondWebElement)),
+            eq(asList("color")));
+    }
+
+    @Test
+    void snapshotsOfMultipleFragmentsAreTakenWithSingleExecution() {
+        stubScriptResult(asList(result("li", "first", null, null, true, true), emptyResult()));
+        List<PageFragmentSnapshot> snapshots = PageFragmentSnapshot.ofAll(asList(first, second));
+        assertThat(snapshots).hasSize(2);
+        assertThat(snapshots.get(0).getVisibleText()).isEqualTo("first");
+        verify(javaScript, times(1)).executeWithReturn(anyString(), (Object) any(), any());
+    }
+
+    @Test
+    void snapshotsOfNoFragmentsDoNotExecuteJavaScript() {
+        assertThat(PageFragmentSnapshot.ofAll(emptyList())).isEmpty();
+        verifyZeroInteractions(javaScript);
+    }
+
+    @Test
+    void missingResultsAreReported() {
+        stubScriptResult(asList(emptyResult()));
+        assertThrows(IllegalStateException.class, () -> PageFragmentSnapshot.ofAll(asList(first, second)));
+    }
+
+    @Test
+    void fragmentsOfDifferentBrowsersAreRejected() {
+        PageFragment other = mock(PageFragment.class);
+        when(other.browser()).thenReturn(mock(Browser.class));
+        assertThrows(IllegalArgumentException.class, () -> PageFragmentSnapshot.ofAll(asList(first, other)));
+        verifyZeroInteractions(javaScript);
+    }
+
+    @Test
+    void snapshotsAreImmutable() {
+        stubScriptResult(asList(emptyResult()));
+        PageFragmentSnapshot snapshot = PageFragmentSnapshot.of(first);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getAttributes().put("foo", "bar"));
+    }
+
+    PageFragment fragment(WebElement webElement) {
+        PageFragment fragment = mock(PageFragment.class);
+        when(fragment.browser()).thenReturn(browser);
+        when(fragment.webElement()).thenReturn(webElement);
+        return fragment;
+    }
+
+    void stubScriptResult(List<Map<String, Object>> result) {
+        when(javaScript.executeWithReturn(anyString(), (Object) any(), any())).thenReturn(result);
+    }
+
+    static Map<String, Object> emptyResult() {
+        return result("div", "", null, null, false, true);
+    }
+
+    static Map<String, Object> result(String tagName, String text, Map<String, Object> attributes,
+        Map<String, Object> cssValues, boolean visible, boolean enabled) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("tagName", tagName);
+        result.put("visibleText", text);
+        result.put("attributes", attributes);
+        result.put("cssValues", cssValues);
+        result.put("visible", visible);
+        result.put("enabled", enabled);
+        return result;
+    }
+
+}
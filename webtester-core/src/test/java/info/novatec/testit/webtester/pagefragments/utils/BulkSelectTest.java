@@ -0,0 +1,102 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pagefragments.MultiSelect;
+
+
+class BulkSelectTest {
+
+    Browser browser = mock(Browser.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    WebElement webElement = mock(WebElement.class);
+    MultiSelect select = mock(MultiSelect.class);
+
+    BulkSelect cut = new BulkSelect(select);
+
+    @BeforeEach
+    void setUp() {
+        when(select.browser()).thenReturn(browser);
+        when(select.webElement()).thenReturn(webElement);
+        when(browser.javaScript()).thenReturn(javaScript);
+    }
+
+    @Test
+    void allOptionsAreReadWithSingleExecution() {
+        when(javaScript.executeWithReturn(anyString(), eq(webElement)))
+            .thenReturn(asList(option("foo", "1", 0L, false), option("bar", "2", 1L, true)));
+        assertThat(cut.getOptions()).containsExactly(new SelectOption("foo", "1", 0, false),
+            new SelectOption("bar", "2", 1, true));
+    }
+
+    @Test
+    void selectedOptionsAreFiltered() {
+        when(javaScript.executeWithReturn(anyString(), eq(webElement)))
+            .thenReturn(asList(option("foo", "1", 0L, false), option("bar", "2", 1L, true)));
+        assertThat(cut.getSelectedOptions()).containsExactly(new SelectOption("bar", "2", 1, true));
+    }
+
+    @Test
+    void textsAreSelectedWithSingleExecution() {
+        cut.selectByTexts(asList("foo", "bar"));
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("text"), eq(asList("foo", "bar")),
+            eq(true));
+    }
+
+    @Test
+    void valuesAreDeselectedWithSingleExecution() {
+        cut.deselectByValues(asList("1", "2"));
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("value"), eq(asList("1", "2")),
+            eq(false));
+    }
+
+    @Test
+    void indicesArePassedAsStrings() {
+        cut.selectByIndices(asList(0, 2));
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("index"), eq(asList("0", "2")),
+            eq(true));
+    }
+
+    @Test
+    void allOptionsCanBeDeselected() {
+        cut.deselectAll();
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("all"), isNull(), eq(false));
+    }
+
+    @Test
+    void missingOptionsAreReported() {
+        when(javaScript.executeWithReturn(anyString(), eq(webElement), eq("text"), eq(asList("foo", "xur")),
+            eq(true))).thenReturn("xur");
+        NoSuchElementException exception =
+            assertThrows(NoSuchElementException.class, () -> cut.selectByTexts(asList("foo", "xur")));
+        assertThat(exception).hasMessageStartingWith("Cannot locate option with text: xur");
+    }
+
+    static Map<String, Object> option(String text, String value, long index, boolean selected) {
+        Map<String, Object> option = new HashMap<>();
+        option.put("text", text);
+        option.put("value", value);
+        option.put("index", index);
+        option.put("selected", selected);
+        return option;
+    }
+
+}
@@ -0,0 +1,104 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.NoSuchElementException;
+
+import utils.integration.BaseIntTest;
+
+import info.novatec.testit.webtester.pagefragments.Form;
+import info.novatec.testit.webtester.pagefragments.TextField;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pagefragments.identification.producers.XPath;
+import info.novatec.testit.webtester.pagefragments.mapping.MappingException;
+import info.novatec.testit.webtester.pages.Page;
+
+
+public class FormFillerIntTest extends BaseIntTest {
+
+    Registration registration;
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/utils/form-filling.html";
+    }
+
+    @Before
+    public void setUp() {
+        registration = create(TestPage.class).registration();
+    }
+
+    @Test
+    public void fieldsAndSelectorsAreFilled() {
+        registration.fill()
+            .set(registration.firstName(), "Jane")
+            .set(registration.lastName(), "Doe")
+            .set("input[name=email]", "jane.doe@example.com")
+            .verifying()
+            .apply();
+        assertThat(registration.firstName().getText()).isEqualTo("Jane");
+        assertThat(registration.lastName().getText()).isEqualTo("Doe");
+        assertThat(registration.email().getText()).isEqualTo("jane.doe@example.com");
+    }
+
+    @Test
+    public void missingFieldsAreReportedWithoutChangingAnyValue() {
+        FormFiller filler = registration.fill()
+            .set(registration.firstName(), "Jane")
+            .set(registration.missing(), "foo");
+        assertThatThrownBy(filler::apply).isInstanceOf(NoSuchElementException.class);
+        assertThat(registration.firstName().getText()).isEqualTo("initial");
+    }
+
+    @Test
+    public void invalidFieldsAreReportedWithoutChangingAnyValue() {
+        FormFiller filler = registration.fill()
+            .set(registration.firstName(), "Jane")
+            .set(registration.notAField(), "foo");
+        assertThatThrownBy(filler::apply).isInstanceOf(MappingException.class);
+        assertThat(registration.firstName().getText()).isEqualTo("initial");
+    }
+
+    @Test
+    public void readOnlyFieldsAreReportedWithoutChangingAnyValue() {
+        FormFiller filler = registration.fill()
+            .set(registration.firstName(), "Jane")
+            .set(registration.locked(), "foo");
+        assertThatThrownBy(filler::apply).isInstanceOf(InvalidElementStateException.class);
+        assertThat(registration.firstName().getText()).isEqualTo("initial");
+    }
+
+    public interface TestPage extends Page {
+
+        @IdentifyUsing("#registration")
+        Registration registration();
+
+    }
+
+    public interface Registration extends Form {
+
+        @IdentifyUsing("#firstName")
+        TextField firstName();
+
+        @IdentifyUsing(value = ".//input[@name='lastName']", how = XPath.class)
+        TextField lastName();
+
+        @IdentifyUsing("input[name=email]")
+        TextField email();
+
+        @IdentifyUsing("#locked")
+        TextField locked();
+
+        @IdentifyUsing("#missing")
+        TextField missing();
+
+        @IdentifyUsing("#notAField")
+        TextField notAField();
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.events.Event;
+import info.novatec.testit.webtester.events.EventSystem;
+import info.novatec.testit.webtester.events.pagefragments.TextSetEvent;
+import info.novatec.testit.webtester.internal.implementation.PageFragmentFactory;
+import info.novatec.testit.webtester.internal.implementation.PageFragmentFactory.PageFragmentDescriptor;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.ComposableLocator;
+import info.novatec.testit.webtester.internal.implementation.pagefragments.DynamicWebElementSupplier;
+import info.novatec.testit.webtester.pagefragments.Form;
+import info.novatec.testit.webtester.pagefragments.TextField;
+import info.novatec.testit.webtester.pagefragments.identification.producers.CssSelector;
+import info.novatec.testit.webtester.pagefragments.mapping.MappingException;
+
+
+class FormFillerTest {
+
+    Browser browser = mock(Browser.class);
+    Configuration configuration = mock(Configuration.class);
+    EventSystem events = mock(EventSystem.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    WebElement formElement = mock(WebElement.class);
+    WebElement fieldElement = mock(WebElement.class);
+    WebElement emailElement = mock(WebElement.class);
+    WebDriver webDriver = mock(WebDriver.class);
+    Form form = mock(Form.class);
+    TextField field = mock(TextField.class);
+
+    FormFiller cut = new FormFiller(form);
+
+    @BeforeEach
+    void setUp() {
+        when(browser.configuration()).thenReturn(configuration);
+        when(browser.events()).thenReturn(events);
+        when(browser.javaScript()).thenReturn(javaScript);
+        when(form.browser()).thenReturn(browser);
+        when(form.webElement()).thenReturn(formElement);
+        when(field.webElement()).thenReturn(fieldElement);
+        when(field.getName()).thenReturn(Optional.of("name"));
+    }
+
+    @Test
+    void allFieldsAreFilledWithSingleExecution() {
+        stubResult(asList("", "old"), asList("Jane", "jane@example.com"));
+        assertThat(cut.set(field, "Jane").set("input[name=email]", "jane@example.com").apply()).isSameAs(form);
+        verify(javaScript, times(1)).executeWithReturn(anyString(), eq(formElement),
+            eq(asList(fieldElement, "input[name=email]")), eq(asList("Jane", "jane@example.com")));
+    }
+
+    @Test
+    void textSetEventsAreFiredForAllFields() {
+        when(events.isEnabled()).thenReturn(true);
+        stubResult(asList("", "old"), asList("Jane", "jane@example.com"));
+        cut.set(field, "Jane").set("input[name=email]", "jane@example.com").apply();
+
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(events, times(2)).fireEvent(captor.capture());
+        TextSetEvent first = ( TextSetEvent ) captor.getAllValues().get(0);
+        TextSetEvent second = ( TextSetEvent ) captor.getAllValues().get(1);
+        assertThat(first.getPageFragmentName()).contains("name");
+        assertThat(first.getAfter()).isEqualTo("Jane");
+        assertThat(second.getPageFragmentName()).contains("input[name=email]");
+        assertThat(second.getBefore()).isEqualTo("old");
+    }
+
+    @Test
+    void noEventsAreFiredIfEventSystemIsDisabled() {
+        stubResult(asList(""), asList("Jane"));
+        cut.set(field, "Jane").apply();
+        verify(events, never()).fireEvent(any());
+    }
+
+    @Test
+    void fieldsWithKnownLocatorsAreResolvedWithSingleExecution() {
+        TextField first = locatedTextField("#first");
+        TextField second = locatedTextField("#second");
+        WebElement firstElement = textFieldElement();
+        WebElement secondElement = textFieldElement();
+        when(javaScript.executeWithReturn(anyString(), (Object) any())).thenReturn(asList(firstElement, secondElement));
+        stubResult(asList("", ""), asList("a", "b"));
+        cut.set(first, "a").set(second, "b").apply();
+        verify(javaScript).executeWithReturn(anyString(), eq(formElement), eq(asList(firstElement, secondElement)),
+            eq(asList("a", "b")));
+        verify(webDriver, never()).findElement(any());
+        verify(firstElement).getTagName();
+    }
+
+    @Test
+    void fieldsWithKnownLocatorsAreValidatedBeforeFilling() {
+        TextField located = locatedTextField("#first");
+        when(javaScript.executeWithReturn(anyString(), (Object) any())).thenReturn(asList(mock(WebElement.class)));
+        assertThrows(MappingException.class, () -> cut.set(located, "a").apply());
+        verify(javaScript, never()).executeWithReturn(anyString(), eq(formElement), any(), any());
+    }
+
+    @Test
+    void missingFieldsWithKnownLocatorsAreReportedBeforeFilling() {
+        TextField located = locatedTextField("#first");
+        when(javaScript.executeWithReturn(anyString(), (Object) any())).thenReturn(singletonList(null));
+        assertThrows(NoSuchElementException.class, () -> cut.set(located, "a").apply());
+        verify(javaScript, never()).executeWithReturn(anyString(), eq(formElement), any(), any());
+    }
+
+    @Test
+    void mapsOfFieldsAreFilledInOrder() {
+        TextField other = mock(TextField.class);
+        WebElement otherElement = mock(WebElement.class);
+        when(other.webElement()).thenReturn(otherElement);
+        Map<TextField, String> texts = new LinkedHashMap<>();
+        texts.put(other, "b");
+        texts.put(field, "a");
+        stubResult(asList("", ""), asList("b", "a"));
+        cut.setAll(texts).apply();
+        verify(javaScript).executeWithReturn(anyString(), eq(formElement), eq(asList(otherElement, fieldElement)),
+            eq(asList("b", "a")));
+    }
+
+    @Test
+    void nothingIsExecutedWithoutFields() {
+        assertThat(cut.apply()).isSameAs(form);
+        verifyZeroInteractions(javaScript);
+    }
+
+    @Test
+    void missingFieldsAreReported() {
+        stubFailure(0, "missing");
+        assertThrows(NoSuchElementException.class, () -> cut.set("#unknown", "foo").apply());
+        verify(events).fireExceptionEvent(any(NoSuchElementException.class));
+    }
+
+    @Test
+    void readOnlyFieldsAreReported() {
+        stubFailure(0, "disabled or read-only");
+        assertThrows(InvalidElementStateException.class, () -> cut.set(field, "foo").apply());
+    }
+
+    @Test
+    void differingValuesAreReportedIfVerifying() {
+        stubResult(asList(""), asList("Ja"));
+        FormFillingException exception =
+            assertThrows(FormFillingException.class, () -> cut.set(field, "Jane").verifying().apply());
+        assertThat(exception).hasMessageContaining("'name' is 'Ja' instead of 'Jane'");
+    }
+
+    @Test
+    void differingValuesAreIgnoredIfNotVerifying() {
+        stubResult(asList(""), asList("Ja"));
+        cut.set(field, "Jane").apply();
+    }
+
+    TextField locatedTextField(String cssSelector) {
+        ComposableLocator locator = ComposableLocator.of(CssSelector.class, cssSelector).get();
+        PageFragmentDescriptor descriptor = PageFragmentDescriptor.builder()
+            .pageFragmentType(TextField.class)
+            .webElementSupplier(new DynamicWebElementSupplier(() -> webDriver, locator.toBy(), locator, true))
+            .build();
+        return ( TextField ) PageFragmentFactory.createInstanceFor(browser).createInstanceOf(descriptor);
+    }
+
+    static WebElement textFieldElement() {
+        WebElement webElement = mock(WebElement.class);
+        when(webElement.getTagName()).thenReturn("input");
+        when(webElement.getAttribute("type")).thenReturn("text");
+        return webElement;
+    }
+
+    void stubResult(List<String> before, List<String> after) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("before", before);
+        result.put("after", after);
+        result.put("elements", asList(fieldElement, emailElement).subList(0, after.size()));
+        when(javaScript.executeWithReturn(anyString(), eq(formElement), any(), any())).thenReturn(result);
+    }
+
+    void stubFailure(long index, String reason) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("failed", index);
+        result.put("reason", reason);
+        when(javaScript.executeWithReturn(anyString(), eq(formElement), any(), any())).thenReturn(result);
+    }
+
+}
@@ -0,0 +1,90 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pagefragments.Table;
+
+
+class TableExtractorTest {
+
+    Browser browser = mock(Browser.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    WebElement webElement = mock(WebElement.class);
+    Table table = mock(Table.class);
+
+    TableExtractor cut = new TableExtractor(table);
+
+    @BeforeEach
+    void setUp() {
+        when(table.browser()).thenReturn(browser);
+        when(table.webElement()).thenReturn(webElement);
+        when(browser.javaScript()).thenReturn(javaScript);
+    }
+
+    @Test
+    void allCellsAreExtractedWithSingleExecution() {
+        stubRows(0, -1, asList(asList("H1", "H2"), asList("C1", null)));
+        String[][] texts = cut.extract();
+        assertThat(texts).containsExactly(new String[] { "H1", "H2" }, new String[] { "C1", "" });
+    }
+
+    @Test
+    void emptyTablesAreExtractedAsEmptyArray() {
+        stubRows(0, -1, emptyList());
+        assertThat(cut.extract()).isEmpty();
+    }
+
+    @Test
+    void rowsAreStreamedInChunks() {
+        stubRows(0, 2, asList(asList("R1"), asList("R2")));
+        stubRows(2, 2, asList(asList("R3")));
+        List<String> rows = cut.stream(2).map(row -> row[0]).collect(toList());
+        assertThat(rows).containsExactly("R1", "R2", "R3");
+        verify(table, times(1)).webElement();
+    }
+
+    @Test
+    void streamingStopsAfterEmptyChunk() {
+        stubRows(0, 2, asList(asList("R1"), asList("R2")));
+        stubRows(2, 2, emptyList());
+        assertThat(cut.stream(2)).hasSize(2);
+    }
+
+    @Test
+    void chunksAreOnlyReadWhenStreamIsConsumed() {
+        Stream<String[]> stream = cut.stream(10);
+        verifyZeroInteractions(javaScript);
+        stubRows(0, 10, asList(asList("R1")));
+        assertThat(stream.findFirst()).isPresent();
+    }
+
+    @Test
+    void chunkSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> cut.stream(0));
+    }
+
+    void stubRows(int from, int max, List<?> rows) {
+        when(javaScript.executeWithReturn(anyString(), eq(webElement), eq(from), eq(max))).thenReturn(rows);
+    }
+
+}
@@ -0,0 +1,103 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.InvalidElementStateException;
+
+import utils.integration.BaseIntTest;
+
+import info.novatec.testit.webtester.pagefragments.Span;
+import info.novatec.testit.webtester.pagefragments.TextArea;
+import info.novatec.testit.webtester.pagefragments.TextField;
+import info.novatec.testit.webtester.pagefragments.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.pages.Page;
+
+
+public class TextEntryIntTest extends BaseIntTest {
+
+    TestPage page;
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/utils/text-entry.html";
+    }
+
+    @Before
+    public void setUp() {
+        page = create(TestPage.class);
+    }
+
+    @Test
+    public void javaScriptAssignsTextAndDispatchesInputAndChangeEvents() {
+        new TextEntry(page.plain(), TextEntryMode.JAVASCRIPT).setText("hello");
+        assertThat(page.plain().getText()).isEqualTo("hello");
+        assertThat(page.events().getVisibleText()).isEqualTo("input change");
+    }
+
+    @Test
+    public void hybridAssignsTextAndTypesLastCharacter() {
+        new TextEntry(page.plain(), TextEntryMode.HYBRID).setText("hello");
+        assertThat(page.plain().getText()).isEqualTo("hello");
+        assertThat(page.events().getVisibleText()).startsWith("input keydown");
+    }
+
+    @Test
+    public void javaScriptAppendsText() {
+        new TextEntry(page.plain(), TextEntryMode.JAVASCRIPT).setText("foo");
+        new TextEntry(page.plain(), TextEntryMode.JAVASCRIPT).appendText("bar");
+        assertThat(page.plain().getText()).isEqualTo("foobar");
+    }
+
+    @Test
+    public void multiLineTextsCanBeAssigned() {
+        new TextEntry(page.area(), TextEntryMode.JAVASCRIPT).setText("foo\nbar");
+        assertThat(page.area().getText()).isEqualTo("foo\nbar");
+    }
+
+    @Test
+    public void maxLengthIsAppliedInEveryMode() {
+        for (TextEntryMode mode : TextEntryMode.values()) {
+            new TextEntry(page.limited(), mode).setText("123456789");
+            assertThat(page.limited().getText()).as(mode.name()).isEqualTo("12345");
+        }
+    }
+
+    @Test
+    public void maxLengthIsAppliedWhenAppending() {
+        for (TextEntryMode mode : TextEntryMode.values()) {
+            new TextEntry(page.limited(), mode).setText("abc");
+            new TextEntry(page.limited(), mode).appendText("defgh");
+            assertThat(page.limited().getText()).as(mode.name()).isEqualTo("abcde");
+        }
+    }
+
+    @Test
+    public void readOnlyFieldsAreRejected() {
+        TextEntry textEntry = new TextEntry(page.locked(), TextEntryMode.JAVASCRIPT);
+        assertThatThrownBy(() -> textEntry.setText("foo")).isInstanceOf(InvalidElementStateException.class);
+        assertThat(page.locked().getText()).isEqualTo("locked");
+    }
+
+    public interface TestPage extends Page {
+
+        @IdentifyUsing("#plain")
+        TextField plain();
+
+        @IdentifyUsing("#limited")
+        TextField limited();
+
+        @IdentifyUsing("#locked")
+        TextField locked();
+
+        @IdentifyUsing("#area")
+        TextArea area();
+
+        @IdentifyUsing("#events")
+        Span events();
+
+    }
+
+}
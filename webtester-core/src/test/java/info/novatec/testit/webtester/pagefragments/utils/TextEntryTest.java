@@ -0,0 +1,119 @@
+package info.novatec.testit.webtester.pagefragments.utils;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.config.BaseConfiguration;
+import info.novatec.testit.webtester.pagefragments.TextArea;
+
+
+class TextEntryTest {
+
+    Browser browser = mock(Browser.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    WebElement webElement = mock(WebElement.class);
+    TextArea field = mock(TextArea.class);
+
+    @BeforeEach
+    void setUp() {
+        when(field.browser()).thenReturn(browser);
+        when(field.webElement()).thenReturn(webElement);
+        when(browser.javaScript()).thenReturn(javaScript);
+        when(javaScript.executeWithReturn(anyString(), eq(webElement), anyString(), eq(false), anyList()))
+            .thenReturn(true);
+        when(javaScript.executeWithReturn(anyString(), eq(webElement), anyString(), eq(true), anyList()))
+            .thenReturn(true);
+    }
+
+    @Test
+    void modeIsTakenFromConfiguration() {
+        when(browser.configuration()).thenReturn(new BaseConfiguration().setTextEntryMode(TextEntryMode.JAVASCRIPT));
+        new TextEntry(field).setText("foo");
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("foo"), eq(false),
+            eq(asList("input", "change")));
+    }
+
+    @Test
+    void keystrokesTypeTheText() {
+        new TextEntry(field, TextEntryMode.KEYSTROKES).setText("foo");
+        InOrder inOrder = inOrder(webElement);
+        inOrder.verify(webElement).clear();
+        inOrder.verify(webElement).sendKeys("foo");
+        verifyZeroInteractions(javaScript);
+    }
+
+    @Test
+    void javaScriptAssignsTheTextWithSingleExecution() {
+        new TextEntry(field, TextEntryMode.JAVASCRIPT).appendText("foo");
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("foo"), eq(true),
+            eq(asList("input", "change")));
+        verifyZeroInteractions(webElement);
+    }
+
+    @Test
+    void hybridAssignsAllButTheLastCharacterAndTypesIt() {
+        new TextEntry(field, TextEntryMode.HYBRID).setText("{\"a\": 1}");
+        InOrder inOrder = inOrder(javaScript, webElement);
+        inOrder.verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("{\"a\": 1"), eq(false),
+            eq(singletonList("input")));
+        inOrder.verify(webElement).sendKeys("}");
+    }
+
+    @Test
+    void hybridDoesNotSplitSurrogatePairs() {
+        new TextEntry(field, TextEntryMode.HYBRID).setText("a\uD83D\uDE00");
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq("a"), eq(false),
+            eq(singletonList("input")));
+        verify(webElement).sendKeys("\uD83D\uDE00");
+    }
+
+    @Test
+    void hybridClearsWithoutTypingForEmptyTexts() {
+        new TextEntry(field, TextEntryMode.HYBRID).setText("");
+        verify(javaScript).executeWithReturn(anyString(), eq(webElement), eq(""), eq(false),
+            eq(asList("input", "change")));
+        verifyZeroInteractions(webElement);
+    }
+
+    @Test
+    void appendingEmptyTextsDoesNothing() {
+        new TextEntry(field, TextEntryMode.JAVASCRIPT).appendText("");
+        verifyZeroInteractions(javaScript, webElement);
+    }
+
+    @Test
+    void textsWithSpecialKeysAreAlwaysTyped() {
+        String text = "foo" + Keys.ENTER;
+        new TextEntry(field, TextEntryMode.JAVASCRIPT).setText(text);
+        verify(webElement).clear();
+        verify(webElement).sendKeys(text);
+        verifyZeroInteractions(javaScript);
+    }
+
+    @Test
+    void disabledOrReadOnlyFieldsAreRejected() {
+        when(javaScript.executeWithReturn(anyString(), eq(webElement), anyString(), eq(false), anyList()))
+            .thenReturn(false);
+        TextEntry cut = new TextEntry(field, TextEntryMode.JAVASCRIPT);
+        assertThrows(InvalidElementStateException.class, () -> cut.setText("foo"));
+    }
+
+}
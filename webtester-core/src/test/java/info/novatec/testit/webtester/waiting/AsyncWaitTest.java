@@ -0,0 +1,141 @@
+package info.novatec.testit.webtester.waiting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.testit.testutils.mockito.junit5.EnableMocking;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+@EnableMocking
+class AsyncWaitTest {
+
+    @Mock
+    AsyncWaiter waiter;
+
+    CompletableFuture<Void> conditionMet = CompletableFuture.completedFuture(null);
+
+    @Nested
+    class WithConfiguration {
+
+        WaitConfig config = new WaitConfig().setTimeout(5);
+        AsyncWait cut;
+
+        @BeforeEach
+        void setUp() {
+            cut = new AsyncWait(waiter, config);
+            doReturn(conditionMet).when(waiter).waitUntil(any(), any());
+        }
+
+        @Test
+        void configurationIsUsedForObjects() {
+            cut.until("foo", value -> true);
+            verify(waiter).waitUntil(same(config), any());
+        }
+
+        @Test
+        void configurationIsUsedForBooleanSuppliers() {
+            cut.until(() -> true);
+            verify(waiter).waitUntil(same(config), any());
+        }
+
+        @Test
+        void futureCompletesWithCheckedObject() {
+            CompletableFuture<String> future = cut.until("foo", value -> true);
+            assertThat(future.join()).isEqualTo("foo");
+        }
+
+        @Test
+        void futureCompletesWithLastSuppliedObject() {
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            doReturn(pending).when(waiter).waitUntil(any(), any());
+            CompletableFuture<String> future = cut.untilSupplied(() -> "foo", value -> true);
+
+            ArgumentCaptor<Supplier<Boolean>> check = ArgumentCaptor.forClass(Supplier.class);
+            verify(waiter).waitUntil(same(config), check.capture());
+            assertThat(check.getValue().get()).isTrue();
+            pending.complete(null);
+
+            assertThat(future.join()).isEqualTo("foo");
+        }
+
+        @Test
+        void cancellingFutureOfObjectCancelsChecks() {
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            doReturn(pending).when(waiter).waitUntil(any(), any());
+            cut.until("foo", value -> false).cancel(true);
+            assertThat(pending).isCancelled();
+        }
+
+        @Test
+        void cancellingFutureOfSuppliedObjectCancelsChecks() {
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            doReturn(pending).when(waiter).waitUntil(any(), any());
+            cut.untilSupplied(() -> "foo", value -> false).cancel(true);
+            assertThat(pending).isCancelled();
+        }
+
+        @Test
+        void conditionIsCheckedAgainstObject() {
+            cut.until("foo", value -> value.equals("foo"));
+            ArgumentCaptor<Supplier<Boolean>> check = ArgumentCaptor.forClass(Supplier.class);
+            verify(waiter).waitUntil(same(config), check.capture());
+            assertThat(check.getValue().get()).isTrue();
+        }
+
+    }
+
+    @Nested
+    class WithoutConfiguration {
+
+        @Mock
+        Configuration configuration;
+        @Mock
+        Browser browser;
+        @Mock
+        PageFragment fragment;
+
+        AsyncWait cut;
+
+        @BeforeEach
+        void setUp() {
+            cut = new AsyncWait(waiter, null);
+            doReturn(conditionMet).when(waiter).waitUntil(any(), any());
+        }
+
+        @Test
+        void fragmentsConfigurationIsUsedForPageFragments() {
+            doReturn(configuration).when(browser).configuration();
+            doReturn(browser).when(fragment).browser();
+            doReturn(7).when(configuration).getWaitTimeout();
+            doReturn(50L).when(configuration).getWaitInterval();
+
+            cut.until(fragment, value -> true);
+
+            verify(waiter).waitUntil(argThat(config -> config.getTimeout() == 7 && config.getInterval() == 50L), any());
+        }
+
+        @Test
+        void defaultConfigurationIsUsedForOtherObjects() {
+            cut.until("foo", value -> true);
+            verify(waiter).waitUntil(argThat(config -> config.getTimeout() == WaitConfig.DEFAULT_TIMEOUT), any());
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package info.novatec.testit.webtester.waiting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import info.novatec.testit.webtester.waiting.polling.ExponentialPolling;
+
+
+@RunWith(Enclosed.class)
+public class AsyncWaiterTest {
+
+    @RunWith(MockitoJUnitRunner.class)
+    public static class WaitUntil {
+
+        @Mock
+        ScheduledExecutorService executor;
+        @Mock
+        Clock clock;
+        @Mock
+        Supplier<Boolean> condition;
+
+        AsyncWaiter cut;
+        WaitConfig config = new WaitConfig().setTimeout(1).setTimeUnit(TimeUnit.SECONDS).setInterval(100L);
+
+        List<Long> delays = new ArrayList<>();
+        List<Runnable> scheduled = new ArrayList<>();
+        long currentTime = 42L;
+
+        @Before
+        public void captureScheduledChecksAndMoveTimeAccordingly() {
+            doReturn(currentTime).when(clock).millis();
+            doAnswer(invocation -> {
+                scheduled.add(invocation.getArgument(0));
+                delays.add(invocation.getArgument(1));
+                return null;
+            }).when(executor).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+            cut = new AsyncWaiter(executor, clock);
+        }
+
+        @Test
+        public void callingThreadIsNotBlocked() {
+            CompletableFuture<Void> future = cut.waitUntil(config, condition);
+            assertThat(future).isNotDone();
+            assertThat(delays).containsExactly(0L);
+        }
+
+        @Test
+        public void futureCompletesOnceConditionIsMet() {
+            doReturn(false, false, true).when(condition).get();
+            CompletableFuture<Void> future = cut.waitUntil(config, condition);
+            runScheduledChecks();
+            assertThat(future).isCompleted();
+            assertThat(delays).containsExactly(0L, 100L, 100L);
+        }
+
+        @Test
+        public void futureCompletesExceptionallyWithTimeout() {
+            doReturn(false).when(condition).get();
+            CompletableFuture<Void> future = cut.waitUntil(config, condition);
+            runScheduledChecks();
+            assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+            verify(condition, times(11)).get();
+        }
+
+        @Test
+        public void lastExceptionIsCauseOfTimeout() {
+            IllegalStateException exception = new IllegalStateException();
+            doThrow(exception).when(condition).get();
+            CompletableFuture<Void> future = cut.waitUntil(config, condition);
+            runScheduledChecks();
+            Throwable timeout = catchThrowable(future::get).getCause();
+            assertThat(timeout).isInstanceOf(TimeoutException.class).hasCause(exception);
+        }
+
+        @Test
+        public void conditionParameterMismatchEndsWaitImmediately() {
+            doThrow(ConditionParameterMismatchException.class).when(condition).get();
+            CompletableFuture<Void> future = cut.waitUntil(config, condition);
+            runScheduledChecks();
+            assertThatThrownBy(future::get).hasCauseInstanceOf(ConditionParameterMismatchException.class);
+            verify(condition, times(1)).get();
+        }
+
+        @Test
+        public void cancelledWaitStopsChecking() {
+            CompletableFuture<Void> future = cut.waitUntil(config, condition);
+            future.cancel(false);
+            runScheduledChecks();
+            verify(condition, never()).get();
+        }
+
+        @Test
+        public void intervalsAreDecidedByPollingStrategy() {
+            doReturn(false, false, false, true).when(condition).get();
+            config.setPollingStrategy(new ExponentialPolling(50L, 2.0, 1000L));
+            cut.waitUntil(config, condition);
+            runScheduledChecks();
+            assertThat(delays).containsExactly(0L, 50L, 100L, 200L);
+        }
+
+        @Test
+        public void intervalsNeverExceedTheTimeout() {
+            doReturn(false).when(condition).get();
+            config.setPollingStrategy(new ExponentialPolling(300L, 2.0, 1000L));
+            cut.waitUntil(config, condition);
+            runScheduledChecks();
+            assertThat(delays).containsExactly(0L, 300L, 600L, 100L);
+        }
+
+        @Test
+        public void rejectedScheduleCompletesFutureExceptionally() {
+            doThrow(RejectedExecutionException.class).when(executor)
+                .schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+            CompletableFuture<Void> future = cut.waitUntil(config, condition);
+            assertThatThrownBy(future::get).hasCauseInstanceOf(RejectedExecutionException.class);
+        }
+
+        void runScheduledChecks() {
+            for (int i = 0; i < scheduled.size(); i++) {
+                currentTime += delays.get(i);
+                doReturn(currentTime).when(clock).millis();
+                scheduled.get(i).run();
+            }
+        }
+
+    }
+
+    public static class SharedExecutor {
+
+        @Test
+        public void sameExecutorIsShared() {
+            assertThat(AsyncWaiter.sharedExecutor()).isSameAs(AsyncWaiter.sharedExecutor());
+        }
+
+        @Test
+        public void manyWaitsAreExecutedConcurrently() throws Exception {
+            AsyncWaiter waiter = new AsyncWaiter(AsyncWaiter.sharedExecutor());
+            WaitConfig config = new WaitConfig().setInterval(10L);
+            long start = System.currentTimeMillis();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(waiter.waitUntil(config, () -> System.currentTimeMillis() - start >= 100L));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+            assertThat(futures).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        }
+
+        @Test
+        public void executorThreadsAreDaemons() throws Exception {
+            CompletableFuture<Boolean> daemon = new CompletableFuture<>();
+            AsyncWaiter.sharedExecutor()
+                .schedule(() -> daemon.complete(Thread.currentThread().isDaemon()), 0L, TimeUnit.MILLISECONDS);
+            assertThat(daemon.get(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+    }
+
+}
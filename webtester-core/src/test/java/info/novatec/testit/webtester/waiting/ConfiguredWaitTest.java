@@ -1,6 +1,8 @@
 package info.novatec.testit.webtester.waiting;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.verify;
 
 import java.util.function.Supplier;
@@ -11,6 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.testit.testutils.mockito.junit5.EnableMocking;
 
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
 
 @EnableMocking
 class ConfiguredWaitTest {
@@ -89,4 +93,50 @@ class ConfiguredWaitTest {
 
     }
 
+    @Nested
+    class PollingWith {
+
+        @Mock
+        PollingStrategy strategy;
+
+        @Test
+        void strategyIsSetOnConfiguration() {
+            ConfiguredWait wait = cut.pollingWith(strategy);
+            verify(config).setPollingStrategy(strategy);
+            assertThat(wait).isSameAs(cut);
+        }
+
+    }
+
+    @Nested
+    class Async {
+
+        @Test
+        void asyncWaitIsCreatedWithSameConfiguration() {
+            AsyncWait wait = cut.async();
+            assertThat(wait.getConfig()).isSameAs(config);
+        }
+
+    }
+
+    @Nested
+    class UntilAllAndAny {
+
+        @Mock
+        PageFragment fragment;
+
+        @Test
+        void untilAllUsesWaiterWithSameConfiguration() {
+            cut.untilAll(WaitTarget.target(fragment, f -> true));
+            verify(waiter).waitUntil(same(config), any());
+        }
+
+        @Test
+        void untilAnyUsesWaiterWithSameConfiguration() {
+            cut.untilAny(WaitTarget.target(fragment, f -> true));
+            verify(waiter).waitUntil(same(config), any());
+        }
+
+    }
+
 }
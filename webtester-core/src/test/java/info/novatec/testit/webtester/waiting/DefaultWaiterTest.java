@@ -1,26 +1,49 @@
 package info.novatec.testit.webtester.waiting;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.withSettings;
 
 import java.time.Clock;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.Timeouts;
+import org.openqa.selenium.WebDriverException;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.waiting.polling.ExponentialPolling;
 
 
 @RunWith(Enclosed.class)
@@ -201,6 +224,244 @@ public class DefaultWaiterTest {
 
         }
 
+        @Test(expected = TimeoutException.class)
+        public void intervalsAreTakenFromPollingStrategyAndLimitedToRemainingTime() {
+
+            doReturn(false).when(condition).get();
+
+            WaitConfig config = new WaitConfig();
+            config.setTimeout(1);
+            config.setTimeUnit(TimeUnit.SECONDS);
+            config.setPollingStrategy(new ExponentialPolling(100L, 2.0, 400L));
+
+            try {
+                cut.waitUntil(config, condition);
+            } finally {
+                verify(condition, times(4)).get();
+                verify(sleeper).sleep(100);
+                verify(sleeper).sleep(200);
+                verify(sleeper).sleep(400);
+                verify(sleeper).sleep(300);
+            }
+
+        }
+
+        @Test
+        public void timeUntilConditionIsMetIsReportedToPollingStrategy() {
+
+            doReturn(false, false, true).when(condition).get();
+            PollingStrategy strategy = mock(PollingStrategy.class);
+            PollingStrategy.Schedule schedule = mock(PollingStrategy.Schedule.class);
+            doReturn(schedule).when(strategy).start();
+            doReturn(50L).when(schedule).nextInterval(anyLong());
+
+            WaitConfig config = new WaitConfig();
+            config.setTimeout(1);
+            config.setTimeUnit(TimeUnit.SECONDS);
+            config.setPollingStrategy(strategy);
+
+            cut.waitUntil(config, condition);
+
+            verify(schedule).nextInterval(0L);
+            verify(schedule).nextInterval(50L);
+            verify(schedule).conditionMet(100L);
+
+        }
+
+    }
+
+    @RunWith(MockitoJUnitRunner.class)
+    public static class Statistics {
+
+        @Mock
+        Sleeper sleeper;
+        @Mock
+        Clock clock;
+        @InjectMocks
+        DefaultWaiter cut;
+
+        long currentTime = 42L;
+
+        @Before
+        public void stubClockAndEnableStatistics() {
+            doReturn(currentTime).when(clock).millis();
+            doAnswer((invocation) -> {
+                currentTime += ( Long ) invocation.getArguments()[0];
+                doReturn(currentTime).when(clock).millis();
+                return null;
+            }).when(sleeper).sleep(anyLong());
+            WaitStatistics.shared().reset();
+            WaitStatistics.shared().setEnabled(true);
+        }
+
+        @After
+        public void disableStatistics() {
+            WaitStatistics.shared().setEnabled(false);
+            WaitStatistics.shared().reset();
+        }
+
+        @Test
+        public void successfulWaitsAreRecordedWithConditionDescription() {
+            cut.waitUntil(new WaitConfig().setInterval(100L), conditionMetOnCheck(3));
+
+            WaitStatistics.CallSite callSite = WaitStatistics.shared().getCallSites().get(0);
+            assertThat(callSite.getName()).endsWith(" three checks");
+            assertThat(callSite.getWaits()).isEqualTo(1L);
+            assertThat(callSite.getPolls()).isEqualTo(3L);
+            assertThat(callSite.getMaxMillis()).isEqualTo(200L);
+            assertThat(callSite.getTimeouts()).isEqualTo(0L);
+        }
+
+        @Test
+        public void timeoutsAreRecorded() {
+            WaitConfig config = new WaitConfig().setTimeout(1).setInterval(100L);
+            assertThatThrownBy(() -> cut.waitUntil(config, () -> false)).isInstanceOf(TimeoutException.class);
+
+            WaitStatistics.CallSite callSite = WaitStatistics.shared().getCallSites().get(0);
+            assertThat(callSite.getName()).doesNotContain("$$Lambda");
+            assertThat(callSite.getPolls()).isEqualTo(10L);
+            assertThat(callSite.getTimeouts()).isEqualTo(1L);
+            assertThat(callSite.getMaxTimeoutRatio()).isEqualTo(1.0);
+        }
+
+        @Test
+        public void nothingIsRecordedWhileDisabled() {
+            WaitStatistics.shared().setEnabled(false);
+            cut.waitUntil(new WaitConfig(), () -> true);
+            assertThat(WaitStatistics.shared().getCallSites()).isEmpty();
+        }
+
+        static Supplier<Boolean> conditionMetOnCheck(int check) {
+            return new Supplier<Boolean>() {
+
+                int checks;
+
+                @Override
+                public Boolean get() {
+                    return ++checks >= check;
+                }
+
+                @Override
+                public String toString() {
+                    return "three checks";
+                }
+
+            };
+        }
+
+    }
+
+    public static class WaitUntilJavaScriptCondition {
+
+        Sleeper sleeper = mock(Sleeper.class);
+        Clock clock = mock(Clock.class);
+        DefaultWaiter cut = new DefaultWaiter(sleeper, clock);
+
+        Browser browser = mock(Browser.class);
+        WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        JavascriptExecutor executor = ( JavascriptExecutor ) webDriver;
+        Timeouts timeouts = mock(Timeouts.class);
+        Configuration configuration = mock(Configuration.class);
+        JavaScriptCondition condition = new JavaScriptCondition("return arguments[0];", "foo");
+        WaitConfig config = new WaitConfig().setTimeout(1).setTimeUnit(TimeUnit.SECONDS).setInterval(100);
+
+        long currentTime = 42L;
+
+        @Before
+        public void stubBrowserAndTime() {
+            Options options = mock(Options.class);
+            doReturn(webDriver).when(browser).webDriver();
+            doReturn(options).when(webDriver).manage();
+            doReturn(timeouts).when(options).timeouts();
+            doReturn(configuration).when(browser).configuration();
+            doReturn(30_000L).when(configuration).getWaitScriptTimeout();
+            doReturn(currentTime).when(clock).millis();
+            doAnswer(invocation -> passTime(invocation.getArgument(0))).when(sleeper).sleep(anyLong());
+        }
+
+        @Test
+        public void conditionIsObservedWithinTheBrowser() {
+            doReturn(true).when(executor).executeAsyncScript(anyString(), any());
+            cut.waitUntil(config, browser, condition);
+            verify(executor).executeAsyncScript(contains("MutationObserver"), eq(1000L), eq(asList("foo")));
+            verifyZeroInteractions(sleeper, timeouts);
+        }
+
+        @Test
+        public void scriptTimeoutIsRaisedForLongWaitsAndRestoredAfterwards() {
+            doReturn(true).when(executor).executeAsyncScript(anyString(), any());
+            cut.waitUntil(config.setTimeout(60), browser, condition);
+            InOrder inOrder = inOrder(timeouts, executor);
+            inOrder.verify(timeouts).setScriptTimeout(65_000L, TimeUnit.MILLISECONDS);
+            inOrder.verify(executor).executeAsyncScript(anyString(), eq(60_000L), any());
+            inOrder.verify(timeouts).setScriptTimeout(30_000L, TimeUnit.MILLISECONDS);
+        }
+
+        @Test
+        public void scriptTimeoutIsRestoredIfObservingFails() {
+            doThrow(new WebDriverException("document unloaded")).doReturn(true)
+                .when(executor).executeAsyncScript(anyString(), any());
+            cut.waitUntil(config.setTimeout(60), browser, condition);
+            verify(timeouts, times(2)).setScriptTimeout(30_000L, TimeUnit.MILLISECONDS);
+        }
+
+        @Test
+        public void observingIsRetriedForRemainingTimeAfterFailures() {
+            doThrow(new WebDriverException("document unloaded")).doReturn(true)
+                .when(executor).executeAsyncScript(anyString(), any());
+            cut.waitUntil(config, browser, condition);
+            verify(sleeper).sleep(100L);
+            verify(executor).executeAsyncScript(anyString(), eq(900L), any());
+        }
+
+        @Test
+        public void timeoutExceptionIsThrownIfConditionIsNotMet() {
+            doAnswer(invocation -> {
+                passTime(invocation.getArgument(1));
+                return false;
+            }).when(executor).executeAsyncScript(anyString(), any());
+            assertThatThrownBy(() -> cut.waitUntil(config, browser, condition)).isInstanceOf(TimeoutException.class);
+            verify(executor).executeAsyncScript(anyString(), any());
+        }
+
+        @Test
+        public void predicateErrorsAreReportedAsCauseOfTimeout() {
+            doAnswer(invocation -> {
+                passTime(invocation.getArgument(1));
+                return Collections.singletonMap("error", "TypeError: foo is undefined");
+            }).when(executor).executeAsyncScript(anyString(), any());
+            assertThatThrownBy(() -> cut.waitUntil(config, browser, condition)).isInstanceOf(TimeoutException.class)
+                .hasCauseInstanceOf(JavascriptException.class)
+                .hasStackTraceContaining("TypeError: foo is undefined");
+        }
+
+        @Test
+        public void conditionIsPolledIfBrowserCanNotObserveTheDom() {
+            JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+            doReturn(javaScript).when(browser).javaScript();
+            doReturn(null).when(executor).executeAsyncScript(anyString(), any());
+            doReturn(false, true).when(javaScript).executeWithReturn(anyString(), (Object) any());
+            cut.waitUntil(config, browser, condition);
+            verify(javaScript, times(2)).executeWithReturn(anyString(), (Object) any());
+            verify(sleeper).sleep(100L);
+        }
+
+        @Test
+        public void conditionIsPolledIfDriverCanNotExecuteJavaScript() {
+            JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+            doReturn(mock(WebDriver.class)).when(browser).webDriver();
+            doReturn(javaScript).when(browser).javaScript();
+            doReturn(true).when(javaScript).executeWithReturn(anyString(), (Object) any());
+            cut.waitUntil(config, browser, condition);
+            verifyZeroInteractions(executor);
+        }
+
+        Object passTime(long millis) {
+            currentTime += millis;
+            doReturn(currentTime).when(clock).millis();
+            return null;
+        }
+
     }
 
 }
@@ -0,0 +1,219 @@
+package info.novatec.testit.webtester.waiting;
+
+import static info.novatec.testit.webtester.waiting.WaitTarget.target;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.conditions.Condition;
+import info.novatec.testit.webtester.conditions.pagefragments.Visible;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class MultiTargetWaitTest {
+
+    @Mock
+    Sleeper sleeper;
+    @Mock
+    Clock clock;
+    @Mock
+    Browser browser;
+    @Mock
+    Configuration configuration;
+
+    @Mock
+    PageFragment first;
+    @Mock
+    PageFragment second;
+
+    WaitConfig config = new WaitConfig().setTimeout(1).setTimeUnit(TimeUnit.SECONDS).setInterval(100L);
+    long currentTime = 42L;
+
+    @Before
+    public void stubClockToMoveTimeEveryTimeTheSleeperIsInvoked() {
+        doReturn(currentTime).when(clock).millis();
+        doAnswer((invocation) -> {
+            currentTime += ( Long ) invocation.getArguments()[0];
+            doReturn(currentTime).when(clock).millis();
+            return null;
+        }).when(sleeper).sleep(anyLong());
+    }
+
+    @Test
+    public void allTargetsAreReportedInTheOrderTheyWereSatisfied() {
+        stubBrowserWithoutJavaScript();
+        WaitTarget<PageFragment> slow = target(first, metAfterChecks(3));
+        WaitTarget<PageFragment> fast = target(second, metAfterChecks(1));
+
+        MultiWaitResult result = cut(slow, fast).untilAll();
+
+        assertThat(result.getSatisfiedTargets()).containsExactly(fast, slow);
+        assertThat(result.getMillisUntilSatisfied(fast)).contains(0L);
+        assertThat(result.getMillisUntilSatisfied(slow)).contains(200L);
+    }
+
+    @Test
+    public void satisfiedTargetsAreNotCheckedAgain() {
+        stubBrowserWithoutJavaScript();
+        Condition<PageFragment> fast = mockCondition(true);
+
+        cut(target(first, metAfterChecks(3)), target(second, fast)).untilAll();
+
+        verify(fast, times(1)).test(second);
+    }
+
+    @Test
+    public void targetsGivenMoreThanOnceAreWaitedForOnce() {
+        stubBrowserWithoutJavaScript();
+        Condition<PageFragment> condition = mockCondition(true);
+        WaitTarget<PageFragment> target = target(first, condition);
+
+        MultiWaitResult result = cut(target, target).untilAll();
+
+        assertThat(result.getSatisfiedTargets()).containsExactly(target);
+        verify(condition, times(1)).test(first);
+    }
+
+    @Test
+    public void waitingForAnyTargetEndsWithTheFirstSatisfiedTarget() {
+        stubBrowserWithoutJavaScript();
+        WaitTarget<PageFragment> never = target(first, fragment -> false);
+        WaitTarget<PageFragment> later = target(second, metAfterChecks(2));
+
+        MultiWaitResult result = cut(never, later).untilAny();
+
+        assertThat(result.getSatisfiedTargets()).containsExactly(later);
+        assertThat(result.getFirstSatisfiedTarget()).contains(later);
+        assertThat(result.isSatisfied(never)).isFalse();
+    }
+
+    @Test
+    public void timeoutNamesTheTargetsWhichWereNotSatisfied() {
+        stubBrowserWithoutJavaScript();
+        doReturn(Optional.of("first")).when(first).getName();
+        WaitTarget<PageFragment> never = target(first, new Visible());
+        doReturn(false).when(first).isVisible();
+
+        assertThatThrownBy(() -> cut(never, target(second, fragment -> true)).untilAll())
+            .isInstanceOf(TimeoutException.class)
+            .hasMessageEndingWith("[first visible]");
+    }
+
+    @Test
+    public void compilableTargetsOfSameBrowserAreCheckedUsingOneScriptExecution() {
+        JavaScriptExecutor javaScript = stubBrowserWithJavaScript();
+        WebElement firstElement = mock(WebElement.class);
+        WebElement secondElement = mock(WebElement.class);
+        doReturn(firstElement).when(first).webElement();
+        doReturn(secondElement).when(second).webElement();
+        doReturn(asList(false, true), asList(true)).when(javaScript).executeWithReturn(anyString(), ( Object ) any());
+        WaitTarget<PageFragment> firstTarget = target(first, new Visible());
+        WaitTarget<PageFragment> secondTarget = target(second, new Visible());
+
+        MultiWaitResult result = cut(firstTarget, secondTarget).untilAll();
+
+        assertThat(result.getSatisfiedTargets()).containsExactly(secondTarget, firstTarget);
+        verify(javaScript).executeWithReturn(anyString(), ( Object ) eq(asList(firstElement, secondElement)));
+        verify(javaScript).executeWithReturn(anyString(), ( Object ) eq(asList(firstElement)));
+        verify(first, times(1)).webElement();
+        verify(first, never()).isVisible();
+    }
+
+    @Test
+    public void compilableTargetsAreCheckedWithinJvmIfCompiledConditionsAreDisabled() {
+        JavaScriptExecutor javaScript = stubBrowserWithJavaScript();
+        doReturn(false).when(configuration).isCompiledConditionsEnabled();
+        doReturn(false, true).when(first).isVisible();
+
+        cut(target(first, new Visible())).untilAll();
+
+        verify(first, times(2)).isVisible();
+        verifyZeroInteractions(javaScript);
+    }
+
+    @Test
+    public void staleWebElementsAreResolvedAgain() {
+        JavaScriptExecutor javaScript = stubBrowserWithJavaScript();
+        doReturn(mock(WebElement.class)).when(first).webElement();
+        doThrow(StaleElementReferenceException.class).doReturn(asList(true))
+            .when(javaScript)
+            .executeWithReturn(anyString(), ( Object ) any());
+
+        cut(target(first, new Visible())).untilAll();
+
+        verify(first, times(2)).webElement();
+    }
+
+    @Test
+    public void atLeastOneTargetIsRequired() {
+        assertThatThrownBy(() -> new MultiTargetWait(new DefaultWaiter(sleeper, clock), config, emptyList()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    MultiTargetWait cut(WaitTarget<?>... targets) {
+        return new MultiTargetWait(new DefaultWaiter(sleeper, clock), config, asList(targets), clock);
+    }
+
+    void stubBrowserWithoutJavaScript() {
+        doReturn(browser).when(first).browser();
+        doReturn(browser).when(second).browser();
+        doReturn(mock(WebDriver.class)).when(browser).webDriver();
+    }
+
+    JavaScriptExecutor stubBrowserWithJavaScript() {
+        JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+        WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        doReturn(browser).when(first).browser();
+        doReturn(browser).when(second).browser();
+        doReturn(webDriver).when(browser).webDriver();
+        doReturn(javaScript).when(browser).javaScript();
+        doReturn(configuration).when(browser).configuration();
+        doReturn(true).when(configuration).isCompiledConditionsEnabled();
+        return javaScript;
+    }
+
+    static Condition<PageFragment> metAfterChecks(int checks) {
+        AtomicInteger counter = new AtomicInteger();
+        return fragment -> counter.incrementAndGet() >= checks;
+    }
+
+    static Condition<PageFragment> mockCondition(boolean result) {
+        Condition<PageFragment> condition = mock(Condition.class);
+        doReturn(result).when(condition).test(any());
+        return condition;
+    }
+
+}
@@ -0,0 +1,79 @@
+package info.novatec.testit.webtester.waiting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.config.BaseConfiguration;
+import info.novatec.testit.webtester.waiting.polling.AdaptivePolling;
+import info.novatec.testit.webtester.waiting.polling.ExponentialPolling;
+import info.novatec.testit.webtester.waiting.polling.FibonacciPolling;
+import info.novatec.testit.webtester.waiting.polling.FixedPolling;
+import info.novatec.testit.webtester.waiting.polling.JitteredPolling;
+
+
+class PollingStrategiesTest {
+
+    @Nested
+    class FromConfiguration {
+
+        BaseConfiguration configuration = new BaseConfiguration().setWaitInterval(50L).setWaitMaxInterval(800L);
+
+        @Test
+        void fixedPollingIsCreatedByDefault() {
+            PollingStrategy strategy = PollingStrategies.from(configuration);
+            assertThat(strategy).isInstanceOf(FixedPolling.class);
+            assertThat(( ( FixedPolling ) strategy ).getInterval()).isEqualTo(50L);
+        }
+
+        @Test
+        void exponentialPollingDoublesConfiguredInterval() {
+            configuration.setWaitPolling("exponential");
+            ExponentialPolling strategy = ( ExponentialPolling ) PollingStrategies.from(configuration);
+            assertThat(strategy.getInitialInterval()).isEqualTo(50L);
+            assertThat(strategy.getFactor()).isEqualTo(2.0);
+            assertThat(strategy.getMaxInterval()).isEqualTo(800L);
+        }
+
+        @Test
+        void fibonacciPollingCanBeConfigured() {
+            configuration.setWaitPolling("Fibonacci");
+            FibonacciPolling strategy = ( FibonacciPolling ) PollingStrategies.from(configuration);
+            assertThat(strategy.getInitialInterval()).isEqualTo(50L);
+            assertThat(strategy.getMaxInterval()).isEqualTo(800L);
+        }
+
+        @Test
+        void adaptivePollingCanBeConfigured() {
+            configuration.setWaitPolling("adaptive");
+            AdaptivePolling strategy = ( AdaptivePolling ) PollingStrategies.from(configuration);
+            assertThat(strategy.getMinInterval()).isEqualTo(50L);
+            assertThat(strategy.getMaxInterval()).isEqualTo(800L);
+        }
+
+        @Test
+        void maximumIntervalIsAtLeastTheInterval() {
+            configuration.setWaitPolling("exponential").setWaitMaxInterval(10L);
+            ExponentialPolling strategy = ( ExponentialPolling ) PollingStrategies.from(configuration);
+            assertThat(strategy.getMaxInterval()).isEqualTo(50L);
+        }
+
+        @Test
+        void strategyIsJitteredIfJitterIsConfigured() {
+            configuration.setWaitPolling("exponential").setWaitJitter(0.2);
+            JitteredPolling strategy = ( JitteredPolling ) PollingStrategies.from(configuration);
+            assertThat(strategy.getJitter()).isEqualTo(0.2);
+            assertThat(strategy.getStrategy()).isInstanceOf(ExponentialPolling.class);
+        }
+
+        @Test
+        void unknownPollingTypesAreRejected() {
+            configuration.setWaitPolling("random");
+            assertThrows(IllegalArgumentException.class, () -> PollingStrategies.from(configuration));
+        }
+
+    }
+
+}
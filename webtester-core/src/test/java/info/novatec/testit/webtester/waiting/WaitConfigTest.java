@@ -14,6 +14,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import info.novatec.testit.webtester.browser.Browser;
 import info.novatec.testit.webtester.config.Configuration;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.waiting.polling.ExponentialPolling;
+import info.novatec.testit.webtester.waiting.polling.FixedPolling;
 
 
 @RunWith(Enclosed.class)
@@ -29,6 +31,13 @@ public class WaitConfigTest {
             assertThat(config.getInterval()).isEqualTo(100L);
         }
 
+        @Test
+        public void fixedPollingWithIntervalIsUsedByDefault() {
+            WaitConfig config = new WaitConfig().setInterval(250L);
+            assertThat(config.getPollingStrategy()).isInstanceOf(FixedPolling.class);
+            assertThat(config.getPollingStrategy()).hasFieldOrPropertyWithValue("interval", 250L);
+        }
+
     }
 
     @RunWith(MockitoJUnitRunner.class)
@@ -96,6 +105,20 @@ public class WaitConfigTest {
 
         }
 
+        @Test
+        public void pollingStrategyIsCreatedFromConfiguration() {
+
+            doReturn(1).when(configuration).getWaitTimeout();
+            doReturn(10L).when(configuration).getWaitInterval();
+            doReturn(1000L).when(configuration).getWaitMaxInterval();
+            doReturn("exponential").when(configuration).getWaitPolling();
+
+            WaitConfig config = WaitConfig.from(configuration);
+
+            assertThat(config.getPollingStrategy()).isInstanceOf(ExponentialPolling.class);
+
+        }
+
         @Test
         public void canBeCreatedFromBrowser() {
 
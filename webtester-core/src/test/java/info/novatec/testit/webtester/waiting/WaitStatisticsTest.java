@@ -0,0 +1,205 @@
+package info.novatec.testit.webtester.waiting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import info.novatec.testit.webtester.waiting.WaitStatistics.CallSite;
+
+
+@RunWith(Enclosed.class)
+public class WaitStatisticsTest {
+
+    public static class Recording {
+
+        WaitStatistics cut = new WaitStatistics();
+
+        @Test
+        public void recordingIsDisabledByDefault() {
+            assertThat(cut.isEnabled()).isFalse();
+            assertThat(cut.setEnabled(true).isEnabled()).isTrue();
+        }
+
+        @Test
+        public void waitsAreGroupedByCallSite() {
+            cut.record("LoginTest#login:42 username visible", 100L, 1000L, 2L, false);
+            cut.record("LoginTest#login:42 username visible", 300L, 1000L, 4L, false);
+            cut.record("LoginTest#logout:50 logout visible", 10L, 1000L, 1L, false);
+
+            List<CallSite> callSites = cut.getCallSites();
+
+            assertThat(callSites).extracting(CallSite::getName)
+                .containsExactly("LoginTest#login:42 username visible", "LoginTest#logout:50 logout visible");
+            CallSite login = callSites.get(0);
+            assertThat(login.getWaits()).isEqualTo(2L);
+            assertThat(login.getPolls()).isEqualTo(6L);
+            assertThat(login.getMeanPolls()).isEqualTo(3.0);
+            assertThat(login.getMeanMillis()).isEqualTo(200.0);
+            assertThat(login.getMaxMillis()).isEqualTo(300L);
+            assertThat(login.getMaxTimeoutRatio()).isEqualTo(0.3);
+        }
+
+        @Test
+        public void timeoutsAndNearTimeoutsAreCounted() {
+            cut.record("site", 2000L, 2000L, 20L, true);
+            cut.record("site", 1900L, 2000L, 19L, false);
+            cut.record("site", 100L, 2000L, 1L, false);
+            cut.record("site", 100L, 2000L, 1L, false);
+
+            CallSite site = cut.getCallSites().get(0);
+
+            assertThat(site.getTimeouts()).isEqualTo(1L);
+            assertThat(site.getNearTimeouts()).isEqualTo(1L);
+            assertThat(site.getTimeoutRate()).isEqualTo(0.25);
+            assertThat(site.getNearTimeoutRate()).isEqualTo(0.25);
+            assertThat(site.getMaxTimeoutRatio()).isEqualTo(1.0);
+        }
+
+        @Test
+        public void percentilesAreTakenFromHistogram() {
+            for (int i = 0; i < 90; i++) {
+                cut.record("site", 5L, 1000L, 1L, false);
+            }
+            for (int i = 0; i < 10; i++) {
+                cut.record("site", 200L, 1000L, 1L, false);
+            }
+
+            CallSite site = cut.getCallSites().get(0);
+
+            assertThat(site.getPercentileMillis(0.5)).isEqualTo(7L);
+            assertThat(site.getPercentileMillis(0.95)).isEqualTo(200L);
+        }
+
+        @Test
+        public void statisticsCanBeReset() {
+            cut.record("site", 5L, 1000L, 1L, false);
+            cut.reset();
+            assertThat(cut.getCallSites()).isEmpty();
+        }
+
+        @Test
+        public void waitsBeyondMaximumNumberOfCallSitesAreCombined() {
+            for (int i = 0; i < WaitStatistics.MAX_CALL_SITES; i++) {
+                cut.record("site " + i, 5L, 1000L, 1L, false);
+            }
+            cut.record("one more", 5L, 1000L, 1L, false);
+            cut.record("and another one", 5L, 1000L, 1L, false);
+            cut.record("site 0", 5L, 1000L, 1L, false);
+
+            List<CallSite> callSites = cut.getCallSites();
+            assertThat(callSites).hasSize(WaitStatistics.MAX_CALL_SITES + 1);
+            assertThat(callSites).filteredOn(site -> site.getName().equals(WaitStatistics.OTHER_CALL_SITES))
+                .extracting(CallSite::getWaits)
+                .containsExactly(2L);
+            assertThat(callSites).filteredOn(site -> site.getName().equals("site 0"))
+                .extracting(CallSite::getWaits)
+                .containsExactly(2L);
+        }
+
+        @Test
+        public void shutdownHookIsRegisteredOnlyOnce() {
+            cut.reportOnShutdown(5).reportOnShutdown(10);
+            assertThat(Runtime.getRuntime().removeShutdownHook(cut.getShutdownHook())).isTrue();
+        }
+
+        @Test
+        public void concurrentRecordingsAreNotLost() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int thread = 0; thread < 4; thread++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            cut.record("site", i, 1000L, 1L, false);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            CallSite site = cut.getCallSites().get(0);
+            assertThat(site.getWaits()).isEqualTo(4000L);
+            assertThat(site.getPolls()).isEqualTo(4000L);
+            assertThat(site.getMaxMillis()).isEqualTo(999L);
+        }
+
+    }
+
+    public static class Buckets {
+
+        @Test
+        public void bucketsArePowersOfTwo() {
+            assertThat(WaitStatistics.bucketOf(0L)).isEqualTo(0);
+            assertThat(WaitStatistics.bucketOf(1L)).isEqualTo(1);
+            assertThat(WaitStatistics.bucketOf(2L)).isEqualTo(2);
+            assertThat(WaitStatistics.bucketOf(3L)).isEqualTo(2);
+            assertThat(WaitStatistics.bucketOf(4L)).isEqualTo(3);
+            assertThat(WaitStatistics.bucketOf(1000L)).isEqualTo(10);
+        }
+
+        @Test
+        public void upperBoundsAreInclusive() {
+            assertThat(WaitStatistics.upperBoundOf(0)).isEqualTo(0L);
+            assertThat(WaitStatistics.upperBoundOf(2)).isEqualTo(3L);
+            assertThat(WaitStatistics.upperBoundOf(10)).isEqualTo(1023L);
+        }
+
+        @Test
+        public void veryLongWaitsAreKeptInLastBucket() {
+            assertThat(WaitStatistics.bucketOf(Long.MAX_VALUE)).isEqualTo(39);
+        }
+
+    }
+
+    public static class Report {
+
+        WaitStatistics cut = new WaitStatistics();
+
+        @Test
+        public void slowestCallSitesAreListedFirst() {
+            cut.record("fast", 10L, 1000L, 1L, false);
+            cut.record("slow", 500L, 1000L, 5L, false);
+            cut.record("medium", 100L, 1000L, 2L, false);
+
+            assertThat(cut.getSlowest(2)).extracting(CallSite::getName).containsExactly("slow", "medium");
+        }
+
+        @Test
+        public void mostTimeoutProneCallSitesAreListedFirst() {
+            cut.record("never", 10L, 1000L, 1L, false);
+            cut.record("sometimes", 1000L, 1000L, 10L, true);
+            cut.record("sometimes", 10L, 1000L, 1L, false);
+            cut.record("always", 1000L, 1000L, 10L, true);
+            cut.record("close", 900L, 1000L, 9L, false);
+
+            assertThat(cut.getMostTimeoutProne(10)).extracting(CallSite::getName)
+                .containsExactly("always", "sometimes", "close");
+        }
+
+        @Test
+        public void reportContainsBothSections() {
+            cut.record("LoginTest#login:42 username visible", 1000L, 1000L, 10L, true);
+
+            String report = cut.report(5);
+
+            assertThat(report).startsWith("wait statistics: 1 waits at 1 call sites")
+                .contains("slowest waits:")
+                .contains("most timeout-prone waits:")
+                .contains("LoginTest#login:42 username visible: 1 waits, 1 timeouts, 0 near timeouts, p50 1000ms, "
+                    + "p95 1000ms, max 1000ms, 10.0 polls per wait, up to 100% of timeout");
+        }
+
+    }
+
+}
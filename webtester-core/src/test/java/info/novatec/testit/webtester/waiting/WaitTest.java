@@ -1,11 +1,14 @@
 package info.novatec.testit.webtester.waiting;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -77,6 +80,29 @@ class WaitTest {
 
     }
 
+    @Nested
+    class PollingWith {
+
+        @Mock
+        PollingStrategy strategy;
+
+        @Test
+        void configuredWaitIsCreatedWithSameWaiter() {
+            ConfiguredWait wait = Wait.pollingWith(strategy);
+            assertThat(wait.getWaiter()).isSameAs(waiter);
+        }
+
+        @Test
+        void configuredWaitIsCreatedWithStrategyAndDefaults() {
+            ConfiguredWait wait = Wait.pollingWith(strategy);
+            WaitConfig config = wait.getConfig();
+            assertThat(config.getPollingStrategy()).isSameAs(strategy);
+            assertThat(config.getTimeout()).isEqualTo(WaitConfig.DEFAULT_TIMEOUT);
+            assertThat(config.getTimeUnit()).isEqualTo(WaitConfig.DEFAULT_TIME_UNIT);
+        }
+
+    }
+
     @Nested
     class Until_Object {
 
@@ -188,6 +214,109 @@ class WaitTest {
 
     }
 
+    @Nested
+    class Async {
+
+        @Mock
+        ScheduledExecutorService executor;
+
+        @AfterEach
+        void restoreOriginalExecutor() {
+            Wait.setAsyncExecutor(Wait.DEFAULT_ASYNC_EXECUTOR);
+        }
+
+        @Test
+        void asyncWaitUsesDefaultExecutor() {
+            AsyncWait wait = Wait.async();
+            assertThat(wait.getWaiter().getExecutor()).isSameAs(AsyncWaiter.sharedExecutor());
+        }
+
+        @Test
+        void asyncWaitUsesCustomExecutor() {
+            Wait.setAsyncExecutor(() -> executor);
+            AsyncWait wait = Wait.async();
+            assertThat(wait.getWaiter().getExecutor()).isSameAs(executor);
+        }
+
+        @Test
+        void asyncWaitHasNoFixedConfiguration() {
+            assertThat(Wait.async().getConfig()).isNull();
+        }
+
+    }
+
+    @Nested
+    class UntilAll_Targets {
+
+        @Mock
+        Configuration configuration;
+        @Mock
+        Browser browser;
+        @Mock
+        PageFragment fragment;
+
+        @BeforeEach
+        void setUpFragment() {
+            doReturn(configuration).when(browser).configuration();
+            doReturn(browser).when(fragment).browser();
+            doReturn(1).when(configuration).getWaitTimeout();
+            doReturn(50L).when(configuration).getWaitInterval();
+        }
+
+        @Test
+        void waiterIsUsedWithFragmentsConfiguration() {
+            Wait.untilAll(WaitTarget.target(fragment, f -> true));
+            verify(waiter).waitUntil(argThat(config -> config.getTimeout() == 1 && config.getInterval() == 50L), any());
+        }
+
+        @Test
+        void atLeastOneTargetIsRequired() {
+            assertThatThrownBy(Wait::untilAll).isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    class UntilAny_Targets {
+
+        @Mock
+        Configuration configuration;
+        @Mock
+        Browser browser;
+        @Mock
+        PageFragment fragment;
+
+        @BeforeEach
+        void setUpFragment() {
+            doReturn(configuration).when(browser).configuration();
+            doReturn(browser).when(fragment).browser();
+            doReturn(1).when(configuration).getWaitTimeout();
+            doReturn(50L).when(configuration).getWaitInterval();
+        }
+
+        @Test
+        void waiterIsUsedWithFragmentsConfiguration() {
+            Wait.untilAny(WaitTarget.target(fragment, f -> true));
+            verify(waiter).waitUntil(argThat(config -> config.getTimeout() == 1 && config.getInterval() == 50L), any());
+        }
+
+        @Test
+        void atLeastOneTargetIsRequired() {
+            assertThatThrownBy(Wait::untilAny).isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    class Statistics {
+
+        @Test
+        void sharedStatisticsAreReturned() {
+            assertThat(Wait.statistics()).isSameAs(WaitStatistics.shared());
+        }
+
+    }
+
     @Nested
     class Exactly {
 
@@ -1,10 +1,21 @@
 package info.novatec.testit.webtester.waiting;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.withSettings;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.junit.Before;
@@ -15,6 +26,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.conditions.browser.JavaScriptCondition;
+import info.novatec.testit.webtester.conditions.pagefragments.Visible;
+import info.novatec.testit.webtester.conditions.syntax.Either;
+import info.novatec.testit.webtester.config.Configuration;
+import info.novatec.testit.webtester.pagefragments.PageFragment;
 
 
 @RunWith(Enclosed.class)
@@ -61,6 +85,16 @@ public class WaitUntilTest {
             assertThat(actual).isSameAs(cut);
         }
 
+        @Test
+        public void checksOfLambdasAreNotDescribed() {
+            Object expected = object;
+
+            cut.is(object -> object == expected);
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            assertThat(supplierCaptor.getValue()).hasToString("");
+        }
+
     }
 
     public static class Has extends AbstractWaitUntilTest {
@@ -179,4 +213,178 @@ public class WaitUntilTest {
 
     }
 
+    @RunWith(MockitoJUnitRunner.class)
+    public static class JavaScriptConditions {
+
+        @Mock
+        Waiter waiter;
+        @Mock
+        WaitConfig config;
+        @Mock
+        Browser browser;
+
+        @Test
+        public void javaScriptConditionsForBrowsersAreWaitedForWithinTheBrowser() {
+            JavaScriptCondition condition = new JavaScriptCondition("return true;");
+            new WaitUntil<>(waiter, config, browser).has(condition);
+            verify(waiter).waitUntil(config, browser, condition);
+        }
+
+        @Test
+        public void negatedJavaScriptConditionsAreWaitedForWithinTheBrowser() {
+            JavaScriptCondition condition = new JavaScriptCondition("return true;");
+            new WaitUntil<>(waiter, config, browser).isNot(condition);
+            verify(waiter).waitUntil(same(config), same(browser), any(JavaScriptCondition.class));
+        }
+
+        @Test
+        public void otherConditionsForBrowsersArePolled() {
+            new WaitUntil<>(waiter, config, browser).is(b -> true);
+            verify(waiter).waitUntil(same(config), any(Supplier.class));
+        }
+
+    }
+
+    @RunWith(MockitoJUnitRunner.class)
+    public static class CompiledConditions {
+
+        @Captor
+        ArgumentCaptor<Supplier<Boolean>> supplierCaptor;
+
+        @Mock
+        Waiter waiter;
+        @Mock
+        WaitConfig config;
+        @Mock
+        PageFragment fragment;
+        @Mock
+        Browser browser;
+        @Mock
+        Configuration configuration;
+        @Mock
+        JavaScriptExecutor javaScript;
+
+        WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+
+        @Before
+        public void stubBrowser() {
+            doReturn(browser).when(fragment).browser();
+            doReturn(configuration).when(browser).configuration();
+        }
+
+        @Test
+        public void compilableConditionsAreCheckedUsingJavaScriptIfEnabled() {
+            doReturn(true).when(configuration).isCompiledConditionsEnabled();
+            doReturn(webDriver).when(browser).webDriver();
+            doReturn(javaScript).when(browser).javaScript();
+            doReturn(true).when(javaScript).executeWithReturn(anyString(), ( Object ) any());
+
+            new WaitUntil<>(waiter, config, fragment).is(new Visible());
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            assertThat(supplierCaptor.getValue().get()).isTrue();
+            verify(fragment, never()).isVisible();
+        }
+
+        @Test
+        public void webElementIsResolvedOnceForSeveralChecks() {
+            WebElement webElement = mock(WebElement.class);
+            doReturn(webElement).when(fragment).webElement();
+            doReturn(true).when(configuration).isCompiledConditionsEnabled();
+            doReturn(webDriver).when(browser).webDriver();
+            doReturn(javaScript).when(browser).javaScript();
+            doReturn(false, true).when(javaScript).executeWithReturn(anyString(), ( Object ) same(webElement));
+
+            new WaitUntil<>(waiter, config, fragment).is(new Visible());
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            assertThat(supplierCaptor.getValue().get()).isFalse();
+            assertThat(supplierCaptor.getValue().get()).isTrue();
+            verify(fragment, times(1)).webElement();
+        }
+
+        @Test
+        public void staleWebElementIsResolvedAgain() {
+            WebElement staleElement = mock(WebElement.class);
+            WebElement webElement = mock(WebElement.class);
+            doReturn(staleElement, webElement).when(fragment).webElement();
+            doReturn(true).when(configuration).isCompiledConditionsEnabled();
+            doReturn(webDriver).when(browser).webDriver();
+            doReturn(javaScript).when(browser).javaScript();
+            doThrow(StaleElementReferenceException.class).when(javaScript)
+                .executeWithReturn(anyString(), ( Object ) same(staleElement));
+            doReturn(true).when(javaScript).executeWithReturn(anyString(), ( Object ) same(webElement));
+
+            new WaitUntil<>(waiter, config, fragment).is(new Visible());
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            assertThat(supplierCaptor.getValue().get()).isTrue();
+            verify(fragment, times(2)).webElement();
+        }
+
+        @Test
+        public void missingWebElementIsResolvedForEachCheck() {
+            NoSuchElementException exception = new NoSuchElementException("not found");
+            doThrow(exception).when(fragment).webElement();
+            doReturn(true).when(configuration).isCompiledConditionsEnabled();
+            doReturn(webDriver).when(browser).webDriver();
+            doReturn(javaScript).when(browser).javaScript();
+            doReturn(null).when(javaScript).executeWithReturn(anyString(), ( Object ) isNull());
+
+            new WaitUntil<>(waiter, config, fragment).is(new Visible());
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            assertThatThrownBy(() -> supplierCaptor.getValue().get()).isSameAs(exception);
+            assertThatThrownBy(() -> supplierCaptor.getValue().get()).isSameAs(exception);
+            verify(fragment, times(2)).webElement();
+        }
+
+        @Test
+        public void compilableConditionsAreCheckedWithinJvmIfDisabled() {
+            doReturn(true).when(fragment).isVisible();
+
+            new WaitUntil<>(waiter, config, fragment).is(new Visible());
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            assertThat(supplierCaptor.getValue().get()).isTrue();
+            verify(fragment).isVisible();
+            verifyZeroInteractions(javaScript);
+        }
+
+        @Test
+        public void otherConditionsAreCheckedWithinJvm() {
+            new WaitUntil<>(waiter, config, fragment).is(new Either<>(new Visible(), f -> true));
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            assertThat(supplierCaptor.getValue().get()).isTrue();
+            verifyZeroInteractions(browser, javaScript);
+        }
+
+        @Test
+        public void checksAreDescribedByFragmentNameAndCondition() {
+            doReturn(Optional.of("username")).when(fragment).getName();
+            doReturn(true).when(fragment).isVisible();
+
+            new WaitUntil<>(waiter, config, fragment).is(new Visible());
+
+            verify(waiter).waitUntil(same(config), supplierCaptor.capture());
+            supplierCaptor.getValue().get();
+            assertThat(supplierCaptor.getValue()).hasToString("username visible");
+        }
+
+        @Test
+        public void checksOfLambdasAreDescribedByFragmentNameOnly() {
+            doReturn(Optional.of("username")).when(fragment).getName();
+            String expected = "username";
+
+            new WaitUntil<>(waiter, config, fragment).is(f -> expected.equals(f.getName().orElse(null)));
+            new WaitUntil<>(waiter, config, fragment).is(f -> expected.equals(f.getName().orElse(null)));
+
+            verify(waiter, times(2)).waitUntil(same(config), supplierCaptor.capture());
+            supplierCaptor.getAllValues().forEach(Supplier::get);
+            assertThat(supplierCaptor.getAllValues()).extracting(Object::toString).containsOnly("username");
+        }
+
+    }
+
 }
@@ -0,0 +1,91 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import static info.novatec.testit.webtester.waiting.polling.ExponentialPollingTest.intervals;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+class AdaptivePollingTest {
+
+    String callSite = "LoginTest#login:42";
+    AdaptivePolling cut = new AdaptivePolling(25L, 1000L, new ConcurrentHashMap<>(), () -> callSite);
+
+    @Test
+    void unknownCallSitesBackOffExponentially() {
+        assertThat(intervals(cut.start(), 7)).containsExactly(25L, 50L, 100L, 200L, 400L, 800L, 1000L);
+    }
+
+    @Test
+    void knownCallSitesArePolledDenselyAroundExpectedTime() {
+        learn(800L, 10);
+        assertThat(cut.getExpectedMillis(callSite)).isPresent();
+
+        PollingStrategy.Schedule schedule = cut.start();
+        long firstInterval = schedule.nextInterval(0L);
+        assertThat(firstInterval).isBetween(600L, 800L);
+        assertThat(schedule.nextInterval(790L)).isEqualTo(25L);
+        assertThat(schedule.nextInterval(810L)).isEqualTo(25L);
+    }
+
+    @Test
+    void knownCallSitesBackOffAfterExpectedTime() {
+        learn(800L, 10);
+        PollingStrategy.Schedule schedule = cut.start();
+        assertThat(schedule.nextInterval(2000L)).isEqualTo(25L);
+        assertThat(schedule.nextInterval(2025L)).isEqualTo(50L);
+        assertThat(schedule.nextInterval(2075L)).isEqualTo(100L);
+    }
+
+    @Test
+    void estimatesFollowChangingTimes() {
+        learn(1000L, 1);
+        learn(200L, 30);
+        assertThat(cut.getExpectedMillis(callSite).get()).isBetween(200L, 220L);
+    }
+
+    @Test
+    void callSitesAreKeptApart() {
+        learn(800L, 5);
+        assertThat(cut.getExpectedMillis("OtherTest#other:7")).isEmpty();
+    }
+
+    @Test
+    void callSiteIsFirstFrameOutsideOfWaitingInfrastructure() {
+        // this test lives within WebTester's packages itself, so the calling test framework is the call site
+        assertThat(AdaptivePolling.currentCallSite()).doesNotStartWith("info.novatec.testit.webtester.")
+            .doesNotStartWith("java.")
+            .doesNotStartWith("sun.")
+            .matches(".+#.+:\\d+");
+    }
+
+    @Test
+    void webTesterFrameworkClassesAreNoCallSites() {
+        assertThat(AdaptivePolling.isSkipped("info.novatec.testit.webtester.browser.operations.ActivityTracker"))
+            .isTrue();
+        assertThat(AdaptivePolling.isSkipped("info.novatec.testit.webtester.pagefragments.utils.FormFiller")).isTrue();
+    }
+
+    @Test
+    void generatedClassesAreNoCallSites() {
+        assertThat(AdaptivePolling.isSkipped("com.example.LoginPage$$Impl")).isTrue();
+        assertThat(AdaptivePolling.isSkipped("com.example.LoginTest$$Lambda$12/1234567")).isTrue();
+    }
+
+    @Test
+    void userClassesAreCallSites() {
+        assertThat(AdaptivePolling.isSkipped("com.example.LoginTest")).isFalse();
+        assertThat(AdaptivePolling.isSkipped("com.example.LoginPage$Impl")).isFalse();
+    }
+
+    void learn(long elapsedMillis, int times) {
+        for (int i = 0; i < times; i++) {
+            cut.start().conditionMet(elapsedMillis);
+        }
+    }
+
+}
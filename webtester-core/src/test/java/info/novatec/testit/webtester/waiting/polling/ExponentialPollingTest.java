@@ -0,0 +1,43 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+class ExponentialPollingTest {
+
+    @Test
+    void intervalsGrowUntilMaximumIsReached() {
+        PollingStrategy.Schedule schedule = new ExponentialPolling(50L, 2.0, 500L).start();
+        assertThat(intervals(schedule, 6)).containsExactly(50L, 100L, 200L, 400L, 500L, 500L);
+    }
+
+    @Test
+    void eachScheduleStartsWithTheInitialInterval() {
+        ExponentialPolling cut = new ExponentialPolling(50L, 1.5, 500L);
+        intervals(cut.start(), 3);
+        assertThat(intervals(cut.start(), 3)).containsExactly(50L, 75L, 112L);
+    }
+
+    @Test
+    void invalidParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialPolling(0L, 2.0, 500L));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialPolling(50L, 2.0, 10L));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialPolling(50L, 0.5, 500L));
+    }
+
+    static Long[] intervals(PollingStrategy.Schedule schedule, int count) {
+        Long[] intervals = new Long[count];
+        long elapsed = 0L;
+        for (int i = 0; i < count; i++) {
+            intervals[i] = schedule.nextInterval(elapsed);
+            elapsed += intervals[i];
+        }
+        return intervals;
+    }
+
+}
@@ -0,0 +1,24 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import static info.novatec.testit.webtester.waiting.polling.ExponentialPollingTest.intervals;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+
+class FibonacciPollingTest {
+
+    @Test
+    void intervalsFollowFibonacciSequenceUntilMaximumIsReached() {
+        FibonacciPolling cut = new FibonacciPolling(50L, 500L);
+        assertThat(intervals(cut.start(), 8)).containsExactly(50L, 50L, 100L, 150L, 250L, 400L, 500L, 500L);
+    }
+
+    @Test
+    void invalidParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FibonacciPolling(0L, 500L));
+        assertThrows(IllegalArgumentException.class, () -> new FibonacciPolling(50L, 10L));
+    }
+
+}
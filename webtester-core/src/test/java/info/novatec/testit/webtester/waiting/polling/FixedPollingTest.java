@@ -0,0 +1,26 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+class FixedPollingTest {
+
+    @Test
+    void intervalIsAlwaysTheSame() {
+        PollingStrategy.Schedule schedule = new FixedPolling(100L).start();
+        assertThat(schedule.nextInterval(0L)).isEqualTo(100L);
+        assertThat(schedule.nextInterval(100L)).isEqualTo(100L);
+        assertThat(schedule.nextInterval(5000L)).isEqualTo(100L);
+    }
+
+    @Test
+    void negativeIntervalsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedPolling(-1L));
+    }
+
+}
@@ -0,0 +1,48 @@
+package info.novatec.testit.webtester.waiting.polling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.waiting.PollingStrategy;
+
+
+class JitteredPollingTest {
+
+    FixedPolling fixed = new FixedPolling(100L);
+
+    @Test
+    void intervalsAreVariedInBothDirections() {
+        assertThat(new JitteredPolling(fixed, 0.25, () -> 0.0).start().nextInterval(0L)).isEqualTo(75L);
+        assertThat(new JitteredPolling(fixed, 0.25, () -> 0.5).start().nextInterval(0L)).isEqualTo(100L);
+        assertThat(new JitteredPolling(fixed, 0.25, () -> 1.0).start().nextInterval(0L)).isEqualTo(125L);
+    }
+
+    @Test
+    void randomIntervalsStayWithinJitter() {
+        PollingStrategy.Schedule schedule = new JitteredPolling(fixed, 0.5).start();
+        for (int i = 0; i < 100; i++) {
+            assertThat(schedule.nextInterval(0L)).isBetween(50L, 150L);
+        }
+    }
+
+    @Test
+    void metConditionsArePassedToTheVariedStrategy() {
+        PollingStrategy strategy = mock(PollingStrategy.class);
+        PollingStrategy.Schedule schedule = mock(PollingStrategy.Schedule.class);
+        when(strategy.start()).thenReturn(schedule);
+        new JitteredPolling(strategy, 0.1).start().conditionMet(420L);
+        verify(schedule).conditionMet(420L);
+    }
+
+    @Test
+    void invalidJitterIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new JitteredPolling(fixed, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredPolling(fixed, 1.1));
+    }
+
+}
@@ -0,0 +1,84 @@
+package info.novatec.testit.webtester.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import info.novatec.testit.webtester.internal.implementation.ImplementationPreGenerator;
+
+
+/**
+ * Base class for all mojos pre-generating page and page fragment implementations.
+ * <p>
+ * The classes are loaded by a class loader using the plugin's class loader as its parent. This way the generated
+ * implementations are created against the same WebTester classes as the scanned interfaces.
+ *
+ * @since 2.7
+ */
+abstract class AbstractGenerateImplementationsMojo extends AbstractMojo {
+
+    /** Set to <code>true</code> in order to skip the pre-generation of implementations. */
+    @Parameter(property = "webtester.generate.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+
+        if (skip) {
+            getLog().info("Skipping pre-generation of WebTester implementations.");
+            return;
+        }
+        File classesDirectory = getClassesDirectory();
+        if (!classesDirectory.isDirectory()) {
+            getLog().info("Skipping pre-generation of WebTester implementations, no classes in: " + classesDirectory);
+            return;
+        }
+
+        try (URLClassLoader classLoader = createClassLoader()) {
+            List<String> generated = new ImplementationPreGenerator(classLoader).generate(classesDirectory);
+            generated.forEach(className -> getLog().debug("generated: " + className));
+            getLog().info("Pre-generated " + generated.size() + " WebTester implementation(s) in " + classesDirectory);
+        } catch (IOException e) {
+            throw new MojoExecutionException("could not pre-generate WebTester implementations", e);
+        }
+
+    }
+
+    private URLClassLoader createClassLoader() throws MojoExecutionException {
+        List<URL> urls = new ArrayList<>();
+        for (String element : getClasspathElements()) {
+            try {
+                urls.add(new File(element).toURI().toURL());
+            } catch (MalformedURLException e) {
+                throw new MojoExecutionException("invalid classpath element: " + element, e);
+            }
+        }
+        return new URLClassLoader(urls.toArray(new URL[urls.size()]), getClass().getClassLoader());
+    }
+
+    /**
+     * Returns the directory containing the compiled classes to scan. The implementations are saved into the same
+     * directory.
+     *
+     * @return the classes directory
+     * @since 2.7
+     */
+    protected abstract File getClassesDirectory();
+
+    /**
+     * Returns the classpath elements needed in order to load the scanned classes.
+     *
+     * @return the classpath elements
+     * @since 2.7
+     */
+    protected abstract List<String> getClasspathElements();
+
+}
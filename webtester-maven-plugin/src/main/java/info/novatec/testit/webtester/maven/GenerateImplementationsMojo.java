@@ -0,0 +1,37 @@
+package info.novatec.testit.webtester.maven;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+
+/**
+ * Pre-generates the implementations of all page and page fragment interfaces within the project's main classes.
+ *
+ * @since 2.7
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+    requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class GenerateImplementationsMojo extends AbstractGenerateImplementationsMojo {
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true, readonly = true)
+    private File classesDirectory;
+
+    @Parameter(defaultValue = "${project.compileClasspathElements}", required = true, readonly = true)
+    private List<String> classpathElements;
+
+    @Override
+    protected File getClassesDirectory() {
+        return classesDirectory;
+    }
+
+    @Override
+    protected List<String> getClasspathElements() {
+        return classpathElements;
+    }
+
+}
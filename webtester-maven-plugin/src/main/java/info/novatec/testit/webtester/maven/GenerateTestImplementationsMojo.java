@@ -0,0 +1,37 @@
+package info.novatec.testit.webtester.maven;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+
+/**
+ * Pre-generates the implementations of all page and page fragment interfaces within the project's test classes.
+ *
+ * @since 2.7
+ */
+@Mojo(name = "generate-test", defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES,
+    requiresDependencyResolution = ResolutionScope.TEST, threadSafe = true)
+public class GenerateTestImplementationsMojo extends AbstractGenerateImplementationsMojo {
+
+    @Parameter(defaultValue = "${project.build.testOutputDirectory}", required = true, readonly = true)
+    private File classesDirectory;
+
+    @Parameter(defaultValue = "${project.testClasspathElements}", required = true, readonly = true)
+    private List<String> classpathElements;
+
+    @Override
+    protected File getClassesDirectory() {
+        return classesDirectory;
+    }
+
+    @Override
+    protected List<String> getClasspathElements() {
+        return classpathElements;
+    }
+
+}
@@ -8,12 +8,14 @@ import info.novatec.testit.webtester.pagefragments.GenericTextField;
 import info.novatec.testit.webtester.pagefragments.MultiSelect;
 import info.novatec.testit.webtester.pagefragments.PageFragment;
 import info.novatec.testit.webtester.pagefragments.SingleSelect;
+import info.novatec.testit.webtester.pagefragments.snapshots.PageFragmentSnapshot;
 import info.novatec.testit.webtester.pagefragments.traits.Selectable;
 import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.ButtonAssert;
 import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.GenericSelectAssert;
 import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.GenericTextFieldAssert;
 import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.MultiSelectAssert;
 import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.PageFragmentAssert;
+import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.PageFragmentSnapshotAssert;
 import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.SelectableAssert;
 import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.SingleSelectAssert;
 
@@ -27,6 +29,7 @@ import info.novatec.testit.webtester.support.assertj.assertions.pagefragments.Si
  * @see SingleSelectAssert
  * @see MultiSelectAssert
  * @see GenericTextFieldAssert
+ * @see PageFragmentSnapshotAssert
  * @since 2.0
  */
 public final class WebTesterAssertions {
@@ -123,6 +126,19 @@ public final class WebTesterAssertions {
         return new GenericTextFieldAssert(actual);
     }
 
+    /**
+     * Creates a new {@link PageFragmentSnapshotAssert} for the given {@link PageFragmentSnapshot}.
+     *
+     * @param actual the snapshot to assert
+     * @return the new assert instance
+     * @see PageFragmentSnapshot
+     * @see PageFragmentSnapshotAssert
+     * @since 2.7
+     */
+    public static PageFragmentSnapshotAssert assertThat(PageFragmentSnapshot actual) {
+        return new PageFragmentSnapshotAssert(actual);
+    }
+
     private WebTesterAssertions() {
         // utility constructor
     }
@@ -0,0 +1,191 @@
+package info.novatec.testit.webtester.support.assertj.assertions.pagefragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import info.novatec.testit.webtester.pagefragments.PageFragment;
+import info.novatec.testit.webtester.pagefragments.snapshots.PageFragmentSnapshot;
+import info.novatec.testit.webtester.support.assertj.assertions.AbstractWebTesterAssert;
+
+
+/**
+ * Contains assertions for {@link PageFragmentSnapshot page fragment snapshots}.
+ * <p>
+ * In contrast to the {@link PageFragmentAssert page fragment assertions}, these assertions do not communicate with the
+ * browser. Several properties of a {@link PageFragment page fragment} can therefore be asserted with a single round
+ * trip to the browser by asserting its {@link PageFragment#snapshot(String...) snapshot}.
+ *
+ * @see PageFragmentSnapshot
+ * @since 2.7
+ */
+public class PageFragmentSnapshotAssert
+    extends AbstractWebTesterAssert<PageFragmentSnapshotAssert, PageFragmentSnapshot> {
+
+    public PageFragmentSnapshotAssert(PageFragmentSnapshot actual) {
+        super(actual, PageFragmentSnapshotAssert.class);
+    }
+
+    /**
+     * Asserts that the snapshot's tag is equal to the given tag.
+     *
+     * @param tagName the tag name
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#getTagName()
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert hasTag(String tagName) {
+        String actualTagName = actual.getTagName();
+        String errorMessage = "Expected page fragment to have tag <%s>, but was <%s>.";
+        assertThat(actualTagName).overridingErrorMessage(errorMessage, tagName, actualTagName).isEqualTo(tagName);
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot's visible text is equal to the given text.
+     *
+     * @param text the expected text
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#getVisibleText()
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert hasVisibleText(String text) {
+        String actualText = actual.getVisibleText();
+        String errorMessage = "Expected page fragment's visible text to be <%s>, but was <%s>.";
+        assertThat(actualText).overridingErrorMessage(errorMessage, text, actualText).isEqualTo(text);
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot's visible text contains the given text fragment.
+     *
+     * @param textFragment the expected text fragment
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#getVisibleText()
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert hasVisibleTextContaining(String textFragment) {
+        String actualText = actual.getVisibleText();
+        String errorMessage = "Expected page fragment's visible text to contain <%s>, but it didn't.";
+        assertThat(actualText).overridingErrorMessage(errorMessage, textFragment).contains(textFragment);
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot has a certain attribute.
+     *
+     * @param attributeName the attribute's name
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#getAttribute(String)
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert hasAttribute(String attributeName) {
+        Optional<String> actualValue = actual.getAttribute(attributeName);
+        String errorMessage = "Expected page fragment to have attribute <%s>, but it didn't.";
+        assertThat(actualValue).overridingErrorMessage(errorMessage, attributeName).isPresent();
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot doesn't have a certain attribute.
+     *
+     * @param attributeName the attribute's name
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#getAttribute(String)
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert hasNotAttribute(String attributeName) {
+        Optional<String> actualValue = actual.getAttribute(attributeName);
+        String errorMessage = "Expected page fragment not to have attribute <%s>, but it did.";
+        assertThat(actualValue).overridingErrorMessage(errorMessage, attributeName).isEqualTo(Optional.empty());
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot has a certain attribute with a specific value.
+     *
+     * @param attributeName the attribute's name
+     * @param value the expected value of the attribute
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#getAttribute(String)
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert hasAttributeValue(String attributeName, String value) {
+        hasAttribute(attributeName);
+        String actualValue = actual.getAttribute(attributeName).orElse(null);
+        String errorMessage = "Expected page fragment's <%s> attribute value to be <%s>, but it was <%s>.";
+        assertThat(actualValue).overridingErrorMessage(errorMessage, attributeName, value, actualValue)
+            .isEqualTo(value);
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot has a certain CSS value. The CSS property must have been requested when the snapshot
+     * was taken.
+     *
+     * @param cssProperty the CSS property's name
+     * @param value the expected value of the CSS property
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#getCssValue(String)
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert hasCssValue(String cssProperty, String value) {
+        String actualValue = actual.getCssValue(cssProperty).orElse(null);
+        String errorMessage = "Expected page fragment's <%s> CSS value to be <%s>, but it was <%s>.";
+        assertThat(actualValue).overridingErrorMessage(errorMessage, cssProperty, value, actualValue).isEqualTo(value);
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot is visible.
+     *
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#isVisible()
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert isVisible() {
+        String errorMessage = "Expected page fragment to be visible, but it wasn't.";
+        assertThat(actual.isVisible()).overridingErrorMessage(errorMessage).isTrue();
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot is invisible.
+     *
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#isInvisible()
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert isInvisible() {
+        String errorMessage = "Expected page fragment to be invisible, but it wasn't.";
+        assertThat(actual.isInvisible()).overridingErrorMessage(errorMessage).isTrue();
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot is enabled.
+     *
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#isEnabled()
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert isEnabled() {
+        String errorMessage = "Expected page fragment to be enabled, but it wasn't.";
+        assertThat(actual.isEnabled()).overridingErrorMessage(errorMessage).isTrue();
+        return this;
+    }
+
+    /**
+     * Asserts that the snapshot is disabled.
+     *
+     * @return same assertion instance for fluent API
+     * @see PageFragmentSnapshot#isDisabled()
+     * @since 2.7
+     */
+    public PageFragmentSnapshotAssert isDisabled() {
+        String errorMessage = "Expected page fragment to be disabled, but it wasn't.";
+        assertThat(actual.isDisabled()).overridingErrorMessage(errorMessage).isTrue();
+        return this;
+    }
+
+}
@@ -0,0 +1,116 @@
+package info.novatec.testit.webtester.support.assertj.assertions.pagefragments;
+
+import static info.novatec.testit.webtester.support.assertj.WebTesterAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import info.novatec.testit.webtester.pagefragments.snapshots.PageFragmentSnapshot;
+
+
+class PageFragmentSnapshotAssertTest {
+
+    PageFragmentSnapshot snapshot = PageFragmentSnapshot.builder()
+        .tagName("input")
+        .visibleText("foo bar")
+        .attribute("id", "username")
+        .cssValue("color", "red")
+        .visible(true)
+        .enabled(false)
+        .build();
+
+    @Nested
+    class HasTagAssertion {
+
+        @Test
+        void passesForMatchingTag() {
+            assertThat(snapshot).hasTag("input");
+        }
+
+        @Test
+        void failsForDifferentTag() {
+            AssertionError exception = assertThrows(AssertionError.class, () -> {
+                assertThat(snapshot).hasTag("div");
+            });
+            assertThat(exception).hasMessage("Expected page fragment to have tag <div>, but was <input>.");
+        }
+
+    }
+
+    @Nested
+    class VisibleTextAssertions {
+
+        @Test
+        void passesForMatchingVisibleText() {
+            assertThat(snapshot).hasVisibleText("foo bar").hasVisibleTextContaining("bar");
+        }
+
+        @Test
+        void failsForDifferentVisibleText() {
+            AssertionError exception = assertThrows(AssertionError.class, () -> {
+                assertThat(snapshot).hasVisibleText("foo");
+            });
+            assertThat(exception).hasMessage("Expected page fragment's visible text to be <foo>, but was <foo bar>.");
+        }
+
+    }
+
+    @Nested
+    class AttributeAssertions {
+
+        @Test
+        void passesForExistingAttributeWithValue() {
+            assertThat(snapshot).hasAttribute("id").hasAttributeValue("id", "username").hasNotAttribute("name");
+        }
+
+        @Test
+        void failsForDifferentAttributeValue() {
+            AssertionError exception = assertThrows(AssertionError.class, () -> {
+                assertThat(snapshot).hasAttributeValue("id", "password");
+            });
+            assertThat(exception)
+                .hasMessage("Expected page fragment's <id> attribute value to be <password>, but it was <username>.");
+        }
+
+    }
+
+    @Nested
+    class CssValueAssertion {
+
+        @Test
+        void passesForMatchingCssValue() {
+            assertThat(snapshot).hasCssValue("color", "red");
+        }
+
+        @Test
+        void failsForDifferentCssValue() {
+            AssertionError exception = assertThrows(AssertionError.class, () -> {
+                assertThat(snapshot).hasCssValue("color", "blue");
+            });
+            assertThat(exception)
+                .hasMessage("Expected page fragment's <color> CSS value to be <blue>, but it was <red>.");
+        }
+
+    }
+
+    @Nested
+    class StateAssertions {
+
+        @Test
+        void passesForMatchingState() {
+            assertThat(snapshot).isVisible().isDisabled();
+        }
+
+        @Test
+        void failsForDifferentState() {
+            AssertionError exception = assertThrows(AssertionError.class, () -> {
+                assertThat(snapshot).isEnabled();
+            });
+            assertThat(exception).hasMessage("Expected page fragment to be enabled, but it wasn't.");
+        }
+
+    }
+
+}